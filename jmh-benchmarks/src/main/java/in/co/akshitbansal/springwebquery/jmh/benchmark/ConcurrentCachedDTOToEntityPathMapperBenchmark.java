@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.jmh.benchmark;
+
+import in.co.akshitbansal.springwebquery.jmh.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.jmh.model.User;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+
+/**
+ * Measures cache hits of the cached path mapper while several threads share
+ * one factory, as request threads do. Each invocation obtains the mapper from
+ * the factory before mapping, so the mapper lookup is part of the hit path.
+ * Run with {@code -prof gc} to confirm that hits do not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Threads(8)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConcurrentCachedDTOToEntityPathMapperBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class TestParams {
+
+		@Param({
+				"userId",
+				"profile.primaryAddress.city",
+				"accounts.portfolios.positions.lots.serialNumber",
+				"accounts.portfolios.positions.security.issuer.compliance.marketRegion"
+		})
+		public String dtoPath;
+	}
+
+	@State(Scope.Benchmark)
+	public static class SharedFactoryState {
+
+		public DTOToEntityPathMapperFactory factory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			factory = new DTOToEntityPathMapperFactory(10, 32);
+
+			// populate cache
+			factory.newMapper(UserEntity.class, User.class).map("userId");
+			factory.newMapper(UserEntity.class, User.class).map("profile.primaryAddress.city");
+			factory.newMapper(UserEntity.class, User.class).map("accounts.portfolios.positions.lots.serialNumber");
+			factory.newMapper(UserEntity.class, User.class).map("accounts.portfolios.positions.security.issuer.compliance.marketRegion");
+		}
+	}
+
+	@Benchmark
+	public MappingResult mapCacheHitTest(SharedFactoryState factoryState, TestParams params) {
+		return factoryState.factory.newMapper(UserEntity.class, User.class).map(params.dtoPath);
+	}
+}
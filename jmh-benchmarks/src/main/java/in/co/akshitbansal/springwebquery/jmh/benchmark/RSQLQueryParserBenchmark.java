@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.jmh.benchmark;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.Node;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.parser.DefaultRSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RecursiveDescentRSQLQueryParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RSQLQueryParserBenchmark {
+
+	@State(Scope.Thread)
+	public static class TestParams {
+
+		@Param({ "default", "recursive-descent" })
+		public String parserType;
+
+		@Param({
+				"userId==42",
+				"profile.primaryAddress.city=in=(Delhi,Mumbai,Pune);userId=gt=100",
+				"(accounts.portfolios.positions.lots.serialNumber=like='LOT-*',profile.primaryAddress.city==\"New Delhi\");userId=bt=(1,1000);accounts.portfolios.positions.security.issuer.compliance.marketRegion=out=(APAC,EMEA,LATAM)"
+		})
+		public String query;
+
+		public RSQLQueryParser parser;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			Set<ComparisonOperator> operators = Arrays
+					.stream(RSQLDefaultOperator.values())
+					.map(RSQLDefaultOperator::getOperator)
+					.collect(Collectors.toSet());
+			parser = parserType.equals("default")
+					? new DefaultRSQLQueryParser(new RSQLParser(operators))
+					: new RecursiveDescentRSQLQueryParser(operators, 8192);
+		}
+	}
+
+	@Benchmark
+	public Node parseTest(TestParams params) {
+		return params.parser.parse(params.query);
+	}
+}
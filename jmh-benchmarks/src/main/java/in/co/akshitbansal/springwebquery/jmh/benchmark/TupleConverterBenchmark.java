@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.jmh.benchmark;
+
+import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscovererFactory;
+import in.co.akshitbansal.springwebquery.tupleconverter.TupleConverter;
+import in.co.akshitbansal.springwebquery.tupleconverter.TupleConverterFactory;
+import in.co.akshitbansal.springwebquery.tupleconverter.TupleInstantiatorFactory;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.hibernate.sql.results.internal.TupleElementImpl;
+import org.hibernate.sql.results.internal.TupleImpl;
+import org.hibernate.sql.results.internal.TupleMetadata;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-row cost of converting a tuple by reflective constructor
+ * invocation with the {@link TupleConverter}, backed either by a method handle
+ * or by a generated instantiator class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TupleConverterBenchmark {
+
+	@State(Scope.Thread)
+	public static class TestParams {
+
+		public Tuple tuple;
+
+		public Constructor<Row> constructor;
+
+		public TupleConverter<Row> methodHandleConverter;
+
+		public TupleConverter<Row> generatedConverter;
+
+		@Setup(Level.Trial)
+		public void setup() throws NoSuchMethodException {
+			String[] aliases = { "id", "name", "active", "balance", "city" };
+			TupleElement<?>[] elements = {
+					new TupleElementImpl<>(Long.class, aliases[0]),
+					new TupleElementImpl<>(String.class, aliases[1]),
+					new TupleElementImpl<>(Boolean.class, aliases[2]),
+					new TupleElementImpl<>(Double.class, aliases[3]),
+					new TupleElementImpl<>(String.class, aliases[4])
+			};
+			tuple = new TupleImpl(new TupleMetadata(elements, aliases), new Object[]{ 1L, "name", true, 10.5, "city" });
+
+			constructor = Row.class.getDeclaredConstructor(long.class, String.class, boolean.class, double.class, String.class);
+			constructor.setAccessible(true);
+
+			methodHandleConverter = new TupleConverterFactory(
+					new PreferredConstructorDiscovererFactory(true), new TupleInstantiatorFactory(false)
+			).newConverter(Row.class);
+			generatedConverter = new TupleConverterFactory(
+					new PreferredConstructorDiscovererFactory(true), new TupleInstantiatorFactory(true)
+			).newConverter(Row.class);
+			// compiling the instantiators
+			methodHandleConverter.convert(tuple);
+			generatedConverter.convert(tuple);
+		}
+	}
+
+	@Benchmark
+	public Row reflectionTest(TestParams params) throws ReflectiveOperationException {
+		return params.constructor.newInstance(params.tuple.toArray());
+	}
+
+	@Benchmark
+	public Row methodHandleConverterTest(TestParams params) {
+		return params.methodHandleConverter.convert(params.tuple);
+	}
+
+	@Benchmark
+	public Row generatedConverterTest(TestParams params) {
+		return params.generatedConverter.convert(params.tuple);
+	}
+
+	public static class Row {
+
+		private final long id;
+
+		private final String name;
+
+		private final boolean active;
+
+		private final double balance;
+
+		private final String city;
+
+		private Row(long id, String name, boolean active, double balance, String city) {
+			this.id = id;
+			this.name = name;
+			this.active = active;
+			this.balance = balance;
+			this.city = city;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration that publishes the path resolution cache statistics to
+ * Micrometer.
+ *
+ * <p>Active when Micrometer is on the classpath and path resolution caching
+ * is enabled. The caches are published as
+ * {@code spring-web-query.path-resolution.successful} and
+ * {@code spring-web-query.path-resolution.failed}; the published statistics
+ * stay empty unless
+ * {@code spring-web-query.field-resolution.caching.record-stats} is
+ * enabled.</p>
+ */
+@AutoConfiguration(after = FactoryAutoConfig.class)
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnProperty(
+		name = "spring-web-query.field-resolution.caching.enabled",
+		havingValue = "true",
+		matchIfMissing = true
+)
+public class CacheMetricsAutoConfig {
+
+	/**
+	 * Creates the metrics of the successful path resolutions cache.
+	 *
+	 * @param pathMapperFactory mapper factory owning the cache
+	 *
+	 * @return successful resolutions cache metrics
+	 */
+	@Bean
+	public PathResolutionCacheMetrics successfulPathResolutionCacheMetrics(DTOToEntityPathMapperFactory pathMapperFactory) {
+		return PathResolutionCacheMetrics.successfulResolutions(
+				pathMapperFactory, "spring-web-query.path-resolution.successful", Tags.empty()
+		);
+	}
+
+	/**
+	 * Creates the metrics of the failed path resolutions cache.
+	 *
+	 * @param pathMapperFactory mapper factory owning the cache
+	 *
+	 * @return failed resolutions cache metrics
+	 */
+	@Bean
+	public PathResolutionCacheMetrics failedPathResolutionCacheMetrics(DTOToEntityPathMapperFactory pathMapperFactory) {
+		return PathResolutionCacheMetrics.failedResolutions(
+				pathMapperFactory, "spring-web-query.path-resolution.failed", Tags.empty()
+		);
+	}
+}
@@ -17,22 +17,53 @@
 package in.co.akshitbansal.springwebquery.config;
 
 import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
+import in.co.akshitbansal.springwebquery.cost.DefaultQueryCostEstimator;
+import in.co.akshitbansal.springwebquery.cost.QueryCostEstimator;
+import in.co.akshitbansal.springwebquery.metamodel.MetamodelEntityPathResolver;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.plan.CachedQueryPlanner;
+import in.co.akshitbansal.springwebquery.plan.QueryPlanner;
+import in.co.akshitbansal.springwebquery.program.ArgumentConverter;
+import in.co.akshitbansal.springwebquery.repository.DerivedSelectionsProviderFactory;
 import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscovererFactory;
 import in.co.akshitbansal.springwebquery.tupleconverter.TupleConverterFactory;
+import in.co.akshitbansal.springwebquery.tupleconverter.TupleInstantiatorFactory;
 import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SelectableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Map;
+
 /**
  * Auto-configuration that wires the core factories used by query validation
  * and DTO/entity path translation.
  *
  * <p>This configuration also exposes the factories used to discover DTO
- * constructors and create tuple converters for projected query results.</p>
+ * constructors and create tuple converters for projected query results, as
+ * well as the query planner that turns RSQL strings into validated, reusable
+ * query plans, the cost estimator it uses to enforce the query cost budget,
+ * the converter that types filter arguments while plans are built, the
+ * registry of precomputed per-DTO query contracts shared by filter and sort
+ * validation, and the factory of selections providers derived from DTO
+ * fields, which also caches the selection plans of sparse fieldsets.</p>
+ *
+ * <p>When the application context holds a single {@link EntityManagerFactory},
+ * the mapper factory validates entity paths against its JPA metamodel unless
+ * {@code spring-web-query.field-resolution.metamodel.enabled} is set to
+ * {@code false}.</p>
  */
 @AutoConfiguration
 @Slf4j
@@ -44,6 +75,20 @@ public class FactoryAutoConfig {
 	 *
 	 * @param failedResolutionsMaxCapacity maximum cached failed resolutions
 	 * @param lockStripeCount number of striped locks used during cache fills
+	 * @param entityManagerFactories provider of the entity manager factory
+	 * whose metamodel validates entity paths
+	 * @param metamodelEnabled whether entity paths are validated against the
+	 * JPA metamodel
+	 * @param successfulResolutionsMaxWeight maximum total weight of the
+	 * successful resolutions cached across all entity/DTO pairs, negative for
+	 * no bound
+	 * @param failedResolutionsMaxWeight maximum weight of the cached failed
+	 * resolutions, negative to bound them by entry count instead
+	 * @param expireAfterAccess duration after which unused cache entries
+	 * expire, or {@code null} if entries do not expire
+	 * @param recordStats whether cache statistics are recorded
+	 * @param stacklessRejections whether unknown DTO paths are rejected with
+	 * stackless exceptions
 	 *
 	 * @return cached mapper factory
 	 */
@@ -55,14 +100,33 @@ public class FactoryAutoConfig {
 	)
 	public DTOToEntityPathMapperFactory dtoToEntityPathMapperFactoryWithCaching(
 			@Value("${spring-web-query.field-resolution.caching.failed-resolutions-max-capacity:1000}") int failedResolutionsMaxCapacity,
-			@Value("${spring-web-query.field-resolution.caching.lock-stripe-count:32}") int lockStripeCount
+			@Value("${spring-web-query.field-resolution.caching.lock-stripe-count:32}") int lockStripeCount,
+			ObjectProvider<EntityManagerFactory> entityManagerFactories,
+			@Value("${spring-web-query.field-resolution.metamodel.enabled:true}") boolean metamodelEnabled,
+			@Value("${spring-web-query.field-resolution.caching.successful-resolutions-max-weight:-1}") long successfulResolutionsMaxWeight,
+			@Value("${spring-web-query.field-resolution.caching.failed-resolutions-max-weight:-1}") long failedResolutionsMaxWeight,
+			@Value("${spring-web-query.field-resolution.caching.expire-after-access:#{null}}") @Nullable Duration expireAfterAccess,
+			@Value("${spring-web-query.field-resolution.caching.record-stats:true}") boolean recordStats,
+			@Value("${spring-web-query.validation.stackless-rejections:false}") boolean stacklessRejections
 	) {
-		return new DTOToEntityPathMapperFactory(failedResolutionsMaxCapacity, lockStripeCount);
+		return new DTOToEntityPathMapperFactory(
+				failedResolutionsMaxCapacity, lockStripeCount,
+				newEntityPathResolver(entityManagerFactories, metamodelEnabled),
+				successfulResolutionsMaxWeight, failedResolutionsMaxWeight, expireAfterAccess, recordStats,
+				stacklessRejections
+		);
 	}
 
 	/**
 	 * Creates the mapper factory variant that performs no caching.
 	 *
+	 * @param entityManagerFactories provider of the entity manager factory
+	 * whose metamodel validates entity paths
+	 * @param metamodelEnabled whether entity paths are validated against the
+	 * JPA metamodel
+	 * @param stacklessRejections whether unknown DTO paths are rejected with
+	 * stackless exceptions
+	 *
 	 * @return uncached mapper factory
 	 */
 	@Bean
@@ -70,8 +134,73 @@ public class FactoryAutoConfig {
 			name = "spring-web-query.field-resolution.caching.enabled",
 			havingValue = "false"
 	)
-	public DTOToEntityPathMapperFactory dtoToEntityPathMapperFactoryWithoutCaching() {
-		return new DTOToEntityPathMapperFactory();
+	public DTOToEntityPathMapperFactory dtoToEntityPathMapperFactoryWithoutCaching(
+			ObjectProvider<EntityManagerFactory> entityManagerFactories,
+			@Value("${spring-web-query.field-resolution.metamodel.enabled:true}") boolean metamodelEnabled,
+			@Value("${spring-web-query.validation.stackless-rejections:false}") boolean stacklessRejections
+	) {
+		return new DTOToEntityPathMapperFactory(
+				newEntityPathResolver(entityManagerFactories, metamodelEnabled), stacklessRejections
+		);
+	}
+
+	/**
+	 * Creates the resolver that validates entity paths against the JPA
+	 * metamodel.
+	 *
+	 * @param entityManagerFactories provider of the entity manager factory
+	 * @param metamodelEnabled whether metamodel validation is enabled
+	 *
+	 * @return metamodel resolver, or {@code null} if metamodel validation is
+	 * disabled or there is no unique entity manager factory
+	 */
+	@Nullable
+	private static MetamodelEntityPathResolver newEntityPathResolver(
+			ObjectProvider<EntityManagerFactory> entityManagerFactories,
+			boolean metamodelEnabled
+	) {
+		if (!metamodelEnabled) return null;
+		EntityManagerFactory entityManagerFactory = entityManagerFactories.getIfUnique();
+		if (entityManagerFactory == null) {
+			log.debug("No unique EntityManagerFactory found; entity paths are resolved reflectively");
+			return null;
+		}
+		return new MetamodelEntityPathResolver(entityManagerFactory.getMetamodel());
+	}
+
+	/**
+	 * Creates the converter used to type filter arguments while queries are
+	 * planned, unless the application provides its own
+	 * {@link ArgumentConverter} bean.
+	 *
+	 * <p>In addition to the default set of types, the converter accepts
+	 * ISO-8601 {@link Timestamp} values, matching the converter registered with
+	 * RSQL JPA by {@link RSQLJPAConverterRegistrationAutoConfig}.</p>
+	 *
+	 * @return argument converter
+	 */
+	@Bean
+	@ConditionalOnMissingBean(ArgumentConverter.class)
+	public ArgumentConverter argumentConverter() {
+		return new ArgumentConverter(Map.of(Timestamp.class, RSQLJPAConverterRegistrationAutoConfig::parseTimestamp));
+	}
+
+	/**
+	 * Creates the registry of precomputed per-DTO query contracts.
+	 *
+	 * @param pathMapperFactory mapper factory used to resolve DTO selectors
+	 * @param filterableFieldValidator validator used for field-level filtering rules
+	 * @param sortableFieldValidator validator used for field-level sorting rules
+	 *
+	 * @return query contract registry
+	 */
+	@Bean
+	public QueryContractRegistry queryContractRegistry(
+			DTOToEntityPathMapperFactory pathMapperFactory,
+			FilterableFieldValidator filterableFieldValidator,
+			SortableFieldValidator sortableFieldValidator
+	) {
+		return new QueryContractRegistry(pathMapperFactory, filterableFieldValidator, sortableFieldValidator);
 	}
 
 	/**
@@ -79,15 +208,98 @@ public class FactoryAutoConfig {
 	 *
 	 * @param pathMapperFactory mapper factory used to resolve DTO selectors
 	 * @param filterableFieldValidator validator used for field-level filtering rules
+	 * @param argumentConverter converter used to type filter arguments
+	 * @param queryContractRegistry registry of precomputed query contracts
 	 *
 	 * @return validation visitor factory
 	 */
 	@Bean
 	public ValidationRSQLVisitorFactory validationRSQLVisitorFactory(
 			DTOToEntityPathMapperFactory pathMapperFactory,
-			FilterableFieldValidator filterableFieldValidator
+			FilterableFieldValidator filterableFieldValidator,
+			ArgumentConverter argumentConverter,
+			QueryContractRegistry queryContractRegistry
+	) {
+		return new ValidationRSQLVisitorFactory(
+				pathMapperFactory, filterableFieldValidator, argumentConverter, queryContractRegistry
+		);
+	}
+
+	/**
+	 * Creates the default query cost estimator unless the application provides
+	 * its own {@link QueryCostEstimator} bean.
+	 *
+	 * @return default query cost estimator
+	 */
+	@Bean
+	@ConditionalOnMissingBean(QueryCostEstimator.class)
+	public QueryCostEstimator queryCostEstimator() {
+		return new DefaultQueryCostEstimator();
+	}
+
+	/**
+	 * Creates the query planner variant that caches validated plans.
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 * @param queryCostEstimator estimator used to score validated trees
+	 * @param maxQueryCost maximum estimated cost accepted for a query
+	 * @param maxSize maximum number of cached plans
+	 * @param rejectedMaxSize maximum number of cached stackless rejections,
+	 * which are only raised with stackless rejections enabled
+	 * @param stacklessRejections whether queries that cannot be parsed are
+	 * rejected with stackless exceptions
+	 *
+	 * @return cached query planner
+	 */
+	@Bean
+	@ConditionalOnProperty(
+			name = "spring-web-query.plan-cache.enabled",
+			havingValue = "true",
+			matchIfMissing = true
+	)
+	public QueryPlanner queryPlannerWithCaching(
+			RSQLQueryParser rsqlParser,
+			ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			QueryCostEstimator queryCostEstimator,
+			@Value("${spring-web-query.filtering.max-query-cost:100}") long maxQueryCost,
+			@Value("${spring-web-query.plan-cache.max-size:1000}") long maxSize,
+			@Value("${spring-web-query.plan-cache.rejected-max-size:1000}") long rejectedMaxSize,
+			@Value("${spring-web-query.validation.stackless-rejections:false}") boolean stacklessRejections
+	) {
+		return new CachedQueryPlanner(
+				rsqlParser, validationRSQLVisitorFactory, queryCostEstimator,
+				maxQueryCost, maxSize, rejectedMaxSize, stacklessRejections
+		);
+	}
+
+	/**
+	 * Creates the query planner variant that parses and validates every query.
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 * @param queryCostEstimator estimator used to score validated trees
+	 * @param maxQueryCost maximum estimated cost accepted for a query
+	 * @param stacklessRejections whether queries that cannot be parsed are
+	 * rejected with stackless exceptions
+	 *
+	 * @return uncached query planner
+	 */
+	@Bean
+	@ConditionalOnProperty(
+			name = "spring-web-query.plan-cache.enabled",
+			havingValue = "false"
+	)
+	public QueryPlanner queryPlannerWithoutCaching(
+			RSQLQueryParser rsqlParser,
+			ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			QueryCostEstimator queryCostEstimator,
+			@Value("${spring-web-query.filtering.max-query-cost:100}") long maxQueryCost,
+			@Value("${spring-web-query.validation.stackless-rejections:false}") boolean stacklessRejections
 	) {
-		return new ValidationRSQLVisitorFactory(pathMapperFactory, filterableFieldValidator);
+		return new QueryPlanner(
+				rsqlParser, validationRSQLVisitorFactory, queryCostEstimator, maxQueryCost, stacklessRejections
+		);
 	}
 
 	/**
@@ -107,16 +319,64 @@ public class FactoryAutoConfig {
 		return new PreferredConstructorDiscovererFactory(cachingEnabled);
 	}
 
+	/**
+	 * Creates the factory compiling the instantiators that invoke discovered
+	 * DTO constructors.
+	 *
+	 * @param generateClasses whether a dedicated instantiator class should be
+	 * generated per DTO constructor instead of invoking it through a method
+	 * handle
+	 *
+	 * @return tuple instantiator factory
+	 */
+	@Bean
+	public TupleInstantiatorFactory tupleInstantiatorFactory(
+			@Value("${spring-web-query.tuple-conversion.generated-instantiators.enabled:true}") boolean generateClasses
+	) {
+		return new TupleInstantiatorFactory(generateClasses);
+	}
+
 	/**
 	 * Creates the tuple converter factory used by repository projections.
 	 *
 	 * @param discovererFactory constructor discoverer factory used to back new
 	 * converters
+	 * @param instantiatorFactory factory compiling the instantiators of
+	 * discovered constructors
 	 *
 	 * @return tuple converter factory
 	 */
 	@Bean
-	public TupleConverterFactory tupleConverterFactory(PreferredConstructorDiscovererFactory discovererFactory) {
-		return new TupleConverterFactory(discovererFactory);
+	public TupleConverterFactory tupleConverterFactory(
+			PreferredConstructorDiscovererFactory discovererFactory,
+			TupleInstantiatorFactory instantiatorFactory
+	) {
+		return new TupleConverterFactory(discovererFactory, instantiatorFactory);
+	}
+
+	/**
+	 * Creates the factory of selections providers derived from DTO fields.
+	 *
+	 * @param pathMapperFactory mapper factory used to map DTO fields to entity
+	 * paths
+	 * @param discovererFactory constructor discoverer factory used to check that
+	 * DTO constructors line up with the derived selections
+	 * @param selectableFieldValidator validator used for field-level selection
+	 * rules of sparse fieldsets
+	 * @param sparseFieldsetsMaxCapacity maximum number of cached sparse fieldset
+	 * selection plans
+	 *
+	 * @return derived selections provider factory
+	 */
+	@Bean
+	public DerivedSelectionsProviderFactory derivedSelectionsProviderFactory(
+			DTOToEntityPathMapperFactory pathMapperFactory,
+			PreferredConstructorDiscovererFactory discovererFactory,
+			SelectableFieldValidator selectableFieldValidator,
+			@Value("${spring-web-query.sparse-fieldsets.max-cached-plans:1000}") int sparseFieldsetsMaxCapacity
+	) {
+		return new DerivedSelectionsProviderFactory(
+				pathMapperFactory, discovererFactory, selectableFieldValidator, sparseFieldsetsMaxCapacity
+		);
 	}
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the statistics of one path resolution cache of a
+ * {@link DTOToEntityPathMapperFactory} as Micrometer cache metrics.
+ *
+ * <p>Besides the common {@code cache.size}, {@code cache.gets},
+ * {@code cache.puts} and {@code cache.evictions} meters, the successful
+ * resolutions cache publishes {@code cache.load}, tagged with the outcome of
+ * each resolution of an uncached path, and {@code cache.load.duration}, the
+ * total time spent on those resolutions.</p>
+ */
+public class PathResolutionCacheMetrics extends CacheMeterBinder<DTOToEntityPathMapperFactory> {
+
+	/**
+	 * Whether the failed resolutions cache is published rather than the
+	 * successful resolutions cache.
+	 */
+	private final boolean failedResolutions;
+
+	/**
+	 * Creates metrics for one path resolution cache.
+	 *
+	 * @param factory mapper factory owning the cache
+	 * @param cacheName name the cache is published under
+	 * @param tags additional tags
+	 * @param failedResolutions whether the failed resolutions cache is published
+	 */
+	private PathResolutionCacheMetrics(
+			DTOToEntityPathMapperFactory factory,
+			String cacheName,
+			Iterable<Tag> tags,
+			boolean failedResolutions
+	) {
+		super(factory, cacheName, tags);
+		this.failedResolutions = failedResolutions;
+	}
+
+	/**
+	 * Creates metrics for the successful resolutions cache, aggregated over
+	 * all entity/DTO pairs.
+	 *
+	 * @param factory mapper factory owning the cache
+	 * @param cacheName name the cache is published under
+	 * @param tags additional tags
+	 *
+	 * @return successful resolutions cache metrics
+	 */
+	public static PathResolutionCacheMetrics successfulResolutions(
+			@NonNull DTOToEntityPathMapperFactory factory,
+			@NonNull String cacheName,
+			@NonNull Iterable<Tag> tags
+	) {
+		return new PathResolutionCacheMetrics(factory, cacheName, tags, false);
+	}
+
+	/**
+	 * Creates metrics for the failed resolutions cache.
+	 *
+	 * @param factory mapper factory owning the cache
+	 * @param cacheName name the cache is published under
+	 * @param tags additional tags
+	 *
+	 * @return failed resolutions cache metrics
+	 */
+	public static PathResolutionCacheMetrics failedResolutions(
+			@NonNull DTOToEntityPathMapperFactory factory,
+			@NonNull String cacheName,
+			@NonNull Iterable<Tag> tags
+	) {
+		return new PathResolutionCacheMetrics(factory, cacheName, tags, true);
+	}
+
+	@Override
+	@Nullable
+	protected Long size() {
+		DTOToEntityPathMapperFactory factory = getCache();
+		if (factory == null) return null;
+		return failedResolutions ? factory.getFailedResolutionCount() : factory.getSuccessfulResolutionCount();
+	}
+
+	@Override
+	protected long hitCount() {
+		return stats().hitCount();
+	}
+
+	@Override
+	protected Long missCount() {
+		return stats().missCount();
+	}
+
+	@Override
+	protected Long evictionCount() {
+		return stats().evictionCount();
+	}
+
+	/**
+	 * Returns the number of entries added to the cache.
+	 *
+	 * <p>Every resolution of an uncached path adds exactly one entry, to the
+	 * successful resolutions cache if it succeeds and to the failed
+	 * resolutions cache otherwise.</p>
+	 *
+	 * @return number of cache puts
+	 */
+	@Override
+	protected long putCount() {
+		DTOToEntityPathMapperFactory factory = getCache();
+		if (factory == null) return 0;
+		CacheStats stats = factory.getSuccessfulResolutionStats();
+		return failedResolutions ? stats.loadFailureCount() : stats.loadSuccessCount();
+	}
+
+	@Override
+	protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+		DTOToEntityPathMapperFactory factory = getCache();
+		if (failedResolutions || factory == null) return;
+
+		FunctionCounter
+				.builder("cache.load", factory, f -> f.getSuccessfulResolutionStats().loadSuccessCount())
+				.tags(getTagsWithCacheName())
+				.tag("result", "success")
+				.description("The number of uncached paths that were resolved successfully")
+				.register(registry);
+		FunctionCounter
+				.builder("cache.load", factory, f -> f.getSuccessfulResolutionStats().loadFailureCount())
+				.tags(getTagsWithCacheName())
+				.tag("result", "failure")
+				.description("The number of uncached paths that failed to resolve")
+				.register(registry);
+		TimeGauge
+				.builder("cache.load.duration", factory, TimeUnit.NANOSECONDS, f -> f.getSuccessfulResolutionStats().totalLoadTime())
+				.tags(getTagsWithCacheName())
+				.description("The time spent resolving uncached paths")
+				.register(registry);
+	}
+
+	/**
+	 * Returns the statistics of the published cache.
+	 *
+	 * @return cache statistics, or empty statistics if the factory has been
+	 * garbage collected
+	 */
+	private CacheStats stats() {
+		DTOToEntityPathMapperFactory factory = getCache();
+		if (factory == null) return CacheStats.empty();
+		return failedResolutions ? factory.getFailedResolutionStats() : factory.getSuccessfulResolutionStats();
+	}
+}
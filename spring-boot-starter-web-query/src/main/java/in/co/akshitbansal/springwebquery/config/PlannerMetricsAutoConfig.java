@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.plan.QueryPlanner;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration that publishes the query planner counters to
+ * Micrometer.
+ *
+ * <p>Active when Micrometer is on the classpath, whether or not plans are
+ * cached. The queries skipped because their filter is unsatisfiable are
+ * published as {@value QueryPlannerMetrics#AVOIDED_QUERIES}.</p>
+ */
+@AutoConfiguration(after = FactoryAutoConfig.class)
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnBean(QueryPlanner.class)
+public class PlannerMetricsAutoConfig {
+
+	/**
+	 * Creates the metrics of the query planner.
+	 *
+	 * @param queryPlanner planner whose counters are published
+	 *
+	 * @return query planner metrics
+	 */
+	@Bean
+	public QueryPlannerMetrics queryPlannerMetrics(QueryPlanner queryPlanner) {
+		return new QueryPlannerMetrics(queryPlanner, Tags.empty());
+	}
+}
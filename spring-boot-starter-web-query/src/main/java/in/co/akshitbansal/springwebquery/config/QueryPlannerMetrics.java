@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.plan.QueryPlanner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Publishes the counters of a {@link QueryPlanner} as Micrometer meters.
+ *
+ * <p>The number of database queries skipped because their filter was proven
+ * unsatisfiable is published as the {@value #AVOIDED_QUERIES} function
+ * counter, which reads the planner's running total whenever the registry is
+ * scraped.</p>
+ */
+@RequiredArgsConstructor
+public class QueryPlannerMetrics implements MeterBinder {
+
+	/**
+	 * Name of the avoided queries counter.
+	 */
+	public static final String AVOIDED_QUERIES = "spring-web-query.avoided-queries";
+
+	/**
+	 * Planner whose counters are published.
+	 */
+	@NonNull
+	private final QueryPlanner queryPlanner;
+
+	/**
+	 * Additional tags of every published meter.
+	 */
+	@NonNull
+	private final Iterable<Tag> tags;
+
+	@Override
+	public void bindTo(@NonNull MeterRegistry registry) {
+		FunctionCounter
+				.builder(AVOIDED_QUERIES, queryPlanner, QueryPlanner::getAvoidedQueryCount)
+				.tags(tags)
+				.description("The number of database queries skipped because their filter matches nothing")
+				.register(registry);
+	}
+}
@@ -41,13 +41,25 @@ public class RSQLJPAConverterRegistrationAutoConfig {
 	// %2B is URL encoding for +
 	@PostConstruct
 	public void init() {
-		RSQLCommonSupport.addConverter(
-				Timestamp.class, value -> {
-					OffsetDateTime odt = OffsetDateTime.parse(value);
-					Instant instant = odt.toInstant();
-					return Timestamp.from(instant);
-				}
-		);
+		RSQLCommonSupport.addConverter(Timestamp.class, RSQLJPAConverterRegistrationAutoConfig::parseTimestamp);
 		log.info("Registered RSQL JPA converter for ISO-8601 Timestamp fields");
 	}
+
+	/**
+	 * Parses an ISO-8601 date-time with offset into a {@link Timestamp}.
+	 *
+	 * <p>This conversion is shared with the argument converter used to compile
+	 * filters, so compiled comparisons and comparisons converted by RSQL JPA
+	 * accept the same values.</p>
+	 *
+	 * @param value ISO-8601 date-time with offset, for example
+	 * {@code 2025-12-08T00:00:00Z}
+	 *
+	 * @return timestamp for the same instant
+	 */
+	static Timestamp parseTimestamp(String value) {
+		OffsetDateTime odt = OffsetDateTime.parse(value);
+		Instant instant = odt.toInstant();
+		return Timestamp.from(instant);
+	}
 }
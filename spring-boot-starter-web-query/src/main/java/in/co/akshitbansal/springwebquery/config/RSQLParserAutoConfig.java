@@ -18,13 +18,20 @@ package in.co.akshitbansal.springwebquery.config;
 
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import in.co.akshitbansal.springwebquery.parser.DefaultRSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RecursiveDescentRSQLQueryParser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 import java.util.Set;
 
 /**
- * Publishes the shared {@link RSQLParser} used by specification resolvers.
+ * Publishes the shared {@link RSQLParser} used by specification resolvers,
+ * together with the {@link RSQLQueryParser} selected through
+ * {@code spring-web-query.parser.type}.
  */
 @AutoConfiguration
 public class RSQLParserAutoConfig {
@@ -40,4 +47,42 @@ public class RSQLParserAutoConfig {
 	public RSQLParser rsqlParser(Set<ComparisonOperator> allowedOperatorSet) {
 		return new RSQLParser(allowedOperatorSet);
 	}
+
+	/**
+	 * Creates the query parser backed by the shared JavaCC-generated
+	 * {@link RSQLParser}.
+	 *
+	 * @param rsqlParser shared RSQL parser
+	 *
+	 * @return default query parser
+	 */
+	@Bean
+	@ConditionalOnProperty(
+			name = "spring-web-query.parser.type",
+			havingValue = "default",
+			matchIfMissing = true
+	)
+	public RSQLQueryParser defaultRSQLQueryParser(RSQLParser rsqlParser) {
+		return new DefaultRSQLQueryParser(rsqlParser);
+	}
+
+	/**
+	 * Creates the allocation-light recursive-descent query parser.
+	 *
+	 * @param allowedOperatorSet comparison operators accepted by the parser
+	 * @param maxQueryLength maximum accepted query length in characters
+	 *
+	 * @return recursive-descent query parser
+	 */
+	@Bean
+	@ConditionalOnProperty(
+			name = "spring-web-query.parser.type",
+			havingValue = "recursive-descent"
+	)
+	public RSQLQueryParser recursiveDescentRSQLQueryParser(
+			Set<ComparisonOperator> allowedOperatorSet,
+			@Value("${spring-web-query.parser.max-query-length:8192}") int maxQueryLength
+	) {
+		return new RecursiveDescentRSQLQueryParser(allowedOperatorSet, maxQueryLength);
+	}
 }
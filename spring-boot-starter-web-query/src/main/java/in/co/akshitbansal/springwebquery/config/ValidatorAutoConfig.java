@@ -18,7 +18,9 @@ package in.co.akshitbansal.springwebquery.config;
 
 import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
 import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SelectableFieldValidator;
 import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Bean;
 
@@ -34,11 +36,31 @@ public class ValidatorAutoConfig {
 	/**
 	 * Registers the validator used to enforce {@code @Sortable} constraints.
 	 *
+	 * @param stacklessRejections whether validation failures are raised
+	 * without stack traces
+	 *
 	 * @return sortable field validator
 	 */
 	@Bean
-	public SortableFieldValidator sortableFieldValidator() {
-		return new SortableFieldValidator();
+	public SortableFieldValidator sortableFieldValidator(
+			@Value("${spring-web-query.validation.stackless-rejections:false}") boolean stacklessRejections
+	) {
+		return new SortableFieldValidator(stacklessRejections);
+	}
+
+	/**
+	 * Registers the validator used to enforce {@code @Selectable} constraints.
+	 *
+	 * @param stacklessRejections whether validation failures are raised
+	 * without stack traces
+	 *
+	 * @return selectable field validator
+	 */
+	@Bean
+	public SelectableFieldValidator selectableFieldValidator(
+			@Value("${spring-web-query.validation.stackless-rejections:false}") boolean stacklessRejections
+	) {
+		return new SelectableFieldValidator(stacklessRejections);
 	}
 
 	/**
@@ -46,11 +68,16 @@ public class ValidatorAutoConfig {
 	 * constraints, backed by the current custom operator registry.
 	 *
 	 * @param customOperatorMap custom operators keyed by implementation class
+	 * @param stacklessRejections whether validation failures are raised
+	 * without stack traces
 	 *
 	 * @return filterable field validator
 	 */
 	@Bean
-	public FilterableFieldValidator filterableFieldValidator(Map<Class<?>, RSQLCustomOperator<?>> customOperatorMap) {
-		return new FilterableFieldValidator(customOperatorMap);
+	public FilterableFieldValidator filterableFieldValidator(
+			Map<Class<?>, RSQLCustomOperator<?>> customOperatorMap,
+			@Value("${spring-web-query.validation.stackless-rejections:false}") boolean stacklessRejections
+	) {
+		return new FilterableFieldValidator(customOperatorMap, stacklessRejections);
 	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
+import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscovererFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.ClassUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Auto-configuration that warms up the query contracts of annotated DTOs at
+ * startup.
+ *
+ * <p>Warm-up is opt-in and enabled with
+ * {@code spring-web-query.warm-up.enabled=true}. The packages scanned for
+ * {@link in.co.akshitbansal.springwebquery.annotation.WebQueryDTO}-annotated
+ * DTOs are taken from {@code spring-web-query.warm-up.base-packages}, or from
+ * the application's auto-configuration packages when that property is not
+ * set.</p>
+ */
+@AutoConfiguration(after = FactoryAutoConfig.class)
+@ConditionalOnProperty(name = "spring-web-query.warm-up.enabled", havingValue = "true")
+@Slf4j
+public class WarmUpAutoConfig {
+
+	/**
+	 * Creates the warm-up that resolves DTO query contracts once all
+	 * singletons are instantiated.
+	 *
+	 * @param queryContractRegistry registry whose contracts are built during warm-up
+	 * @param discovererFactory factory whose constructor cache is populated
+	 * @param basePackages packages to scan, empty to use the auto-configuration packages
+	 * @param beanFactory bean factory used to look up the auto-configuration packages
+	 *
+	 * @return DTO warm-up
+	 */
+	@Bean
+	public WebQueryWarmUp webQueryWarmUp(
+			QueryContractRegistry queryContractRegistry,
+			PreferredConstructorDiscovererFactory discovererFactory,
+			@Value("${spring-web-query.warm-up.base-packages:}") String[] basePackages,
+			BeanFactory beanFactory
+	) {
+		List<String> packages = resolveBasePackages(basePackages, beanFactory);
+		if (packages.isEmpty())
+			log.warn("Query contract warm-up is enabled but no base packages are configured");
+		return new WebQueryWarmUp(queryContractRegistry, discovererFactory, packages, ClassUtils.getDefaultClassLoader());
+	}
+
+	/**
+	 * Resolves the packages scanned for annotated DTOs.
+	 *
+	 * @param basePackages configured packages, empty to use the
+	 * auto-configuration packages
+	 * @param beanFactory bean factory used to look up the auto-configuration packages
+	 *
+	 * @return packages to scan, empty if none are configured or registered
+	 */
+	static List<String> resolveBasePackages(String[] basePackages, BeanFactory beanFactory) {
+		List<String> packages = Arrays
+				.stream(basePackages)
+				.map(String::trim)
+				.filter(basePackage -> !basePackage.isEmpty())
+				.toList();
+		if (packages.isEmpty() && AutoConfigurationPackages.has(beanFactory))
+			packages = AutoConfigurationPackages.get(beanFactory);
+		return packages;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.annotation.WebQueryDTO;
+import in.co.akshitbansal.springwebquery.contract.GeneratedQueryMetadata;
+import in.co.akshitbansal.springwebquery.resolver.TraversableTypes;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Prepares {@link WebQueryDTO}-annotated DTOs for native images during
+ * ahead-of-time processing.
+ *
+ * <p>The library reads DTO and entity fields, DTO constructors, and generated
+ * query metadata reflectively. For every DTO found in the packages the
+ * {@linkplain WebQueryWarmUp warm-up} would scan, the processor registers:</p>
+ * <ul>
+ *   <li>the declared fields and constructors of the DTO and of every
+ *       application type reachable through its fields, including element
+ *       types of arrays and collections</li>
+ *   <li>the declared fields of the entity named by {@link WebQueryDTO} and of
+ *       every application type reachable from it, which the path mappers
+ *       resolve entity paths against</li>
+ *   <li>the constructor of the DTO's {@link GeneratedQueryMetadata} class, if
+ *       the annotation processor generated one, so that query contracts are
+ *       loaded from compile-time metadata instead of being discovered at
+ *       runtime</li>
+ * </ul>
+ *
+ * <p>The scanned DTOs are also recorded in an index, which the warm-up reads
+ * in place of classpath scanning when generated artifacts are in use.</p>
+ */
+public class WebQueryAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+	/**
+	 * Property listing the packages scanned for annotated DTOs.
+	 */
+	private static final String BASE_PACKAGES_PROPERTY = "spring-web-query.warm-up.base-packages";
+
+	/**
+	 * Scans for annotated DTOs and contributes their hints and index.
+	 *
+	 * @param beanFactory bean factory of the application being processed
+	 *
+	 * @return contribution registering the DTO hints, or {@code null} if no
+	 * annotated DTOs were found
+	 */
+	@Override
+	@Nullable
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+		String[] basePackages = new String[0];
+		if (beanFactory.containsBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME)) {
+			Environment environment = beanFactory.getBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, Environment.class);
+			basePackages = environment.getProperty(BASE_PACKAGES_PROPERTY, String[].class, basePackages);
+		}
+		List<String> packages = WarmUpAutoConfig.resolveBasePackages(basePackages, beanFactory);
+		if (packages.isEmpty()) return null;
+
+		ClassLoader classLoader = beanFactory.getBeanClassLoader();
+		if (classLoader == null) classLoader = WebQueryAotProcessor.class.getClassLoader();
+		Set<Class<?>> dtoClasses = new WebQueryDTOScanner(packages, classLoader).scanBasePackages();
+		if (dtoClasses.isEmpty()) return null;
+
+		ClassLoader metadataClassLoader = classLoader;
+		return (generationContext, code) -> {
+			RuntimeHints hints = generationContext.getRuntimeHints();
+			registerHints(hints.reflection(), dtoClasses, metadataClassLoader);
+			generationContext.getGeneratedFiles().addResourceFile(
+					WebQueryDTOScanner.INDEX_LOCATION, WebQueryDTOScanner.toIndex(dtoClasses)
+			);
+			hints.resources().registerPattern(WebQueryDTOScanner.INDEX_LOCATION);
+		};
+	}
+
+	/**
+	 * Registers the reflection hints of a set of DTOs.
+	 *
+	 * @param hints reflection hints to populate
+	 * @param dtoClasses annotated DTO types
+	 * @param classLoader class loader used to look up generated metadata classes
+	 */
+	static void registerHints(ReflectionHints hints, Collection<Class<?>> dtoClasses, ClassLoader classLoader) {
+		Set<Class<?>> visitedDTOs = new HashSet<>();
+		Set<Class<?>> visitedEntities = new HashSet<>();
+		for (Class<?> dtoClass: dtoClasses) {
+			if (visitedDTOs.add(dtoClass)) registerTypeGraph(
+					hints, dtoClass, visitedDTOs,
+					MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS
+			);
+			WebQueryDTO annotation = dtoClass.getAnnotation(WebQueryDTO.class);
+			if (annotation != null && visitedEntities.add(annotation.value()))
+				registerTypeGraph(hints, annotation.value(), visitedEntities, MemberCategory.DECLARED_FIELDS);
+			hints.registerTypeIfPresent(
+					classLoader, dtoClass.getName() + GeneratedQueryMetadata.CLASS_NAME_SUFFIX,
+					MemberCategory.INVOKE_DECLARED_CONSTRUCTORS
+			);
+		}
+	}
+
+	/**
+	 * Registers a type, its superclasses, and every application type reachable
+	 * through their fields.
+	 *
+	 * @param hints reflection hints to populate
+	 * @param type type to register
+	 * @param visited types already registered for this graph
+	 * @param categories member categories registered for each type
+	 */
+	private static void registerTypeGraph(
+			ReflectionHints hints,
+			Class<?> type,
+			Set<Class<?>> visited,
+			MemberCategory... categories
+	) {
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			hints.registerType(current, categories);
+			for (Field field: current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+				Class<?> next = TraversableTypes.unwrapContainerType(field);
+				if (next == null || !TraversableTypes.isTraversable(next) || !visited.add(next)) continue;
+				registerTypeGraph(hints, next, visited, categories);
+			}
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.annotation.WebQueryDTO;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.*;
+
+/**
+ * Finds the {@link WebQueryDTO}-annotated DTOs of an application.
+ *
+ * <p>On the JVM the DTOs are found by scanning the configured base packages.
+ * Classpath scanning is not available in a native image, so ahead-of-time
+ * processing records the scanned DTOs in an index at {@link #INDEX_LOCATION}
+ * and, whenever generated artifacts are in use, the index is read instead of
+ * scanning.</p>
+ */
+class WebQueryDTOScanner {
+
+	/**
+	 * Classpath location of the DTO index written during ahead-of-time
+	 * processing.
+	 */
+	static final String INDEX_LOCATION = "META-INF/spring-web-query/web-query-dtos";
+
+	/**
+	 * Packages scanned for {@link WebQueryDTO}-annotated DTOs.
+	 */
+	private final List<String> basePackages;
+
+	/**
+	 * Class loader used to load DTO types and the index.
+	 */
+	private final ClassLoader classLoader;
+
+	/**
+	 * Creates a scanner for the supplied packages.
+	 *
+	 * @param basePackages packages scanned for {@link WebQueryDTO}-annotated DTOs
+	 * @param classLoader class loader used to load DTO types and the index
+	 */
+	WebQueryDTOScanner(@NonNull List<String> basePackages, @NonNull ClassLoader classLoader) {
+		this.basePackages = List.copyOf(basePackages);
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Finds the annotated DTOs, from the ahead-of-time index when generated
+	 * artifacts are in use and the index is present, or by scanning otherwise.
+	 *
+	 * @return annotated DTO types, without duplicates
+	 *
+	 * @throws QueryConfigurationException if a DTO type or the index cannot be
+	 * loaded
+	 */
+	Set<Class<?>> scan() {
+		if (AotDetector.useGeneratedArtifacts()) {
+			Set<Class<?>> indexed = readIndex();
+			if (indexed != null) return indexed;
+		}
+		return scanBasePackages();
+	}
+
+	/**
+	 * Finds the annotated DTOs by scanning the base packages.
+	 *
+	 * @return annotated DTO types, without duplicates
+	 *
+	 * @throws QueryConfigurationException if a scanned type cannot be loaded
+	 */
+	Set<Class<?>> scanBasePackages() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(WebQueryDTO.class));
+		Set<Class<?>> dtoClasses = new LinkedHashSet<>();
+		for (String basePackage: basePackages) {
+			for (BeanDefinition candidate: scanner.findCandidateComponents(basePackage))
+				dtoClasses.add(load(Objects.requireNonNull(candidate.getBeanClassName())));
+		}
+		return dtoClasses;
+	}
+
+	/**
+	 * Formats DTO types as the content of the ahead-of-time index.
+	 *
+	 * @param dtoClasses DTO types to record
+	 *
+	 * @return index content, one binary class name per line
+	 */
+	static String toIndex(@NonNull Collection<Class<?>> dtoClasses) {
+		StringBuilder index = new StringBuilder();
+		for (Class<?> dtoClass: dtoClasses) index.append(dtoClass.getName()).append('\n');
+		return index.toString();
+	}
+
+	/**
+	 * Reads the DTO types recorded in the ahead-of-time index.
+	 *
+	 * @return recorded DTO types, or {@code null} if there is no index
+	 *
+	 * @throws QueryConfigurationException if the index cannot be read or a
+	 * recorded type cannot be loaded
+	 */
+	@Nullable
+	private Set<Class<?>> readIndex() {
+		URL index = classLoader.getResource(INDEX_LOCATION);
+		if (index == null) return null;
+		String content;
+		try (InputStream in = index.openStream()) {
+			content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		catch (IOException ex) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Failed to read DTO index ''{0}''", index
+			), ex);
+		}
+		Set<Class<?>> dtoClasses = new LinkedHashSet<>();
+		for (String line: content.split("\n")) {
+			String className = line.trim();
+			if (!className.isEmpty()) dtoClasses.add(load(className));
+		}
+		return dtoClasses;
+	}
+
+	/**
+	 * Loads a DTO type.
+	 *
+	 * @param className binary name of the DTO type
+	 *
+	 * @return loaded DTO type
+	 *
+	 * @throws QueryConfigurationException if the type cannot be loaded
+	 */
+	private Class<?> load(String className) {
+		try {
+			return ClassUtils.forName(className, classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Failed to load DTO class ''{0}''", className
+			), ex);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.annotation.*;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Registers the runtime hints the library needs in a native image regardless
+ * of the application's DTOs.
+ *
+ * <p>Filterability declarations are collected from composed annotations such
+ * as {@link RSQLFilterableEquality} by reading the annotations present on the
+ * annotation types themselves, so the library's annotation types are
+ * registered for reflection. Hints for the application's DTOs and entities
+ * are contributed by {@link WebQueryAotProcessor}.</p>
+ */
+public class WebQueryRuntimeHints implements RuntimeHintsRegistrar {
+
+	/**
+	 * Annotation types that are read reflectively.
+	 */
+	private static final List<Class<?>> ANNOTATION_TYPES = List.of(
+			MapsTo.class,
+			RSQLFilterable.class,
+			RSQLFilterableEquality.class,
+			RSQLFilterableMembership.class,
+			RSQLFilterableNull.class,
+			RSQLFilterableRange.class,
+			RSQLFilterableText.class,
+			RSQLFilterables.class,
+			Selectable.class,
+			Sortable.class,
+			WebQueryDTO.class
+	);
+
+	/**
+	 * Registers the library's annotation types for reflection.
+	 *
+	 * @param hints hints to populate
+	 * @param classLoader class loader of the application, unused
+	 */
+	@Override
+	public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+		for (Class<?> annotationType: ANNOTATION_TYPES) hints.reflection().registerType(annotationType);
+	}
+}
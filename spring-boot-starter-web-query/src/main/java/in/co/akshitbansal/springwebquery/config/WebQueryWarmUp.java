@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.annotation.WebQueryDTO;
+import in.co.akshitbansal.springwebquery.contract.QueryContract;
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryException;
+import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscoverer;
+import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscovererFactory;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.lang.reflect.Constructor;
+import java.text.MessageFormat;
+import java.util.*;
+
+/**
+ * Resolves the query contracts of all {@link WebQueryDTO}-annotated DTOs while
+ * the application context starts.
+ *
+ * <p>Without warm-up, the first request for each DTO pays for the reflection
+ * needed to resolve its selector paths and constructors. The warm-up scans
+ * the configured base packages for DTOs annotated with {@link WebQueryDTO},
+ * builds the {@link QueryContract} of each DTO against its declared entity,
+ * maps every filterable and sortable path of the contract through the shared
+ * path mapper caches, including the paths of contracts built from generated
+ * metadata, which are otherwise only mapped on first use, and discovers the DTO constructor matching the exact
+ * parameter types of each declared constructor, which fills the shared
+ * constructor cache for projections of those shapes.</p>
+ *
+ * <p>In a native image, where classpath scanning is unavailable, the DTOs
+ * are read from the index written by {@link WebQueryAotProcessor} during
+ * ahead-of-time processing.</p>
+ *
+ * <p>The warm-up runs once all singletons are instantiated, during context
+ * refresh. Startup therefore fails with a {@link QueryConfigurationException}
+ * listing every broken path if any declared filterable or sortable path cannot
+ * be mapped, and Spring Boot only reports the application as ready to accept
+ * traffic after the warm-up has completed.</p>
+ */
+@Slf4j
+public class WebQueryWarmUp implements SmartInitializingSingleton {
+
+	/**
+	 * Registry whose contracts are built during warm-up.
+	 */
+	private final QueryContractRegistry queryContractRegistry;
+
+	/**
+	 * Factory whose shared constructor cache is populated during warm-up.
+	 */
+	private final PreferredConstructorDiscovererFactory discovererFactory;
+
+	/**
+	 * Packages scanned for {@link WebQueryDTO}-annotated DTOs.
+	 */
+	private final List<String> basePackages;
+
+	/**
+	 * Class loader used to load scanned DTO types.
+	 */
+	private final ClassLoader classLoader;
+
+	/**
+	 * DTO types warmed up so far.
+	 */
+	private final Set<Class<?>> warmedUpDTOs = new LinkedHashSet<>();
+
+	/**
+	 * Creates a warm-up for the supplied packages.
+	 *
+	 * @param queryContractRegistry registry whose contracts are built during warm-up
+	 * @param discovererFactory factory whose shared constructor cache is populated
+	 * @param basePackages packages scanned for {@link WebQueryDTO}-annotated DTOs
+	 * @param classLoader class loader used to load scanned DTO types
+	 */
+	public WebQueryWarmUp(
+			@NonNull QueryContractRegistry queryContractRegistry,
+			@NonNull PreferredConstructorDiscovererFactory discovererFactory,
+			@NonNull List<String> basePackages,
+			@NonNull ClassLoader classLoader
+	) {
+		this.queryContractRegistry = queryContractRegistry;
+		this.discovererFactory = discovererFactory;
+		this.basePackages = List.copyOf(basePackages);
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Returns the DTO types warmed up so far.
+	 *
+	 * @return unmodifiable view of the warmed-up DTO types, in scan order
+	 */
+	public Set<Class<?>> getWarmedUpDTOs() {
+		return Collections.unmodifiableSet(warmedUpDTOs);
+	}
+
+	/**
+	 * Scans the base packages and warms up every DTO found.
+	 *
+	 * @throws QueryConfigurationException if a DTO cannot be loaded or declares
+	 * filterable or sortable paths that cannot be mapped
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		long start = System.nanoTime();
+		List<String> errors = new ArrayList<>();
+		for (Class<?> dtoClass: new WebQueryDTOScanner(basePackages, classLoader).scan()) {
+			Class<?> entityClass = Objects.requireNonNull(dtoClass.getAnnotation(WebQueryDTO.class)).value();
+			QueryContract contract = queryContractRegistry.getContract(entityClass, dtoClass);
+			contract.getInvalidPaths().forEach((dtoPath, ex) -> errors.add(MessageFormat.format(
+					"{0}#{1}: {2}", dtoClass.getName(), dtoPath, ex.getMessage()
+			)));
+			warmUpMappings(dtoClass, contract, errors);
+			warmUpConstructors(dtoClass);
+			warmedUpDTOs.add(dtoClass);
+		}
+		if (!errors.isEmpty()) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Invalid query contracts found during warm-up: {0}", String.join("; ", errors)
+			));
+		}
+		log.info(
+				"Warmed up query contracts of {} DTOs in {} ms", warmedUpDTOs.size(),
+				(System.nanoTime() - start) / 1_000_000
+		);
+	}
+
+	/**
+	 * Maps every path of a contract that has not been mapped yet.
+	 *
+	 * @param dtoClass DTO type that defines the contract
+	 * @param contract contract whose paths are mapped
+	 * @param errors accumulator of errors of paths that cannot be mapped
+	 */
+	private void warmUpMappings(Class<?> dtoClass, QueryContract contract, List<String> errors) {
+		for (QueryContract.FieldContract fieldContract: contract.getFields().values()) {
+			try {
+				fieldContract.getMappingResult();
+			}
+			catch (QueryException ex) {
+				errors.add(MessageFormat.format(
+						"{0}#{1}: {2}", dtoClass.getName(), fieldContract.getDtoPath(), ex.getMessage()
+				));
+			}
+		}
+	}
+
+	/**
+	 * Discovers the constructor of a DTO for the exact parameter types of each
+	 * of its declared constructors.
+	 *
+	 * <p>Shapes that cannot be resolved to a single constructor are skipped,
+	 * since they only fail if a query actually projects them.</p>
+	 *
+	 * @param dtoClass DTO type whose constructors are discovered
+	 */
+	private void warmUpConstructors(Class<?> dtoClass) {
+		PreferredConstructorDiscoverer<?> discoverer = discovererFactory.newDiscoverer(dtoClass);
+		for (Constructor<?> constructor: dtoClass.getDeclaredConstructors()) {
+			if (constructor.isSynthetic() || constructor.getParameterCount() == 0) continue;
+			try {
+				discoverer.discoverForShape(Arrays.asList(constructor.getParameterTypes()));
+			}
+			catch (QueryException ex) {
+				log.debug("Skipping constructor warm-up of {}: {}", constructor, ex.getMessage());
+			}
+		}
+	}
+}
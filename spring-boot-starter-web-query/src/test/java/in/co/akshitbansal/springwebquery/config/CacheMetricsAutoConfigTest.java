@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.config.warmup.ProductEntity;
+import in.co.akshitbansal.springwebquery.config.warmup.valid.ProductDTO;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheMetricsAutoConfigTest {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(
+					RSQLOperatorsAutoConfig.class, RSQLParserAutoConfig.class,
+					ValidatorAutoConfig.class, FactoryAutoConfig.class, CacheMetricsAutoConfig.class
+			));
+
+	@Test
+	void testMetricsArePublished() {
+		runner.run(ctx -> {
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			ctx.getBeansOfType(PathResolutionCacheMetrics.class).values().forEach(metrics -> metrics.bindTo(registry));
+
+			DTOToEntityPathMapperFactory factory = ctx.getBean(DTOToEntityPathMapperFactory.class);
+			factory.newMapper(ProductEntity.class, ProductDTO.class).map("name");
+			factory.newMapper(ProductEntity.class, ProductDTO.class).map("name");
+			assertThrows(RuntimeException.class, () -> factory.newMapper(ProductEntity.class, ProductDTO.class).map("unknown"));
+
+			String successful = "spring-web-query.path-resolution.successful";
+			String failed = "spring-web-query.path-resolution.failed";
+			assertEquals(1, registry.get("cache.size").tag("cache", successful).gauge().value());
+			assertEquals(1, registry.get("cache.size").tag("cache", failed).gauge().value());
+			assertEquals(1, registry.get("cache.gets").tag("cache", successful).tag("result", "hit").functionCounter().count());
+			assertEquals(2, registry.get("cache.gets").tag("cache", successful).tag("result", "miss").functionCounter().count());
+			assertEquals(1, registry.get("cache.load").tag("cache", successful).tag("result", "success").functionCounter().count());
+			assertEquals(1, registry.get("cache.load").tag("cache", successful).tag("result", "failure").functionCounter().count());
+			assertEquals(1, registry.get("cache.puts").tag("cache", failed).functionCounter().count());
+		});
+	}
+
+	@Test
+	void testMetricsAreNotRegisteredWithoutCaching() {
+		runner
+				.withPropertyValues("spring-web-query.field-resolution.caching.enabled=false")
+				.run(ctx -> assertTrue(ctx.getBeansOfType(PathResolutionCacheMetrics.class).isEmpty()));
+	}
+}
@@ -17,23 +17,35 @@
 package in.co.akshitbansal.springwebquery.config;
 
 import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
+import in.co.akshitbansal.springwebquery.cost.DefaultQueryCostEstimator;
+import in.co.akshitbansal.springwebquery.cost.QueryCostEstimator;
 import in.co.akshitbansal.springwebquery.pathmapper.CachedDTOToEntityPathMapper;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.plan.CachedQueryPlanner;
+import in.co.akshitbansal.springwebquery.plan.QueryPlanner;
+import in.co.akshitbansal.springwebquery.program.ArgumentConverter;
+import in.co.akshitbansal.springwebquery.repository.DerivedSelectionsProviderFactory;
 import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscovererFactory;
 import in.co.akshitbansal.springwebquery.tupleconverter.TupleConverterFactory;
+import in.co.akshitbansal.springwebquery.tupleconverter.TupleInstantiatorFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class FactoryAutoConfigTest {
 
 	private final ApplicationContextRunner runner = new ApplicationContextRunner()
 			.withConfiguration(AutoConfigurations.of(
-					RSQLOperatorsAutoConfig.class, ValidatorAutoConfig.class, FactoryAutoConfig.class
+					RSQLOperatorsAutoConfig.class, RSQLParserAutoConfig.class,
+					ValidatorAutoConfig.class, FactoryAutoConfig.class
 			));
 
 	@Test
@@ -42,10 +54,83 @@ class FactoryAutoConfigTest {
 			assertDoesNotThrow(() -> ctx.getBean(DTOToEntityPathMapperFactory.class));
 			assertDoesNotThrow(() -> ctx.getBean(ValidationRSQLVisitorFactory.class));
 			assertDoesNotThrow(() -> ctx.getBean(PreferredConstructorDiscovererFactory.class));
+			assertDoesNotThrow(() -> ctx.getBean(TupleInstantiatorFactory.class));
 			assertDoesNotThrow(() -> ctx.getBean(TupleConverterFactory.class));
+			assertDoesNotThrow(() -> ctx.getBean(QueryPlanner.class));
+			assertDoesNotThrow(() -> ctx.getBean(QueryCostEstimator.class));
+			assertDoesNotThrow(() -> ctx.getBean(ArgumentConverter.class));
+			assertDoesNotThrow(() -> ctx.getBean(QueryContractRegistry.class));
+			assertDoesNotThrow(() -> ctx.getBean(DerivedSelectionsProviderFactory.class));
+		});
+	}
+
+	@Test
+	void testQueryCostEstimatorWithNoCustomBean() {
+		runner.run(ctx -> {
+			QueryCostEstimator estimator = assertDoesNotThrow(() -> ctx.getBean(QueryCostEstimator.class));
+			assertSame(DefaultQueryCostEstimator.class, estimator.getClass());
+		});
+	}
+
+	@Test
+	void testWithCustomQueryCostEstimator() {
+		QueryCostEstimator customEstimator = (rootNode, entityClass, mappingResults) -> 0;
+		runner
+				.withBean(QueryCostEstimator.class, () -> customEstimator)
+				.run(ctx -> {
+					QueryCostEstimator estimator = assertDoesNotThrow(() -> ctx.getBean(QueryCostEstimator.class));
+					assertSame(customEstimator, estimator);
+				});
+	}
+
+	@Test
+	void testArgumentConverterWithNoCustomBean() {
+		runner.run(ctx -> {
+			ArgumentConverter converter = assertDoesNotThrow(() -> ctx.getBean(ArgumentConverter.class));
+			assertTrue(converter.supports(Timestamp.class));
+			assertEquals(
+					Timestamp.from(Instant.parse("2025-12-08T00:00:00Z")),
+					converter.convert("2025-12-08T00:00:00+00:00", Timestamp.class)
+			);
+		});
+	}
+
+	@Test
+	void testWithCustomArgumentConverter() {
+		ArgumentConverter customConverter = new ArgumentConverter();
+		runner
+				.withBean(ArgumentConverter.class, () -> customConverter)
+				.run(ctx -> {
+					ArgumentConverter converter = assertDoesNotThrow(() -> ctx.getBean(ArgumentConverter.class));
+					assertSame(customConverter, converter);
+				});
+	}
+
+	@Test
+	void testWithNegativeMaxQueryCost() {
+		runner
+				.withPropertyValues("spring-web-query.filtering.max-query-cost=-1")
+				.run(ctx -> assertNotNull(ctx.getStartupFailure()));
+	}
+
+	@Test
+	void testPlanCacheWithNoPropertyDefined() {
+		runner.run(ctx -> {
+			QueryPlanner planner = assertDoesNotThrow(() -> ctx.getBean(QueryPlanner.class));
+			assertSame(CachedQueryPlanner.class, planner.getClass());
 		});
 	}
 
+	@Test
+	void testWithPlanCacheDisabled() {
+		runner
+				.withPropertyValues("spring-web-query.plan-cache.enabled=false")
+				.run(ctx -> {
+					QueryPlanner planner = assertDoesNotThrow(() -> ctx.getBean(QueryPlanner.class));
+					assertSame(QueryPlanner.class, planner.getClass());
+				});
+	}
+
 	@Test
 	void testFieldResolutionCachingWithNoPropertyDefined() {
 		runner.run(this::assertFieldResolutionIsCached);
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.plan.QueryPlanner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlannerMetricsAutoConfigTest {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(
+					RSQLOperatorsAutoConfig.class, RSQLParserAutoConfig.class,
+					ValidatorAutoConfig.class, FactoryAutoConfig.class, PlannerMetricsAutoConfig.class
+			));
+
+	@Test
+	void testAvoidedQueriesArePublished() {
+		runner.run(ctx -> {
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			ctx.getBean(QueryPlannerMetrics.class).bindTo(registry);
+
+			ctx.getBean(QueryPlanner.class).recordAvoidedQueries(3);
+
+			assertEquals(3, registry.get(QueryPlannerMetrics.AVOIDED_QUERIES).functionCounter().count());
+		});
+	}
+
+	@Test
+	void testAvoidedQueriesArePublishedWithoutPlanCache() {
+		runner
+				.withPropertyValues("spring-web-query.plan-cache.enabled=false")
+				.run(ctx -> {
+					SimpleMeterRegistry registry = new SimpleMeterRegistry();
+					ctx.getBean(QueryPlannerMetrics.class).bindTo(registry);
+
+					ctx.getBean(QueryPlanner.class).recordAvoidedQueries(2);
+
+					assertEquals(2, registry.get(QueryPlannerMetrics.AVOIDED_QUERIES).functionCounter().count());
+				});
+	}
+}
@@ -17,11 +17,15 @@
 package in.co.akshitbansal.springwebquery.config;
 
 import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.RSQLParserException;
+import in.co.akshitbansal.springwebquery.parser.DefaultRSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RecursiveDescentRSQLQueryParser;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.*;
 
 class RSQLParserAutoConfigTest {
 
@@ -40,4 +44,28 @@ class RSQLParserAutoConfigTest {
 			assertDoesNotThrow(() -> parser.parse("name==John"));
 		});
 	}
+
+	@Test
+	void testQueryParserWithNoPropertyDefined() {
+		runner.run(ctx -> {
+			RSQLQueryParser parser = assertDoesNotThrow(() -> ctx.getBean(RSQLQueryParser.class));
+			assertInstanceOf(DefaultRSQLQueryParser.class, parser);
+		});
+	}
+
+	@Test
+	void testWithRecursiveDescentQueryParser() {
+		runner
+				.withPropertyValues(
+						"spring-web-query.parser.type=recursive-descent",
+						"spring-web-query.parser.max-query-length=20"
+				)
+				.run(ctx -> {
+					RSQLQueryParser parser = assertDoesNotThrow(() -> ctx.getBean(RSQLQueryParser.class));
+					assertInstanceOf(RecursiveDescentRSQLQueryParser.class, parser);
+
+					assertDoesNotThrow(() -> parser.parse("name==John"));
+					assertThrows(RSQLParserException.class, () -> parser.parse("name==JohnJohnJohnJohn"));
+				});
+	}
 }
@@ -17,6 +17,7 @@
 package in.co.akshitbansal.springwebquery.config;
 
 import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SelectableFieldValidator;
 import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -36,6 +37,7 @@ class ValidatorAutoConfigTest {
 		runner.run(ctx -> {
 			assertDoesNotThrow(() -> ctx.getBean(SortableFieldValidator.class));
 			assertDoesNotThrow(() -> ctx.getBean(FilterableFieldValidator.class));
+			assertDoesNotThrow(() -> ctx.getBean(SelectableFieldValidator.class));
 		});
 	}
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.config.warmup.ProductEntity;
+import in.co.akshitbansal.springwebquery.config.warmup.valid.ProductDTO;
+import in.co.akshitbansal.springwebquery.contract.QueryContract;
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WarmUpAutoConfigTest {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(
+					RSQLOperatorsAutoConfig.class, RSQLParserAutoConfig.class,
+					ValidatorAutoConfig.class, FactoryAutoConfig.class, WarmUpAutoConfig.class
+			));
+
+	@Test
+	void testWarmUpIsDisabledByDefault() {
+		runner.run(ctx -> assertEquals(0, ctx.getBeanNamesForType(WebQueryWarmUp.class).length));
+	}
+
+	@Test
+	void testWarmUpWithValidDTOs() {
+		runner
+				.withPropertyValues(
+						"spring-web-query.warm-up.enabled=true",
+						"spring-web-query.warm-up.base-packages=in.co.akshitbansal.springwebquery.config.warmup.valid"
+				)
+				.run(ctx -> {
+					WebQueryWarmUp warmUp = assertDoesNotThrow(() -> ctx.getBean(WebQueryWarmUp.class));
+					assertEquals(Set.of(ProductDTO.class), warmUp.getWarmedUpDTOs());
+
+					// The contract was built during startup and is reused afterwards
+					QueryContractRegistry registry = ctx.getBean(QueryContractRegistry.class);
+					QueryContract contract = registry.getContract(ProductEntity.class, ProductDTO.class);
+					assertNotNull(contract.getField("id"));
+					assertEquals("title", contract.getField("name").getMappingResult().getPath());
+					assertTrue(contract.getInvalidPaths().isEmpty());
+				});
+	}
+
+	@Test
+	void testWarmUpFailsStartupOnBrokenMapping() {
+		runner
+				.withPropertyValues(
+						"spring-web-query.warm-up.enabled=true",
+						"spring-web-query.warm-up.base-packages=in.co.akshitbansal.springwebquery.config.warmup.broken"
+				)
+				.run(ctx -> {
+					assertNotNull(ctx.getStartupFailure());
+					Throwable cause = NestedExceptionUtils.getMostSpecificCause(ctx.getStartupFailure());
+					assertInstanceOf(QueryConfigurationException.class, cause);
+					assertTrue(cause.getMessage().contains("BrokenProductDTO#name"));
+				});
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config;
+
+import in.co.akshitbansal.springwebquery.annotation.RSQLFilterableEquality;
+import in.co.akshitbansal.springwebquery.config.warmup.ProductEntity;
+import in.co.akshitbansal.springwebquery.config.warmup.valid.ProductDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.AotServices;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.javapoet.ClassName;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class WebQueryAotProcessorTest {
+
+	private DefaultListableBeanFactory newBeanFactory(String basePackages) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton(
+				ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME,
+				new MockEnvironment().withProperty("spring-web-query.warm-up.base-packages", basePackages)
+		);
+		return beanFactory;
+	}
+
+	@Test
+	void testProcessorsAreRegistered() {
+		assertTrue(AotServices.factories().load(RuntimeHintsRegistrar.class).asList()
+				.stream().anyMatch(WebQueryRuntimeHints.class::isInstance));
+		assertTrue(AotServices.factories().load(BeanFactoryInitializationAotProcessor.class).asList()
+				.stream().anyMatch(WebQueryAotProcessor.class::isInstance));
+	}
+
+	@Test
+	void testAnnotationTypesAreRegistered() {
+		RuntimeHints hints = new RuntimeHints();
+		new WebQueryRuntimeHints().registerHints(hints, getClass().getClassLoader());
+		assertTrue(RuntimeHintsPredicates.reflection().onType(RSQLFilterableEquality.class).test(hints));
+	}
+
+	@Test
+	void testDTOHintsAndIndexAreContributed() {
+		BeanFactoryInitializationAotContribution contribution = new WebQueryAotProcessor().processAheadOfTime(
+				newBeanFactory("in.co.akshitbansal.springwebquery.config.warmup.valid")
+		);
+		assertNotNull(contribution);
+
+		InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+		DefaultGenerationContext generationContext = new DefaultGenerationContext(
+				new ClassNameGenerator(ClassName.get("com.example", "TestApplication")), generatedFiles
+		);
+		contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+		RuntimeHints hints = generationContext.getRuntimeHints();
+
+		assertTrue(RuntimeHintsPredicates.reflection().onType(ProductDTO.class)
+				.withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+				.test(hints));
+		assertTrue(RuntimeHintsPredicates.reflection().onType(ProductEntity.class)
+				.withMemberCategory(MemberCategory.DECLARED_FIELDS)
+				.test(hints));
+		assertTrue(RuntimeHintsPredicates.resource().forResource(WebQueryDTOScanner.INDEX_LOCATION).test(hints));
+		assertEquals(
+				ProductDTO.class.getName() + "\n",
+				generatedFiles.getGeneratedFileContent(GeneratedFiles.Kind.RESOURCE, WebQueryDTOScanner.INDEX_LOCATION)
+		);
+	}
+
+	@Test
+	void testNothingIsContributedWithoutDTOs() {
+		assertNull(new WebQueryAotProcessor().processAheadOfTime(
+				newBeanFactory("in.co.akshitbansal.springwebquery.config.customoperator")
+		));
+	}
+}
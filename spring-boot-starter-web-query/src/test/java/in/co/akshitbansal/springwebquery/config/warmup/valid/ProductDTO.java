@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.config.warmup.valid;
+
+import in.co.akshitbansal.springwebquery.annotation.MapsTo;
+import in.co.akshitbansal.springwebquery.annotation.RSQLFilterableEquality;
+import in.co.akshitbansal.springwebquery.annotation.Sortable;
+import in.co.akshitbansal.springwebquery.annotation.WebQueryDTO;
+import in.co.akshitbansal.springwebquery.config.warmup.ProductEntity;
+import org.jspecify.annotations.NullMarked;
+
+@NullMarked
+@WebQueryDTO(ProductEntity.class)
+public class ProductDTO {
+
+	@RSQLFilterableEquality
+	@Sortable
+	private Long id;
+
+	@MapsTo("title")
+	@Sortable
+	private String name;
+
+	public ProductDTO(Long id, String name) {
+		this.id = id;
+		this.name = name;
+	}
+}
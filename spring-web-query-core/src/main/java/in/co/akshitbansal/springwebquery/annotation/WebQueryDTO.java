@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares the entity type that a DTO's query contract is mapped against.
+ *
+ * <p>The library normally learns the entity/DTO pair of a query only when a
+ * repository method is called with a DTO class, so the reflection needed to
+ * resolve its selector paths and constructors is paid by the first request.
+ * Declaring the pair up front lets the Spring Boot starter discover the DTO
+ * by classpath scanning and resolve every {@link RSQLFilterable filterable}
+ * and {@link Sortable sortable} path of its contract at startup, failing fast
+ * on paths whose {@link MapsTo} mapping is broken.</p>
+ *
+ * <p>The annotation belongs on top-level DTOs passed to repository methods.
+ * Nested DTO types are reached through their parent and need no
+ * declaration.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>{@code @WebQueryDTO(UserEntity.class)
+ * public class UserDto {
+ *     @RSQLFilterableEquality
+ *     @Sortable
+ *     private Long id;
+ * }}</pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WebQueryDTO {
+
+	/**
+	 * Entity type the DTO's selector paths are mapped against.
+	 *
+	 * @return entity type backing the DTO
+	 */
+	Class<?> value();
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.ast;
+
+import cz.jirutka.rsql.parser.ast.*;
+import in.co.akshitbansal.springwebquery.exception.QueryArgumentConversionException;
+import in.co.akshitbansal.springwebquery.metamodel.EntityAttributePath;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.program.ArgumentConverter;
+import in.co.akshitbansal.springwebquery.program.ComparisonInstruction;
+import in.co.akshitbansal.springwebquery.program.FilterInstruction;
+import in.co.akshitbansal.springwebquery.program.FilterProgram;
+import in.co.akshitbansal.springwebquery.program.FilterProgramOptimizer;
+import in.co.akshitbansal.springwebquery.program.LogicalInstruction;
+import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static in.co.akshitbansal.springwebquery.contract.QueryContract.FieldContract;
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+
+/**
+ * Validates a parsed RSQL tree and compiles it into a {@link FilterProgram} in
+ * the same traversal.
+ *
+ * <p>Every node is validated exactly as {@link ValidationRSQLVisitor} would
+ * validate it; the wrapped validation visitor performs those checks and
+ * supplies the mapping result of each comparison. The compiling visitor then
+ * uses the resolved attribute type, taken from the JPA metamodel when the
+ * mapping carries it and from the terminal entity field otherwise, to convert
+ * the comparison's arguments into typed values, so the resulting program can
+ * be applied to any JPA root without revisiting the tree.</p>
+ *
+ * <p>Comparisons on custom operators, and comparisons whose target attribute
+ * type is not supported by the {@link ArgumentConverter}, are compiled as
+ * fallback instructions that are converted by the RSQL predicate converter at
+ * application time.</p>
+ *
+ * <p>The visitor also remembers the mapping result of every selector it
+ * validates, so that {@link #isOperatorAllowed(String, RSQLDefaultOperator)}
+ * can serve as the {@link FilterProgramOptimizer.OperatorPolicy} of the
+ * compiled program, and so that the query cost can be estimated from the
+ * already resolved entity paths.</p>
+ *
+ * <p>Like the validation visitor, this visitor is stateful and intended for a
+ * single parsed tree.</p>
+ */
+public class CompilingRSQLVisitor implements RSQLVisitor<FilterInstruction, NodeMetadata> {
+
+	/**
+	 * Visitor performing validation and collecting selector mappings.
+	 */
+	private final ValidationRSQLVisitor validationVisitor;
+
+	/**
+	 * Converter used to type comparison arguments.
+	 */
+	private final ArgumentConverter argumentConverter;
+
+	/**
+	 * Validator used to check operators that rewrites would introduce.
+	 */
+	private final FilterableFieldValidator filterableFieldValidator;
+
+	/**
+	 * Mapping result of every selector validated so far.
+	 */
+	private final Map<String, MappingResult> mappingResults = new HashMap<>();
+
+	/**
+	 * Creates a compiling visitor on top of a validation visitor.
+	 *
+	 * @param validationVisitor visitor performing validation
+	 * @param argumentConverter converter used to type comparison arguments
+	 * @param filterableFieldValidator validator used to check operators that
+	 * rewrites would introduce
+	 */
+	CompilingRSQLVisitor(
+			@NonNull ValidationRSQLVisitor validationVisitor,
+			@NonNull ArgumentConverter argumentConverter,
+			@NonNull FilterableFieldValidator filterableFieldValidator
+	) {
+		this.validationVisitor = validationVisitor;
+		this.argumentConverter = argumentConverter;
+		this.filterableFieldValidator = filterableFieldValidator;
+	}
+
+	/**
+	 * Returns the DTO-to-entity selector mappings discovered so far during
+	 * traversal.
+	 *
+	 * @return unmodifiable view of the collected selector mappings
+	 *
+	 * @see ValidationRSQLVisitor#getFieldMappings()
+	 */
+	public Map<String, String> getFieldMappings() {
+		return validationVisitor.getFieldMappings();
+	}
+
+	/**
+	 * Returns the mapping results of the selectors validated so far.
+	 *
+	 * @return unmodifiable view of the mapping results, keyed by DTO selector
+	 */
+	public Map<String, MappingResult> getMappingResults() {
+		return Collections.unmodifiableMap(mappingResults);
+	}
+
+	/**
+	 * Returns whether the DTO field behind a validated selector allows an
+	 * operator.
+	 *
+	 * @param selector DTO selector visited by this visitor
+	 * @param operator operator to check
+	 *
+	 * @return {@code true} if the selector was visited and its terminal DTO
+	 * field allows the operator
+	 */
+	public boolean isOperatorAllowed(@NonNull String selector, @NonNull RSQLDefaultOperator operator) {
+		MappingResult mappingResult = mappingResults.get(selector);
+		if (mappingResult == null) return false;
+		Field field = mappingResult.getTerminalDTOField();
+		FieldContract fieldContract = validationVisitor.getContract().getField(selector);
+		if (fieldContract != null) return fieldContract.isAllowed(operator.getOperator());
+		return filterableFieldValidator.isAllowed(field, operator.getOperator());
+	}
+
+	/**
+	 * Compiles a validated tree into a filter program.
+	 *
+	 * @param rootNode root node of the tree
+	 *
+	 * @return compiled program
+	 *
+	 * @throws in.co.akshitbansal.springwebquery.exception.QueryValidationException
+	 * if the tree violates the configured validation rules
+	 */
+	public FilterProgram compile(@NonNull Node rootNode) {
+		FilterInstruction rootInstruction = rootNode.accept(this, NodeMetadata.of(0));
+		return new FilterProgram(rootInstruction, getFieldMappings());
+	}
+
+	/**
+	 * Validates and compiles a logical {@code AND} node.
+	 *
+	 * @param node logical {@code AND} node
+	 * @param metadata traversal metadata for the current node
+	 *
+	 * @return compiled logical instruction
+	 */
+	@Override
+	public FilterInstruction visit(@NonNull AndNode node, @NonNull NodeMetadata metadata) {
+		return visitLogicalNode(node, metadata);
+	}
+
+	/**
+	 * Validates and compiles a logical {@code OR} node.
+	 *
+	 * @param node logical {@code OR} node
+	 * @param metadata traversal metadata for the current node
+	 *
+	 * @return compiled logical instruction
+	 */
+	@Override
+	public FilterInstruction visit(@NonNull OrNode node, @NonNull NodeMetadata metadata) {
+		return visitLogicalNode(node, metadata);
+	}
+
+	/**
+	 * Validates and compiles a comparison node.
+	 *
+	 * @param node comparison node
+	 * @param metadata traversal metadata for the current node
+	 *
+	 * @return compiled comparison instruction
+	 *
+	 * @throws QueryArgumentConversionException if an argument cannot be
+	 * converted to the type of the target attribute
+	 */
+	@Override
+	public FilterInstruction visit(@NonNull ComparisonNode node, @NonNull NodeMetadata metadata) {
+		MappingResult mappingResult = validationVisitor.validateComparison(node, metadata);
+		mappingResults.put(node.getSelector(), mappingResult);
+		String entityPath = mappingResult.getPath();
+		RSQLDefaultOperator operator = RSQLDefaultOperator.fromComparisonOperator(node.getOperator());
+		if (operator == null) return ComparisonInstruction.fallback(node, entityPath);
+		List<String> arguments = node.getArguments();
+		return switch (operator) {
+			case IS_NULL, NOT_NULL -> ComparisonInstruction.compiled(node, entityPath, operator, List.of());
+			case LIKE, NOT_LIKE -> ComparisonInstruction.compiled(node, entityPath, operator, List.of("%" + arguments.get(0) + "%"));
+			case IGNORE_CASE -> ComparisonInstruction.compiled(node, entityPath, operator, List.of(arguments.get(0).toUpperCase()));
+			case IGNORE_CASE_LIKE, IGNORE_CASE_NOT_LIKE -> ComparisonInstruction.compiled(
+					node, entityPath, operator, List.of("%" + arguments.get(0).toUpperCase() + "%")
+			);
+			default -> {
+				Class<?> attributeType = resolveAttributeType(mappingResult);
+				if (attributeType == null || !argumentConverter.supports(attributeType))
+					yield ComparisonInstruction.fallback(node, entityPath);
+				yield ComparisonInstruction.compiled(node, entityPath, operator, convertArguments(node, attributeType));
+			}
+		};
+	}
+
+	/**
+	 * Validates a logical node and compiles its children at the next depth.
+	 *
+	 * @param node logical node
+	 * @param metadata traversal metadata for the current node
+	 *
+	 * @return compiled logical instruction
+	 */
+	private FilterInstruction visitLogicalNode(LogicalNode node, NodeMetadata metadata) {
+		validationVisitor.validateNode(node, metadata);
+		NodeMetadata childMetadata = NodeMetadata.of(metadata.getDepth() + 1);
+		List<FilterInstruction> children = new ArrayList<>(node.getChildren().size());
+		for (Node child: node) children.add(child.accept(this, childMetadata));
+		return new LogicalInstruction(node.getOperator(), children);
+	}
+
+	/**
+	 * Converts all arguments of a comparison to the target attribute type.
+	 *
+	 * @param node comparison node
+	 * @param attributeType target attribute type
+	 *
+	 * @return converted arguments in their original order
+	 *
+	 * @throws QueryArgumentConversionException if an argument cannot be converted
+	 */
+	private List<Object> convertArguments(ComparisonNode node, Class<?> attributeType) {
+		List<Object> converted = new ArrayList<>(node.getArguments().size());
+		for (String argument: node.getArguments()) {
+			try {
+				converted.add(argumentConverter.convert(argument, attributeType));
+			}
+			catch (RuntimeException ex) {
+				throw new QueryArgumentConversionException(
+						MessageFormat.format(
+								"Invalid value ''{0}'' for field ''{1}''", argument, node.getSelector()
+						), node.getSelector(), argument, attributeType, ex
+				);
+			}
+		}
+		return converted;
+	}
+
+	/**
+	 * Determines the type that comparison arguments must be converted to.
+	 *
+	 * <p>A path resolved against the JPA metamodel supplies the attribute type,
+	 * or the element type for collections, as mapped by the persistence
+	 * provider. Otherwise the type is derived from the terminal entity field:
+	 * collections compare against their element type, while arrays, which JPA
+	 * may map either as basic values or as element collections, and
+	 * collections whose element type cannot be determined reflectively yield
+	 * {@code null}.</p>
+	 *
+	 * @param mappingResult mapping result of the comparison's selector
+	 *
+	 * @return target attribute type, or {@code null} if unknown
+	 */
+	@Nullable
+	private Class<?> resolveAttributeType(MappingResult mappingResult) {
+		EntityAttributePath entityAttributePath = mappingResult.getEntityAttributePath();
+		if (entityAttributePath != null) {
+			Class<?> type = entityAttributePath.getJavaType();
+			return type.isArray() ? null : type;
+		}
+		Field field = mappingResult.getTerminalEntityField();
+		Class<?> type = field.getType();
+		if (type.isArray()) return null;
+		if (!Collection.class.isAssignableFrom(type)) return type;
+		if (!(field.getGenericType() instanceof ParameterizedType parameterizedType)) return null;
+		Type elementType = parameterizedType.getActualTypeArguments()[0];
+		return elementType instanceof Class<?> elementClass ? elementClass : null;
+	}
+}
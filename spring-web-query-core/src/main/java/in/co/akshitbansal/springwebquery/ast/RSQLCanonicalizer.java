@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.ast;
+
+import cz.jirutka.rsql.parser.ast.*;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Normalizes parsed RSQL trees into a stable canonical form.
+ *
+ * <p>Clients frequently express the same logical filter in different ways,
+ * for example by reordering {@code ;} operands or repeating a comparison. All
+ * of those variants describe the same result set, but each one would
+ * otherwise produce a distinct cache entry and a distinct JPA query. The
+ * canonicalizer rewrites a tree using only transformations that preserve the
+ * filter semantics:</p>
+ * <ul>
+ *   <li>nested logical nodes of the same type are flattened into their parent,
+ *       so {@code (a;b);c} becomes {@code a;b;c}</li>
+ *   <li>children of {@code AND} and {@code OR} nodes are sorted, since both
+ *       operators are commutative</li>
+ *   <li>duplicate siblings are removed, since both operators are
+ *       idempotent</li>
+ *   <li>logical nodes left with a single child are replaced by that child</li>
+ *   <li>arguments of {@code =in=} and {@code =out=} are sorted and
+ *       deduplicated</li>
+ * </ul>
+ *
+ * <p>Alongside the canonical tree the canonicalizer renders a canonical query
+ * string. Two queries are considered logically identical by downstream caches
+ * exactly when their canonical query strings are equal. In the rendered form
+ * every argument is double-quoted, each comparison uses the primary symbol of
+ * its operator, and every nested logical node is parenthesized.</p>
+ *
+ * <p>The canonicalizer is stateless and thread-safe.</p>
+ */
+public class RSQLCanonicalizer {
+
+	/**
+	 * Membership operators whose argument order carries no meaning.
+	 */
+	private static final List<ComparisonOperator> SET_OPERATORS = List.of(
+			RSQLDefaultOperator.IN.getOperator(),
+			RSQLDefaultOperator.NOT_IN.getOperator()
+	);
+
+	/**
+	 * Canonicalizes a parsed RSQL tree.
+	 *
+	 * @param node root node of the parsed tree
+	 *
+	 * @return canonical tree together with its canonical query string
+	 */
+	public CanonicalNode canonicalize(@NonNull Node node) {
+		return node.accept(new CanonicalizationVisitor(), null);
+	}
+
+	/**
+	 * Canonicalizes a logical node of either type.
+	 *
+	 * <p>Children are canonicalized first. Children of the same logical type as
+	 * the current node are flattened into it, and the remaining children are
+	 * collected into a map ordered by canonical query string, which both sorts
+	 * and deduplicates them.</p>
+	 *
+	 * @param node logical node to canonicalize
+	 * @param visitor visitor used for the children
+	 *
+	 * @return canonical form of the logical node
+	 */
+	private CanonicalNode canonicalizeLogicalNode(LogicalNode node, CanonicalizationVisitor visitor) {
+		LogicalOperator operator = node.getOperator();
+		Map<String, Node> children = new TreeMap<>();
+		for (Node child: node) {
+			CanonicalNode canonicalChild = child.accept(visitor, null);
+			Node childNode = canonicalChild.getNode();
+			if (childNode instanceof LogicalNode logicalChild && logicalChild.getOperator() == operator) {
+				// Canonical children of the same type only contain comparisons or logical nodes of the other type
+				for (Node grandChild: logicalChild)
+					children.putIfAbsent(render(grandChild), grandChild);
+			}
+			else children.putIfAbsent(canonicalChild.getQuery(), childNode);
+		}
+
+		if (children.size() == 1) {
+			Map.Entry<String, Node> onlyChild = children.entrySet().iterator().next();
+			return CanonicalNode.of(onlyChild.getValue(), onlyChild.getKey());
+		}
+
+		List<Node> sortedChildren = new ArrayList<>(children.values());
+		Node canonical = operator == LogicalOperator.AND ? new AndNode(sortedChildren) : new OrNode(sortedChildren);
+		return CanonicalNode.of(canonical, render(canonical));
+	}
+
+	/**
+	 * Canonicalizes a comparison node.
+	 *
+	 * @param node comparison node to canonicalize
+	 *
+	 * @return canonical form of the comparison node
+	 */
+	private CanonicalNode canonicalizeComparisonNode(ComparisonNode node) {
+		ComparisonNode canonical = node;
+		if (SET_OPERATORS.contains(node.getOperator())) {
+			List<String> arguments = new ArrayList<>(new TreeSet<>(node.getArguments()));
+			if (!arguments.equals(node.getArguments()))
+				canonical = new ComparisonNode(node.getOperator(), node.getSelector(), arguments);
+		}
+		return CanonicalNode.of(canonical, render(canonical));
+	}
+
+	/**
+	 * Renders a canonical node into its canonical query string.
+	 *
+	 * @param node canonical node to render
+	 *
+	 * @return canonical query string
+	 */
+	private String render(Node node) {
+		StringBuilder builder = new StringBuilder();
+		render(node, builder);
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the canonical query string of a node to the supplied builder.
+	 *
+	 * @param node canonical node to render
+	 * @param builder builder receiving the rendered query
+	 */
+	private void render(Node node, StringBuilder builder) {
+		if (node instanceof ComparisonNode comparisonNode) {
+			builder
+					.append(comparisonNode.getSelector())
+					.append(comparisonNode.getOperator().getSymbol());
+			List<String> arguments = comparisonNode.getArguments();
+			if (arguments.size() == 1) appendQuoted(arguments.get(0), builder);
+			else {
+				builder.append('(');
+				for (int idx = 0; idx < arguments.size(); idx++) {
+					if (idx > 0) builder.append(',');
+					appendQuoted(arguments.get(idx), builder);
+				}
+				builder.append(')');
+			}
+			return;
+		}
+		LogicalNode logicalNode = (LogicalNode) node;
+		char separator = logicalNode.getOperator() == LogicalOperator.AND ? ';' : ',';
+		boolean first = true;
+		for (Node child: logicalNode) {
+			if (!first) builder.append(separator);
+			first = false;
+			if (child instanceof LogicalNode) {
+				builder.append('(');
+				render(child, builder);
+				builder.append(')');
+			}
+			else render(child, builder);
+		}
+	}
+
+	/**
+	 * Appends a double-quoted argument, escaping quotes and backslashes.
+	 *
+	 * @param argument argument value to append
+	 * @param builder builder receiving the quoted value
+	 */
+	private void appendQuoted(String argument, StringBuilder builder) {
+		builder.append('"');
+		for (int idx = 0; idx < argument.length(); idx++) {
+			char ch = argument.charAt(idx);
+			if (ch == '"' || ch == '\\') builder.append('\\');
+			builder.append(ch);
+		}
+		builder.append('"');
+	}
+
+	/**
+	 * Visitor that dispatches each node type to the matching canonicalization
+	 * routine.
+	 */
+	private class CanonicalizationVisitor implements RSQLVisitor<CanonicalNode, Void> {
+
+		@Override
+		public CanonicalNode visit(AndNode node, Void param) {
+			return canonicalizeLogicalNode(node, this);
+		}
+
+		@Override
+		public CanonicalNode visit(OrNode node, Void param) {
+			return canonicalizeLogicalNode(node, this);
+		}
+
+		@Override
+		public CanonicalNode visit(ComparisonNode node, Void param) {
+			return canonicalizeComparisonNode(node);
+		}
+	}
+
+	/**
+	 * Canonical tree produced by {@link RSQLCanonicalizer} together with its
+	 * canonical query string.
+	 */
+	@RequiredArgsConstructor(staticName = "of")
+	@Getter
+	@EqualsAndHashCode
+	@ToString
+	public static class CanonicalNode {
+
+		/**
+		 * Root node of the canonical tree.
+		 */
+		@NonNull
+		private final Node node;
+
+		/**
+		 * Canonical query string that identifies the tree.
+		 */
+		@NonNull
+		private final String query;
+	}
+}
@@ -17,6 +17,7 @@
 package in.co.akshitbansal.springwebquery.ast;
 
 import cz.jirutka.rsql.parser.ast.*;
+import in.co.akshitbansal.springwebquery.contract.QueryContract;
 import in.co.akshitbansal.springwebquery.exception.QueryForbiddenLogicalOperatorException;
 import in.co.akshitbansal.springwebquery.exception.QueryMaxASTDepthExceededException;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper;
@@ -29,6 +30,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import static in.co.akshitbansal.springwebquery.contract.QueryContract.FieldContract;
 import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
 
 /**
@@ -50,6 +52,12 @@ import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper
  *       conversion</li>
  * </ul>
  *
+ * <p>Selectors listed in the precomputed {@link QueryContract} of the
+ * entity/DTO pair, used with an operator the contract allows, are mapped and
+ * validated by a single lookup. All other selectors go through the path mapper
+ * and the {@link FilterableFieldValidator}, which report why they are
+ * rejected.</p>
+ *
  * <p>The visitor is stateful and intended for validating a single parsed tree.
  * During traversal it accumulates selector mappings in {@link #fieldMappings}.
  * Those mappings are later consumed by the predicate converter so that a query
@@ -87,6 +95,11 @@ public class ValidationRSQLVisitor implements RSQLVisitor<Void, NodeMetadata> {
 	 */
 	private final FilterableFieldValidator filterableFieldValidator;
 
+	/**
+	 * Precomputed contract consulted before reflective mapping and validation.
+	 */
+	private final QueryContract contract;
+
 	/**
 	 * Collected mapping of request DTO selectors to resolved entity paths.
 	 */
@@ -106,19 +119,22 @@ public class ValidationRSQLVisitor implements RSQLVisitor<Void, NodeMetadata> {
 	 * @param maxASTDepth maximum zero-based AST depth accepted during validation
 	 * @param pathMapper mapper used to resolve DTO selectors to entity paths
 	 * @param filterableFieldValidator validator for terminal-field filterability
+	 * @param contract precomputed contract of the entity/DTO pair
 	 */
 	ValidationRSQLVisitor(
 			boolean allowAndOperation,
 			boolean allowOrOperation,
 			int maxASTDepth,
 			@NonNull DTOToEntityPathMapper pathMapper,
-			@NonNull FilterableFieldValidator filterableFieldValidator
+			@NonNull FilterableFieldValidator filterableFieldValidator,
+			@NonNull QueryContract contract
 	) {
 		this.allowAndOperation = allowAndOperation;
 		this.allowOrOperation = allowOrOperation;
 		this.maxASTDepth = maxASTDepth;
 		this.pathMapper = pathMapper;
 		this.filterableFieldValidator = filterableFieldValidator;
+		this.contract = contract;
 
 		this.fieldMappings = new HashMap<>();
 	}
@@ -231,20 +247,54 @@ public class ValidationRSQLVisitor implements RSQLVisitor<Void, NodeMetadata> {
 	@Override
 	@Nullable
 	public Void visit(@NonNull ComparisonNode node, @NonNull NodeMetadata metadata) {
+		validateComparison(node, metadata);
+		return null;
+	}
+
+	/**
+	 * Validates a comparison node and records its selector mapping.
+	 *
+	 * <p>This is the shared implementation behind
+	 * {@link #visit(ComparisonNode, NodeMetadata)}. It is also used by
+	 * {@link CompilingRSQLVisitor}, which needs the mapping result to compile
+	 * the comparison in the same pass.</p>
+	 *
+	 * @param node comparison node to validate
+	 * @param metadata traversal metadata for the current node
+	 *
+	 * @return mapping result of the comparison's selector
+	 */
+	MappingResult validateComparison(ComparisonNode node, NodeMetadata metadata) {
 		validateNode(node, metadata);
 		// Extract the field name and operator from the RSQL node
 		String dtoPath = node.getSelector();
 		ComparisonOperator operator = node.getOperator();
 
-		// Convert the DTO path to an entity path
-		MappingResult mappingResult = pathMapper.map(dtoPath);
+		MappingResult mappingResult;
+		FieldContract fieldContract = contract.getField(dtoPath);
+		// Serve known selectors from the precomputed contract without reflection
+		if (fieldContract != null && fieldContract.isAllowed(operator))
+			mappingResult = fieldContract.getMappingResult();
+		else {
+			// Convert the DTO path to an entity path
+			mappingResult = pathMapper.map(dtoPath);
 
-		// Validate the terminal field of the mapped entity path
-		filterableFieldValidator.validate(mappingResult.getTerminalDTOField(), operator, dtoPath);
+			// Validate the terminal field of the mapped entity path, reporting why it is rejected
+			filterableFieldValidator.validate(mappingResult.getTerminalDTOField(), operator, dtoPath);
+		}
 
 		// Store the mapping from DTO path to entity path for later use during query construction
 		fieldMappings.put(dtoPath, mappingResult.getPath());
-		return null;
+		return mappingResult;
+	}
+
+	/**
+	 * Returns the precomputed contract this visitor validates against.
+	 *
+	 * @return query contract of the entity/DTO pair
+	 */
+	QueryContract getContract() {
+		return contract;
 	}
 
 	/**
@@ -262,7 +312,7 @@ public class ValidationRSQLVisitor implements RSQLVisitor<Void, NodeMetadata> {
 	 * @throws QueryMaxASTDepthExceededException if the node depth is greater than
 	 * the configured maximum
 	 */
-	private void validateNode(Node node, NodeMetadata metadata) {
+	void validateNode(Node node, NodeMetadata metadata) {
 		if ((node instanceof AndNode andNode) && !allowAndOperation)
 			throw new QueryForbiddenLogicalOperatorException("Logical AND operator is not allowed", andNode.getOperator());
 		if ((node instanceof OrNode orNode) && !allowOrOperation)
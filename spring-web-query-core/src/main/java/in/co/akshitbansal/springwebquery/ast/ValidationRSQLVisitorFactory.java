@@ -16,15 +16,19 @@
 
 package in.co.akshitbansal.springwebquery.ast;
 
+import in.co.akshitbansal.springwebquery.contract.QueryContract;
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.program.ArgumentConverter;
 import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 /**
- * Creates fully configured {@link ValidationRSQLVisitor} instances for a
- * specific entity/DTO pair.
+ * Creates fully configured {@link ValidationRSQLVisitor} and
+ * {@link CompilingRSQLVisitor} instances for a specific entity/DTO pair.
  */
 @RequiredArgsConstructor
 public class ValidationRSQLVisitorFactory {
@@ -41,6 +45,51 @@ public class ValidationRSQLVisitorFactory {
 	@NonNull
 	private final FilterableFieldValidator filterableFieldValidator;
 
+	/**
+	 * Converter used by compiling visitors to type comparison arguments.
+	 */
+	@NonNull
+	private final ArgumentConverter argumentConverter;
+
+	/**
+	 * Registry of precomputed query contracts consulted before reflective
+	 * validation.
+	 */
+	@NonNull
+	private final QueryContractRegistry queryContractRegistry;
+
+	/**
+	 * Creates a factory whose compiling visitors convert arguments with the
+	 * default set of supported types.
+	 *
+	 * @param pathMapperFactory factory used to create DTO-to-entity path mappers
+	 * @param filterableFieldValidator validator used to enforce field-level filterability rules
+	 */
+	public ValidationRSQLVisitorFactory(
+			@NonNull DTOToEntityPathMapperFactory pathMapperFactory,
+			@NonNull FilterableFieldValidator filterableFieldValidator
+	) {
+		this(pathMapperFactory, filterableFieldValidator, new ArgumentConverter());
+	}
+
+	/**
+	 * Creates a factory backed by a private query contract registry.
+	 *
+	 * @param pathMapperFactory factory used to create DTO-to-entity path mappers
+	 * @param filterableFieldValidator validator used to enforce field-level filterability rules
+	 * @param argumentConverter converter used by compiling visitors to type comparison arguments
+	 */
+	public ValidationRSQLVisitorFactory(
+			@NonNull DTOToEntityPathMapperFactory pathMapperFactory,
+			@NonNull FilterableFieldValidator filterableFieldValidator,
+			@NonNull ArgumentConverter argumentConverter
+	) {
+		this(
+				pathMapperFactory, filterableFieldValidator, argumentConverter,
+				new QueryContractRegistry(pathMapperFactory, filterableFieldValidator, new SortableFieldValidator())
+		);
+	}
+
 	/**
 	 * Creates a validation visitor for the supplied query contract.
 	 *
@@ -60,6 +109,35 @@ public class ValidationRSQLVisitorFactory {
 			int maxASTDepth
 	) {
 		DTOToEntityPathMapper pathMapper = pathMapperFactory.newMapper(entityClass, dtoClass);
-		return new ValidationRSQLVisitor(allowAndOperation, allowOrOperation, maxASTDepth, pathMapper, filterableFieldValidator);
+		QueryContract contract = queryContractRegistry.getContract(entityClass, dtoClass);
+		return new ValidationRSQLVisitor(
+				allowAndOperation, allowOrOperation, maxASTDepth, pathMapper, filterableFieldValidator, contract
+		);
+	}
+
+	/**
+	 * Creates a visitor that validates a tree and compiles it into a
+	 * {@link in.co.akshitbansal.springwebquery.program.FilterProgram} in the
+	 * same traversal.
+	 *
+	 * @param entityClass entity type that ultimately backs predicate creation
+	 * @param dtoClass DTO type exposed to callers for filtering
+	 * @param allowAndOperation whether logical {@code AND} is allowed
+	 * @param allowOrOperation whether logical {@code OR} is allowed
+	 * @param maxASTDepth maximum AST depth accepted during validation
+	 *
+	 * @return configured compiling visitor
+	 */
+	public CompilingRSQLVisitor newCompilingRSQLVisitor(
+			@NonNull Class<?> entityClass,
+			@NonNull Class<?> dtoClass,
+			boolean allowAndOperation,
+			boolean allowOrOperation,
+			int maxASTDepth
+	) {
+		ValidationRSQLVisitor validationVisitor = newValidationRSQLVisitor(
+				entityClass, dtoClass, allowAndOperation, allowOrOperation, maxASTDepth
+		);
+		return new CompilingRSQLVisitor(validationVisitor, argumentConverter, filterableFieldValidator);
 	}
 }
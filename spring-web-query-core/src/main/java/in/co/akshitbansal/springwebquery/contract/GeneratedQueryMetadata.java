@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.contract;
+
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Query contract of a DTO computed at compile time.
+ *
+ * <p>Implementations are generated by the {@code spring-web-query-processor}
+ * annotation processor for every DTO annotated with
+ * {@link in.co.akshitbansal.springwebquery.annotation.WebQueryDTO}. The
+ * generated class is named after the DTO's binary name followed by
+ * {@link #CLASS_NAME_SUFFIX}, lives in the DTO's package, and answers every
+ * lookup with a {@code switch} over the DTO selector path, so the annotations
+ * on the DTO class graph never have to be read reflectively.</p>
+ *
+ * <p>{@link QueryContractRegistry} prefers generated metadata over walking
+ * the DTO when both are available and {@link #getFingerprint()} matches the
+ * DTO class graph found at runtime. Only the paths listed by
+ * {@link #getPaths()} are part of the contract; their entity paths are derived
+ * from {@link in.co.akshitbansal.springwebquery.annotation.MapsTo} alone and
+ * are therefore independent of the entity type the DTO is queried against.</p>
+ */
+public interface GeneratedQueryMetadata {
+
+	/**
+	 * Suffix appended to a DTO's binary name to form the name of its
+	 * generated metadata class.
+	 */
+	String CLASS_NAME_SUFFIX = "_QueryMetadata";
+
+	/**
+	 * Returns the fingerprint of the DTO class graph the metadata was
+	 * generated from.
+	 *
+	 * @return fingerprint as computed by {@link QueryMetadataFingerprint#of(Class)}
+	 */
+	long getFingerprint();
+
+	/**
+	 * Returns every DTO selector path whose terminal field is filterable or
+	 * sortable.
+	 *
+	 * @return selector paths in declaration order
+	 */
+	List<String> getPaths();
+
+	/**
+	 * Returns the entity path a DTO selector path maps to.
+	 *
+	 * @param dtoPath DTO selector path
+	 *
+	 * @return mapped entity path, or {@code null} if the path is not part of
+	 * the contract
+	 */
+	@Nullable
+	String getEntityPath(String dtoPath);
+
+	/**
+	 * Returns the built-in operators allowed on a DTO selector path.
+	 *
+	 * @param dtoPath DTO selector path
+	 *
+	 * @return allowed built-in operators, empty if the path is not filterable
+	 */
+	Set<RSQLDefaultOperator> getDefaultOperators(String dtoPath);
+
+	/**
+	 * Returns the custom operator implementation classes allowed on a DTO
+	 * selector path.
+	 *
+	 * @param dtoPath DTO selector path
+	 *
+	 * @return allowed custom operator classes, empty if there are none
+	 */
+	List<Class<?>> getCustomOperators(String dtoPath);
+
+	/**
+	 * Returns whether a DTO selector path is sortable.
+	 *
+	 * @param dtoPath DTO selector path
+	 *
+	 * @return {@code true} if the terminal field is annotated as sortable
+	 */
+	boolean isSortable(String dtoPath);
+}
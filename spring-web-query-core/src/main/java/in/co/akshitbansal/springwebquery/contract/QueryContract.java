@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.contract;
+
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import in.co.akshitbansal.springwebquery.exception.QueryException;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+
+/**
+ * Immutable query contract of one entity/DTO pair.
+ *
+ * <p>A contract lists every DTO selector path whose terminal field is
+ * filterable or sortable, together with its {@link MappingResult}, its
+ * allowed operators, and its sortable flag. Validating a selector against the
+ * contract is a single map lookup followed by an {@link EnumSet} membership
+ * test, with no reflection and no allocation.</p>
+ *
+ * <p>A contract is a fast path, not the source of truth. Selectors that are
+ * absent from it, such as unknown paths, paths to fields that are neither
+ * filterable nor sortable, or paths whose mapping is misconfigured, are
+ * validated reflectively by the caller, which then raises the appropriate
+ * error. Paths that are declared filterable or sortable but fail to map are
+ * additionally reported by {@link #getInvalidPaths()}, so that
+ * misconfigurations can be surfaced eagerly, for example at startup.</p>
+ *
+ * <p>Contracts built from {@link GeneratedQueryMetadata} are the exception:
+ * their paths are mapped only when {@link FieldContract#getMappingResult()}
+ * is first called, which raises the mapping error of a misconfigured path
+ * instead of it being listed as invalid.</p>
+ */
+@Getter
+@ToString
+public class QueryContract {
+
+	/**
+	 * Entity type that backs the contract.
+	 */
+	private final Class<?> entityClass;
+
+	/**
+	 * DTO type that defines the contract.
+	 */
+	private final Class<?> dtoClass;
+
+	/**
+	 * Field contracts keyed by DTO selector path.
+	 */
+	private final Map<String, FieldContract> fields;
+
+	/**
+	 * Errors raised while building the contracts of declared filterable or
+	 * sortable paths, keyed by DTO selector path.
+	 */
+	private final Map<String, QueryException> invalidPaths;
+
+	/**
+	 * Creates a contract for one entity/DTO pair.
+	 *
+	 * @param entityClass entity type that backs the contract
+	 * @param dtoClass DTO type that defines the contract
+	 * @param fields field contracts keyed by DTO selector path, copied defensively
+	 * @param invalidPaths errors of paths left out of the contract, copied defensively
+	 */
+	QueryContract(
+			@NonNull Class<?> entityClass,
+			@NonNull Class<?> dtoClass,
+			@NonNull Map<String, FieldContract> fields,
+			@NonNull Map<String, QueryException> invalidPaths
+	) {
+		this.entityClass = entityClass;
+		this.dtoClass = dtoClass;
+		this.fields = Map.copyOf(fields);
+		this.invalidPaths = Map.copyOf(invalidPaths);
+	}
+
+	/**
+	 * Returns the contract of a DTO selector path.
+	 *
+	 * @param dtoPath DTO selector path
+	 *
+	 * @return field contract, or {@code null} if the path is not part of the
+	 * precomputed contract
+	 */
+	@Nullable
+	public FieldContract getField(@NonNull String dtoPath) {
+		return fields.get(dtoPath);
+	}
+
+	/**
+	 * Precomputed contract of one DTO selector path.
+	 */
+	@Getter
+	@ToString
+	public static class FieldContract {
+
+		/**
+		 * DTO selector path.
+		 */
+		private final String dtoPath;
+
+		/**
+		 * Mapping of the selector to its entity path and terminal fields, or
+		 * {@code null} until it is first requested.
+		 */
+		@Getter(AccessLevel.NONE)
+		@ToString.Exclude
+		private volatile @Nullable MappingResult mappingResult;
+
+		/**
+		 * Computes the mapping on first request, or {@code null} if the
+		 * mapping was supplied up front.
+		 */
+		@Getter(AccessLevel.NONE)
+		@ToString.Exclude
+		private final @Nullable Supplier<MappingResult> mapping;
+
+		/**
+		 * Built-in operators allowed on the field.
+		 */
+		private final Set<RSQLDefaultOperator> defaultOperators;
+
+		/**
+		 * Custom operators allowed on the field.
+		 */
+		private final Set<ComparisonOperator> customOperators;
+
+		/**
+		 * Whether the field may be used for sorting.
+		 */
+		private final boolean sortable;
+
+		/**
+		 * Creates a field contract whose mapping is already known.
+		 *
+		 * @param dtoPath DTO selector path
+		 * @param mappingResult mapping of the selector to the entity model
+		 * @param allowedOperators every operator allowed on the field
+		 * @param sortable whether the field may be used for sorting
+		 */
+		FieldContract(
+				@NonNull String dtoPath,
+				@NonNull MappingResult mappingResult,
+				@NonNull Set<ComparisonOperator> allowedOperators,
+				boolean sortable
+		) {
+			this(dtoPath, mappingResult, null, allowedOperators, sortable);
+		}
+
+		/**
+		 * Creates a field contract whose mapping is computed on first request.
+		 *
+		 * @param dtoPath DTO selector path
+		 * @param mapping computes the mapping of the selector to the entity
+		 * model; may throw the {@link QueryException} the mapper raises
+		 * @param allowedOperators every operator allowed on the field
+		 * @param sortable whether the field may be used for sorting
+		 */
+		FieldContract(
+				@NonNull String dtoPath,
+				@NonNull Supplier<MappingResult> mapping,
+				@NonNull Set<ComparisonOperator> allowedOperators,
+				boolean sortable
+		) {
+			this(dtoPath, null, mapping, allowedOperators, sortable);
+		}
+
+		/**
+		 * Creates a field contract from either a known mapping or a way to
+		 * compute it.
+		 *
+		 * @param dtoPath DTO selector path
+		 * @param mappingResult known mapping, or {@code null}
+		 * @param mapping computes the mapping, or {@code null} if it is known
+		 * @param allowedOperators every operator allowed on the field
+		 * @param sortable whether the field may be used for sorting
+		 */
+		private FieldContract(
+				String dtoPath,
+				@Nullable MappingResult mappingResult,
+				@Nullable Supplier<MappingResult> mapping,
+				Set<ComparisonOperator> allowedOperators,
+				boolean sortable
+		) {
+			this.dtoPath = dtoPath;
+			this.mappingResult = mappingResult;
+			this.mapping = mapping;
+			EnumSet<RSQLDefaultOperator> defaultOperators = EnumSet.noneOf(RSQLDefaultOperator.class);
+			Set<ComparisonOperator> customOperators = new HashSet<>();
+			for (ComparisonOperator operator: allowedOperators) {
+				RSQLDefaultOperator defaultOperator = RSQLDefaultOperator.fromComparisonOperator(operator);
+				if (defaultOperator != null) defaultOperators.add(defaultOperator);
+				else customOperators.add(operator);
+			}
+			this.defaultOperators = Collections.unmodifiableSet(defaultOperators);
+			this.customOperators = Set.copyOf(customOperators);
+			this.sortable = sortable;
+		}
+
+		/**
+		 * Returns the mapping of the selector to its entity path and terminal
+		 * fields, computing it on first request if it was not supplied up
+		 * front.
+		 *
+		 * @return mapping result of the selector
+		 *
+		 * @throws QueryException if the selector cannot be mapped
+		 */
+		public MappingResult getMappingResult() {
+			MappingResult result = mappingResult;
+			if (result == null) {
+				// Mapping is deterministic, so concurrent first requests compute equal results
+				result = Objects.requireNonNull(mapping).get();
+				mappingResult = result;
+			}
+			return result;
+		}
+
+		/**
+		 * Returns whether the field may be used for filtering at all.
+		 *
+		 * @return {@code true} if at least one operator is allowed
+		 */
+		public boolean isFilterable() {
+			return !defaultOperators.isEmpty() || !customOperators.isEmpty();
+		}
+
+		/**
+		 * Returns whether an operator is allowed on the field.
+		 *
+		 * @param operator comparison operator to check
+		 *
+		 * @return {@code true} if the operator is allowed
+		 */
+		public boolean isAllowed(@NonNull ComparisonOperator operator) {
+			RSQLDefaultOperator defaultOperator = RSQLDefaultOperator.fromComparisonOperator(operator);
+			if (defaultOperator != null) return defaultOperators.contains(defaultOperator);
+			return customOperators.contains(operator);
+		}
+	}
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.contract;
+
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryException;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.resolver.TraversableTypes;
+import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static in.co.akshitbansal.springwebquery.contract.QueryContract.FieldContract;
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+
+/**
+ * Builds and caches one immutable {@link QueryContract} per entity/DTO pair.
+ *
+ * <p>The first request for a pair walks the DTO class graph once and records
+ * every selector path whose terminal field is filterable or sortable, using
+ * the same traversal rules as
+ * {@link in.co.akshitbansal.springwebquery.resolver.ReflectiveFieldResolver}:
+ * fields are searched up the superclass hierarchy, and arrays and collections
+ * are traversed through their element type. Only application types are
+ * descended into; JDK types and enums are treated as leaves, and a type is not
+ * descended into again while it is already on the current path, so recursive
+ * DTOs terminate. Each recorded path is mapped once with a
+ * {@link DTOToEntityPathMapper}, and its allowed operators and sortable flag
+ * are precomputed with the supplied validators.</p>
+ *
+ * <p>Paths that fail to map, or whose filterability declaration is
+ * misconfigured, are left out of the contract, so that the reflective
+ * fallback raises the same error it always has when such a path is actually
+ * requested. Their errors are kept in {@link QueryContract#getInvalidPaths()}.</p>
+ *
+ * <p>When the DTO was compiled with the {@code spring-web-query-processor}
+ * annotation processor, the paths, operators and sortable flags listed by the
+ * {@link GeneratedQueryMetadata} generated for it are trusted instead of
+ * walking the DTO class graph, and each path is mapped only when its
+ * {@link MappingResult} is first needed. Generated metadata is only used if
+ * its {@linkplain GeneratedQueryMetadata#getFingerprint() fingerprint}
+ * matches the {@linkplain QueryMetadataFingerprint fingerprint} of the DTO
+ * class graph found at runtime; metadata left behind by an earlier version of
+ * the DTO is ignored and the DTO is walked as if none had been generated.</p>
+ *
+ * <p>The registry is thread-safe. Contracts are built at most once per pair
+ * and retained for the lifetime of the registry.</p>
+ */
+@RequiredArgsConstructor
+public class QueryContractRegistry {
+
+	/**
+	 * Factory used to map DTO selector paths to entity paths.
+	 */
+	@NonNull
+	private final DTOToEntityPathMapperFactory pathMapperFactory;
+
+	/**
+	 * Validator used to compute the operators each field allows.
+	 */
+	@NonNull
+	private final FilterableFieldValidator filterableFieldValidator;
+
+	/**
+	 * Validator used to compute whether each field is sortable.
+	 */
+	@NonNull
+	private final SortableFieldValidator sortableFieldValidator;
+
+	/**
+	 * Built contracts keyed by entity type, then by DTO type.
+	 */
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, QueryContract>> contracts = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the contract of an entity/DTO pair, building it on first use.
+	 *
+	 * @param entityClass entity type that backs the contract
+	 * @param dtoClass DTO type that defines the contract
+	 *
+	 * @return immutable query contract
+	 */
+	public QueryContract getContract(@NonNull Class<?> entityClass, @NonNull Class<?> dtoClass) {
+		ConcurrentMap<Class<?>, QueryContract> byDTO = contracts.get(entityClass);
+		if (byDTO == null) byDTO = contracts.computeIfAbsent(entityClass, ignored -> new ConcurrentHashMap<>());
+		QueryContract contract = byDTO.get(dtoClass);
+		if (contract != null) return contract;
+		return byDTO.computeIfAbsent(dtoClass, ignored -> buildContract(entityClass, dtoClass));
+	}
+
+	/**
+	 * Builds the contract of an entity/DTO pair.
+	 *
+	 * @param entityClass entity type that backs the contract
+	 * @param dtoClass DTO type that defines the contract
+	 *
+	 * @return newly built contract
+	 */
+	private QueryContract buildContract(Class<?> entityClass, Class<?> dtoClass) {
+		DTOToEntityPathMapper pathMapper = pathMapperFactory.newMapper(entityClass, dtoClass);
+		Map<String, FieldContract> fields = new HashMap<>();
+		Map<String, QueryException> invalidPaths = new HashMap<>();
+		GeneratedQueryMetadata metadata = findGeneratedMetadata(dtoClass);
+		if (metadata != null && metadata.getFingerprint() == QueryMetadataFingerprint.of(dtoClass))
+			collectGeneratedFields(metadata, pathMapper, fields, invalidPaths);
+		else {
+			Set<Class<?>> ancestors = new HashSet<>();
+			ancestors.add(dtoClass);
+			collectFields(dtoClass, "", ancestors, pathMapper, fields, invalidPaths);
+		}
+		return new QueryContract(entityClass, dtoClass, fields, invalidPaths);
+	}
+
+	/**
+	 * Loads the compile-time metadata generated for a DTO, if present.
+	 *
+	 * @param dtoClass DTO type whose metadata is loaded
+	 *
+	 * @return generated metadata, or {@code null} if none was generated
+	 *
+	 * @throws QueryConfigurationException if the metadata class exists but
+	 * cannot be instantiated
+	 */
+	@Nullable
+	private GeneratedQueryMetadata findGeneratedMetadata(Class<?> dtoClass) {
+		String className = dtoClass.getName() + GeneratedQueryMetadata.CLASS_NAME_SUFFIX;
+		Class<?> metadataClass;
+		try {
+			metadataClass = Class.forName(className, true, dtoClass.getClassLoader());
+		}
+		catch (ClassNotFoundException ex) {
+			return null;
+		}
+		if (!GeneratedQueryMetadata.class.isAssignableFrom(metadataClass)) return null;
+		try {
+			Constructor<?> constructor = metadataClass.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			return (GeneratedQueryMetadata) constructor.newInstance();
+		}
+		catch (ReflectiveOperationException | RuntimeException ex) {
+			throw new QueryConfigurationException(
+					MessageFormat.format(
+							"Failed to instantiate generated query metadata ''{0}''", className
+					), ex
+			);
+		}
+	}
+
+	/**
+	 * Records the field contracts listed by compile-time metadata.
+	 *
+	 * <p>The listed paths, operators and sortable flags are taken from the
+	 * metadata as they are, so neither the DTO class graph nor the annotations
+	 * of its fields are read. Each path is mapped on first use of its
+	 * {@link MappingResult}, so paths that are never requested are never
+	 * mapped.</p>
+	 *
+	 * @param metadata generated metadata of the DTO, whose fingerprint matches
+	 * the DTO
+	 * @param pathMapper mapper used to map listed paths on first use
+	 * @param fields accumulator of field contracts keyed by selector path
+	 * @param invalidPaths accumulator of errors keyed by selector path
+	 */
+	private void collectGeneratedFields(
+			GeneratedQueryMetadata metadata,
+			DTOToEntityPathMapper pathMapper,
+			Map<String, FieldContract> fields,
+			Map<String, QueryException> invalidPaths
+	) {
+		for (String dtoPath: metadata.getPaths()) {
+			try {
+				Set<ComparisonOperator> allowedOperators = filterableFieldValidator.getAllowedOperators(
+						metadata.getDefaultOperators(dtoPath), metadata.getCustomOperators(dtoPath)
+				);
+				fields.put(dtoPath, new FieldContract(
+						dtoPath, () -> pathMapper.map(dtoPath), allowedOperators, metadata.isSortable(dtoPath)
+				));
+			}
+			catch (QueryException ex) {
+				invalidPaths.put(dtoPath, ex);
+			}
+		}
+	}
+
+	/**
+	 * Recursively records the field contracts reachable from a DTO type.
+	 *
+	 * @param type DTO type whose fields are inspected
+	 * @param prefix selector path leading to {@code type}, empty for the root
+	 * @param ancestors types on the current path, used to stop at cycles
+	 * @param pathMapper mapper used to map recorded paths
+	 * @param fields accumulator of field contracts keyed by selector path
+	 * @param invalidPaths accumulator of errors keyed by selector path
+	 */
+	private void collectFields(
+			Class<?> type,
+			String prefix,
+			Set<Class<?>> ancestors,
+			DTOToEntityPathMapper pathMapper,
+			Map<String, FieldContract> fields,
+			Map<String, QueryException> invalidPaths
+	) {
+		for (Field field: getFieldsUpHierarchy(type)) {
+			String dtoPath = prefix.isEmpty() ? field.getName() : prefix + "." + field.getName();
+			try {
+				FieldContract fieldContract = createFieldContract(field, dtoPath, pathMapper);
+				if (fieldContract != null) fields.put(dtoPath, fieldContract);
+			}
+			catch (QueryException ex) {
+				// Leave the path to the reflective fallback, which reports the error on use
+				invalidPaths.put(dtoPath, ex);
+			}
+
+			Class<?> next = TraversableTypes.unwrapContainerType(field);
+			if (next == null || !TraversableTypes.isTraversable(next) || !ancestors.add(next)) continue;
+			collectFields(next, dtoPath, ancestors, pathMapper, fields, invalidPaths);
+			ancestors.remove(next);
+		}
+	}
+
+	/**
+	 * Creates the contract of one field if it is filterable or sortable.
+	 *
+	 * @param field terminal DTO field of the path
+	 * @param dtoPath DTO selector path
+	 * @param pathMapper mapper used to map the path
+	 *
+	 * @return field contract, or {@code null} if the field is neither
+	 * filterable nor sortable
+	 *
+	 * @throws QueryException if the field's filterability declaration is
+	 * invalid or its path cannot be mapped
+	 */
+	@Nullable
+	private FieldContract createFieldContract(Field field, String dtoPath, DTOToEntityPathMapper pathMapper) {
+		Set<ComparisonOperator> allowedOperators = filterableFieldValidator.getAllowedOperators(field);
+		boolean sortable = sortableFieldValidator.isSortable(field);
+		if (allowedOperators.isEmpty() && !sortable) return null;
+		MappingResult mappingResult = pathMapper.map(dtoPath);
+		return new FieldContract(dtoPath, mappingResult, allowedOperators, sortable);
+	}
+
+	/**
+	 * Returns the instance fields visible on a type, with fields declared on
+	 * subclasses hiding same-named fields declared higher in the hierarchy.
+	 *
+	 * @param type type whose fields are collected
+	 *
+	 * @return visible instance fields
+	 */
+	private Collection<Field> getFieldsUpHierarchy(Class<?> type) {
+		Map<String, Field> fields = new LinkedHashMap<>();
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			for (Field field: current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+				fields.putIfAbsent(field.getName(), field);
+			}
+		}
+		return fields.values();
+	}
+}
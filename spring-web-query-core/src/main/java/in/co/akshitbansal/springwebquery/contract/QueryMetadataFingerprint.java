@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.contract;
+
+import in.co.akshitbansal.springwebquery.annotation.WebQueryDTO;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.resolver.TraversableTypes;
+import lombok.NonNull;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.text.MessageFormat;
+import java.util.*;
+
+/**
+ * Computes the fingerprint of the fields a DTO's query contract is derived
+ * from.
+ *
+ * <p>The fingerprint covers every application type reachable from the DTO
+ * through its fields, including element types of arrays and collections, and
+ * for each of them every instance field declared up the superclass hierarchy:
+ * its name, its erased type, and the library annotations declared on it
+ * together with their values. The {@code spring-web-query-processor}
+ * annotation processor computes the same fingerprint from the source model and
+ * records it in the generated {@link GeneratedQueryMetadata}, so comparing the
+ * two detects metadata that was generated for a different version of the DTO
+ * class graph without reading the annotations of every selector path. The
+ * processor mirrors this class and must be kept in step with it.</p>
+ */
+public final class QueryMetadataFingerprint {
+
+	/**
+	 * Package of the library's annotations, the only annotations that
+	 * contribute to the fingerprint.
+	 */
+	private static final String ANNOTATION_PACKAGE = WebQueryDTO.class.getPackageName();
+
+	/**
+	 * Offset basis of the 64-bit FNV-1a hash.
+	 */
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	/**
+	 * Prime of the 64-bit FNV-1a hash.
+	 */
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private QueryMetadataFingerprint() {
+	}
+
+	/**
+	 * Computes the fingerprint of a DTO class graph.
+	 *
+	 * @param dtoClass root DTO type
+	 *
+	 * @return 64-bit FNV-1a hash of the canonical description of the graph
+	 *
+	 * @throws QueryConfigurationException if the value of an annotation cannot
+	 * be read
+	 */
+	public static long of(@NonNull Class<?> dtoClass) {
+		StringBuilder canonical = new StringBuilder();
+		appendType(dtoClass, new HashSet<>(), canonical);
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < canonical.length(); i++) {
+			hash ^= canonical.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * Appends the description of a type and, depth first, of every type
+	 * reachable through its fields that has not been described yet.
+	 *
+	 * @param type type to describe
+	 * @param visited types already described
+	 * @param canonical description being built
+	 */
+	private static void appendType(Class<?> type, Set<Class<?>> visited, StringBuilder canonical) {
+		visited.add(type);
+		List<Field> fields = new ArrayList<>();
+		canonical.append('{');
+		for (Class<?> current = type; current != null && TraversableTypes.isTraversable(current); current = current.getSuperclass()) {
+			Field[] declaredFields = current.getDeclaredFields();
+			Arrays.sort(declaredFields, Comparator.comparing(Field::getName));
+			for (Field field: declaredFields) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+				canonical.append(field.getName()).append(':').append(field.getType().getTypeName());
+				appendAnnotations(field.getDeclaredAnnotations(), canonical);
+				canonical.append(';');
+				fields.add(field);
+			}
+			canonical.append('|');
+		}
+		canonical.append('}');
+
+		for (Field field: fields) {
+			Class<?> next = TraversableTypes.unwrapContainerType(field);
+			if (next == null || !TraversableTypes.isTraversable(next) || visited.contains(next)) continue;
+			appendType(next, visited, canonical);
+		}
+	}
+
+	/**
+	 * Appends the library annotations among the annotations of a field, in
+	 * the order of their type names.
+	 *
+	 * @param annotations annotations declared on the field
+	 * @param canonical description being built
+	 */
+	private static void appendAnnotations(Annotation[] annotations, StringBuilder canonical) {
+		List<Annotation> libraryAnnotations = new ArrayList<>();
+		for (Annotation annotation: annotations) {
+			if (annotation.annotationType().getPackageName().equals(ANNOTATION_PACKAGE)) libraryAnnotations.add(annotation);
+		}
+		libraryAnnotations.sort(Comparator.comparing(annotation -> annotation.annotationType().getName()));
+		for (Annotation annotation: libraryAnnotations) appendAnnotation(annotation, canonical);
+	}
+
+	/**
+	 * Appends an annotation with the values of all of its elements, including
+	 * defaults, in the order of their names.
+	 *
+	 * @param annotation annotation to describe
+	 * @param canonical description being built
+	 */
+	private static void appendAnnotation(Annotation annotation, StringBuilder canonical) {
+		Class<? extends Annotation> annotationType = annotation.annotationType();
+		canonical.append('@').append(annotationType.getName()).append('(');
+		Method[] elements = annotationType.getDeclaredMethods();
+		Arrays.sort(elements, Comparator.comparing(Method::getName));
+		for (Method element: elements) {
+			if (element.isSynthetic() || element.getParameterCount() != 0) continue;
+			Object value;
+			try {
+				value = element.invoke(annotation);
+			}
+			catch (ReflectiveOperationException ex) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"Failed to read ''{0}'' of annotation ''{1}''", element.getName(), annotationType.getName()
+				), ex);
+			}
+			canonical.append(element.getName()).append('=');
+			appendValue(value, canonical);
+			canonical.append(',');
+		}
+		canonical.append(')');
+	}
+
+	/**
+	 * Appends an annotation element value.
+	 *
+	 * @param value value to describe
+	 * @param canonical description being built
+	 */
+	private static void appendValue(Object value, StringBuilder canonical) {
+		if (value instanceof Object[] values) {
+			canonical.append('[');
+			for (Object element: values) {
+				appendValue(element, canonical);
+				canonical.append(',');
+			}
+			canonical.append(']');
+		}
+		else if (value instanceof Class<?> type) canonical.append(type.getTypeName());
+		else if (value instanceof Enum<?> constant) canonical.append(constant.name());
+		else if (value instanceof Annotation nested) appendAnnotation(nested, canonical);
+		else canonical.append(value);
+	}
+}
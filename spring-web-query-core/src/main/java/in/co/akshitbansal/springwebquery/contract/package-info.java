@@ -0,0 +1,8 @@
+/**
+ * Precomputed per-DTO query contracts describing which selector paths may be
+ * filtered or sorted, with which operators, and the entity paths they map to.
+ */
+@NullMarked
+package in.co.akshitbansal.springwebquery.contract;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
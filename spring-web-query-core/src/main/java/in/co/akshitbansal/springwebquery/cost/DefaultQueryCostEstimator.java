@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.cost;
+
+import cz.jirutka.rsql.parser.ast.*;
+import in.co.akshitbansal.springwebquery.metamodel.EntityAttributePath;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.resolver.ReflectiveFieldResolver;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.metamodel.Attribute;
+import lombok.NonNull;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+
+/**
+ * Default {@link QueryCostEstimator} that scores every node of a validated
+ * tree from the shape of the comparison and the entity path it touches.
+ *
+ * <p>Each comparison is scored as the sum of:</p>
+ * <ul>
+ *   <li>an operator cost: {@value #EQUALITY_COST} for equality and null checks,
+ *       {@value #RANGE_COST} for ordering and range operators,
+ *       {@value #IGNORE_CASE_COST} for case-insensitive equality, and
+ *       {@value #CUSTOM_OPERATOR_COST} for custom operators</li>
+ *   <li>{@value #IN_ARGUMENT_COST} per argument of {@code =in=} and
+ *       {@code =out=}, so large membership lists cost more</li>
+ *   <li>{@value #LEADING_WILDCARD_COST} for the like operators, which match
+ *       {@code %value%} and therefore start with a wildcard that no index can
+ *       serve</li>
+ *   <li>{@value #JOIN_HOP_COST} per join hop in the resolved entity path,
+ *       that is per association or collection crossed before its terminal
+ *       attribute; embedded attributes live in the owner's table and are
+ *       not counted</li>
+ *   <li>{@value #COLLECTION_TRAVERSAL_COST} per collection-valued field along
+ *       the entity path, since to-many joins multiply the rows examined</li>
+ * </ul>
+ *
+ * <p>The entity path is scored from the mapping result validation already
+ * produced: from the attributes of its {@link EntityAttributePath} when the
+ * path was resolved against the JPA metamodel, and from the entity fields
+ * along it otherwise.</p>
+ *
+ * <p>An {@code AND} node costs the sum of its children. An {@code OR} node
+ * additionally costs {@value #OR_BRANCH_COST} per branch, because wide
+ * disjunctions usually prevent index use.</p>
+ *
+ * <p>Subclasses may override the protected scoring methods to tune individual
+ * factors.</p>
+ */
+public class DefaultQueryCostEstimator implements QueryCostEstimator {
+
+	/**
+	 * Cost of an equality or null-check comparison.
+	 */
+	public static final long EQUALITY_COST = 1;
+
+	/**
+	 * Cost of an ordering or range comparison.
+	 */
+	public static final long RANGE_COST = 2;
+
+	/**
+	 * Cost of a case-insensitive equality comparison.
+	 */
+	public static final long IGNORE_CASE_COST = 3;
+
+	/**
+	 * Cost of a comparison using a custom operator.
+	 */
+	public static final long CUSTOM_OPERATOR_COST = 5;
+
+	/**
+	 * Additional cost per argument of a membership comparison.
+	 */
+	public static final long IN_ARGUMENT_COST = 1;
+
+	/**
+	 * Cost of a pattern comparison that starts with a wildcard.
+	 */
+	public static final long LEADING_WILDCARD_COST = 10;
+
+	/**
+	 * Additional cost per join hop in the entity path.
+	 */
+	public static final long JOIN_HOP_COST = 2;
+
+	/**
+	 * Additional cost per collection-valued field in the entity path.
+	 */
+	public static final long COLLECTION_TRAVERSAL_COST = 5;
+
+	/**
+	 * Additional cost per branch of a logical {@code OR} node.
+	 */
+	public static final long OR_BRANCH_COST = 1;
+
+	/**
+	 * Estimates the cost of a validated RSQL tree.
+	 *
+	 * @param rootNode root node of the validated tree
+	 * @param entityClass entity type that backs predicate creation
+	 * @param mappingResults mapping results of the DTO selectors used in the
+	 * query
+	 *
+	 * @return non-negative estimated cost
+	 */
+	@Override
+	public long estimate(
+			@NonNull Node rootNode,
+			@NonNull Class<?> entityClass,
+			@NonNull Map<String, MappingResult> mappingResults
+	) {
+		return rootNode.accept(new CostRSQLVisitor(entityClass, mappingResults), null);
+	}
+
+	/**
+	 * Scores one comparison.
+	 *
+	 * @param node comparison to score
+	 * @param entityClass entity type that backs predicate creation
+	 * @param mappingResult mapping result of the comparison's selector
+	 *
+	 * @return cost of the comparison
+	 */
+	protected long estimateComparison(ComparisonNode node, Class<?> entityClass, MappingResult mappingResult) {
+		return operatorCost(node) + pathCost(entityClass, mappingResult);
+	}
+
+	/**
+	 * Scores the operator and arguments of one comparison.
+	 *
+	 * @param node comparison to score
+	 *
+	 * @return operator cost including argument and wildcard costs
+	 */
+	protected long operatorCost(ComparisonNode node) {
+		RSQLDefaultOperator operator = RSQLDefaultOperator.fromComparisonOperator(node.getOperator());
+		if (operator == null) return CUSTOM_OPERATOR_COST;
+		return switch (operator) {
+			case EQUAL, NOT_EQUAL, IS_NULL, NOT_NULL -> EQUALITY_COST;
+			case GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL, BETWEEN, NOT_BETWEEN -> RANGE_COST;
+			case IN, NOT_IN -> EQUALITY_COST + IN_ARGUMENT_COST * node.getArguments().size();
+			case IGNORE_CASE -> IGNORE_CASE_COST;
+			case LIKE, NOT_LIKE, IGNORE_CASE_LIKE, IGNORE_CASE_NOT_LIKE -> LEADING_WILDCARD_COST;
+		};
+	}
+
+	/**
+	 * Scores the entity path of one comparison.
+	 *
+	 * <p>Paths resolved against the JPA metamodel are scored from their
+	 * attributes, where a hop is an association or collection attribute.
+	 * Paths resolved reflectively are scored from the entity fields along
+	 * them, which the reflective resolution already proved to exist, where a
+	 * hop is any field that is not embedded.</p>
+	 *
+	 * @param entityClass entity type that backs predicate creation
+	 * @param mappingResult mapping result of the comparison's selector
+	 *
+	 * @return join hop and collection traversal cost
+	 */
+	protected long pathCost(Class<?> entityClass, MappingResult mappingResult) {
+		EntityAttributePath attributePath = mappingResult.getEntityAttributePath();
+		if (attributePath == null) {
+			List<Field> fieldPath = ReflectiveFieldResolver.of(entityClass).resolveFieldPath(mappingResult.getPath());
+			long cost = 0;
+			for (int i = 0; i < fieldPath.size(); i++) {
+				Field field = fieldPath.get(i);
+				Class<?> type = field.getType();
+				if (i < fieldPath.size() - 1 && !isEmbedded(field)) cost += JOIN_HOP_COST;
+				if (type.isArray() || Collection.class.isAssignableFrom(type)) cost += COLLECTION_TRAVERSAL_COST;
+			}
+			return cost;
+		}
+		List<Attribute<?, ?>> attributes = attributePath.getAttributes();
+		long cost = 0;
+		for (int i = 0; i < attributes.size(); i++) {
+			Attribute<?, ?> attribute = attributes.get(i);
+			if (i < attributes.size() - 1 && (attribute.isAssociation() || attribute.isCollection())) cost += JOIN_HOP_COST;
+			if (attribute.isCollection()) cost += COLLECTION_TRAVERSAL_COST;
+		}
+		return cost;
+	}
+
+	/**
+	 * Returns whether an entity field is embedded in its owner's table rather
+	 * than joined.
+	 *
+	 * @param field entity field along a reflectively resolved path
+	 *
+	 * @return {@code true} for embedded fields and fields of embeddable types
+	 */
+	private static boolean isEmbedded(Field field) {
+		if (field.isAnnotationPresent(Embedded.class) || field.isAnnotationPresent(EmbeddedId.class)) return true;
+		return field.getType().isAnnotationPresent(Embeddable.class);
+	}
+
+	/**
+	 * Scores one logical node from the already computed cost of its children.
+	 *
+	 * @param node logical node to score
+	 * @param childrenCost sum of the costs of the node's children
+	 *
+	 * @return cost of the logical node including its children
+	 */
+	protected long estimateLogical(LogicalNode node, long childrenCost) {
+		if (node.getOperator() == LogicalOperator.OR) return childrenCost + OR_BRANCH_COST * node.getChildren().size();
+		return childrenCost;
+	}
+
+	/**
+	 * Visitor that accumulates the cost of one tree.
+	 */
+	private class CostRSQLVisitor implements RSQLVisitor<Long, Void> {
+
+		/**
+		 * Entity type that backs predicate creation.
+		 */
+		private final Class<?> entityClass;
+
+		/**
+		 * Mapping results of the DTO selectors.
+		 */
+		private final Map<String, MappingResult> mappingResults;
+
+		/**
+		 * Creates a visitor for one tree.
+		 *
+		 * @param entityClass entity type that backs predicate creation
+		 * @param mappingResults mapping results of the DTO selectors
+		 */
+		private CostRSQLVisitor(Class<?> entityClass, Map<String, MappingResult> mappingResults) {
+			this.entityClass = entityClass;
+			this.mappingResults = mappingResults;
+		}
+
+		@Override
+		public Long visit(AndNode node, Void param) {
+			return visitLogical(node);
+		}
+
+		@Override
+		public Long visit(OrNode node, Void param) {
+			return visitLogical(node);
+		}
+
+		@Override
+		public Long visit(ComparisonNode node, Void param) {
+			MappingResult mappingResult = mappingResults.get(node.getSelector());
+			if (mappingResult == null) throw new IllegalArgumentException(
+					"No mapping result for selector " + node.getSelector()
+			);
+			return estimateComparison(node, entityClass, mappingResult);
+		}
+
+		/**
+		 * Scores a logical node of either type.
+		 *
+		 * @param node logical node to score
+		 *
+		 * @return cost of the logical node including its children
+		 */
+		private long visitLogical(LogicalNode node) {
+			long childrenCost = 0;
+			for (Node child: node) childrenCost += child.accept(this, null);
+			return estimateLogical(node, childrenCost);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.cost;
+
+import cz.jirutka.rsql.parser.ast.Node;
+import in.co.akshitbansal.springwebquery.metamodel.EntityAttributePath;
+
+import java.util.Map;
+
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+
+/**
+ * Strategy for estimating the database cost of a validated RSQL tree.
+ *
+ * <p>The estimate is a unitless score that is compared against the configured
+ * query cost budget. Estimators run after validation, so every comparison
+ * selector in the tree has a corresponding entry in the supplied mapping
+ * results, which carry the entity path the selector was resolved to and,
+ * when the JPA metamodel is available, its {@link EntityAttributePath}.
+ * Implementations must be thread-safe, since a single instance is shared by
+ * all requests.</p>
+ */
+public interface QueryCostEstimator {
+
+	/**
+	 * Estimates the cost of a validated RSQL tree.
+	 *
+	 * @param rootNode root node of the validated tree
+	 * @param entityClass entity type that backs predicate creation
+	 * @param mappingResults mapping results of the DTO selectors used in the
+	 * query
+	 *
+	 * @return non-negative estimated cost
+	 */
+	long estimate(Node rootNode, Class<?> entityClass, Map<String, MappingResult> mappingResults);
+}
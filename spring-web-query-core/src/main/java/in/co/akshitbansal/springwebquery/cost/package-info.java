@@ -0,0 +1,8 @@
+/**
+ * Cost estimation for validated RSQL trees, used to reject expensive queries
+ * before any SQL is issued.
+ */
+@NullMarked
+package in.co.akshitbansal.springwebquery.cost;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
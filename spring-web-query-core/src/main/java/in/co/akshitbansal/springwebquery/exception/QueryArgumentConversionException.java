@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.exception;
+
+import lombok.Getter;
+
+/**
+ * Indicates that a query argument cannot be converted to the type of the
+ * field it is compared against.
+ */
+@Getter
+public class QueryArgumentConversionException extends QueryFieldValidationException {
+
+	/**
+	 * Raw argument value that failed conversion.
+	 */
+	private final String value;
+
+	/**
+	 * Target type the argument was converted to.
+	 */
+	private final Class<?> targetType;
+
+	/**
+	 * Creates a new argument conversion exception.
+	 *
+	 * @param message validation error details
+	 * @param fieldPath query field path associated with the failure
+	 * @param value raw argument value that failed conversion
+	 * @param targetType target type the argument was converted to
+	 */
+	public QueryArgumentConversionException(String message, String fieldPath, String value, Class<?> targetType) {
+		super(message, fieldPath);
+		this.value = value;
+		this.targetType = targetType;
+	}
+
+	/**
+	 * Creates a new argument conversion exception with an underlying cause.
+	 *
+	 * @param message validation error details
+	 * @param fieldPath query field path associated with the failure
+	 * @param value raw argument value that failed conversion
+	 * @param targetType target type the argument was converted to
+	 * @param cause root cause of the conversion failure
+	 */
+	public QueryArgumentConversionException(String message, String fieldPath, String value, Class<?> targetType, Throwable cause) {
+		super(message, fieldPath, cause);
+		this.value = value;
+		this.targetType = targetType;
+	}
+}
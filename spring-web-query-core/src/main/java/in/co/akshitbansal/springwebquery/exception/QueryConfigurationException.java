@@ -47,4 +47,32 @@ public class QueryConfigurationException extends QueryException {
 	public QueryConfigurationException(String message, Throwable cause) {
 		super(message, cause);
 	}
+
+	/**
+	 * Constructs a new query configuration exception with the specified
+	 * detail message and cause, optionally without a stack trace.
+	 *
+	 * @param message the detail message explaining the reason for the configuration error
+	 * @param cause the underlying cause of the configuration error, or {@code null}
+	 * @param writableStackTrace whether the stack trace should be captured
+	 */
+	protected QueryConfigurationException(String message, Throwable cause, boolean writableStackTrace) {
+		super(message, cause, writableStackTrace);
+	}
+
+	/**
+	 * Creates a query configuration exception without a stack trace.
+	 *
+	 * <p>Intended for failures that are remembered and rethrown many times,
+	 * where a captured stack trace would point at the first occurrence
+	 * only.</p>
+	 *
+	 * @param message the detail message explaining the reason for the configuration error
+	 * @param cause the underlying cause of the configuration error, or {@code null}
+	 *
+	 * @return stackless query configuration exception
+	 */
+	public static QueryConfigurationException stackless(String message, Throwable cause) {
+		return new QueryConfigurationException(message, cause, false);
+	}
 }
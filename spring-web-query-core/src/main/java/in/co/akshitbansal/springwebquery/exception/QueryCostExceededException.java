@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.exception;
+
+import lombok.Getter;
+
+/**
+ * Indicates that a query's estimated cost exceeded the configured query cost
+ * budget.
+ */
+@Getter
+public class QueryCostExceededException extends QueryValidationException {
+
+	/**
+	 * Estimated cost of the rejected query.
+	 */
+	private final long cost;
+
+	/**
+	 * Maximum query cost permitted by the active query configuration.
+	 */
+	private final long maxQueryCostAllowed;
+
+	/**
+	 * Creates a new query cost exceeded exception.
+	 *
+	 * @param message validation error details
+	 * @param cost estimated cost of the rejected query
+	 * @param maxQueryCostAllowed maximum query cost permitted
+	 */
+	public QueryCostExceededException(String message, long cost, long maxQueryCostAllowed) {
+		super(message);
+		this.cost = cost;
+		this.maxQueryCostAllowed = maxQueryCostAllowed;
+	}
+
+	/**
+	 * Creates a new query cost exceeded exception with an underlying cause.
+	 *
+	 * @param message validation error details
+	 * @param cost estimated cost of the rejected query
+	 * @param maxQueryCostAllowed maximum query cost permitted
+	 * @param cause root cause of the validation failure
+	 */
+	public QueryCostExceededException(String message, long cost, long maxQueryCostAllowed, Throwable cause) {
+		super(message, cause);
+		this.cost = cost;
+		this.maxQueryCostAllowed = maxQueryCostAllowed;
+	}
+}
@@ -44,6 +44,11 @@ import in.co.akshitbansal.springwebquery.annotation.Sortable;
  */
 public class QueryException extends RuntimeException {
 
+	/**
+	 * Whether the exception was created without a stack trace.
+	 */
+	private final boolean stackless;
+
 	/**
 	 * Constructs a new query exception with the specified detail message.
 	 *
@@ -51,6 +56,7 @@ public class QueryException extends RuntimeException {
 	 */
 	public QueryException(String message) {
 		super(message);
+		this.stackless = false;
 	}
 
 	/**
@@ -61,5 +67,33 @@ public class QueryException extends RuntimeException {
 	 */
 	public QueryException(String message, Throwable cause) {
 		super(message, cause);
+		this.stackless = false;
+	}
+
+	/**
+	 * Constructs a new query exception with the specified detail message and
+	 * cause, optionally without a stack trace.
+	 *
+	 * <p>An exception created without a stack trace also has suppression
+	 * disabled, so it is cheap to create and a single instance can safely be
+	 * rethrown many times.</p>
+	 *
+	 * @param message the detail message explaining the reason for the exception
+	 * @param cause the underlying cause of the exception, or {@code null}
+	 * @param writableStackTrace whether the stack trace should be captured
+	 */
+	protected QueryException(String message, Throwable cause, boolean writableStackTrace) {
+		super(message, cause, writableStackTrace, writableStackTrace);
+		this.stackless = !writableStackTrace;
+	}
+
+	/**
+	 * Returns whether this exception was created without a stack trace and
+	 * with suppression disabled, so that it can be rethrown many times.
+	 *
+	 * @return {@code true} for stackless exceptions
+	 */
+	public boolean isStackless() {
+		return stackless;
 	}
 }
@@ -51,4 +51,48 @@ public class QueryFieldValidationException extends QueryValidationException {
 		super(message, cause);
 		this.fieldPath = fieldPath;
 	}
+
+	/**
+	 * Creates a new field validation exception, optionally without a stack
+	 * trace.
+	 *
+	 * @param message validation error details
+	 * @param fieldPath query field path associated with the failure
+	 * @param cause root cause of the validation failure, or {@code null}
+	 * @param writableStackTrace whether the stack trace should be captured
+	 */
+	protected QueryFieldValidationException(String message, String fieldPath, Throwable cause, boolean writableStackTrace) {
+		super(message, cause, writableStackTrace);
+		this.fieldPath = fieldPath;
+	}
+
+	/**
+	 * Creates a field validation exception without a stack trace.
+	 *
+	 * <p>Intended for rejecting client-supplied selectors, where the stack
+	 * trace carries no information and capturing it dominates the cost of the
+	 * rejection.</p>
+	 *
+	 * @param message validation error details
+	 * @param fieldPath query field path associated with the failure
+	 *
+	 * @return stackless field validation exception
+	 */
+	public static QueryFieldValidationException stackless(String message, String fieldPath) {
+		return new QueryFieldValidationException(message, fieldPath, null, false);
+	}
+
+	/**
+	 * Creates a field validation exception with an underlying cause and
+	 * without a stack trace.
+	 *
+	 * @param message validation error details
+	 * @param fieldPath query field path associated with the failure
+	 * @param cause root cause of the validation failure, or {@code null}
+	 *
+	 * @return stackless field validation exception
+	 */
+	public static QueryFieldValidationException stackless(String message, String fieldPath, Throwable cause) {
+		return new QueryFieldValidationException(message, fieldPath, cause, false);
+	}
 }
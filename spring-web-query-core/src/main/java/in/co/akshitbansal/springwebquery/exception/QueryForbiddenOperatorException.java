@@ -65,4 +65,37 @@ public class QueryForbiddenOperatorException extends QueryFieldValidationExcepti
 		this.operator = operator;
 		this.allowedOperators = Set.copyOf(allowedOperators);
 	}
+
+	/**
+	 * Creates a new forbidden operator exception, optionally without a stack
+	 * trace.
+	 *
+	 * @param message validation error details
+	 * @param fieldPath query field path associated with the failure
+	 * @param operator operator used in the query
+	 * @param allowedOperators operators allowed for the field
+	 * @param cause root cause of the validation failure, or {@code null}
+	 * @param writableStackTrace whether the stack trace should be captured
+	 */
+	protected QueryForbiddenOperatorException(String message, String fieldPath, ComparisonOperator operator, Set<ComparisonOperator> allowedOperators, Throwable cause, boolean writableStackTrace) {
+		super(message, fieldPath, cause, writableStackTrace);
+		this.operator = operator;
+		this.allowedOperators = Set.copyOf(allowedOperators);
+	}
+
+	/**
+	 * Creates a forbidden operator exception without a stack trace.
+	 *
+	 * @param message validation error details
+	 * @param fieldPath query field path associated with the failure
+	 * @param operator operator used in the query
+	 * @param allowedOperators operators allowed for the field
+	 *
+	 * @return stackless forbidden operator exception
+	 *
+	 * @see QueryFieldValidationException#stackless(String, String)
+	 */
+	public static QueryForbiddenOperatorException stackless(String message, String fieldPath, ComparisonOperator operator, Set<ComparisonOperator> allowedOperators) {
+		return new QueryForbiddenOperatorException(message, fieldPath, operator, allowedOperators, null, false);
+	}
 }
@@ -48,4 +48,32 @@ public class QueryValidationException extends QueryException {
 	public QueryValidationException(String message, Throwable cause) {
 		super(message, cause);
 	}
+
+	/**
+	 * Constructs a new query validation exception with the specified detail
+	 * message and cause, optionally without a stack trace.
+	 *
+	 * @param message the detail message explaining the reason for the validation failure
+	 * @param cause the underlying cause of the validation failure, or {@code null}
+	 * @param writableStackTrace whether the stack trace should be captured
+	 */
+	protected QueryValidationException(String message, Throwable cause, boolean writableStackTrace) {
+		super(message, cause, writableStackTrace);
+	}
+
+	/**
+	 * Creates a query validation exception without a stack trace.
+	 *
+	 * <p>Intended for rejecting client-supplied queries, where the stack trace
+	 * carries no information and capturing it dominates the cost of the
+	 * rejection.</p>
+	 *
+	 * @param message the detail message explaining the reason for the validation failure
+	 * @param cause the underlying cause of the validation failure, or {@code null}
+	 *
+	 * @return stackless query validation exception
+	 */
+	public static QueryValidationException stackless(String message, Throwable cause) {
+		return new QueryValidationException(message, cause, false);
+	}
 }
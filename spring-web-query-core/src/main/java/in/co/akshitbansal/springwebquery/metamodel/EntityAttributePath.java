@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.metamodel;
+
+import jakarta.persistence.metamodel.Attribute;
+import lombok.*;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.util.List;
+
+/**
+ * Entity attribute path resolved against the JPA metamodel.
+ *
+ * <p>Besides the attributes along the path, the result records what query
+ * construction needs to know about the path without further reflection: the
+ * Java type comparison arguments must be converted to, whether the path
+ * reaches into a collection, and whether navigating it requires a join.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter
+@EqualsAndHashCode
+@ToString
+public class EntityAttributePath {
+
+	/**
+	 * Dotted entity path.
+	 */
+	@NonNull
+	private final String path;
+
+	/**
+	 * Attributes along the path, one per path segment.
+	 */
+	@NonNull
+	@ToString.Exclude
+	private final List<Attribute<?, ?>> attributes;
+
+	/**
+	 * Java type of the terminal attribute, or its element type if the
+	 * terminal attribute is a collection.
+	 */
+	@NonNull
+	private final Class<?> javaType;
+
+	/**
+	 * Whether any attribute along the path, including the terminal one, is a
+	 * collection.
+	 */
+	private final boolean collectionValued;
+
+	/**
+	 * Whether navigating the path requires a join, which is the case when it
+	 * passes through an association or ends in a collection.
+	 */
+	private final boolean joinRequired;
+
+	/**
+	 * Returns the terminal attribute of the path.
+	 *
+	 * @return terminal attribute
+	 */
+	public Attribute<?, ?> getTerminalAttribute() {
+		return attributes.get(attributes.size() - 1);
+	}
+
+	/**
+	 * Returns the field backing the terminal attribute.
+	 *
+	 * @return backing field, or {@code null} if the attribute uses property
+	 * access
+	 */
+	@Nullable
+	public Field getTerminalField() {
+		Member member = getTerminalAttribute().getJavaMember();
+		return member instanceof Field field ? field : null;
+	}
+}
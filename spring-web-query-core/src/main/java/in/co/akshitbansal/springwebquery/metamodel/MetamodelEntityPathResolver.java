@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.metamodel;
+
+import jakarta.persistence.metamodel.*;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves dotted entity paths against the JPA {@link Metamodel}.
+ *
+ * <p>Unlike reflective resolution, the metamodel reflects the persistence
+ * provider's view of an entity: embedded attributes, attributes inherited from
+ * mapped superclasses, property access, and the exclusion of transient fields
+ * are all taken into account, so a path resolves exactly when the provider can
+ * navigate it.</p>
+ *
+ * <p>The attribute graph of every managed type, with each attribute's
+ * successor type and element type, is computed once when the resolver is
+ * created. Resolving a path is then one map lookup per segment, and resolved
+ * paths are memoized per entity type.</p>
+ *
+ * <p>The resolver is thread-safe.</p>
+ */
+public class MetamodelEntityPathResolver {
+
+	/**
+	 * Attribute nodes of every managed type, keyed by Java type and attribute
+	 * name.
+	 */
+	private final Map<Class<?>, Map<String, AttributeNode>> attributeGraph;
+
+	/**
+	 * Resolved paths keyed by entity type and entity path.
+	 */
+	private final ConcurrentMap<Class<?>, ConcurrentMap<String, EntityAttributePath>> resolvedPaths = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a resolver and computes the attribute graph of every managed
+	 * type in a metamodel.
+	 *
+	 * @param metamodel metamodel of the persistence unit
+	 */
+	public MetamodelEntityPathResolver(@NonNull Metamodel metamodel) {
+		Map<Class<?>, Map<String, AttributeNode>> graph = new HashMap<>();
+		for (ManagedType<?> managedType: metamodel.getManagedTypes()) {
+			Class<?> javaType = managedType.getJavaType();
+			// Dynamic models have no Java type to resolve paths against
+			if (javaType == null) continue;
+			Map<String, AttributeNode> nodes = new HashMap<>();
+			for (Attribute<?, ?> attribute: managedType.getAttributes())
+				nodes.put(attribute.getName(), new AttributeNode(attribute));
+			graph.put(javaType, Collections.unmodifiableMap(nodes));
+		}
+		this.attributeGraph = Collections.unmodifiableMap(graph);
+	}
+
+	/**
+	 * Returns whether a type is managed by the persistence unit.
+	 *
+	 * @param type candidate type
+	 *
+	 * @return {@code true} if paths can be resolved against the type
+	 */
+	public boolean isManaged(@NonNull Class<?> type) {
+		return attributeGraph.containsKey(type);
+	}
+
+	/**
+	 * Resolves a dotted entity path.
+	 *
+	 * @param entityClass managed type the path starts at
+	 * @param path dotted entity path
+	 *
+	 * @return resolved path
+	 *
+	 * @throws IllegalArgumentException if the type is not managed, the path is
+	 * empty or contains empty segments, a segment names no attribute, or a
+	 * segment follows a basic attribute
+	 */
+	public EntityAttributePath resolve(@NonNull Class<?> entityClass, @NonNull String path) {
+		ConcurrentMap<String, EntityAttributePath> byPath = resolvedPaths.get(entityClass);
+		if (byPath != null) {
+			EntityAttributePath resolved = byPath.get(path);
+			if (resolved != null) return resolved;
+		}
+		EntityAttributePath resolved = resolveUncached(entityClass, path);
+		if (byPath == null) byPath = resolvedPaths.computeIfAbsent(entityClass, ignored -> new ConcurrentHashMap<>());
+		byPath.putIfAbsent(path, resolved);
+		return resolved;
+	}
+
+	/**
+	 * Resolves a dotted entity path by walking the attribute graph.
+	 *
+	 * @param entityClass managed type the path starts at
+	 * @param path dotted entity path
+	 *
+	 * @return resolved path
+	 *
+	 * @throws IllegalArgumentException if the path cannot be resolved
+	 */
+	private EntityAttributePath resolveUncached(Class<?> entityClass, String path) {
+		if (!isManaged(entityClass)) throw new IllegalArgumentException(MessageFormat.format(
+				"{0} is not a managed type", entityClass
+		));
+		if (path.isEmpty()) throw new IllegalArgumentException("Entity path cannot be empty");
+
+		List<Attribute<?, ?>> attributes = new ArrayList<>();
+		boolean collectionValued = false;
+		boolean joinRequired = false;
+		Class<?> current = entityClass;
+		AttributeNode node;
+		int start = 0;
+		while (true) {
+			int end = path.indexOf('.', start);
+			String name = end < 0 ? path.substring(start) : path.substring(start, end);
+			if (name.isEmpty()) throw new IllegalArgumentException("Entity path cannot contain empty segments");
+			node = attributeGraph.getOrDefault(current, Map.of()).get(name);
+			if (node == null) throw new IllegalArgumentException(MessageFormat.format(
+					"Attribute ''{0}'' not found in managed type {1}", name, current
+			));
+			attributes.add(node.attribute);
+			collectionValued |= node.attribute.isCollection();
+			if (end < 0) break;
+
+			// Navigating past an association or collection requires a join, past an embeddable does not
+			joinRequired |= node.attribute.isAssociation() || node.attribute.isCollection();
+			if (node.successorType == null) throw new IllegalArgumentException(MessageFormat.format(
+					"Attribute ''{0}'' of {1} is basic and cannot be navigated", name, current
+			));
+			current = node.successorType;
+			start = end + 1;
+		}
+		joinRequired |= node.attribute.isCollection();
+		return new EntityAttributePath(
+				path, List.copyOf(attributes), node.elementType, collectionValued, joinRequired
+		);
+	}
+
+	/**
+	 * Attribute of a managed type together with the types derived from it.
+	 */
+	private static final class AttributeNode {
+
+		/**
+		 * Metamodel attribute.
+		 */
+		private final Attribute<?, ?> attribute;
+
+		/**
+		 * Java type of the attribute, or of its elements for collections.
+		 */
+		private final Class<?> elementType;
+
+		/**
+		 * Managed type the next path segment is resolved against, or
+		 * {@code null} if the attribute is basic.
+		 */
+		@Nullable
+		private final Class<?> successorType;
+
+		/**
+		 * Creates the node of an attribute.
+		 *
+		 * @param attribute metamodel attribute
+		 */
+		AttributeNode(Attribute<?, ?> attribute) {
+			this.attribute = attribute;
+			Type<?> type = attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute
+					? pluralAttribute.getElementType()
+					: ((SingularAttribute<?, ?>) attribute).getType();
+			this.elementType = type.getJavaType();
+			this.successorType = type.getPersistenceType() == Type.PersistenceType.BASIC ? null : type.getJavaType();
+		}
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * JPA metamodel-based resolution of entity attribute paths.
+ */
+@NullMarked
+package in.co.akshitbansal.springwebquery.metamodel;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
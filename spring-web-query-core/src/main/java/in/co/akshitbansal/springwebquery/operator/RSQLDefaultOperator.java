@@ -20,7 +20,14 @@ import cz.jirutka.rsql.parser.ast.ComparisonOperator;
 import in.co.akshitbansal.springwebquery.annotation.RSQLFilterable;
 import io.github.perplexhub.rsql.RSQLOperators;
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Enumerates the built-in comparison operators exposed by the library.
@@ -187,4 +194,23 @@ public enum RSQLDefaultOperator {
 	 * parser and later used by validation and predicate conversion.</p>
 	 */
 	private final ComparisonOperator operator;
+
+	/**
+	 * Lookup from parser operators to the built-in operators that wrap them.
+	 */
+	private static final Map<ComparisonOperator, RSQLDefaultOperator> BY_OPERATOR = Arrays
+			.stream(values())
+			.collect(Collectors.toUnmodifiableMap(RSQLDefaultOperator::getOperator, Function.identity()));
+
+	/**
+	 * Returns the built-in operator that wraps the supplied parser operator.
+	 *
+	 * @param operator parser operator to look up
+	 *
+	 * @return matching built-in operator, or {@code null} for custom operators
+	 */
+	@Nullable
+	public static RSQLDefaultOperator fromComparisonOperator(@NonNull ComparisonOperator operator) {
+		return BY_OPERATOR.get(operator);
+	}
 }
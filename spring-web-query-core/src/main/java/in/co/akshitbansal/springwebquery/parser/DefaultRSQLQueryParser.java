@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.parser;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link RSQLQueryParser} backed by the JavaCC-generated {@link RSQLParser}.
+ *
+ * <p>This is the reference implementation that other parsers are compared
+ * against.</p>
+ */
+@RequiredArgsConstructor
+public class DefaultRSQLQueryParser implements RSQLQueryParser {
+
+	/**
+	 * Delegate parser configured with the allowed operator set.
+	 */
+	@NonNull
+	private final RSQLParser rsqlParser;
+
+	/**
+	 * Parses an RSQL query using the delegate {@link RSQLParser}.
+	 *
+	 * @param query RSQL filter expression
+	 *
+	 * @return root node of the parsed tree
+	 */
+	@Override
+	public Node parse(@NonNull String query) {
+		return rsqlParser.parse(query);
+	}
+}
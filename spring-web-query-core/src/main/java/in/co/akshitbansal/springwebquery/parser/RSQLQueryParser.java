@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.parser;
+
+import cz.jirutka.rsql.parser.RSQLParserException;
+import cz.jirutka.rsql.parser.ast.Node;
+
+/**
+ * Strategy for parsing RSQL filter strings into abstract syntax trees.
+ *
+ * <p>Implementations must produce the same {@link Node} trees as
+ * {@link cz.jirutka.rsql.parser.RSQLParser} for every query that parser
+ * accepts, and must reject malformed input with an
+ * {@link RSQLParserException}. Implementations must be thread-safe, since a
+ * single instance is shared by all requests.</p>
+ */
+public interface RSQLQueryParser {
+
+	/**
+	 * Parses an RSQL query into an abstract syntax tree.
+	 *
+	 * @param query RSQL filter expression
+	 *
+	 * @return root node of the parsed tree
+	 *
+	 * @throws RSQLParserException if the query is malformed or uses an
+	 * operator that is not allowed
+	 */
+	Node parse(String query);
+}
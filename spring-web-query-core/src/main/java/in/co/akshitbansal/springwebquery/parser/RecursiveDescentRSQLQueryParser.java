@@ -0,0 +1,446 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.parser;
+
+import cz.jirutka.rsql.parser.RSQLParserException;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.NodesFactory;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import lombok.NonNull;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hand-written recursive-descent {@link RSQLQueryParser}.
+ *
+ * <p>The parser accepts the same grammar as
+ * {@link cz.jirutka.rsql.parser.RSQLParser} and builds its nodes through the
+ * same {@link NodesFactory}, so both parsers produce equal trees. Instead of a
+ * token stream with exception-driven lookahead it scans the query string in
+ * place with a single cursor, which keeps allocations close to the nodes and
+ * strings that end up in the tree:</p>
+ * <ul>
+ *   <li>a query consisting of a single comparison is returned directly,
+ *       without allocating any logical-node child lists</li>
+ *   <li>unquoted selectors and arguments are taken as substrings of the
+ *       query, and quoted arguments are only copied when they contain
+ *       escapes</li>
+ *   <li>queries longer than the configured maximum are rejected before any
+ *       scanning takes place</li>
+ * </ul>
+ *
+ * <p>The parser is stateless between calls and thread-safe.</p>
+ */
+public class RecursiveDescentRSQLQueryParser implements RSQLQueryParser {
+
+	/**
+	 * Characters that may not appear in unquoted selectors and arguments.
+	 */
+	private static final String RESERVED_CHARACTERS = "\"'();,=<>!~ ";
+
+	/**
+	 * Keyword form of the logical {@code AND} operator, including its
+	 * mandatory surrounding spaces.
+	 */
+	private static final String AND_KEYWORD = " and ";
+
+	/**
+	 * Keyword form of the logical {@code OR} operator, including its
+	 * mandatory surrounding spaces.
+	 */
+	private static final String OR_KEYWORD = " or ";
+
+	/**
+	 * Factory used to create comparison and logical nodes.
+	 */
+	private final NodesFactory nodesFactory;
+
+	/**
+	 * Maximum accepted query length in characters.
+	 */
+	private final int maxQueryLength;
+
+	/**
+	 * Creates a parser for the supplied operator set.
+	 *
+	 * @param allowedOperators comparison operators accepted by the parser
+	 * @param maxQueryLength maximum accepted query length in characters
+	 *
+	 * @throws QueryConfigurationException if {@code maxQueryLength} is not positive
+	 */
+	public RecursiveDescentRSQLQueryParser(@NonNull Set<ComparisonOperator> allowedOperators, int maxQueryLength) {
+		if (maxQueryLength <= 0) throw new QueryConfigurationException(
+				MessageFormat.format(
+						"Maximum query length must be positive, but was {0}", maxQueryLength
+				)
+		);
+		this.nodesFactory = new NodesFactory(allowedOperators);
+		this.maxQueryLength = maxQueryLength;
+	}
+
+	/**
+	 * Parses an RSQL query into an abstract syntax tree.
+	 *
+	 * @param query RSQL filter expression
+	 *
+	 * @return root node of the parsed tree
+	 *
+	 * @throws RSQLParserException if the query exceeds the maximum length, is
+	 * malformed, or uses an operator that is not allowed
+	 */
+	@Override
+	public Node parse(@NonNull String query) {
+		if (query.length() > maxQueryLength) throw new RSQLParserException(
+				new IllegalArgumentException(
+						MessageFormat.format(
+								"Query length {0} exceeds the maximum of {1} characters",
+								query.length(), maxQueryLength
+						)
+				)
+		);
+		return new Cursor(query).parseInput();
+	}
+
+	/**
+	 * Returns whether the character may appear in an unquoted selector or
+	 * argument.
+	 *
+	 * @param ch character to check
+	 *
+	 * @return {@code true} if the character is unreserved
+	 */
+	private static boolean isUnreserved(char ch) {
+		return RESERVED_CHARACTERS.indexOf(ch) < 0;
+	}
+
+	/**
+	 * Single-use scanning state for one query.
+	 */
+	private class Cursor {
+
+		/**
+		 * Query being parsed.
+		 */
+		private final String query;
+
+		/**
+		 * Length of the query being parsed.
+		 */
+		private final int length;
+
+		/**
+		 * Index of the next character to read.
+		 */
+		private int position;
+
+		/**
+		 * Creates a cursor positioned at the start of the query.
+		 *
+		 * @param query query to parse
+		 */
+		private Cursor(String query) {
+			this.query = query;
+			this.length = query.length();
+		}
+
+		/**
+		 * Parses the complete input, rejecting trailing characters.
+		 *
+		 * @return root node of the parsed tree
+		 */
+		private Node parseInput() {
+			Node node = parseOr();
+			skipWhitespace();
+			if (position < length) throw error("Unexpected character");
+			return node;
+		}
+
+		/**
+		 * Parses a sequence of {@code AND} groups separated by {@code OR}.
+		 *
+		 * @return parsed node, or the only operand if there is no {@code OR}
+		 */
+		private Node parseOr() {
+			Node first = parseAnd();
+			if (!consumeOr()) return first;
+			List<Node> children = new ArrayList<>();
+			children.add(first);
+			do children.add(parseAnd());
+			while (consumeOr());
+			return nodesFactory.createLogicalNode(LogicalOperator.OR, children);
+		}
+
+		/**
+		 * Parses a sequence of constraints separated by {@code AND}.
+		 *
+		 * @return parsed node, or the only operand if there is no {@code AND}
+		 */
+		private Node parseAnd() {
+			Node first = parseConstraint();
+			if (!consumeAnd()) return first;
+			List<Node> children = new ArrayList<>();
+			children.add(first);
+			do children.add(parseConstraint());
+			while (consumeAnd());
+			return nodesFactory.createLogicalNode(LogicalOperator.AND, children);
+		}
+
+		/**
+		 * Parses either a parenthesized group or a single comparison.
+		 *
+		 * @return parsed node
+		 */
+		private Node parseConstraint() {
+			skipWhitespace();
+			if (position < length && query.charAt(position) == '(') {
+				position++;
+				Node node = parseOr();
+				skipWhitespace();
+				expect(')');
+				return node;
+			}
+			return parseComparison();
+		}
+
+		/**
+		 * Parses a comparison of the form {@code selector operator arguments}.
+		 *
+		 * @return parsed comparison node
+		 */
+		private Node parseComparison() {
+			String selector = parseUnreservedString("Expected selector");
+			skipWhitespace();
+			String operator = parseOperator();
+			skipWhitespace();
+			List<String> arguments;
+			if (position < length && query.charAt(position) == '(') {
+				position++;
+				arguments = new ArrayList<>();
+				do {
+					skipWhitespace();
+					arguments.add(parseArgument());
+				}
+				while (consumeOr());
+				skipWhitespace();
+				expect(')');
+			}
+			else arguments = Collections.singletonList(parseArgument());
+			try {
+				return nodesFactory.createComparisonNode(operator, selector, arguments);
+			}
+			catch (Exception ex) {
+				throw new RSQLParserException(ex);
+			}
+		}
+
+		/**
+		 * Parses a comparison operator such as {@code ==}, {@code =in=},
+		 * {@code !=}, {@code <}, or {@code >=}.
+		 *
+		 * @return operator symbol as written in the query
+		 */
+		private String parseOperator() {
+			int start = position;
+			char ch = position < length ? query.charAt(position) : 0;
+			if (ch == '=') {
+				position++;
+				while (position < length && isAsciiLetter(query.charAt(position))) position++;
+				expect('=');
+			}
+			else if (ch == '!') {
+				position++;
+				expect('=');
+			}
+			else if (ch == '<' || ch == '>') {
+				position++;
+				if (position < length && query.charAt(position) == '=') position++;
+			}
+			else throw error("Expected comparison operator");
+			return query.substring(start, position);
+		}
+
+		/**
+		 * Parses one quoted or unquoted argument.
+		 *
+		 * @return argument value with quotes and escapes removed
+		 */
+		private String parseArgument() {
+			char ch = position < length ? query.charAt(position) : 0;
+			if (ch == '"' || ch == '\'') return parseQuotedString(ch);
+			return parseUnreservedString("Expected argument");
+		}
+
+		/**
+		 * Parses a non-empty run of unreserved characters.
+		 *
+		 * @param message error message used when no unreserved character is found
+		 *
+		 * @return parsed string
+		 */
+		private String parseUnreservedString(String message) {
+			int start = position;
+			while (position < length && isUnreserved(query.charAt(position))) position++;
+			if (position == start) throw error(message);
+			return query.substring(start, position);
+		}
+
+		/**
+		 * Parses a quoted string in which a backslash escapes the following
+		 * character.
+		 *
+		 * @param quote opening and closing quote character
+		 *
+		 * @return unquoted and unescaped value
+		 */
+		private String parseQuotedString(char quote) {
+			int start = ++position;
+			boolean escaped = false;
+			while (position < length) {
+				char ch = query.charAt(position);
+				if (ch == quote) {
+					String value = query.substring(start, position++);
+					return escaped ? unescape(value) : value;
+				}
+				if (ch == '\\') {
+					escaped = true;
+					position++;
+				}
+				position++;
+			}
+			throw error("Unterminated quoted string");
+		}
+
+		/**
+		 * Consumes an {@code AND} operator if one follows.
+		 *
+		 * @return {@code true} if an operator was consumed
+		 */
+		private boolean consumeAnd() {
+			return consumeLogicalOperator(';', AND_KEYWORD);
+		}
+
+		/**
+		 * Consumes an {@code OR} operator if one follows.
+		 *
+		 * @return {@code true} if an operator was consumed
+		 */
+		private boolean consumeOr() {
+			return consumeLogicalOperator(',', OR_KEYWORD);
+		}
+
+		/**
+		 * Consumes a logical operator in either its symbol or keyword form.
+		 *
+		 * @param symbol single-character form of the operator
+		 * @param keyword keyword form of the operator
+		 *
+		 * @return {@code true} if an operator was consumed
+		 */
+		private boolean consumeLogicalOperator(char symbol, String keyword) {
+			skipWhitespace();
+			if (position >= length) return false;
+			if (query.charAt(position) == symbol) {
+				position++;
+				return true;
+			}
+			if (query.startsWith(keyword, position)) {
+				position += keyword.length();
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Skips insignificant whitespace.
+		 *
+		 * <p>A space that starts a keyword operator is significant and is not
+		 * skipped. A tab directly followed by an unreserved character belongs
+		 * to that selector or argument, matching the longest-match rule of the
+		 * generated parser.</p>
+		 */
+		private void skipWhitespace() {
+			while (position < length) {
+				char ch = query.charAt(position);
+				if (ch == ' ') {
+					if (query.startsWith(AND_KEYWORD, position) || query.startsWith(OR_KEYWORD, position)) return;
+				}
+				else if (ch != '\t' || position + 1 < length && isUnreserved(query.charAt(position + 1))) return;
+				position++;
+			}
+		}
+
+		/**
+		 * Consumes the expected character or fails.
+		 *
+		 * @param expected character that must follow
+		 */
+		private void expect(char expected) {
+			if (position >= length || query.charAt(position) != expected)
+				throw error(MessageFormat.format("Expected ''{0}''", expected));
+			position++;
+		}
+
+		/**
+		 * Creates a parse failure for the current position.
+		 *
+		 * @param message description of the failure
+		 *
+		 * @return parser exception to throw
+		 */
+		private RSQLParserException error(String message) {
+			return new RSQLParserException(
+					new IllegalArgumentException(
+							MessageFormat.format("{0} at position {1}", message, position)
+					)
+			);
+		}
+	}
+
+	/**
+	 * Returns whether the character is an ASCII letter.
+	 *
+	 * @param ch character to check
+	 *
+	 * @return {@code true} for {@code a-z} and {@code A-Z}
+	 */
+	private static boolean isAsciiLetter(char ch) {
+		return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+	}
+
+	/**
+	 * Removes backslash escapes from a quoted value.
+	 *
+	 * @param value quoted value without its surrounding quotes
+	 *
+	 * @return value with every escaped character replaced by itself
+	 */
+	private static String unescape(String value) {
+		StringBuilder builder = new StringBuilder(value.length());
+		for (int idx = 0; idx < value.length(); idx++) {
+			char ch = value.charAt(idx);
+			if (ch == '\\' && idx + 1 < value.length()) ch = value.charAt(++idx);
+			builder.append(ch);
+		}
+		return builder.toString();
+	}
+}
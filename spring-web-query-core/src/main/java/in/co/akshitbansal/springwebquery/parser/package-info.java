@@ -0,0 +1,8 @@
+/**
+ * Pluggable RSQL parsers that turn filter strings into abstract syntax trees,
+ * including an allocation-light recursive-descent implementation.
+ */
+@NullMarked
+package in.co.akshitbansal.springwebquery.parser;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
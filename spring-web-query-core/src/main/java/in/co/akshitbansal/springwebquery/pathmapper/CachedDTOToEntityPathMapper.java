@@ -17,26 +17,62 @@
 package in.co.akshitbansal.springwebquery.pathmapper;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 import com.google.common.util.concurrent.Striped;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryException;
+import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
+import in.co.akshitbansal.springwebquery.metamodel.MetamodelEntityPathResolver;
 import lombok.*;
 import org.jspecify.annotations.Nullable;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 
 /**
  * Cached {@link DTOToEntityPathMapper} variant that memoizes both successful
  * and failed path resolutions.
+ *
+ * <p>Successful and failed resolutions are kept in caches shared by all
+ * mappers of a {@link DTOToEntityPathMapperFactory}, which bounds their total
+ * weight across entity/DTO pairs. Entries are keyed by entity type, DTO type
+ * and DTO path. Each mapper indexes the keys of its successful resolutions by
+ * DTO path, so serving a cached result reuses the key instead of allocating
+ * one and remains a lock-free lookup. The factory drops a key from this index
+ * when its resolution is evicted, so the index never outgrows the shared
+ * cache.</p>
+ *
+ * <p>A failure is cached as a stackless copy carrying the message and cause
+ * of the original exception, which is thrown to the first caller only.
+ * Stackless exceptions have suppression disabled, so the cached copy can be
+ * rethrown to every later caller on every thread without exposing a stale
+ * stack trace or accumulating suppressed exceptions. Failures that are not
+ * query exceptions are not cached.</p>
+ *
+ * <p>The time spent resolving paths that missed both caches is recorded in a
+ * {@link StatsCounter} as load time, successful resolutions as load successes
+ * and failed ones as load failures.</p>
  */
 public class CachedDTOToEntityPathMapper extends DTOToEntityPathMapper {
 
 	/**
-	 * Cache of previously resolved DTO-to-entity mappings.
+	 * Previously resolved mappings of all entity/DTO pairs.
+	 */
+	private final Cache<CacheKey, MappingResult> successfulResolutions;
+
+	/**
+	 * Keys of this pair's cached successful resolutions, indexed by DTO path.
+	 */
+	private final ConcurrentMap<String, CacheKey> resolutionKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * Counter that records the outcome and duration of uncached resolutions.
 	 */
-	private final ConcurrentMap<CacheKey, MappingResult> successfulResolutions;
+	private final StatsCounter resolutionStats;
 
 	/**
-	 * Cache of previously encountered resolution failures.
+	 * Stackless copies of previously encountered resolution failures.
 	 */
 	private final Cache<CacheKey, RuntimeException> failedResolutions;
 
@@ -51,12 +87,16 @@ public class CachedDTOToEntityPathMapper extends DTOToEntityPathMapper {
 	CachedDTOToEntityPathMapper(
 			@NonNull Class<?> entityClass,
 			@NonNull Class<?> dtoClass,
-			@NonNull ConcurrentMap<CacheKey, MappingResult> successfulResolutions,
+			@NonNull Cache<CacheKey, MappingResult> successfulResolutions,
+			@NonNull StatsCounter resolutionStats,
 			@NonNull Cache<CacheKey, RuntimeException> failedResolutions,
-			@NonNull Striped<Lock> stripedLock
+			@NonNull Striped<Lock> stripedLock,
+			@Nullable MetamodelEntityPathResolver entityPathResolver,
+			boolean stacklessRejections
 	) {
-		super(entityClass, dtoClass);
+		super(entityClass, dtoClass, entityPathResolver, stacklessRejections);
 		this.successfulResolutions = successfulResolutions;
+		this.resolutionStats = resolutionStats;
 		this.failedResolutions = failedResolutions;
 		this.stripedLock = stripedLock;
 	}
@@ -64,29 +104,53 @@ public class CachedDTOToEntityPathMapper extends DTOToEntityPathMapper {
 	/**
 	 * Resolves a DTO path, serving the result from cache whenever possible.
 	 *
+	 * <p>A cached successful resolution whose key is indexed is returned
+	 * without allocating or locking. Only when it is absent is the failure
+	 * cache consulted and, on a complete miss, the path resolved under a
+	 * striped lock.</p>
+	 *
 	 * @param dtoPath selector path expressed against the DTO contract
 	 *
 	 * @return cached or freshly resolved mapping result
 	 */
 	@Override
 	public MappingResult map(@NonNull String dtoPath) {
-		CacheKey cacheKey = CacheKey.of(entityClass, dtoClass, dtoPath);
-		MappingResult result = resolveFromCache(cacheKey);
-		if (result != null) return result;
+		CacheKey indexedKey = resolutionKeys.get(dtoPath);
+		CacheKey cacheKey = indexedKey != null ? indexedKey : CacheKey.of(entityClass, dtoClass, dtoPath);
+		MappingResult result = successfulResolutions.getIfPresent(cacheKey);
+		if (result != null) {
+			// The index can lose a key to the eviction of an equal one, so restore it
+			if (indexedKey == null) resolutionKeys.putIfAbsent(dtoPath, cacheKey);
+			return result;
+		}
+
+		throwCachedFailure(cacheKey);
 
 		Lock lock = stripedLock.get(cacheKey);
 		lock.lock();
 		try {
-			result = resolveFromCache(cacheKey);
-			if (result != null) return result;
+			// Re-check through the map views, which do not count towards the cache statistics
+			result = successfulResolutions.asMap().get(cacheKey);
+			if (result != null) {
+				resolutionKeys.putIfAbsent(dtoPath, cacheKey);
+				return result;
+			}
+			RuntimeException cachedFailure = failedResolutions.asMap().get(cacheKey);
+			if (cachedFailure != null) throw cachedFailure;
 
+			long startTime = System.nanoTime();
 			try {
 				result = super.map(dtoPath);
+				resolutionStats.recordLoadSuccess(System.nanoTime() - startTime);
+				// Index the key first, so that an immediate eviction also drops it
+				resolutionKeys.put(dtoPath, cacheKey);
 				successfulResolutions.put(cacheKey, result);
 				return result;
 			}
 			catch (RuntimeException ex) {
-				failedResolutions.put(cacheKey, ex);
+				resolutionStats.recordLoadFailure(System.nanoTime() - startTime);
+				RuntimeException stacklessFailure = toStackless(ex);
+				if (stacklessFailure != null) failedResolutions.put(cacheKey, stacklessFailure);
 				throw ex;
 			}
 		}
@@ -96,18 +160,42 @@ public class CachedDTOToEntityPathMapper extends DTOToEntityPathMapper {
 	}
 
 	/**
-	 * Returns a cached result for the supplied key, or rethrows a cached failure.
+	 * Drops the key of a successful resolution that was evicted from the
+	 * shared cache.
 	 *
-	 * @param cacheKey cache entry key
+	 * @param cacheKey key of the evicted resolution
+	 */
+	void forgetResolution(CacheKey cacheKey) {
+		resolutionKeys.remove(cacheKey.getDtoPath(), cacheKey);
+	}
+
+	/**
+	 * Rethrows the cached failure for the supplied key, if any.
 	 *
-	 * @return cached mapping result, or {@code null} if no entry exists
+	 * @param cacheKey cache entry key
 	 */
-	@Nullable
-	private MappingResult resolveFromCache(CacheKey cacheKey) {
-		MappingResult result = successfulResolutions.get(cacheKey);
-		if (result != null) return result;
+	private void throwCachedFailure(CacheKey cacheKey) {
 		RuntimeException ex = failedResolutions.getIfPresent(cacheKey);
 		if (ex != null) throw ex;
+	}
+
+	/**
+	 * Returns a stackless copy of a resolution failure that can be cached and
+	 * rethrown many times.
+	 *
+	 * @param ex resolution failure
+	 *
+	 * @return the failure itself if it is already stackless, a stackless copy
+	 * with the same message and cause, or {@code null} if the failure is not a
+	 * query exception and must not be cached
+	 */
+	@Nullable
+	private static RuntimeException toStackless(RuntimeException ex) {
+		if (ex instanceof QueryException queryException && queryException.isStackless()) return ex;
+		if (ex instanceof QueryFieldValidationException fieldException)
+			return QueryFieldValidationException.stackless(ex.getMessage(), fieldException.getFieldPath(), ex.getCause());
+		if (ex instanceof QueryConfigurationException)
+			return QueryConfigurationException.stackless(ex.getMessage(), ex.getCause());
 		return null;
 	}
 
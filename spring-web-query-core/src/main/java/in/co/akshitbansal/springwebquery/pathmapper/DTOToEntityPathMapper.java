@@ -19,8 +19,11 @@ package in.co.akshitbansal.springwebquery.pathmapper;
 import in.co.akshitbansal.springwebquery.annotation.MapsTo;
 import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
 import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
+import in.co.akshitbansal.springwebquery.metamodel.EntityAttributePath;
+import in.co.akshitbansal.springwebquery.metamodel.MetamodelEntityPathResolver;
 import in.co.akshitbansal.springwebquery.resolver.ReflectiveFieldResolver;
 import lombok.*;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.text.MessageFormat;
@@ -42,10 +45,17 @@ import java.util.List;
  *   <li>the incoming DTO path is resolved reflectively against the DTO class</li>
  *   <li>each resolved DTO field contributes one entity path segment, either
  *       from its own field name or from {@link MapsTo}</li>
- *   <li>the assembled entity path is resolved reflectively against the entity
- *       class to verify that the DTO mapping configuration is valid</li>
+ *   <li>the assembled entity path is resolved against the entity class to
+ *       verify that the DTO mapping configuration is valid</li>
  * </ul>
  *
+ * <p>When the mapper is given a {@link MetamodelEntityPathResolver} and the
+ * entity class is managed by the persistence unit, the entity path is resolved
+ * against the JPA metamodel, so it is validated exactly as the persistence
+ * provider will navigate it, and the result carries the path's
+ * {@link EntityAttributePath}. Otherwise the entity path is resolved
+ * reflectively.</p>
+ *
  * <p>If a DTO field does not declare {@link MapsTo}, its own field name is
  * reused as the entity-side segment. If {@link MapsTo} is present, its
  * {@link MapsTo#value()} is appended instead. When
@@ -62,6 +72,10 @@ import java.util.List;
  *       not, the mapper throws {@link QueryConfigurationException} because the
  *       DTO-to-entity mapping metadata is inconsistent with the entity model</li>
  * </ul>
+ *
+ * <p>With stackless rejections enabled, unknown DTO paths are rejected with
+ * a stackless {@link QueryFieldValidationException}, which keeps probing
+ * traffic cheap to reject and lets the rejection be cached.</p>
  */
 public class DTOToEntityPathMapper {
 
@@ -85,21 +99,75 @@ public class DTOToEntityPathMapper {
 	 */
 	private final ReflectiveFieldResolver dtoFieldResolver;
 
+	/**
+	 * Resolver used to validate the translated entity path against the JPA
+	 * metamodel, or {@code null} if entity paths are resolved reflectively.
+	 */
+	@Nullable
+	private final MetamodelEntityPathResolver entityPathResolver;
+
+	/**
+	 * Whether unknown DTO paths are rejected with stackless exceptions.
+	 */
+	private final boolean stacklessRejections;
+
+	/**
+	 * Creates a mapper for one entity/DTO pair that resolves entity paths
+	 * reflectively.
+	 *
+	 * @param entityClass entity type used for query construction
+	 * @param dtoClass DTO type used by callers in selectors
+	 */
+	DTOToEntityPathMapper(@NonNull Class<?> entityClass, @NonNull Class<?> dtoClass) {
+		this(entityClass, dtoClass, null);
+	}
+
 	/**
 	 * Creates a mapper for one entity/DTO pair.
 	 *
 	 * <p>The mapper retains reflective resolvers for both sides so that each
 	 * mapping request can validate the DTO selector as well as the derived entity
-	 * path.</p>
+	 * path. The entity-side reflective resolver is also used when the entity is
+	 * not managed by the metamodel resolver.</p>
 	 *
 	 * @param entityClass entity type used for query construction
 	 * @param dtoClass DTO type used by callers in selectors
+	 * @param entityPathResolver metamodel resolver used to validate entity
+	 * paths, or {@code null} to resolve them reflectively
 	 */
-	DTOToEntityPathMapper(@NonNull Class<?> entityClass, @NonNull Class<?> dtoClass) {
+	DTOToEntityPathMapper(
+			@NonNull Class<?> entityClass,
+			@NonNull Class<?> dtoClass,
+			@Nullable MetamodelEntityPathResolver entityPathResolver
+	) {
+		this(entityClass, dtoClass, entityPathResolver, false);
+	}
+
+	/**
+	 * Creates a mapper for one entity/DTO pair, optionally rejecting unknown
+	 * DTO paths with stackless exceptions.
+	 *
+	 * @param entityClass entity type used for query construction
+	 * @param dtoClass DTO type used by callers in selectors
+	 * @param entityPathResolver metamodel resolver used to validate entity
+	 * paths, or {@code null} to resolve them reflectively
+	 * @param stacklessRejections whether unknown DTO paths are rejected with
+	 * stackless exceptions
+	 */
+	DTOToEntityPathMapper(
+			@NonNull Class<?> entityClass,
+			@NonNull Class<?> dtoClass,
+			@Nullable MetamodelEntityPathResolver entityPathResolver,
+			boolean stacklessRejections
+	) {
+		this.stacklessRejections = stacklessRejections;
 		this.entityClass = entityClass;
 		this.dtoClass = dtoClass;
 		this.entityFieldResolver = ReflectiveFieldResolver.of(entityClass);
 		this.dtoFieldResolver = ReflectiveFieldResolver.of(dtoClass);
+		this.entityPathResolver = entityPathResolver != null && entityPathResolver.isManaged(entityClass)
+				? entityPathResolver
+				: null;
 	}
 
 	/**
@@ -117,17 +185,20 @@ public class DTOToEntityPathMapper {
 	 * </ul>
 	 *
 	 * <p>After the entity path string has been assembled, it is resolved against
-	 * the entity class to ensure the mapping metadata actually points to a valid
-	 * entity-side path.</p>
+	 * the entity class, through the JPA metamodel when available, to ensure the
+	 * mapping metadata actually points to a valid entity-side path.</p>
 	 *
-	 * <p>The returned {@link MappingResult} contains both the final entity path
-	 * and the terminal DTO field. The terminal DTO field is preserved because
-	 * later validation steps, such as checking filterability or sortability,
-	 * operate on the DTO contract rather than on the entity field.</p>
+	 * <p>The returned {@link MappingResult} contains the final entity path, the
+	 * terminal DTO field, and the terminal entity field. The terminal DTO field
+	 * is preserved because later validation steps, such as checking
+	 * filterability or sortability, operate on the DTO contract rather than on
+	 * the entity field. The terminal entity field is preserved so that query
+	 * compilation can convert arguments to the attribute type without resolving
+	 * the entity path again.</p>
 	 *
 	 * @param dtoPath selector path expressed against the DTO contract
 	 *
-	 * @return mapped entity path together with the terminal DTO field
+	 * @return mapped entity path together with the terminal DTO and entity fields
 	 *
 	 * @throws QueryFieldValidationException if the DTO path cannot be resolved
 	 * and is therefore invalid from the caller's perspective
@@ -141,11 +212,10 @@ public class DTOToEntityPathMapper {
 			dtoFields = dtoFieldResolver.resolveFieldPath(dtoPath);
 		}
 		catch (Exception ex) {
-			throw new QueryFieldValidationException(
-					MessageFormat.format(
-							"Unknown field ''{0}''", dtoPath
-					), dtoPath, ex
-			);
+			// Messages are concatenated rather than formatted to keep rejections cheap
+			String message = "Unknown field '" + dtoPath + "'";
+			if (stacklessRejections) throw QueryFieldValidationException.stackless(message, dtoPath, ex);
+			throw new QueryFieldValidationException(message, dtoPath, ex);
 		}
 
 		// Construct the corresponding entity field path using the @MapsTo annotation if present
@@ -161,8 +231,16 @@ public class DTOToEntityPathMapper {
 		String entityPath = String.join(".", entityPathSegments);
 
 		// Validate that the constructed entity field path is resolvable in the entity class
+		EntityAttributePath entityAttributePath = null;
+		Field terminalEntityField;
 		try {
-			entityFieldResolver.resolveFieldPath(entityPath);
+			if (entityPathResolver != null) {
+				entityAttributePath = entityPathResolver.resolve(entityClass, entityPath);
+				Field terminalField = entityAttributePath.getTerminalField();
+				// Attributes with property access are not backed by a member field of the same declaring type
+				terminalEntityField = terminalField != null ? terminalField : resolveTerminalEntityField(entityPath);
+			}
+			else terminalEntityField = resolveTerminalEntityField(entityPath);
 		}
 		catch (Exception ex) {
 			throw new QueryConfigurationException(
@@ -172,16 +250,35 @@ public class DTOToEntityPathMapper {
 			);
 		}
 
-		return MappingResult.of(entityPath, dtoFields.get(dtoFields.size() - 1));
+		return MappingResult.of(
+				entityPath,
+				dtoFields.get(dtoFields.size() - 1),
+				terminalEntityField,
+				entityAttributePath
+		);
+	}
+
+	/**
+	 * Resolves an entity path reflectively and returns its terminal field.
+	 *
+	 * @param entityPath dotted entity path
+	 *
+	 * @return terminal entity field
+	 *
+	 * @throws RuntimeException if the path cannot be resolved
+	 */
+	private Field resolveTerminalEntityField(String entityPath) {
+		List<Field> entityFields = entityFieldResolver.resolveFieldPath(entityPath);
+		return entityFields.get(entityFields.size() - 1);
 	}
 
 	/**
 	 * Immutable outcome of mapping one DTO selector to an entity path.
 	 *
-	 * <p>This object keeps both the resolved entity path and the terminal DTO
-	 * field because downstream query construction needs the entity path, while
-	 * downstream validation still inspects annotations declared on the DTO
-	 * contract.</p>
+	 * <p>This object keeps the resolved entity path and both terminal fields
+	 * because downstream query construction needs the entity path and attribute
+	 * type, while downstream validation still inspects annotations declared on
+	 * the DTO contract.</p>
 	 */
 	@RequiredArgsConstructor(staticName = "of")
 	@Getter
@@ -205,5 +302,60 @@ public class DTOToEntityPathMapper {
 		 */
 		@NonNull
 		private final Field terminalDTOField;
+
+		/**
+		 * Terminal entity field reached while resolving the mapped entity path.
+		 *
+		 * <p>Its declared type determines the Java type that filter arguments
+		 * are converted to before predicate construction.</p>
+		 */
+		@NonNull
+		private final Field terminalEntityField;
+
+		/**
+		 * Entity path resolved against the JPA metamodel, or {@code null} if
+		 * the entity path was resolved reflectively.
+		 *
+		 * <p>When present, it supplies the attribute type and tells whether
+		 * the path crosses a collection or requires a join.</p>
+		 */
+		@Nullable
+		private final EntityAttributePath entityAttributePath;
+
+		/**
+		 * Creates a mapping result for an entity path resolved reflectively.
+		 *
+		 * @param path resolved entity path
+		 * @param terminalDTOField terminal DTO field
+		 * @param terminalEntityField terminal entity field
+		 *
+		 * @return mapping result without metamodel information
+		 */
+		public static MappingResult of(
+				@NonNull String path,
+				@NonNull Field terminalDTOField,
+				@NonNull Field terminalEntityField
+		) {
+			return of(path, terminalDTOField, terminalEntityField, null);
+		}
+
+		/**
+		 * Creates a mapping result from a resolved entity path and the terminal
+		 * DTO field alone.
+		 *
+		 * <p>Kept for callers written before the terminal entity field was
+		 * tracked. The DTO field stands in for the terminal entity field, so
+		 * filter arguments are converted to the declared type of the DTO field,
+		 * and no metamodel information is attached. Prefer
+		 * {@link #of(String, Field, Field)} when the entity field is known.</p>
+		 *
+		 * @param path resolved entity path
+		 * @param terminalDTOField terminal DTO field
+		 *
+		 * @return mapping result without metamodel information
+		 */
+		public static MappingResult of(@NonNull String path, @NonNull Field terminalDTOField) {
+			return of(path, terminalDTOField, terminalDTOField, null);
+		}
 	}
 }
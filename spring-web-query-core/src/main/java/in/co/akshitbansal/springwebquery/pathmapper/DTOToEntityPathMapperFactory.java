@@ -18,12 +18,18 @@ package in.co.akshitbansal.springwebquery.pathmapper;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 import com.google.common.util.concurrent.Striped;
 import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.metamodel.MetamodelEntityPathResolver;
 import lombok.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
@@ -33,14 +39,46 @@ import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper
 
 /**
  * Creates {@link DTOToEntityPathMapper} instances with optional shared caching.
+ *
+ * <p>When caching is enabled, the factory creates one
+ * {@link CachedDTOToEntityPathMapper} per entity/DTO pair and hands out that
+ * same instance on every subsequent request for the pair. Mappers are
+ * indexed by entity class in a {@link ClassValue} and then by DTO class, which
+ * makes looking up an existing mapper allocation-free. The successful and the
+ * failed resolutions of all pairs are each kept in one cache shared by every
+ * mapper of the factory.</p>
+ *
+ * <p>Both caches can be bounded by weight and expire entries after a period
+ * without access. The weight of an entry is the combined length of the paths
+ * it retains: the DTO and entity paths of a successful resolution, and the DTO
+ * path and error message of a failed one. Each bound applies to the total
+ * weight across all entity/DTO pairs, so the footprint of the caches does not
+ * grow with the number of pairs. When a successful resolution is evicted, the
+ * mapper of its pair also drops the key it indexed the resolution by. Caffeine
+ * serves reads without locking and performs eviction in amortized
+ * maintenance, so bounding the caches does not add contention on hot
+ * keys.</p>
+ *
+ * <p>When statistics are recorded, the successful resolutions of all pairs
+ * share one set of statistics, which also records the time spent resolving
+ * uncached paths as load time. Statistics are exposed through
+ * {@link #getSuccessfulResolutionStats()} and
+ * {@link #getFailedResolutionStats()}.</p>
  */
 public class DTOToEntityPathMapperFactory {
 
+	/**
+	 * Cached mappers indexed by entity class and then by DTO class when caching
+	 * is enabled.
+	 */
+	@Nullable
+	private final ClassValue<ConcurrentMap<Class<?>, CachedDTOToEntityPathMapper>> cachedMappers;
+
 	/**
 	 * Shared cache of successful path resolutions when caching is enabled.
 	 */
 	@Nullable
-	private final ConcurrentMap<CacheKey, MappingResult> successfulResolutions;
+	private final Cache<CacheKey, MappingResult> successfulResolutions;
 
 	/**
 	 * Shared cache of failed path resolutions when caching is enabled.
@@ -54,23 +92,150 @@ public class DTOToEntityPathMapperFactory {
 	@Nullable
 	private final Striped<Lock> stripedLock;
 
+	/**
+	 * Statistics of the successful resolutions cache, which also record the
+	 * outcome and duration of uncached resolutions.
+	 */
+	private final StatsCounter successfulResolutionStats;
+
 	/**
 	 * Whether new mappers should use the shared caches.
 	 */
 	private final boolean cachingEnabled;
 
 	/**
-	 * Creates a factory that produces cached mappers.
+	 * Resolver new mappers use to validate entity paths against the JPA
+	 * metamodel, or {@code null} if entity paths are resolved reflectively.
+	 */
+	@Nullable
+	private final MetamodelEntityPathResolver entityPathResolver;
+
+	/**
+	 * Whether new mappers reject unknown DTO paths with stackless exceptions.
+	 */
+	private final boolean stacklessRejections;
+
+	/**
+	 * Creates a factory that produces cached mappers resolving entity paths
+	 * reflectively.
 	 *
 	 * @param failedResolutionsMaxCapacity maximum cached failed resolutions
 	 * @param lockStripeCount number of striped locks used during cache fills
 	 */
 	public DTOToEntityPathMapperFactory(int failedResolutionsMaxCapacity, int lockStripeCount) {
+		this(failedResolutionsMaxCapacity, lockStripeCount, null);
+	}
+
+	/**
+	 * Creates a factory that produces cached mappers with unbounded successful
+	 * resolutions, no expiry and no statistics.
+	 *
+	 * @param failedResolutionsMaxCapacity maximum cached failed resolutions
+	 * @param lockStripeCount number of striped locks used during cache fills
+	 * @param entityPathResolver metamodel resolver used to validate entity
+	 * paths of managed entities, or {@code null} to resolve them reflectively
+	 */
+	public DTOToEntityPathMapperFactory(
+			int failedResolutionsMaxCapacity,
+			int lockStripeCount,
+			@Nullable MetamodelEntityPathResolver entityPathResolver
+	) {
+		this(failedResolutionsMaxCapacity, lockStripeCount, entityPathResolver, -1, -1, null, false);
+	}
+
+	/**
+	 * Creates a factory that produces cached mappers.
+	 *
+	 * @param failedResolutionsMaxCapacity maximum cached failed resolutions,
+	 * used when {@code failedResolutionsMaxWeight} is negative
+	 * @param lockStripeCount number of striped locks used during cache fills
+	 * @param entityPathResolver metamodel resolver used to validate entity
+	 * paths of managed entities, or {@code null} to resolve them reflectively
+	 * @param successfulResolutionsMaxWeight maximum total weight of the
+	 * successful resolutions cached for all entity/DTO pairs, or a negative
+	 * value for no bound
+	 * @param failedResolutionsMaxWeight maximum weight of the cached failed
+	 * resolutions, or a negative value to bound them by
+	 * {@code failedResolutionsMaxCapacity} instead
+	 * @param expireAfterAccess duration after which cached entries that have
+	 * not been accessed expire, or {@code null} if entries do not expire
+	 * @param recordStats whether cache statistics are recorded
+	 */
+	public DTOToEntityPathMapperFactory(
+			int failedResolutionsMaxCapacity,
+			int lockStripeCount,
+			@Nullable MetamodelEntityPathResolver entityPathResolver,
+			long successfulResolutionsMaxWeight,
+			long failedResolutionsMaxWeight,
+			@Nullable Duration expireAfterAccess,
+			boolean recordStats
+	) {
+		this(
+				failedResolutionsMaxCapacity, lockStripeCount, entityPathResolver,
+				successfulResolutionsMaxWeight, failedResolutionsMaxWeight, expireAfterAccess, recordStats, false
+		);
+	}
+
+	/**
+	 * Creates a factory that produces cached mappers, optionally rejecting
+	 * unknown DTO paths with stackless exceptions.
+	 *
+	 * @param failedResolutionsMaxCapacity maximum cached failed resolutions,
+	 * used when {@code failedResolutionsMaxWeight} is negative
+	 * @param lockStripeCount number of striped locks used during cache fills
+	 * @param entityPathResolver metamodel resolver used to validate entity
+	 * paths of managed entities, or {@code null} to resolve them reflectively
+	 * @param successfulResolutionsMaxWeight maximum total weight of the
+	 * successful resolutions cached for all entity/DTO pairs, or a negative
+	 * value for no bound
+	 * @param failedResolutionsMaxWeight maximum weight of the cached failed
+	 * resolutions, or a negative value to bound them by
+	 * {@code failedResolutionsMaxCapacity} instead
+	 * @param expireAfterAccess duration after which cached entries that have
+	 * not been accessed expire, or {@code null} if entries do not expire
+	 * @param recordStats whether cache statistics are recorded
+	 * @param stacklessRejections whether unknown DTO paths are rejected with
+	 * stackless exceptions
+	 */
+	public DTOToEntityPathMapperFactory(
+			int failedResolutionsMaxCapacity,
+			int lockStripeCount,
+			@Nullable MetamodelEntityPathResolver entityPathResolver,
+			long successfulResolutionsMaxWeight,
+			long failedResolutionsMaxWeight,
+			@Nullable Duration expireAfterAccess,
+			boolean recordStats,
+			boolean stacklessRejections
+	) {
+		this.entityPathResolver = entityPathResolver;
+		this.stacklessRejections = stacklessRejections;
+		StatsCounter successfulResolutionStats = recordStats ? new ConcurrentStatsCounter() : StatsCounter.disabledStatsCounter();
+		this.successfulResolutionStats = successfulResolutionStats;
 		try {
-			this.successfulResolutions = new ConcurrentHashMap<>();
-			this.failedResolutions = Caffeine
-					.newBuilder()
-					.maximumSize(failedResolutionsMaxCapacity)
+			this.cachedMappers = new ClassValue<>() {
+
+				@Override
+				protected ConcurrentMap<Class<?>, CachedDTOToEntityPathMapper> computeValue(Class<?> entityClass) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+			Caffeine<CacheKey, MappingResult> successfulResolutionsBuilder = newCacheBuilder(expireAfterAccess)
+					.removalListener((@Nullable CacheKey cacheKey, @Nullable MappingResult result, RemovalCause cause) -> {
+						if (cacheKey != null && cause.wasEvicted()) forgetEvictedResolution(cacheKey);
+					});
+			if (recordStats) successfulResolutionsBuilder.recordStats(() -> successfulResolutionStats);
+			if (successfulResolutionsMaxWeight < 0) this.successfulResolutions = successfulResolutionsBuilder.build();
+			else this.successfulResolutions = successfulResolutionsBuilder
+					.maximumWeight(successfulResolutionsMaxWeight)
+					.weigher(DTOToEntityPathMapperFactory::weighSuccessfulResolution)
+					.build();
+			Caffeine<Object, Object> failedResolutionsBuilder = newCacheBuilder(expireAfterAccess);
+			if (recordStats) failedResolutionsBuilder.recordStats();
+			if (failedResolutionsMaxWeight < 0)
+				this.failedResolutions = failedResolutionsBuilder.maximumSize(failedResolutionsMaxCapacity).build();
+			else this.failedResolutions = failedResolutionsBuilder
+					.maximumWeight(failedResolutionsMaxWeight)
+					.weigher(DTOToEntityPathMapperFactory::weighFailedResolution)
 					.build();
 			this.stripedLock = Striped.lock(lockStripeCount);
 			this.cachingEnabled = true;
@@ -85,17 +250,52 @@ public class DTOToEntityPathMapperFactory {
 	}
 
 	/**
-	 * Creates a factory that produces uncached mappers.
+	 * Creates a factory that produces uncached mappers resolving entity paths
+	 * reflectively.
 	 */
 	public DTOToEntityPathMapperFactory() {
+		this(null);
+	}
+
+	/**
+	 * Creates a factory that produces uncached mappers.
+	 *
+	 * @param entityPathResolver metamodel resolver used to validate entity
+	 * paths of managed entities, or {@code null} to resolve them reflectively
+	 */
+	public DTOToEntityPathMapperFactory(@Nullable MetamodelEntityPathResolver entityPathResolver) {
+		this(entityPathResolver, false);
+	}
+
+	/**
+	 * Creates a factory that produces uncached mappers, optionally rejecting
+	 * unknown DTO paths with stackless exceptions.
+	 *
+	 * @param entityPathResolver metamodel resolver used to validate entity
+	 * paths of managed entities, or {@code null} to resolve them reflectively
+	 * @param stacklessRejections whether unknown DTO paths are rejected with
+	 * stackless exceptions
+	 */
+	public DTOToEntityPathMapperFactory(
+			@Nullable MetamodelEntityPathResolver entityPathResolver,
+			boolean stacklessRejections
+	) {
+		this.cachedMappers = null;
 		this.successfulResolutions = null;
 		this.failedResolutions = null;
 		this.stripedLock = null;
+		this.successfulResolutionStats = StatsCounter.disabledStatsCounter();
 		this.cachingEnabled = false;
+		this.entityPathResolver = entityPathResolver;
+		this.stacklessRejections = stacklessRejections;
 	}
 
 	/**
-	 * Creates a mapper for the supplied entity/DTO pair.
+	 * Returns a mapper for the supplied entity/DTO pair.
+	 *
+	 * <p>With caching enabled, the mapper is created on the first request for
+	 * the pair and the same instance is returned afterwards. Without caching,
+	 * a new mapper is created on every call.</p>
 	 *
 	 * @param entityClass entity type used for query construction
 	 * @param dtoClass DTO type exposed to callers
@@ -105,8 +305,120 @@ public class DTOToEntityPathMapperFactory {
 	@SuppressWarnings({"DataFlowIssue", "NullAway"})
 	public DTOToEntityPathMapper newMapper(@NonNull Class<?> entityClass, @NonNull Class<?> dtoClass) {
 		if (cachingEnabled) {
-			return new CachedDTOToEntityPathMapper(entityClass, dtoClass, successfulResolutions, failedResolutions, stripedLock);
+			ConcurrentMap<Class<?>, CachedDTOToEntityPathMapper> mappersByDTOClass = cachedMappers.get(entityClass);
+			CachedDTOToEntityPathMapper mapper = mappersByDTOClass.get(dtoClass);
+			if (mapper != null) return mapper;
+			return mappersByDTOClass.computeIfAbsent(dtoClass, ignored -> new CachedDTOToEntityPathMapper(
+					entityClass, dtoClass,
+					successfulResolutions, successfulResolutionStats,
+					failedResolutions, stripedLock, entityPathResolver, stacklessRejections
+			));
 		}
-		return new DTOToEntityPathMapper(entityClass, dtoClass);
+		return new DTOToEntityPathMapper(entityClass, dtoClass, entityPathResolver, stacklessRejections);
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of successful resolutions,
+	 * aggregated over all entity/DTO pairs.
+	 *
+	 * <p>Hits and misses count lookups of successful resolutions. Loads count
+	 * resolutions of uncached paths: a load success is a resolution that was
+	 * cached as successful, a load failure one that was cached as failed, and
+	 * the load time is the time spent resolving them.</p>
+	 *
+	 * @return successful resolution statistics, or empty statistics if caching
+	 * is disabled or statistics are not recorded
+	 */
+	public CacheStats getSuccessfulResolutionStats() {
+		return successfulResolutionStats.snapshot();
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of the failed resolutions cache.
+	 *
+	 * @return failed resolution statistics, or empty statistics if caching is
+	 * disabled or statistics are not recorded
+	 */
+	public CacheStats getFailedResolutionStats() {
+		return failedResolutions == null ? CacheStats.empty() : failedResolutions.stats();
+	}
+
+	/**
+	 * Returns the approximate number of cached successful resolutions,
+	 * aggregated over all entity/DTO pairs.
+	 *
+	 * @return estimated number of cached successful resolutions
+	 */
+	public long getSuccessfulResolutionCount() {
+		return successfulResolutions == null ? 0 : successfulResolutions.estimatedSize();
+	}
+
+	/**
+	 * Returns the approximate number of cached failed resolutions.
+	 *
+	 * @return estimated number of cached failed resolutions
+	 */
+	public long getFailedResolutionCount() {
+		return failedResolutions == null ? 0 : failedResolutions.estimatedSize();
+	}
+
+	/**
+	 * Performs the pending maintenance of the caches, such as evictions.
+	 */
+	void cleanUp() {
+		if (successfulResolutions != null) successfulResolutions.cleanUp();
+		if (failedResolutions != null) failedResolutions.cleanUp();
+	}
+
+	/**
+	 * Drops the key of an evicted successful resolution from the mapper of
+	 * its entity/DTO pair.
+	 *
+	 * @param cacheKey key of the evicted resolution
+	 */
+	@SuppressWarnings({"DataFlowIssue", "NullAway"})
+	private void forgetEvictedResolution(CacheKey cacheKey) {
+		CachedDTOToEntityPathMapper mapper = cachedMappers.get(cacheKey.getEntityClass()).get(cacheKey.getDtoClass());
+		if (mapper != null) mapper.forgetResolution(cacheKey);
+	}
+
+	/**
+	 * Creates a cache builder with the configured expiry.
+	 *
+	 * @param expireAfterAccess duration after which entries that have not
+	 * been accessed expire, or {@code null} if entries do not expire
+	 *
+	 * @return cache builder
+	 */
+	private static Caffeine<Object, Object> newCacheBuilder(@Nullable Duration expireAfterAccess) {
+		Caffeine<Object, Object> builder = Caffeine.newBuilder();
+		if (expireAfterAccess != null) builder.expireAfterAccess(expireAfterAccess);
+		return builder;
+	}
+
+	/**
+	 * Weighs a successful resolution by the length of the paths it retains.
+	 *
+	 * @param cacheKey successful resolution key
+	 * @param mappingResult resolved mapping
+	 *
+	 * @return entry weight
+	 */
+	private static int weighSuccessfulResolution(CacheKey cacheKey, MappingResult mappingResult) {
+		return cacheKey.getDtoPath().length() + mappingResult.getPath().length();
+	}
+
+	/**
+	 * Weighs a failed resolution by the length of its DTO path and error
+	 * message.
+	 *
+	 * @param cacheKey failed resolution key
+	 * @param ex resolution failure
+	 *
+	 * @return entry weight
+	 */
+	private static int weighFailedResolution(CacheKey cacheKey, RuntimeException ex) {
+		String message = ex.getMessage();
+		return cacheKey.getDtoPath().length() + (message == null ? 0 : message.length());
 	}
 }
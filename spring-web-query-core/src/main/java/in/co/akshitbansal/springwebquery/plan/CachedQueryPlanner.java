@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import in.co.akshitbansal.springwebquery.ast.RSQLCanonicalizer.CanonicalNode;
+import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.cost.DefaultQueryCostEstimator;
+import in.co.akshitbansal.springwebquery.cost.QueryCostEstimator;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryValidationException;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
+import lombok.*;
+import org.jspecify.annotations.Nullable;
+
+import java.text.MessageFormat;
+
+/**
+ * Cached {@link QueryPlanner} variant that memoizes successfully validated
+ * plans in a bounded cache.
+ *
+ * <p>Plans are cached at two levels, both keyed by a query string together
+ * with the entity type, DTO type, and every validation setting that influences
+ * the outcome:</p>
+ * <ul>
+ *   <li>the raw cache is keyed by the query string exactly as received, so a
+ *       repeated request skips parsing and validation completely</li>
+ *   <li>the canonical cache is keyed by the canonical query string, so a
+ *       logically identical query written differently is parsed and
+ *       canonicalized once but reuses the already validated plan</li>
+ * </ul>
+ *
+ * <p>Queries rejected with a stackless {@link QueryValidationException} can
+ * be remembered in a separate, bounded negative cache keyed like the raw
+ * cache. A repeated invalid query is then rejected by rethrowing the cached
+ * exception without parsing or validating it again. Only stackless rejections
+ * are cached, see {@link QueryValidationException#isStackless()}: they carry
+ * no stack trace that would go stale and have suppression disabled, so
+ * concurrent rethrows never accumulate suppressed exceptions on the shared
+ * instance. Rejections with a stack trace and configuration errors are never
+ * cached. The negative cache is disabled when its maximum size is zero.</p>
+ *
+ * <p>All caches are bounded by entry count and evict entries using Caffeine's
+ * size-based policy. Hit, miss, and eviction counts are recorded and exposed
+ * through {@link #getStats()}, {@link #getCanonicalStats()} and
+ * {@link #getRejectedStats()}.</p>
+ */
+public class CachedQueryPlanner extends QueryPlanner {
+
+	/**
+	 * Cache of previously validated plans keyed by raw query string.
+	 */
+	private final Cache<CacheKey, QueryPlan> planCache;
+
+	/**
+	 * Cache of previously validated plans keyed by canonical query string.
+	 */
+	private final Cache<CacheKey, QueryPlan> canonicalPlanCache;
+
+	/**
+	 * Cache of previously rejected queries keyed by raw query string, or
+	 * {@code null} if rejections are not cached.
+	 */
+	@Nullable
+	private final Cache<CacheKey, QueryValidationException> rejectedQueryCache;
+
+	/**
+	 * Creates a planner that caches up to {@code maxSize} validated plans at
+	 * each cache level without enforcing a query cost budget.
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 * @param maxSize maximum number of cached plans
+	 */
+	public CachedQueryPlanner(
+			@NonNull RSQLQueryParser rsqlParser,
+			@NonNull ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			long maxSize
+	) {
+		this(rsqlParser, validationRSQLVisitorFactory, new DefaultQueryCostEstimator(), Long.MAX_VALUE, maxSize);
+	}
+
+	/**
+	 * Creates a planner that caches up to {@code maxSize} validated plans at
+	 * each cache level and rejects queries whose estimated cost exceeds
+	 * {@code maxQueryCost}.
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 * @param queryCostEstimator estimator used to score validated trees
+	 * @param maxQueryCost maximum estimated cost accepted for a query
+	 * @param maxSize maximum number of cached plans
+	 */
+	public CachedQueryPlanner(
+			@NonNull RSQLQueryParser rsqlParser,
+			@NonNull ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			@NonNull QueryCostEstimator queryCostEstimator,
+			long maxQueryCost,
+			long maxSize
+	) {
+		this(rsqlParser, validationRSQLVisitorFactory, queryCostEstimator, maxQueryCost, maxSize, 0);
+	}
+
+	/**
+	 * Creates a planner that caches up to {@code maxSize} validated plans at
+	 * each cache level and up to {@code rejectedMaxSize} stackless rejections, and
+	 * rejects queries whose estimated cost exceeds {@code maxQueryCost}.
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 * @param queryCostEstimator estimator used to score validated trees
+	 * @param maxQueryCost maximum estimated cost accepted for a query
+	 * @param maxSize maximum number of cached plans
+	 * @param rejectedMaxSize maximum number of cached rejected queries, or
+	 * {@code 0} to disable the negative cache
+	 */
+	public CachedQueryPlanner(
+			@NonNull RSQLQueryParser rsqlParser,
+			@NonNull ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			@NonNull QueryCostEstimator queryCostEstimator,
+			long maxQueryCost,
+			long maxSize,
+			long rejectedMaxSize
+	) {
+		this(rsqlParser, validationRSQLVisitorFactory, queryCostEstimator, maxQueryCost, maxSize, rejectedMaxSize, false);
+	}
+
+	/**
+	 * Creates a planner that caches up to {@code maxSize} validated plans at
+	 * each cache level and up to {@code rejectedMaxSize} stackless rejections,
+	 * rejects queries whose estimated cost exceeds {@code maxQueryCost}, and
+	 * optionally rejects unparsable queries with stackless exceptions, which
+	 * makes them eligible for the negative cache.
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 * @param queryCostEstimator estimator used to score validated trees
+	 * @param maxQueryCost maximum estimated cost accepted for a query
+	 * @param maxSize maximum number of cached plans
+	 * @param rejectedMaxSize maximum number of cached rejected queries, or
+	 * {@code 0} to disable the negative cache
+	 * @param stacklessRejections whether queries that cannot be parsed are
+	 * rejected with stackless exceptions
+	 */
+	public CachedQueryPlanner(
+			@NonNull RSQLQueryParser rsqlParser,
+			@NonNull ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			@NonNull QueryCostEstimator queryCostEstimator,
+			long maxQueryCost,
+			long maxSize,
+			long rejectedMaxSize,
+			boolean stacklessRejections
+	) {
+		super(rsqlParser, validationRSQLVisitorFactory, queryCostEstimator, maxQueryCost, stacklessRejections);
+		try {
+			this.planCache = Caffeine
+					.newBuilder()
+					.maximumSize(maxSize)
+					.recordStats()
+					.build();
+			this.canonicalPlanCache = Caffeine
+					.newBuilder()
+					.maximumSize(maxSize)
+					.recordStats()
+					.build();
+			this.rejectedQueryCache = rejectedMaxSize == 0 ? null : Caffeine
+					.newBuilder()
+					.maximumSize(rejectedMaxSize)
+					.recordStats()
+					.build();
+		}
+		catch (Exception ex) {
+			throw new QueryConfigurationException(
+					MessageFormat.format(
+							"Failed to initialize query plan cache: {0}", ex.getMessage()
+					), ex
+			);
+		}
+	}
+
+	/**
+	 * Returns the cached plan for the supplied query contract, planning and
+	 * caching it on a miss.
+	 *
+	 * <p>On a raw cache miss the negative cache is consulted first, and a
+	 * cached rejection is rethrown. Otherwise the query is parsed and
+	 * canonicalized, and the canonical cache is consulted before running
+	 * validation. A stackless {@link QueryValidationException} raised while
+	 * planning is recorded in the negative cache before it propagates.</p>
+	 *
+	 * @param rsqlQuery RSQL filter expression
+	 * @param entityClass entity type that backs predicate creation
+	 * @param dtoClass DTO type exposed to callers for filtering
+	 * @param allowAndOperation whether logical {@code AND} is allowed
+	 * @param allowOrOperation whether logical {@code OR} is allowed
+	 * @param maxASTDepth maximum AST depth accepted during validation
+	 *
+	 * @return cached or freshly validated query plan
+	 *
+	 * @throws QueryValidationException if the query is invalid, possibly
+	 * rethrown from the negative cache
+	 */
+	@Override
+	public QueryPlan plan(
+			@NonNull String rsqlQuery, @NonNull Class<?> entityClass, @NonNull Class<?> dtoClass,
+			boolean allowAndOperation, boolean allowOrOperation, int maxASTDepth
+	) {
+		CacheKey cacheKey = CacheKey.of(rsqlQuery, entityClass, dtoClass, allowAndOperation, allowOrOperation, maxASTDepth);
+		return planCache.get(cacheKey, this::planUncached);
+	}
+
+	/**
+	 * Plans a query that missed the raw cache.
+	 *
+	 * <p>A rejection cached for the same key is rethrown. Otherwise the query
+	 * is parsed and canonicalized, and the plan is served from the canonical
+	 * cache or validated, recording a stackless validation failure in the
+	 * negative cache.</p>
+	 *
+	 * @param cacheKey raw cache key of the planning request
+	 *
+	 * @return cached or freshly validated query plan
+	 */
+	private QueryPlan planUncached(CacheKey cacheKey) {
+		if (rejectedQueryCache == null) return planFromCanonical(cacheKey);
+		QueryValidationException rejection = rejectedQueryCache.getIfPresent(cacheKey);
+		if (rejection != null) throw rejection;
+		try {
+			return planFromCanonical(cacheKey);
+		}
+		catch (QueryValidationException ex) {
+			if (ex.isStackless()) rejectedQueryCache.put(cacheKey, ex);
+			throw ex;
+		}
+	}
+
+	/**
+	 * Parses and canonicalizes a query, then serves its plan from the
+	 * canonical cache, validating it on a miss.
+	 *
+	 * @param cacheKey raw cache key of the planning request
+	 *
+	 * @return cached or freshly validated query plan
+	 */
+	private QueryPlan planFromCanonical(CacheKey cacheKey) {
+		CanonicalNode canonicalNode = parse(cacheKey.getRsqlQuery());
+		CacheKey canonicalKey = CacheKey.of(
+				canonicalNode.getQuery(),
+				cacheKey.getEntityClass(),
+				cacheKey.getDtoClass(),
+				cacheKey.isAllowAndOperation(),
+				cacheKey.isAllowOrOperation(),
+				cacheKey.getMaxASTDepth()
+		);
+		return canonicalPlanCache.get(canonicalKey, ignored -> validate(
+				canonicalNode,
+				canonicalKey.getEntityClass(),
+				canonicalKey.getDtoClass(),
+				canonicalKey.isAllowAndOperation(),
+				canonicalKey.isAllowOrOperation(),
+				canonicalKey.getMaxASTDepth()
+		));
+	}
+
+	/**
+	 * Returns a snapshot of the raw plan cache statistics.
+	 *
+	 * @return hit, miss, load, and eviction statistics of the raw plan cache
+	 */
+	public CacheStats getStats() {
+		return planCache.stats();
+	}
+
+	/**
+	 * Returns a snapshot of the canonical plan cache statistics.
+	 *
+	 * <p>Hits on this cache count raw cache misses that were served by a
+	 * logically identical, previously validated query.</p>
+	 *
+	 * @return hit, miss, load, and eviction statistics of the canonical plan cache
+	 */
+	public CacheStats getCanonicalStats() {
+		return canonicalPlanCache.stats();
+	}
+
+	/**
+	 * Returns the approximate number of entries in the raw plan cache.
+	 *
+	 * @return estimated raw plan cache size
+	 */
+	public long getEstimatedSize() {
+		return planCache.estimatedSize();
+	}
+
+	/**
+	 * Returns a snapshot of the negative cache statistics.
+	 *
+	 * <p>Hits on this cache count invalid queries rejected without being
+	 * parsed or validated again.</p>
+	 *
+	 * @return hit, miss, load, and eviction statistics of the negative cache,
+	 * or empty statistics if rejections are not cached
+	 */
+	public CacheStats getRejectedStats() {
+		return rejectedQueryCache == null ? CacheStats.empty() : rejectedQueryCache.stats();
+	}
+
+	/**
+	 * Cache key representing one planning request.
+	 */
+	@RequiredArgsConstructor(staticName = "of")
+	@Getter
+	@EqualsAndHashCode
+	@ToString
+	static class CacheKey {
+
+		/**
+		 * Raw or canonical RSQL query string, depending on the cache level.
+		 */
+		@NonNull
+		private final String rsqlQuery;
+
+		/**
+		 * Entity type that backs predicate creation.
+		 */
+		@NonNull
+		private final Class<?> entityClass;
+
+		/**
+		 * DTO type exposed to callers for filtering.
+		 */
+		@NonNull
+		private final Class<?> dtoClass;
+
+		/**
+		 * Whether logical {@code AND} is allowed.
+		 */
+		private final boolean allowAndOperation;
+
+		/**
+		 * Whether logical {@code OR} is allowed.
+		 */
+		private final boolean allowOrOperation;
+
+		/**
+		 * Maximum AST depth accepted during validation.
+		 */
+		private final int maxASTDepth;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.plan;
+
+import cz.jirutka.rsql.parser.ast.Node;
+import in.co.akshitbansal.springwebquery.program.FilterProgram;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * Immutable result of parsing, canonicalizing, and validating one RSQL query
+ * for a specific entity/DTO pair and validation configuration.
+ *
+ * <p>A plan contains everything that later predicate construction needs: the
+ * validated canonical abstract syntax tree, its canonical query string, the
+ * DTO-to-entity selector mappings that were collected while validating it, the
+ * {@link FilterProgram} compiled in the same pass, its estimated cost, and
+ * whether the filter was proven unsatisfiable. Because all parts are immutable, one plan instance can be
+ * shared across threads and reused for any number of count and content
+ * queries.</p>
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class QueryPlan {
+
+	/**
+	 * Root node of the validated RSQL abstract syntax tree.
+	 */
+	private final Node rootNode;
+
+	/**
+	 * Canonical query string identifying the validated tree.
+	 *
+	 * <p>Logically identical queries that differ only in operand order,
+	 * redundant grouping, or duplicated comparisons share the same value.</p>
+	 */
+	private final String canonicalQuery;
+
+	/**
+	 * Mapping of DTO selectors used in the query to resolved entity paths.
+	 */
+	private final Map<String, String> fieldMappings;
+
+	/**
+	 * Compiled filter program applied to every root the plan is used with.
+	 */
+	private final FilterProgram program;
+
+	/**
+	 * Estimated cost of the validated tree, suitable for logging and metrics.
+	 *
+	 * <p>The planner logs it together with the budget at {@code DEBUG}
+	 * level.</p>
+	 */
+	private final long cost;
+
+	/**
+	 * Whether the filter was statically proven never to match any row.
+	 *
+	 * <p>Callers may skip query execution entirely for unsatisfiable plans.</p>
+	 */
+	private final boolean unsatisfiable;
+
+	/**
+	 * Creates a plan from a validated tree and its selector mappings.
+	 *
+	 * @param rootNode root node of the validated tree
+	 * @param canonicalQuery canonical query string of the validated tree
+	 * @param fieldMappings DTO selector to entity path mappings, copied defensively
+	 * @param program filter program compiled from the validated tree
+	 * @param cost estimated cost of the validated tree
+	 * @param unsatisfiable whether the filter can never match any row
+	 */
+	QueryPlan(
+			@NonNull Node rootNode,
+			@NonNull String canonicalQuery,
+			@NonNull Map<String, String> fieldMappings,
+			@NonNull FilterProgram program,
+			long cost,
+			boolean unsatisfiable
+	) {
+		this.rootNode = rootNode;
+		this.canonicalQuery = canonicalQuery;
+		this.fieldMappings = Map.copyOf(fieldMappings);
+		this.program = program;
+		this.cost = cost;
+		this.unsatisfiable = unsatisfiable;
+	}
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.plan;
+
+import cz.jirutka.rsql.parser.RSQLParserException;
+import cz.jirutka.rsql.parser.ast.Node;
+import in.co.akshitbansal.springwebquery.ast.CompilingRSQLVisitor;
+import in.co.akshitbansal.springwebquery.ast.RSQLCanonicalizer;
+import in.co.akshitbansal.springwebquery.ast.RSQLCanonicalizer.CanonicalNode;
+import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.cost.DefaultQueryCostEstimator;
+import in.co.akshitbansal.springwebquery.cost.QueryCostEstimator;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryCostExceededException;
+import in.co.akshitbansal.springwebquery.exception.QueryException;
+import in.co.akshitbansal.springwebquery.exception.QueryValidationException;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
+import in.co.akshitbansal.springwebquery.program.ContradictionDetector;
+import in.co.akshitbansal.springwebquery.program.FilterProgram;
+import in.co.akshitbansal.springwebquery.program.FilterProgramOptimizer;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.MessageFormat;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parses and validates RSQL queries into reusable {@link QueryPlan} instances.
+ *
+ * <p>Planning consists of parsing the query string into an abstract syntax
+ * tree, normalizing that tree with a {@link RSQLCanonicalizer}, and walking the
+ * canonical tree once with a {@link CompilingRSQLVisitor} created for the
+ * supplied entity/DTO pair and validation settings, which validates the tree
+ * and compiles it into a {@link FilterProgram} in the same pass. The program is
+ * then rewritten by a {@link FilterProgramOptimizer}, restricted to the
+ * operators each DTO field allows. The resulting plan holds the canonical
+ * tree, its canonical query string, the selector mappings collected during
+ * validation, the optimized program, and the cost estimated by a
+ * {@link QueryCostEstimator}. The cost and budget of every planned query are
+ * logged at {@code DEBUG} level, and plans whose cost exceeds the configured
+ * budget are rejected before any SQL is issued. Plans whose filter a
+ * {@link ContradictionDetector} proves unsatisfiable are flagged, so callers
+ * can return an empty result without querying the database; callers report
+ * each database query skipped this way through
+ * {@link #recordAvoidedQueries(long)}.</p>
+ *
+ * <p>With stackless rejections enabled, queries that cannot be parsed are
+ * rejected with a stackless {@link QueryValidationException}, like the
+ * validation failures raised by the validators.</p>
+ *
+ * <p>This base implementation performs the full parse and validation on every
+ * call. See {@link CachedQueryPlanner} for a variant that memoizes plans.</p>
+ */
+@Slf4j
+public class QueryPlanner {
+
+	/**
+	 * Shared RSQL parser configured with the allowed operator set.
+	 */
+	private final RSQLQueryParser rsqlParser;
+
+	/**
+	 * Factory used to create validation visitors for parsed RSQL trees.
+	 */
+	private final ValidationRSQLVisitorFactory validationRSQLVisitorFactory;
+
+	/**
+	 * Canonicalizer applied to every parsed tree before validation.
+	 */
+	private final RSQLCanonicalizer canonicalizer = new RSQLCanonicalizer();
+
+	/**
+	 * Estimator used to score validated trees.
+	 */
+	private final QueryCostEstimator queryCostEstimator;
+
+	/**
+	 * Maximum estimated cost accepted for a query.
+	 */
+	private final long maxQueryCost;
+
+	/**
+	 * Whether queries that cannot be parsed are rejected with stackless
+	 * exceptions.
+	 */
+	private final boolean stacklessRejections;
+
+	/**
+	 * Optimizer applied to every compiled program.
+	 */
+	private final FilterProgramOptimizer optimizer = new FilterProgramOptimizer();
+
+	/**
+	 * Detector used to flag filters that can never match.
+	 */
+	private final ContradictionDetector contradictionDetector = new ContradictionDetector();
+
+	/**
+	 * Number of database queries skipped because their plan was unsatisfiable.
+	 */
+	private final LongAdder avoidedQueryCount = new LongAdder();
+
+	/**
+	 * Creates a planner that parses and validates on every call without
+	 * enforcing a query cost budget.
+	 *
+	 * <p>Costs are still estimated with a {@link DefaultQueryCostEstimator} and
+	 * exposed on the resulting plans.</p>
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 */
+	public QueryPlanner(@NonNull RSQLQueryParser rsqlParser, @NonNull ValidationRSQLVisitorFactory validationRSQLVisitorFactory) {
+		this(rsqlParser, validationRSQLVisitorFactory, new DefaultQueryCostEstimator(), Long.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a planner that parses and validates on every call and rejects
+	 * queries whose estimated cost exceeds {@code maxQueryCost}.
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 * @param queryCostEstimator estimator used to score validated trees
+	 * @param maxQueryCost maximum estimated cost accepted for a query
+	 *
+	 * @throws QueryConfigurationException if {@code maxQueryCost} is negative
+	 */
+	public QueryPlanner(
+			@NonNull RSQLQueryParser rsqlParser,
+			@NonNull ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			@NonNull QueryCostEstimator queryCostEstimator,
+			long maxQueryCost
+	) {
+		this(rsqlParser, validationRSQLVisitorFactory, queryCostEstimator, maxQueryCost, false);
+	}
+
+	/**
+	 * Creates a planner that parses and validates on every call, rejects
+	 * queries whose estimated cost exceeds {@code maxQueryCost}, and
+	 * optionally rejects unparsable queries with stackless exceptions.
+	 *
+	 * @param rsqlParser parser used to build abstract syntax trees
+	 * @param validationRSQLVisitorFactory factory used to create validation visitors
+	 * @param queryCostEstimator estimator used to score validated trees
+	 * @param maxQueryCost maximum estimated cost accepted for a query
+	 * @param stacklessRejections whether queries that cannot be parsed are
+	 * rejected with stackless exceptions
+	 *
+	 * @throws QueryConfigurationException if {@code maxQueryCost} is negative
+	 */
+	public QueryPlanner(
+			@NonNull RSQLQueryParser rsqlParser,
+			@NonNull ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			@NonNull QueryCostEstimator queryCostEstimator,
+			long maxQueryCost,
+			boolean stacklessRejections
+	) {
+		if (maxQueryCost < 0) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Invalid configuration for maximum query cost: {0}. The value must be non-negative.",
+					maxQueryCost
+			));
+		}
+		this.rsqlParser = rsqlParser;
+		this.validationRSQLVisitorFactory = validationRSQLVisitorFactory;
+		this.queryCostEstimator = queryCostEstimator;
+		this.maxQueryCost = maxQueryCost;
+		this.stacklessRejections = stacklessRejections;
+	}
+
+	/**
+	 * Parses and validates an RSQL query for the supplied query contract.
+	 *
+	 * @param rsqlQuery RSQL filter expression
+	 * @param entityClass entity type that backs predicate creation
+	 * @param dtoClass DTO type exposed to callers for filtering
+	 * @param allowAndOperation whether logical {@code AND} is allowed
+	 * @param allowOrOperation whether logical {@code OR} is allowed
+	 * @param maxASTDepth maximum AST depth accepted during validation
+	 *
+	 * @return validated query plan
+	 *
+	 * @throws QueryValidationException if the query cannot be parsed or
+	 * violates the configured validation rules
+	 * @throws QueryConfigurationException if validation fails because of
+	 * invalid configuration
+	 */
+	public QueryPlan plan(
+			@NonNull String rsqlQuery, @NonNull Class<?> entityClass, @NonNull Class<?> dtoClass,
+			boolean allowAndOperation, boolean allowOrOperation, int maxASTDepth
+	) {
+		CanonicalNode canonicalNode = parse(rsqlQuery);
+		return validate(canonicalNode, entityClass, dtoClass, allowAndOperation, allowOrOperation, maxASTDepth);
+	}
+
+	/**
+	 * Parses an RSQL query and normalizes the resulting tree into its
+	 * canonical form.
+	 *
+	 * @param rsqlQuery RSQL filter expression
+	 *
+	 * @return canonical tree together with its canonical query string
+	 *
+	 * @throws QueryValidationException if the query cannot be parsed
+	 */
+	protected CanonicalNode parse(@NonNull String rsqlQuery) {
+		try {
+			// Parse the RSQL query into an Abstract Syntax Tree (AST)
+			Node rootNode = rsqlParser.parse(rsqlQuery);
+			// Normalize the AST so logically identical queries share one form
+			return canonicalizer.canonicalize(rootNode);
+		}
+		catch (RSQLParserException ex) {
+			// Messages are concatenated rather than formatted to keep rejections cheap
+			String message = "Unable to parse RSQL query: " + rsqlQuery;
+			if (stacklessRejections) throw QueryValidationException.stackless(message, ex);
+			throw new QueryValidationException(message, ex);
+		}
+	}
+
+	/**
+	 * Validates a canonical tree for the supplied query contract.
+	 *
+	 * @param canonicalNode canonical tree produced by {@link #parse(String)}
+	 * @param entityClass entity type that backs predicate creation
+	 * @param dtoClass DTO type exposed to callers for filtering
+	 * @param allowAndOperation whether logical {@code AND} is allowed
+	 * @param allowOrOperation whether logical {@code OR} is allowed
+	 * @param maxASTDepth maximum AST depth accepted during validation
+	 *
+	 * @return validated query plan
+	 *
+	 * @throws QueryValidationException if the tree violates the configured
+	 * validation rules
+	 * @throws QueryCostExceededException if the estimated cost of the tree
+	 * exceeds the configured budget
+	 * @throws QueryConfigurationException if validation fails because of
+	 * invalid configuration
+	 */
+	protected QueryPlan validate(
+			@NonNull CanonicalNode canonicalNode, @NonNull Class<?> entityClass, @NonNull Class<?> dtoClass,
+			boolean allowAndOperation, boolean allowOrOperation, int maxASTDepth
+	) {
+		try {
+			CompilingRSQLVisitor visitor = validationRSQLVisitorFactory.newCompilingRSQLVisitor(
+					entityClass,
+					dtoClass,
+					allowAndOperation,
+					allowOrOperation,
+					maxASTDepth
+			);
+			Node rootNode = canonicalNode.getNode();
+			// Validate and compile the tree in a single traversal
+			FilterProgram program = visitor.compile(rootNode);
+			// Fold and merge redundant comparisons within each field's allowed operators
+			program = optimizer.optimize(program, visitor::isOperatorAllowed);
+			// Reject queries that are too expensive before any SQL is issued
+			long cost = queryCostEstimator.estimate(rootNode, entityClass, visitor.getMappingResults());
+			if (log.isDebugEnabled()) {
+				log.debug(
+						"Estimated cost {} of RSQL query against a budget of {}: {}",
+						cost, maxQueryCost, canonicalNode.getQuery()
+				);
+			}
+			if (cost > maxQueryCost) {
+				throw new QueryCostExceededException(
+						MessageFormat.format(
+								"RSQL query cost {0} exceeds the maximum allowed cost of {1}",
+								cost, maxQueryCost
+						), cost, maxQueryCost
+				);
+			}
+			// Flag filters that provably match nothing so execution can be skipped
+			boolean unsatisfiable = contradictionDetector.isUnsatisfiable(program);
+			return new QueryPlan(
+					rootNode, canonicalNode.getQuery(), visitor.getFieldMappings(), program, cost, unsatisfiable
+			);
+		}
+		catch (QueryException ex) {
+			throw ex;
+		}
+		catch (RuntimeException ex) {
+			throw new QueryConfigurationException(
+					MessageFormat.format(
+							"Failed to validate RSQL query: {0}", canonicalNode.getQuery()
+					), ex
+			);
+		}
+	}
+
+	/**
+	 * Records database queries that were skipped because their plan was
+	 * unsatisfiable.
+	 *
+	 * @param count number of skipped queries
+	 */
+	public void recordAvoidedQueries(long count) {
+		avoidedQueryCount.add(count);
+	}
+
+	/**
+	 * Returns the number of database queries skipped so far because their plan
+	 * was unsatisfiable. The starter publishes this total as the
+	 * {@code spring-web-query.avoided-queries} Micrometer counter.
+	 *
+	 * @return total number of avoided queries
+	 */
+	public long getAvoidedQueryCount() {
+		return avoidedQueryCount.sum();
+	}
+}
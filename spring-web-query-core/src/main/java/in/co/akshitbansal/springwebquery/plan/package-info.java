@@ -0,0 +1,9 @@
+/**
+ * Compiled query plans that capture a parsed and validated RSQL filter so that
+ * repeated requests can skip parsing and validation, with optional shared
+ * caching.
+ */
+@NullMarked
+package in.co.akshitbansal.springwebquery.plan;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import lombok.NonNull;
+import org.springframework.util.NumberUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.time.*;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Converts raw RSQL argument strings into values of an entity attribute type.
+ *
+ * <p>The converter covers the attribute types whose conversion is unambiguous:
+ * strings, primitives and their wrappers, {@link BigDecimal},
+ * {@link BigInteger}, {@link UUID}, enums, and the ISO-8601 {@code java.time}
+ * types. Conversion rules match those of the RSQL predicate converter, which
+ * relies on Spring's default string conversions, so that compiled and
+ * fallback comparisons accept exactly the same values: booleans accept
+ * {@code true}/{@code yes}/{@code on}/{@code 1} and
+ * {@code false}/{@code no}/{@code off}/{@code 0} in any case, numbers and
+ * enum constants are trimmed, numbers may be given in hexadecimal, and
+ * anything else is rejected rather than coerced.
+ * Applications can register conversions for additional types, such as
+ * {@link java.sql.Timestamp}, or replace a built-in conversion, through
+ * {@link #ArgumentConverter(Map)}. Types that are supported neither by default
+ * nor by a registered conversion are left to the RSQL predicate converter.</p>
+ *
+ * <p>Conversion runs once, while a query is planned, so converted values are
+ * cached together with the plan and malformed values are rejected before any
+ * database round trip.</p>
+ *
+ * <p>The converter is immutable and thread-safe as long as the registered
+ * conversion functions are.</p>
+ */
+public class ArgumentConverter {
+
+	/**
+	 * Conversion functions for the default set of supported non-enum types.
+	 */
+	private static final Map<Class<?>, Function<String, Object>> DEFAULT_CONVERTERS = createConverters();
+
+	/**
+	 * Conversion functions keyed by supported non-enum target type.
+	 */
+	private final Map<Class<?>, Function<String, ?>> converters;
+
+	/**
+	 * Creates a converter that supports the default set of types.
+	 */
+	public ArgumentConverter() {
+		this(Map.of());
+	}
+
+	/**
+	 * Creates a converter that supports the default set of types together with
+	 * additional conversions.
+	 *
+	 * <p>A registered conversion for a type that is supported by default
+	 * replaces the default conversion. Registered conversions also take
+	 * precedence over the built-in enum conversion.</p>
+	 *
+	 * @param customConverters additional conversion functions keyed by target type
+	 */
+	public ArgumentConverter(@NonNull Map<Class<?>, Function<String, ?>> customConverters) {
+		Map<Class<?>, Function<String, ?>> converters = new HashMap<>(DEFAULT_CONVERTERS);
+		converters.putAll(customConverters);
+		this.converters = Map.copyOf(converters);
+	}
+
+	/**
+	 * Returns whether values of the supplied type can be converted.
+	 *
+	 * @param type target attribute type
+	 *
+	 * @return {@code true} if {@link #convert(String, Class)} supports the type
+	 */
+	public boolean supports(@NonNull Class<?> type) {
+		return converters.containsKey(type) || type.isEnum();
+	}
+
+	/**
+	 * Converts a raw argument into a value of the supplied type.
+	 *
+	 * @param value raw argument string
+	 * @param type target attribute type, which must be supported
+	 *
+	 * @return converted value
+	 *
+	 * @throws RuntimeException if the value cannot be converted, typically an
+	 * {@link IllegalArgumentException} or a
+	 * {@link java.time.format.DateTimeParseException}
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public Object convert(@NonNull String value, @NonNull Class<?> type) {
+		Function<String, ?> converter = converters.get(type);
+		if (converter != null) return converter.apply(value);
+		if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, value.trim());
+		throw new IllegalArgumentException(MessageFormat.format(
+				"Unsupported argument type: {0}", type.getName()
+		));
+	}
+
+	/**
+	 * Creates the conversion functions for the default set of non-enum types.
+	 *
+	 * @return unmodifiable map of conversion functions keyed by target type
+	 */
+	private static Map<Class<?>, Function<String, Object>> createConverters() {
+		Map<Class<?>, Function<String, Object>> converters = new HashMap<>();
+		converters.put(String.class, value -> value);
+		converters.put(Boolean.class, ArgumentConverter::toBoolean);
+		converters.put(boolean.class, ArgumentConverter::toBoolean);
+		converters.put(Character.class, ArgumentConverter::toCharacter);
+		converters.put(char.class, ArgumentConverter::toCharacter);
+		converters.put(Byte.class, value -> NumberUtils.parseNumber(value, Byte.class));
+		converters.put(byte.class, value -> NumberUtils.parseNumber(value, Byte.class));
+		converters.put(Short.class, value -> NumberUtils.parseNumber(value, Short.class));
+		converters.put(short.class, value -> NumberUtils.parseNumber(value, Short.class));
+		converters.put(Integer.class, value -> NumberUtils.parseNumber(value, Integer.class));
+		converters.put(int.class, value -> NumberUtils.parseNumber(value, Integer.class));
+		converters.put(Long.class, value -> NumberUtils.parseNumber(value, Long.class));
+		converters.put(long.class, value -> NumberUtils.parseNumber(value, Long.class));
+		converters.put(Float.class, value -> NumberUtils.parseNumber(value, Float.class));
+		converters.put(float.class, value -> NumberUtils.parseNumber(value, Float.class));
+		converters.put(Double.class, value -> NumberUtils.parseNumber(value, Double.class));
+		converters.put(double.class, value -> NumberUtils.parseNumber(value, Double.class));
+		converters.put(BigDecimal.class, value -> NumberUtils.parseNumber(value, BigDecimal.class));
+		converters.put(BigInteger.class, value -> NumberUtils.parseNumber(value, BigInteger.class));
+		converters.put(UUID.class, UUID::fromString);
+		converters.put(LocalDate.class, LocalDate::parse);
+		converters.put(LocalDateTime.class, LocalDateTime::parse);
+		converters.put(LocalTime.class, LocalTime::parse);
+		converters.put(OffsetDateTime.class, OffsetDateTime::parse);
+		converters.put(ZonedDateTime.class, ZonedDateTime::parse);
+		converters.put(Instant.class, Instant::parse);
+		return Map.copyOf(converters);
+	}
+
+	/**
+	 * Converts a boolean keyword into a boolean, accepting the same keywords
+	 * as Spring's default string-to-boolean conversion.
+	 *
+	 * @param value raw argument string
+	 *
+	 * @return converted boolean
+	 *
+	 * @throws IllegalArgumentException if {@code value} is not a boolean
+	 * keyword
+	 */
+	private static Boolean toBoolean(String value) {
+		return switch (value.trim().toLowerCase(Locale.ROOT)) {
+			case "true", "on", "yes", "1" -> Boolean.TRUE;
+			case "false", "off", "no", "0" -> Boolean.FALSE;
+			default -> throw new IllegalArgumentException(MessageFormat.format(
+					"Invalid boolean value: {0}", value
+			));
+		};
+	}
+
+	/**
+	 * Converts a single-character string into a character.
+	 *
+	 * @param value raw argument string
+	 *
+	 * @return the only character of {@code value}
+	 *
+	 * @throws IllegalArgumentException if {@code value} is not exactly one
+	 * character long
+	 */
+	private static Character toCharacter(String value) {
+		if (value.length() != 1) {
+			throw new IllegalArgumentException(MessageFormat.format(
+					"Expected a single character but got: {0}", value
+			));
+		}
+		return value.charAt(0);
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Normalizes converted comparison arguments for static reasoning about
+ * filters.
+ *
+ * <p>Only values whose equality or ordering is the same in Java and in the
+ * database are normalized; every other value yields {@code null}, which
+ * callers treat as "cannot reason about this value".</p>
+ */
+final class ComparableValues {
+
+	/**
+	 * Value types whose equality in Java matches equality in the database.
+	 */
+	private static final Set<Class<?>> EQUATABLE_TYPES = Set.of(
+			Byte.class, Short.class, Integer.class, Long.class, BigInteger.class, BigDecimal.class,
+			Boolean.class, UUID.class,
+			LocalDate.class, LocalDateTime.class, LocalTime.class, Instant.class,
+			OffsetDateTime.class, ZonedDateTime.class, Timestamp.class
+	);
+
+	/**
+	 * Value types whose ordering in Java matches ordering in the database.
+	 */
+	private static final Set<Class<?>> ORDERABLE_TYPES = Set.of(
+			Byte.class, Short.class, Integer.class, Long.class, BigInteger.class, BigDecimal.class,
+			LocalDate.class, LocalDateTime.class, LocalTime.class, Instant.class,
+			OffsetDateTime.class, ZonedDateTime.class, Timestamp.class
+	);
+
+	private ComparableValues() {
+	}
+
+	/**
+	 * Normalizes a value for equality checks.
+	 *
+	 * <p>Strings are only normalized when they are plain ASCII, and are then
+	 * compared ignoring case and trailing spaces, so two strings with equal
+	 * normalized forms may be equal under the database collation while two
+	 * strings with different normalized forms never are.</p>
+	 *
+	 * @param value converted comparison argument
+	 *
+	 * @return normalized value, or {@code null} if the value cannot be
+	 * compared safely
+	 */
+	@Nullable
+	static Object normalizeForEquality(Object value) {
+		if (value instanceof String string) {
+			for (int idx = 0; idx < string.length(); idx++)
+				if (string.charAt(idx) > 0x7F) return null;
+			return string.stripTrailing().toUpperCase(Locale.ROOT);
+		}
+		if (value instanceof Enum<?>) return value;
+		if (!EQUATABLE_TYPES.contains(value.getClass())) return null;
+		return normalize(value);
+	}
+
+	/**
+	 * Normalizes a value for ordering checks.
+	 *
+	 * @param value converted comparison argument
+	 *
+	 * @return normalized comparable value, or {@code null} if the value cannot
+	 * be ordered safely
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static Comparable<Object> normalizeForOrdering(Object value) {
+		if (!ORDERABLE_TYPES.contains(value.getClass())) return null;
+		return (Comparable<Object>) normalize(value);
+	}
+
+	/**
+	 * Normalizes values whose {@code equals} is stricter than database
+	 * equality, such as decimals with different scales and equal instants in
+	 * different zones.
+	 *
+	 * @param value value to normalize
+	 *
+	 * @return normalized value
+	 */
+	private static Object normalize(Object value) {
+		if (value instanceof BigDecimal decimal) return decimal.stripTrailingZeros();
+		if (value instanceof Timestamp timestamp) return timestamp.toInstant();
+		if (value instanceof OffsetDateTime offsetDateTime) return offsetDateTime.toInstant();
+		if (value instanceof ZonedDateTime zonedDateTime) return zonedDateTime.toInstant();
+		return value;
+	}
+}
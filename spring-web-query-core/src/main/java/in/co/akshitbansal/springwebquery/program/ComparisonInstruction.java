@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled form of a validated comparison node.
+ *
+ * <p>A compiled comparison holds the entity path split into segments, the
+ * built-in operator to apply, and its arguments already converted to the type
+ * of the target attribute. For text operators the arguments are stored in
+ * their final form, with {@code %} wildcards added and case folded where the
+ * operator requires it, so applying the instruction performs no parsing or
+ * conversion at all.</p>
+ *
+ * <p>Comparisons that use a custom operator, or whose target attribute type
+ * has no built-in conversion, are compiled as fallback instructions. Those
+ * keep the original comparison node and are converted by the RSQL predicate
+ * converter when the program is applied.</p>
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class ComparisonInstruction implements FilterInstruction {
+
+	/**
+	 * Validated comparison node this instruction was compiled from.
+	 */
+	private final ComparisonNode node;
+
+	/**
+	 * Segments of the resolved entity path.
+	 */
+	private final List<String> pathSegments;
+
+	/**
+	 * Dotted prefixes of the resolved entity path, used to share joins.
+	 */
+	private final List<String> pathPrefixes;
+
+	/**
+	 * Built-in operator to apply, or {@code null} for fallback instructions.
+	 */
+	@Nullable
+	private final RSQLDefaultOperator operator;
+
+	/**
+	 * Converted arguments of the comparison, empty for fallback instructions
+	 * and null checks.
+	 */
+	private final List<Object> arguments;
+
+	/**
+	 * Creates a comparison instruction.
+	 *
+	 * @param node validated comparison node
+	 * @param entityPath resolved dotted entity path
+	 * @param operator built-in operator to apply, or {@code null} for fallback
+	 * @param arguments converted arguments, copied defensively
+	 */
+	private ComparisonInstruction(
+			ComparisonNode node,
+			String entityPath,
+			@Nullable RSQLDefaultOperator operator,
+			List<?> arguments
+	) {
+		this.node = node;
+		this.pathSegments = List.of(entityPath.split("\\."));
+		List<String> prefixes = new ArrayList<>(pathSegments.size());
+		for (int idx = 0; idx < pathSegments.size(); idx++)
+			prefixes.add(idx == 0 ? pathSegments.get(0) : prefixes.get(idx - 1) + "." + pathSegments.get(idx));
+		this.pathPrefixes = List.copyOf(prefixes);
+		this.operator = operator;
+		this.arguments = List.copyOf(arguments);
+	}
+
+	/**
+	 * Creates an instruction for a comparison on a built-in operator.
+	 *
+	 * @param node validated comparison node
+	 * @param entityPath resolved dotted entity path
+	 * @param operator built-in operator to apply
+	 * @param arguments arguments converted to the attribute type, in final form
+	 *
+	 * @return compiled comparison instruction
+	 */
+	public static ComparisonInstruction compiled(
+			@NonNull ComparisonNode node,
+			@NonNull String entityPath,
+			@NonNull RSQLDefaultOperator operator,
+			@NonNull List<?> arguments
+	) {
+		return new ComparisonInstruction(node, entityPath, operator, arguments);
+	}
+
+	/**
+	 * Creates an instruction that delegates to the RSQL predicate converter.
+	 *
+	 * @param node validated comparison node
+	 * @param entityPath resolved dotted entity path
+	 *
+	 * @return fallback comparison instruction
+	 */
+	public static ComparisonInstruction fallback(@NonNull ComparisonNode node, @NonNull String entityPath) {
+		return new ComparisonInstruction(node, entityPath, null, List.of());
+	}
+
+	/**
+	 * Returns whether this instruction is converted by the RSQL predicate
+	 * converter rather than compiled.
+	 *
+	 * @return {@code true} for fallback instructions
+	 */
+	public boolean isFallback() {
+		return operator == null;
+	}
+
+	@Override
+	public Predicate toPredicate(@NonNull FilterContext context) {
+		RSQLDefaultOperator operator = this.operator;
+		if (operator == null) return context.fallback(node, pathSegments, pathPrefixes);
+		Path<?> path = context.getPath(pathSegments, pathPrefixes);
+		return toPredicate(operator, path, context.getCriteriaBuilder());
+	}
+
+	/**
+	 * Builds the predicate of a built-in operator on a resolved path.
+	 *
+	 * @param operator built-in operator to apply
+	 * @param path resolved attribute path
+	 * @param cb criteria builder of the query being built
+	 *
+	 * @return predicate equivalent to the comparison
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Predicate toPredicate(RSQLDefaultOperator operator, Path path, CriteriaBuilder cb) {
+		return switch (operator) {
+			case EQUAL -> cb.equal(path, arguments.get(0));
+			case NOT_EQUAL -> cb.notEqual(path, arguments.get(0));
+			case GREATER_THAN -> cb.greaterThan(path, (Comparable) arguments.get(0));
+			case GREATER_THAN_OR_EQUAL -> cb.greaterThanOrEqualTo(path, (Comparable) arguments.get(0));
+			case LESS_THAN -> cb.lessThan(path, (Comparable) arguments.get(0));
+			case LESS_THAN_OR_EQUAL -> cb.lessThanOrEqualTo(path, (Comparable) arguments.get(0));
+			case IN -> path.in(arguments);
+			case NOT_IN -> cb.not(path.in(arguments));
+			case IS_NULL -> cb.isNull(path);
+			case NOT_NULL -> cb.isNotNull(path);
+			case LIKE -> cb.like(asString(path), (String) arguments.get(0));
+			case NOT_LIKE -> cb.notLike(asString(path), (String) arguments.get(0));
+			case IGNORE_CASE -> cb.equal(cb.upper(asString(path)), arguments.get(0));
+			case IGNORE_CASE_LIKE -> cb.like(cb.upper(asString(path)), (String) arguments.get(0));
+			case IGNORE_CASE_NOT_LIKE -> cb.notLike(cb.upper(asString(path)), (String) arguments.get(0));
+			case BETWEEN -> cb.between(path, (Comparable) arguments.get(0), (Comparable) arguments.get(1));
+			case NOT_BETWEEN -> cb.not(cb.between(path, (Comparable) arguments.get(0), (Comparable) arguments.get(1)));
+		};
+	}
+
+	/**
+	 * Views a path as a string expression for text operators.
+	 *
+	 * @param path resolved attribute path
+	 *
+	 * @return the path itself for string attributes, otherwise a string cast
+	 */
+	@SuppressWarnings("unchecked")
+	private Expression<String> asString(Path<?> path) {
+		if (String.class.equals(path.getJavaType())) return (Expression<String>) path;
+		return path.as(String.class);
+	}
+}
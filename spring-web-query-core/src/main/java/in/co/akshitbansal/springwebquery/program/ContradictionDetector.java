@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static in.co.akshitbansal.springwebquery.program.ComparableValues.normalizeForEquality;
+import static in.co.akshitbansal.springwebquery.program.ComparableValues.normalizeForOrdering;
+
+/**
+ * Statically detects compiled filters that can never match any row.
+ *
+ * <p>Filters such as {@code status==A;status==B}, {@code age>50;age<10}, or
+ * {@code name=isnull=true;name==John} are unsatisfiable, yet executing them
+ * still costs a count and a content query. The detector inspects the
+ * conjunctions of a {@link FilterProgram} and reports a program as
+ * unsatisfiable when it can prove that no value of some entity path satisfies
+ * all comparisons on that path:</p>
+ * <ul>
+ *   <li>{@code =null=} combined with any other comparison except
+ *       {@code =null=} itself, since SQL comparisons never match
+ *       {@code NULL}</li>
+ *   <li>equality and membership comparisons whose value sets do not
+ *       intersect, or whose values are all excluded by {@code !=},
+ *       {@code =out=}, or range bounds</li>
+ *   <li>lower and upper bounds from {@code >}, {@code >=}, {@code <},
+ *       {@code <=}, and {@code =between=} that leave an empty range</li>
+ * </ul>
+ *
+ * <p>An {@code OR} is unsatisfiable only when every branch is, and an
+ * {@code AND} is unsatisfiable when any child is or when its direct comparison
+ * children contradict each other. Comparisons on the same entity path within
+ * one conjunction share a single join when the program is applied, so
+ * comparisons on collection paths constrain the same joined row.</p>
+ *
+ * <p>The analysis is deliberately conservative: it only reasons about values
+ * whose equality and ordering are the same in Java and in the database.
+ * Strings are compared for equality only when they are plain ASCII, after
+ * ignoring case and trailing spaces, and never for ordering or exclusion, so
+ * case- and pad-insensitive collations cannot turn a reported contradiction
+ * into a match. Fallback comparisons are ignored. A program reported as
+ * satisfiable may therefore still match nothing, but a program reported as
+ * unsatisfiable never matches anything.</p>
+ *
+ * <p>The detector is stateless and thread-safe.</p>
+ */
+public class ContradictionDetector {
+
+	/**
+	 * Returns whether a compiled program can be proven never to match.
+	 *
+	 * @param program compiled filter program
+	 *
+	 * @return {@code true} if the program is unsatisfiable
+	 */
+	public boolean isUnsatisfiable(@NonNull FilterProgram program) {
+		return isUnsatisfiable(program.getRootInstruction());
+	}
+
+	/**
+	 * Returns whether an instruction can be proven never to match.
+	 *
+	 * @param instruction compiled instruction
+	 *
+	 * @return {@code true} if the instruction is unsatisfiable
+	 */
+	private boolean isUnsatisfiable(FilterInstruction instruction) {
+		if (instruction instanceof LogicalInstruction logicalInstruction) {
+			List<FilterInstruction> children = logicalInstruction.getChildren();
+			if (logicalInstruction.getOperator() == LogicalOperator.OR)
+				return children.stream().allMatch(this::isUnsatisfiable);
+			return isUnsatisfiableConjunction(children);
+		}
+		return isUnsatisfiableConjunction(List.of(instruction));
+	}
+
+	/**
+	 * Returns whether a conjunction of instructions can be proven never to
+	 * match.
+	 *
+	 * @param instructions conjoined instructions
+	 *
+	 * @return {@code true} if the conjunction is unsatisfiable
+	 */
+	private boolean isUnsatisfiableConjunction(List<FilterInstruction> instructions) {
+		Map<String, PathConstraint> constraints = new HashMap<>();
+		for (FilterInstruction instruction: instructions) {
+			if (instruction instanceof ComparisonInstruction comparison) {
+				if (comparison.isFallback()) continue;
+				List<String> prefixes = comparison.getPathPrefixes();
+				String path = prefixes.get(prefixes.size() - 1);
+				PathConstraint constraint = constraints.computeIfAbsent(path, ignored -> new PathConstraint());
+				if (!constraint.add(comparison)) return true;
+			}
+			else if (isUnsatisfiable(instruction)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Accumulated constraints on a single entity path within one conjunction.
+	 */
+	private static class PathConstraint {
+
+		/**
+		 * Whether the path must be {@code NULL}.
+		 */
+		private boolean mustBeNull;
+
+		/**
+		 * Whether any comparison requires a non-null value.
+		 */
+		private boolean mustBeNonNull;
+
+		/**
+		 * Values the path may take, or {@code null} if unconstrained.
+		 */
+		@Nullable
+		private Set<Object> allowedValues;
+
+		/**
+		 * Values the path may not take.
+		 */
+		private final Set<Object> excludedValues = new HashSet<>();
+
+		/**
+		 * Raw values in {@link #allowedValues} keyed by normalized value, used
+		 * to apply range bounds.
+		 */
+		private final Map<Object, Object> rawAllowedValues = new HashMap<>();
+
+		/**
+		 * Greatest lower bound, or {@code null} if unbounded.
+		 */
+		@Nullable
+		private Comparable<Object> lower;
+
+		/**
+		 * Whether {@link #lower} is inclusive.
+		 */
+		private boolean lowerInclusive;
+
+		/**
+		 * Least upper bound, or {@code null} if unbounded.
+		 */
+		@Nullable
+		private Comparable<Object> upper;
+
+		/**
+		 * Whether {@link #upper} is inclusive.
+		 */
+		private boolean upperInclusive;
+
+		/**
+		 * Adds a comparison to the constraint.
+		 *
+		 * @param comparison compiled comparison on this path
+		 *
+		 * @return {@code false} if the accumulated constraint became
+		 * unsatisfiable
+		 */
+		boolean add(ComparisonInstruction comparison) {
+			RSQLDefaultOperator operator = comparison.getOperator();
+			if (operator == null) return true;
+			List<Object> arguments = comparison.getArguments();
+			switch (operator) {
+				case IS_NULL -> mustBeNull = true;
+				case EQUAL, IN -> {
+					mustBeNonNull = true;
+					restrictTo(arguments);
+				}
+				case NOT_EQUAL, NOT_IN -> {
+					mustBeNonNull = true;
+					exclude(arguments);
+				}
+				case GREATER_THAN -> addLower(arguments.get(0), false);
+				case GREATER_THAN_OR_EQUAL -> addLower(arguments.get(0), true);
+				case LESS_THAN -> addUpper(arguments.get(0), false);
+				case LESS_THAN_OR_EQUAL -> addUpper(arguments.get(0), true);
+				case BETWEEN -> {
+					addLower(arguments.get(0), true);
+					addUpper(arguments.get(1), true);
+				}
+				default -> mustBeNonNull = true;
+			}
+			return isSatisfiable();
+		}
+
+		/**
+		 * Intersects the allowed values with the supplied values.
+		 *
+		 * @param values raw values of an equality or membership comparison
+		 */
+		private void restrictTo(List<Object> values) {
+			Map<Object, Object> normalized = new HashMap<>();
+			for (Object value: values) {
+				Object key = normalizeForEquality(value);
+				// A value that cannot be compared safely makes the whole comparison opaque
+				if (key == null) return;
+				normalized.putIfAbsent(key, value);
+			}
+			if (allowedValues == null) {
+				allowedValues = new HashSet<>(normalized.keySet());
+				rawAllowedValues.putAll(normalized);
+			}
+			else allowedValues.retainAll(normalized.keySet());
+		}
+
+		/**
+		 * Adds values to the excluded set.
+		 *
+		 * <p>Strings are never excluded, because two strings that are equal
+		 * ignoring case may still differ under a case-sensitive collation.</p>
+		 *
+		 * @param values raw values of an inequality or non-membership comparison
+		 */
+		private void exclude(List<Object> values) {
+			for (Object value: values) {
+				if (value instanceof String) continue;
+				Object key = normalizeForEquality(value);
+				if (key != null) excludedValues.add(key);
+			}
+		}
+
+		/**
+		 * Tightens the lower bound.
+		 *
+		 * @param value raw bound value
+		 * @param inclusive whether the bound is inclusive
+		 */
+		private void addLower(Object value, boolean inclusive) {
+			mustBeNonNull = true;
+			Comparable<Object> bound = normalizeForOrdering(value);
+			if (bound == null) return;
+			int cmp = lower == null ? 1 : bound.compareTo(lower);
+			if (cmp > 0 || (cmp == 0 && !inclusive)) {
+				lower = bound;
+				lowerInclusive = inclusive;
+			}
+		}
+
+		/**
+		 * Tightens the upper bound.
+		 *
+		 * @param value raw bound value
+		 * @param inclusive whether the bound is inclusive
+		 */
+		private void addUpper(Object value, boolean inclusive) {
+			mustBeNonNull = true;
+			Comparable<Object> bound = normalizeForOrdering(value);
+			if (bound == null) return;
+			int cmp = upper == null ? -1 : bound.compareTo(upper);
+			if (cmp < 0 || (cmp == 0 && !inclusive)) {
+				upper = bound;
+				upperInclusive = inclusive;
+			}
+		}
+
+		/**
+		 * Checks whether some value satisfies all accumulated constraints.
+		 *
+		 * @return {@code false} if the constraints are contradictory
+		 */
+		private boolean isSatisfiable() {
+			if (mustBeNull && mustBeNonNull) return false;
+			if (lower != null && upper != null) {
+				int cmp = lower.compareTo(upper);
+				if (cmp > 0 || (cmp == 0 && !(lowerInclusive && upperInclusive))) return false;
+			}
+			if (allowedValues == null) return true;
+			for (Object value: allowedValues) {
+				if (excludedValues.contains(value)) continue;
+				if (isWithinBounds(rawAllowedValues.get(value))) return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Checks whether a raw allowed value lies within the accumulated bounds.
+		 *
+		 * @param value raw allowed value
+		 *
+		 * @return {@code true} if the value is within bounds or cannot be ordered
+		 */
+		private boolean isWithinBounds(@Nullable Object value) {
+			if (value == null) return true;
+			Comparable<Object> comparable = normalizeForOrdering(value);
+			if (comparable == null) return true;
+			if (lower != null) {
+				int cmp = comparable.compareTo(lower);
+				if (cmp < 0 || (cmp == 0 && !lowerInclusive)) return false;
+			}
+			if (upper != null) {
+				int cmp = comparable.compareTo(upper);
+				return cmp < 0 || (cmp == 0 && upperInclusive);
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import io.github.perplexhub.rsql.RSQLCustomPredicate;
+import io.github.perplexhub.rsql.RSQLJPAPredicateConverter;
+import io.github.perplexhub.rsql.jsonb.JsonbConfiguration;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-application state used while turning a {@link FilterProgram} into a JPA
+ * predicate.
+ *
+ * <p>A context is created for every call to
+ * {@link FilterProgram#toPredicate(Root, CriteriaBuilder, List)} and is
+ * therefore confined to a single thread and a single criteria query. It
+ * resolves entity paths against the root and remembers every path it has
+ * produced, so comparisons that share a prefix such as {@code phones.number}
+ * and {@code phones.type} reuse a single join instead of joining the
+ * association twice.</p>
+ *
+ * <p>Attributes that the JPA metamodel reports as associations or collections
+ * are joined with an inner join, matching the default join behavior of the
+ * RSQL predicate converter previously used for every query. All other
+ * attributes are navigated with {@link Path#get(String)}. Fallback comparisons
+ * resolve their joins through the same paths and hand only the remaining
+ * attribute path to the converter, so a compiled and a fallback comparison on
+ * {@code phones} still share one join.</p>
+ */
+public final class FilterContext {
+
+	/**
+	 * Root against which all paths are resolved.
+	 */
+	@Getter
+	private final Root<?> root;
+
+	/**
+	 * Criteria builder of the query being built.
+	 */
+	@Getter
+	private final CriteriaBuilder criteriaBuilder;
+
+	/**
+	 * Custom predicates available to fallback comparisons.
+	 */
+	private final List<RSQLCustomPredicate<?>> customPredicates;
+
+	/**
+	 * Paths resolved so far, keyed by their dotted entity path prefix.
+	 */
+	private final Map<String, Path<?>> paths = new HashMap<>();
+
+	/**
+	 * Lazily created converter for comparisons that were not compiled.
+	 */
+	@Nullable
+	private RSQLJPAPredicateConverter fallbackConverter;
+
+	/**
+	 * Creates a context for one application of a filter program.
+	 *
+	 * @param root root against which paths are resolved
+	 * @param criteriaBuilder criteria builder of the query being built
+	 * @param customPredicates custom predicates available to fallback comparisons
+	 */
+	FilterContext(
+			@NonNull Root<?> root,
+			@NonNull CriteriaBuilder criteriaBuilder,
+			@NonNull List<RSQLCustomPredicate<?>> customPredicates
+	) {
+		this.root = root;
+		this.criteriaBuilder = criteriaBuilder;
+		this.customPredicates = customPredicates;
+	}
+
+	/**
+	 * Resolves an entity path, reusing joins and paths created earlier in the
+	 * same application.
+	 *
+	 * @param segments entity path segments, for example {@code [phones, phoneNumber]}
+	 * @param prefixes dotted path prefixes matching {@code segments}, for example
+	 * {@code [phones, phones.phoneNumber]}
+	 *
+	 * @return resolved JPA path of the last segment
+	 *
+	 * @throws IllegalArgumentException if a segment does not exist on the
+	 * entity model
+	 */
+	public Path<?> getPath(@NonNull List<String> segments, @NonNull List<String> prefixes) {
+		Path<?> current = root;
+		ManagedType<?> currentType = root.getModel();
+		for (int idx = 0; idx < segments.size(); idx++) {
+			String segment = segments.get(idx);
+			Attribute<?, ?> attribute = currentType == null ? null : currentType.getAttribute(segment);
+			Path<?> next = paths.get(prefixes.get(idx));
+			if (next == null) {
+				next = navigate(current, segment, attribute);
+				paths.put(prefixes.get(idx), next);
+			}
+			current = next;
+			currentType = nextManagedType(attribute);
+		}
+		return current;
+	}
+
+	/**
+	 * Builds the predicate of a comparison that was not compiled, using the
+	 * RSQL predicate converter.
+	 *
+	 * <p>The longest joined prefix of the entity path is resolved through
+	 * {@link #getPath(List, List)}, reusing the joins of compiled comparisons,
+	 * and the converter only navigates the rest of the path from that join.
+	 * The converter is created on first use and shared by all fallback
+	 * comparisons of this application.</p>
+	 *
+	 * @param node comparison node to convert
+	 * @param segments entity path segments of the comparison
+	 * @param prefixes dotted path prefixes matching {@code segments}
+	 *
+	 * @return predicate equivalent to the comparison
+	 */
+	public Predicate fallback(@NonNull ComparisonNode node, @NonNull List<String> segments, @NonNull List<String> prefixes) {
+		From<?, ?> start = root;
+		int consumed = 0;
+		for (int idx = segments.size() - 1; idx > 0; idx--) {
+			if (getPath(segments.subList(0, idx), prefixes.subList(0, idx)) instanceof From<?, ?> from) {
+				start = from;
+				consumed = idx;
+				break;
+			}
+		}
+		String selector = String.join(".", segments.subList(consumed, segments.size()));
+		ComparisonNode relativeNode = new ComparisonNode(node.getOperator(), selector, node.getArguments());
+		if (fallbackConverter == null) {
+			fallbackConverter = new RSQLJPAPredicateConverter(
+					criteriaBuilder,
+					// selectors are already mapped to entity paths
+					Map.of(),
+					customPredicates,
+					null,
+					null,
+					null,
+					// prevents wildcard parsing for string equality operator
+					// so that "name==John*" is treated as: name equals 'John*'
+					// rather than: name starts with 'John'
+					true,
+					null,
+					JsonbConfiguration.DEFAULT
+			);
+		}
+		return relativeNode.accept(fallbackConverter, start);
+	}
+
+	/**
+	 * Navigates one path segment, joining associations and collections.
+	 *
+	 * @param current path of the parent segment
+	 * @param segment name of the segment to navigate
+	 * @param attribute metamodel attribute of the segment, if known
+	 *
+	 * @return path of the segment
+	 */
+	private Path<?> navigate(Path<?> current, String segment, @Nullable Attribute<?, ?> attribute) {
+		boolean joinable = attribute != null && (attribute.isAssociation() || attribute.isCollection());
+		if (joinable && current instanceof From<?, ?> from) return from.join(segment);
+		return current.get(segment);
+	}
+
+	/**
+	 * Returns the managed type reached through an attribute, if any.
+	 *
+	 * @param attribute attribute being navigated
+	 *
+	 * @return managed type of the attribute's target, or {@code null} for
+	 * basic attributes
+	 */
+	@Nullable
+	private ManagedType<?> nextManagedType(@Nullable Attribute<?, ?> attribute) {
+		Type<?> type = null;
+		if (attribute instanceof PluralAttribute<?, ?, ?> pluralAttribute) type = pluralAttribute.getElementType();
+		else if (attribute instanceof SingularAttribute<?, ?> singularAttribute) type = singularAttribute.getType();
+		return type instanceof ManagedType<?> managedType ? managedType : null;
+	}
+}
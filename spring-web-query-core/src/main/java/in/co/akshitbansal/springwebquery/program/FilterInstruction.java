@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * One step of a compiled {@link FilterProgram}.
+ *
+ * <p>Instructions are immutable and hold only resolved, Criteria-independent
+ * data such as entity path segments and converted argument values. They are
+ * turned into JPA predicates against a concrete root through a
+ * {@link FilterContext}, which is created once per application of the
+ * program.</p>
+ *
+ * @see LogicalInstruction
+ * @see ComparisonInstruction
+ */
+public interface FilterInstruction {
+
+	/**
+	 * Builds the JPA predicate represented by this instruction.
+	 *
+	 * @param context per-application context that supplies the root, the
+	 * criteria builder, and shared joins
+	 *
+	 * @return predicate equivalent to this instruction
+	 */
+	Predicate toPredicate(FilterContext context);
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import io.github.perplexhub.rsql.RSQLCustomPredicate;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Criteria-independent, compiled form of a validated RSQL filter.
+ *
+ * <p>A program is produced in the same tree walk that validates the query and
+ * contains resolved entity paths, converted arguments, and operator handles
+ * instead of raw selectors and strings. Applying it to a root therefore takes
+ * a single cheap pass with no selector mapping, no argument parsing, and no
+ * per-call converter construction. Programs are immutable and can be applied
+ * to any number of roots and criteria builders, including concurrently, which
+ * lets the count and content queries of a paged request share one
+ * program.</p>
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class FilterProgram {
+
+	/**
+	 * Root instruction of the program.
+	 */
+	private final FilterInstruction rootInstruction;
+
+	/**
+	 * DTO selector to entity path mappings the program was compiled with.
+	 */
+	private final Map<String, String> fieldMappings;
+
+	/**
+	 * Creates a program from its root instruction.
+	 *
+	 * @param rootInstruction root instruction of the program
+	 * @param fieldMappings DTO selector to entity path mappings, copied defensively
+	 */
+	public FilterProgram(@NonNull FilterInstruction rootInstruction, @NonNull Map<String, String> fieldMappings) {
+		this.rootInstruction = rootInstruction;
+		this.fieldMappings = Map.copyOf(fieldMappings);
+	}
+
+	/**
+	 * Applies the program to a root.
+	 *
+	 * @param root root of the criteria query being built
+	 * @param cb criteria builder of the query being built
+	 * @param customPredicates custom predicates available to comparisons on
+	 * custom operators
+	 *
+	 * @return predicate equivalent to the compiled filter
+	 */
+	public Predicate toPredicate(
+			@NonNull Root<?> root,
+			@NonNull CriteriaBuilder cb,
+			@NonNull List<RSQLCustomPredicate<?>> customPredicates
+	) {
+		FilterContext context = new FilterContext(root, cb, customPredicates);
+		return rootInstruction.toPredicate(context);
+	}
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+
+import static in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator.*;
+import static in.co.akshitbansal.springwebquery.program.ComparableValues.normalizeForEquality;
+import static in.co.akshitbansal.springwebquery.program.ComparableValues.normalizeForOrdering;
+
+/**
+ * Rewrites compiled filter programs into equivalent programs with fewer
+ * comparisons.
+ *
+ * <p>Generated clients often send filters such as {@code type==A,type==B}
+ * instead of {@code type=in=(A,B)}, or {@code price>10;price>20;price<=100}
+ * instead of a single range. The optimizer rewrites every logical instruction
+ * bottom-up:</p>
+ * <ul>
+ *   <li>nested instructions with the same logical operator are flattened</li>
+ *   <li>in an {@code OR}, equality and membership comparisons on the same
+ *       selector are folded into a single {@code =in=}</li>
+ *   <li>in an {@code AND}, comparisons implied by another comparison on the
+ *       same selector are dropped, such as {@code =notnull=} next to any
+ *       other comparison, or {@code !=B} next to {@code ==A}</li>
+ *   <li>in an {@code AND}, range comparisons on the same selector are merged
+ *       into the tightest bounds, or into a single {@code =bt=} when both
+ *       bounds are inclusive</li>
+ * </ul>
+ *
+ * <p>Every rewrite that introduces an operator is checked against an
+ * {@link OperatorPolicy} and skipped when the DTO field does not allow that
+ * operator. Rewrites only compare values whose equality or ordering is the
+ * same in Java and in the database, and never touch fallback comparisons.
+ * Each rewritten comparison keeps the entity path of the comparisons it
+ * replaces, so the optimized program creates the same joins.</p>
+ *
+ * <p>The optimizer is stateless and thread-safe.</p>
+ */
+public class FilterProgramOptimizer {
+
+	/**
+	 * Operators merged into range bounds.
+	 */
+	private static final Set<RSQLDefaultOperator> RANGE_OPERATORS = EnumSet.of(
+			GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL, BETWEEN
+	);
+
+	/**
+	 * Operators folded into membership comparisons.
+	 */
+	private static final Set<RSQLDefaultOperator> EQUALITY_OPERATORS = EnumSet.of(EQUAL, IN);
+
+	/**
+	 * Optimizes a compiled program.
+	 *
+	 * @param program compiled filter program
+	 * @param operatorPolicy policy deciding which operators rewrites may use
+	 *
+	 * @return the optimized program, or {@code program} itself if no rewrite
+	 * applied
+	 */
+	public FilterProgram optimize(@NonNull FilterProgram program, @NonNull OperatorPolicy operatorPolicy) {
+		FilterInstruction rootInstruction = program.getRootInstruction();
+		FilterInstruction optimized = optimize(rootInstruction, operatorPolicy);
+		if (optimized.equals(rootInstruction)) return program;
+		return new FilterProgram(optimized, program.getFieldMappings());
+	}
+
+	/**
+	 * Optimizes an instruction and its children.
+	 *
+	 * @param instruction compiled instruction
+	 * @param operatorPolicy policy deciding which operators rewrites may use
+	 *
+	 * @return equivalent optimized instruction
+	 */
+	private FilterInstruction optimize(FilterInstruction instruction, OperatorPolicy operatorPolicy) {
+		if (!(instruction instanceof LogicalInstruction logicalInstruction)) return instruction;
+		LogicalOperator operator = logicalInstruction.getOperator();
+		List<FilterInstruction> children = new ArrayList<>();
+		for (FilterInstruction child: logicalInstruction.getChildren()) {
+			FilterInstruction optimizedChild = optimize(child, operatorPolicy);
+			// Splice children that collapsed into the same logical operator
+			if (optimizedChild instanceof LogicalInstruction nested && nested.getOperator() == operator)
+				children.addAll(nested.getChildren());
+			else children.add(optimizedChild);
+		}
+		if (operator == LogicalOperator.OR) children = foldEqualities(children, operatorPolicy);
+		else children = mergeRanges(dropImplied(children), operatorPolicy);
+		return children.size() == 1 ? children.get(0) : new LogicalInstruction(operator, children);
+	}
+
+	/**
+	 * Folds equality and membership comparisons of a disjunction into one
+	 * membership comparison per selector.
+	 *
+	 * @param children children of the disjunction
+	 * @param operatorPolicy policy deciding which operators rewrites may use
+	 *
+	 * @return rewritten children
+	 */
+	private List<FilterInstruction> foldEqualities(List<FilterInstruction> children, OperatorPolicy operatorPolicy) {
+		Map<FilterInstruction, List<FilterInstruction>> replacements = new IdentityHashMap<>();
+		for (List<ComparisonInstruction> group: groupBySelector(children, EQUALITY_OPERATORS).values()) {
+			if (group.size() < 2) continue;
+			// Collect the distinct values of the group, keeping their raw form
+			Map<Object, String> values = new LinkedHashMap<>();
+			for (ComparisonInstruction comparison: group) {
+				List<String> rawArguments = comparison.getNode().getArguments();
+				for (int idx = 0; idx < rawArguments.size(); idx++)
+					values.putIfAbsent(comparison.getArguments().get(idx), rawArguments.get(idx));
+			}
+			ComparisonInstruction template = group.get(0);
+			String selector = template.getNode().getSelector();
+			RSQLDefaultOperator operator = values.size() == 1 && operatorPolicy.isAllowed(selector, EQUAL) ? EQUAL : IN;
+			if (!operatorPolicy.isAllowed(selector, operator)) continue;
+			ComparisonInstruction folded = rewrite(
+					template, operator, new ArrayList<>(values.keySet()), new ArrayList<>(values.values())
+			);
+			replace(group, List.of(folded), replacements);
+		}
+		return applyReplacements(children, replacements);
+	}
+
+	/**
+	 * Drops comparisons of a conjunction that are implied by another
+	 * comparison on the same selector.
+	 *
+	 * @param children children of the conjunction
+	 *
+	 * @return rewritten children
+	 */
+	private List<FilterInstruction> dropImplied(List<FilterInstruction> children) {
+		Map<FilterInstruction, List<FilterInstruction>> replacements = new IdentityHashMap<>();
+		for (List<ComparisonInstruction> group: groupBySelector(children, EnumSet.allOf(RSQLDefaultOperator.class)).values()) {
+			for (ComparisonInstruction comparison: group)
+				if (isImplied(comparison, group)) replacements.put(comparison, List.of());
+		}
+		return applyReplacements(children, replacements);
+	}
+
+	/**
+	 * Checks whether a comparison is implied by another comparison of its
+	 * group.
+	 *
+	 * <p>Every comparison other than {@code =null=} and {@code =notnull=}
+	 * implies {@code =notnull=}, because SQL comparisons never match
+	 * {@code NULL}. An equality or membership comparison implies an inequality
+	 * or non-membership comparison whose values it can never take. Equality
+	 * and membership comparisons are never implied, so dropping several
+	 * comparisons of one group at once remains sound.</p>
+	 *
+	 * @param comparison comparison to check
+	 * @param group compiled comparisons on the same selector
+	 *
+	 * @return {@code true} if the comparison can be dropped
+	 */
+	private boolean isImplied(ComparisonInstruction comparison, List<ComparisonInstruction> group) {
+		RSQLDefaultOperator operator = comparison.getOperator();
+		if (operator == NOT_NULL) return group
+				.stream()
+				.anyMatch(other -> other.getOperator() != IS_NULL && other.getOperator() != NOT_NULL);
+		if (operator == NOT_EQUAL || operator == NOT_IN) return group
+				.stream()
+				.filter(other -> other.getOperator() == EQUAL || other.getOperator() == IN)
+				.anyMatch(other -> areDisjoint(other.getArguments(), comparison.getArguments()));
+		return false;
+	}
+
+	/**
+	 * Checks whether two value lists provably share no value.
+	 *
+	 * @param values first list of converted values
+	 * @param otherValues second list of converted values
+	 *
+	 * @return {@code true} if no value of one list can equal a value of the
+	 * other in the database
+	 */
+	private boolean areDisjoint(List<Object> values, List<Object> otherValues) {
+		Set<Object> normalized = new HashSet<>();
+		for (Object value: values) {
+			Object key = normalizeForEquality(value);
+			if (key == null) return false;
+			normalized.add(key);
+		}
+		for (Object value: otherValues) {
+			Object key = normalizeForEquality(value);
+			if (key == null || normalized.contains(key)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Merges the range comparisons of a conjunction into the tightest bounds
+	 * per selector.
+	 *
+	 * @param children children of the conjunction
+	 * @param operatorPolicy policy deciding which operators rewrites may use
+	 *
+	 * @return rewritten children
+	 */
+	private List<FilterInstruction> mergeRanges(List<FilterInstruction> children, OperatorPolicy operatorPolicy) {
+		Map<FilterInstruction, List<FilterInstruction>> replacements = new IdentityHashMap<>();
+		for (List<ComparisonInstruction> group: groupBySelector(children, RANGE_OPERATORS).values()) {
+			if (group.size() < 2) continue;
+			List<FilterInstruction> merged = mergeRange(group, operatorPolicy);
+			if (merged != null) replace(group, merged, replacements);
+		}
+		return applyReplacements(children, replacements);
+	}
+
+	/**
+	 * Merges range comparisons on one selector into the tightest bounds.
+	 *
+	 * @param group range comparisons on the same selector
+	 * @param operatorPolicy policy deciding which operators rewrites may use
+	 *
+	 * @return merged comparisons, or {@code null} if the group cannot be
+	 * merged into fewer comparisons
+	 */
+	@Nullable
+	private List<FilterInstruction> mergeRange(List<ComparisonInstruction> group, OperatorPolicy operatorPolicy) {
+		Bound lower = null;
+		Bound upper = null;
+		for (ComparisonInstruction comparison: group) {
+			RSQLDefaultOperator operator = comparison.getOperator();
+			if (operator == null) return null;
+			List<Object> arguments = comparison.getArguments();
+			List<String> rawArguments = comparison.getNode().getArguments();
+			Bound first = Bound.of(arguments.get(0), rawArguments.get(0), operator != GREATER_THAN && operator != LESS_THAN);
+			if (first == null) return null;
+			switch (operator) {
+				case GREATER_THAN, GREATER_THAN_OR_EQUAL -> lower = first.tighterLower(lower);
+				case LESS_THAN, LESS_THAN_OR_EQUAL -> upper = first.tighterUpper(upper);
+				default -> {
+					Bound second = Bound.of(arguments.get(1), rawArguments.get(1), true);
+					if (second == null) return null;
+					lower = first.tighterLower(lower);
+					upper = second.tighterUpper(upper);
+				}
+			}
+		}
+
+		ComparisonInstruction template = group.get(0);
+		String selector = template.getNode().getSelector();
+		List<FilterInstruction> merged = new ArrayList<>(2);
+		if (lower != null && upper != null && lower.inclusive() && upper.inclusive() && operatorPolicy.isAllowed(selector, BETWEEN)) {
+			merged.add(rewrite(
+					template, BETWEEN, List.of(lower.value(), upper.value()), List.of(lower.rawValue(), upper.rawValue())
+			));
+		}
+		else {
+			if (lower != null) {
+				RSQLDefaultOperator operator = lower.inclusive() ? GREATER_THAN_OR_EQUAL : GREATER_THAN;
+				if (!operatorPolicy.isAllowed(selector, operator)) return null;
+				merged.add(rewrite(template, operator, List.of(lower.value()), List.of(lower.rawValue())));
+			}
+			if (upper != null) {
+				RSQLDefaultOperator operator = upper.inclusive() ? LESS_THAN_OR_EQUAL : LESS_THAN;
+				if (!operatorPolicy.isAllowed(selector, operator)) return null;
+				merged.add(rewrite(template, operator, List.of(upper.value()), List.of(upper.rawValue())));
+			}
+		}
+		return merged.size() < group.size() ? merged : null;
+	}
+
+	/**
+	 * Groups the compiled comparisons of a logical instruction by selector.
+	 *
+	 * @param children children of the logical instruction
+	 * @param operators operators of the comparisons to group
+	 *
+	 * @return comparisons keyed by selector, in order of first appearance
+	 */
+	private Map<String, List<ComparisonInstruction>> groupBySelector(
+			List<FilterInstruction> children,
+			Set<RSQLDefaultOperator> operators
+	) {
+		Map<String, List<ComparisonInstruction>> groups = new LinkedHashMap<>();
+		for (FilterInstruction child: children) {
+			if (!(child instanceof ComparisonInstruction comparison)) continue;
+			RSQLDefaultOperator operator = comparison.getOperator();
+			if (operator == null || !operators.contains(operator)) continue;
+			groups
+					.computeIfAbsent(comparison.getNode().getSelector(), ignored -> new ArrayList<>())
+					.add(comparison);
+		}
+		return groups;
+	}
+
+	/**
+	 * Creates a compiled comparison on the selector and path of a template.
+	 *
+	 * @param template comparison whose selector and entity path are reused
+	 * @param operator operator of the new comparison
+	 * @param values converted arguments of the new comparison
+	 * @param rawValues raw arguments of the new comparison
+	 *
+	 * @return compiled comparison instruction
+	 */
+	private ComparisonInstruction rewrite(
+			ComparisonInstruction template,
+			RSQLDefaultOperator operator,
+			List<Object> values,
+			List<String> rawValues
+	) {
+		ComparisonNode node = new ComparisonNode(operator.getOperator(), template.getNode().getSelector(), rawValues);
+		String entityPath = String.join(".", template.getPathSegments());
+		return ComparisonInstruction.compiled(node, entityPath, operator, values);
+	}
+
+	/**
+	 * Records that a group of comparisons is replaced by new instructions at
+	 * the position of its first member.
+	 *
+	 * @param group comparisons being replaced
+	 * @param replacement instructions taking their place
+	 * @param replacements accumulated replacements keyed by instance
+	 */
+	private void replace(
+			List<ComparisonInstruction> group,
+			List<FilterInstruction> replacement,
+			Map<FilterInstruction, List<FilterInstruction>> replacements
+	) {
+		replacements.put(group.get(0), replacement);
+		for (int idx = 1; idx < group.size(); idx++) replacements.put(group.get(idx), List.of());
+	}
+
+	/**
+	 * Applies recorded replacements to a list of children.
+	 *
+	 * @param children original children
+	 * @param replacements replacements keyed by instance
+	 *
+	 * @return rewritten children, or {@code children} if nothing was replaced
+	 */
+	private List<FilterInstruction> applyReplacements(
+			List<FilterInstruction> children,
+			Map<FilterInstruction, List<FilterInstruction>> replacements
+	) {
+		if (replacements.isEmpty()) return children;
+		List<FilterInstruction> result = new ArrayList<>(children.size());
+		for (FilterInstruction child: children) result.addAll(replacements.getOrDefault(child, List.of(child)));
+		return result;
+	}
+
+	/**
+	 * Decides whether a rewrite may use an operator on a DTO selector.
+	 */
+	@FunctionalInterface
+	public interface OperatorPolicy {
+
+		/**
+		 * Returns whether the operator may be used on the selector.
+		 *
+		 * @param selector DTO selector of the rewritten comparison
+		 * @param operator operator the rewrite would introduce
+		 *
+		 * @return {@code true} if the operator is allowed
+		 */
+		boolean isAllowed(String selector, RSQLDefaultOperator operator);
+	}
+
+	/**
+	 * One bound of a range.
+	 *
+	 * @param key normalized comparable form of the bound
+	 * @param value converted bound value
+	 * @param rawValue raw bound value from the query
+	 * @param inclusive whether the bound is inclusive
+	 */
+	private record Bound(Comparable<Object> key, Object value, String rawValue, boolean inclusive) {
+
+		/**
+		 * Creates a bound from a converted value.
+		 *
+		 * @param value converted bound value
+		 * @param rawValue raw bound value from the query
+		 * @param inclusive whether the bound is inclusive
+		 *
+		 * @return the bound, or {@code null} if the value cannot be ordered safely
+		 */
+		@Nullable
+		static Bound of(Object value, String rawValue, boolean inclusive) {
+			Comparable<Object> key = normalizeForOrdering(value);
+			return key == null ? null : new Bound(key, value, rawValue, inclusive);
+		}
+
+		/**
+		 * Returns the tighter of this bound and the current lower bound.
+		 *
+		 * @param current current lower bound, or {@code null} if unbounded
+		 *
+		 * @return tighter lower bound
+		 */
+		Bound tighterLower(@Nullable Bound current) {
+			if (current == null) return this;
+			int cmp = key.compareTo(current.key);
+			return cmp > 0 || (cmp == 0 && !inclusive) ? this : current;
+		}
+
+		/**
+		 * Returns the tighter of this bound and the current upper bound.
+		 *
+		 * @param current current upper bound, or {@code null} if unbounded
+		 *
+		 * @return tighter upper bound
+		 */
+		Bound tighterUpper(@Nullable Bound current) {
+			if (current == null) return this;
+			int cmp = key.compareTo(current.key);
+			return cmp < 0 || (cmp == 0 && !inclusive) ? this : current;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Compiled form of a logical {@code AND} or {@code OR} node.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class LogicalInstruction implements FilterInstruction {
+
+	/**
+	 * Logical operator combining the children.
+	 */
+	private final LogicalOperator operator;
+
+	/**
+	 * Compiled children in evaluation order.
+	 */
+	private final List<FilterInstruction> children;
+
+	/**
+	 * Creates a logical instruction.
+	 *
+	 * @param operator logical operator combining the children
+	 * @param children compiled children, copied defensively
+	 */
+	public LogicalInstruction(@NonNull LogicalOperator operator, @NonNull List<FilterInstruction> children) {
+		this.operator = operator;
+		this.children = List.copyOf(children);
+	}
+
+	@Override
+	public Predicate toPredicate(@NonNull FilterContext context) {
+		Predicate[] predicates = new Predicate[children.size()];
+		for (int idx = 0; idx < predicates.length; idx++)
+			predicates[idx] = children.get(idx).toPredicate(context);
+		CriteriaBuilder cb = context.getCriteriaBuilder();
+		return operator == LogicalOperator.AND ? cb.and(predicates) : cb.or(predicates);
+	}
+}
@@ -0,0 +1,8 @@
+/**
+ * Compiled, Criteria-independent filter programs produced while validating RSQL
+ * queries and applied to any JPA root in a single pass.
+ */
+@NullMarked
+package in.co.akshitbansal.springwebquery.program;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Selection;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Describes a collection-valued part of a {@link WebQueryRepository}
+ * projection, such as the phone numbers of a user.
+ *
+ * <p>The collection is not joined into the paged parent query. Once the page of
+ * parents is known, the repository issues one additional query that joins the
+ * collection attribute for all parents of the page at once, restricted by an
+ * {@code IN} predicate on their identifiers. The rows of that query are
+ * converted to {@code elementClass} and grouped by parent, and each group is
+ * passed to the parent DTO as a {@link List} after the parent selections.
+ * Parents without elements receive an empty list.</p>
+ *
+ * @param <C> collection element DTO type
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CollectionProjection<C> {
+
+	/**
+	 * Dot-separated entity path of the collection attribute, relative to the
+	 * repository entity.
+	 */
+	private final String attributePath;
+
+	/**
+	 * Alias under which the grouped list is exposed to the parent DTO
+	 * conversion.
+	 */
+	private final String alias;
+
+	/**
+	 * Callback that defines the element selections relative to the collection
+	 * join.
+	 */
+	@ToString.Exclude
+	private final ElementSelectionsProvider selectionsProvider;
+
+	/**
+	 * DTO type each collection row is converted to.
+	 */
+	private final Class<C> elementClass;
+
+	/**
+	 * Creates a collection projection exposed under the last segment of its
+	 * attribute path.
+	 *
+	 * @param attributePath dot-separated entity path of the collection
+	 * attribute
+	 * @param selectionsProvider callback that defines the element selections
+	 * @param elementClass DTO type each collection row is converted to
+	 * @param <C> collection element DTO type
+	 *
+	 * @return collection projection
+	 */
+	public static <C> CollectionProjection<C> of(
+			@NonNull String attributePath,
+			@NonNull ElementSelectionsProvider selectionsProvider,
+			@NonNull Class<C> elementClass
+	) {
+		String alias = attributePath.substring(attributePath.lastIndexOf('.') + 1);
+		return of(attributePath, alias, selectionsProvider, elementClass);
+	}
+
+	/**
+	 * Creates a collection projection exposed under an explicit alias.
+	 *
+	 * <p>The alias matters for parent DTOs converted by alias, such as records
+	 * whose selections are all aliased or DTOs assembled from dotted aliases;
+	 * it must then name the list-typed component or field.</p>
+	 *
+	 * @param attributePath dot-separated entity path of the collection
+	 * attribute
+	 * @param alias alias of the grouped list
+	 * @param selectionsProvider callback that defines the element selections
+	 * @param elementClass DTO type each collection row is converted to
+	 * @param <C> collection element DTO type
+	 *
+	 * @return collection projection
+	 */
+	public static <C> CollectionProjection<C> of(
+			@NonNull String attributePath,
+			@NonNull String alias,
+			@NonNull ElementSelectionsProvider selectionsProvider,
+			@NonNull Class<C> elementClass
+	) {
+		return new CollectionProjection<>(attributePath, alias, selectionsProvider, elementClass);
+	}
+
+	/**
+	 * Callback for defining the element selections of a
+	 * {@link CollectionProjection}.
+	 *
+	 * <p>Selections should be created from the supplied collection join. The
+	 * query may be used for correlated subqueries, but must not be restricted
+	 * or grouped, because its rows are grouped by parent after execution. It
+	 * may be ordered to control the element order within each group; when it
+	 * is not, elements are ordered by parent and element identifier.</p>
+	 */
+	@FunctionalInterface
+	public interface ElementSelectionsProvider {
+
+		/**
+		 * Defines the element selections of the collection query.
+		 *
+		 * @param join join of the collection attribute
+		 * @param query collection query being assembled
+		 * @param cb criteria builder for creating expressions
+		 *
+		 * @return selections to project into each element tuple
+		 */
+		List<Selection<?>> getSelections(
+				From<?, ?> join,
+				CriteriaQuery<?> query,
+				CriteriaBuilder cb
+		);
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.repository;
+
+import in.co.akshitbansal.springwebquery.metamodel.EntityAttributePath;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.Attribute;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SelectionsProvider} derived from the fields of a DTO by a
+ * {@link DerivedSelectionsProviderFactory}.
+ *
+ * <p>The selections are precomputed as entity path segments together with the
+ * segments that must be joined, so building the select clause of a query
+ * performs no reflection or path mapping. When at least one selection belongs
+ * to a nested DTO, every selection is aliased with its DTO field path.</p>
+ *
+ * @param <E> entity type the selections are made from
+ */
+final class DerivedSelectionsProvider<E> implements SelectionsProvider<E> {
+
+	/**
+	 * Selections in DTO field order.
+	 */
+	private final List<DerivedSelection> selections;
+
+	/**
+	 * Whether the selections are aliased with their DTO field paths.
+	 */
+	private final boolean aliased;
+
+	/**
+	 * Creates a provider from derived selections.
+	 *
+	 * @param selections selections in DTO field order
+	 */
+	DerivedSelectionsProvider(List<DerivedSelection> selections) {
+		this.selections = List.copyOf(selections);
+		this.aliased = selections.stream().anyMatch(selection -> selection.getDtoPath().indexOf('.') >= 0);
+	}
+
+	@Override
+	public List<Selection<?>> getSelections(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		Map<String, From<?, ?>> joins = new HashMap<>();
+		List<Selection<?>> result = new ArrayList<>(selections.size());
+		for (DerivedSelection selection: selections) {
+			Path<?> path = selection.toPath(root, joins);
+			result.add(aliased ? path.alias(selection.getDtoPath()) : path);
+		}
+		return result;
+	}
+
+	/**
+	 * One derived selection, the entity path of a DTO field.
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	@Getter(AccessLevel.PACKAGE)
+	static final class DerivedSelection {
+
+		/**
+		 * DTO field path the selection populates.
+		 */
+		private final String dtoPath;
+
+		/**
+		 * Segments of the mapped entity path.
+		 */
+		private final String[] segments;
+
+		/**
+		 * Whether each segment is joined rather than navigated.
+		 */
+		private final boolean[] joined;
+
+		/**
+		 * Creates the selection of a mapped DTO field.
+		 *
+		 * <p>Associations crossed before the terminal segment are joined when
+		 * the entity path was resolved against the metamodel.</p>
+		 *
+		 * @param dtoPath DTO field path
+		 * @param entityPath mapped entity path
+		 * @param attributePath entity path resolved against the metamodel, or
+		 * {@code null} if it was resolved reflectively
+		 *
+		 * @return derived selection
+		 */
+		static DerivedSelection of(String dtoPath, String entityPath, @Nullable EntityAttributePath attributePath) {
+			String[] segments = entityPath.split("\\.");
+			boolean[] joined = new boolean[segments.length];
+			if (attributePath != null) {
+				List<Attribute<?, ?>> attributes = attributePath.getAttributes();
+				for (int idx = 0; idx < segments.length - 1; idx++) joined[idx] = attributes.get(idx).isAssociation();
+			}
+			return new DerivedSelection(dtoPath, segments, joined);
+		}
+
+		/**
+		 * Builds the path of the selection, sharing joins with the other
+		 * selections of the same query.
+		 *
+		 * @param root root of the query
+		 * @param joins joins created so far, keyed by joined entity path prefix
+		 *
+		 * @return selected path
+		 */
+		Path<?> toPath(Root<?> root, Map<String, From<?, ?>> joins) {
+			Path<?> path = root;
+			StringBuilder prefix = new StringBuilder();
+			for (int idx = 0; idx < segments.length; idx++) {
+				String segment = segments[idx];
+				if (idx > 0) prefix.append('.');
+				prefix.append(segment);
+				// A join can only start from a root or another join; past an embeddable, navigation is implicit
+				if (joined[idx] && path instanceof From<?, ?> from) {
+					From<?, ?> join = joins.get(prefix.toString());
+					if (join == null) {
+						join = from.join(segment, JoinType.LEFT);
+						joins.put(prefix.toString(), join);
+					}
+					path = join;
+				}
+				else path = path.get(segment);
+			}
+			return path;
+		}
+	}
+}
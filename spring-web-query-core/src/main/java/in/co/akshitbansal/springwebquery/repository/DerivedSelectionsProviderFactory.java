@@ -0,0 +1,473 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import in.co.akshitbansal.springwebquery.annotation.MapsTo;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryException;
+import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
+import in.co.akshitbansal.springwebquery.exception.QueryValidationException;
+import in.co.akshitbansal.springwebquery.metamodel.EntityAttributePath;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.resolver.TraversableTypes;
+import in.co.akshitbansal.springwebquery.tupleconverter.ConstructorParameters;
+import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscoverer;
+import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscovererFactory;
+import in.co.akshitbansal.springwebquery.validator.SelectableFieldValidator;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+
+/**
+ * Derives {@link SelectionsProvider} instances from the fields of a DTO, so
+ * that call sites do not hand-write selections mirroring the DTO constructor.
+ *
+ * <p>The first request for an entity/DTO pair walks the DTO fields once and
+ * maps each of them to an entity path with a {@link DTOToEntityPathMapper},
+ * honoring {@link MapsTo}. Exactly one selection is derived per DTO field, so
+ * no column the DTO does not use is selected. Fields whose type is an
+ * application type that the mapped entity attribute cannot be assigned to are
+ * treated as nested DTOs: their own fields are selected instead, aliased with
+ * their DTO field paths, so that
+ * {@link in.co.akshitbansal.springwebquery.tupleconverter.TupleConverter}
+ * assembles them as described for dotted aliases. Arrays, collections and maps,
+ * as well as fields whose entity path crosses a collection, are rejected,
+ * because they cannot be read from a single row; use a
+ * {@link CollectionProjection} for them.</p>
+ *
+ * <p>Fields are visited in declaration order, superclass fields first, which
+ * is also the component order of records. While deriving, the Java types the
+ * selections will produce are checked against the DTO and every nested DTO
+ * with the {@link PreferredConstructorDiscoverer} the tuple converter relies
+ * on, so a DTO whose constructor does not line up with its fields is reported
+ * when the provider is derived rather than on the first row. The selections of
+ * each DTO are then ordered by the constructor parameters their fields bind
+ * to by name, as described for {@link ConstructorParameters}, so positional
+ * conversion passes every value to the parameter of the same name. A
+ * constructor whose parameters cannot be named and share a type is
+ * rejected.</p>
+ *
+ * <p>When the entity paths were resolved against the JPA metamodel, every
+ * association crossed by a selection is joined once per query with a left
+ * join, shared by all selections under it, so that unset optional
+ * associations neither drop rows nor cause the page to disagree with the
+ * count. Without the metamodel, paths are navigated with
+ * {@link jakarta.persistence.criteria.Path#get(String)} and the persistence
+ * provider decides how to join them.</p>
+ *
+ * <p>The factory also plans sparse fieldsets, subsets of DTO field paths
+ * chosen by clients, which select nothing but the requested
+ * {@link in.co.akshitbansal.springwebquery.annotation.Selectable} fields and
+ * therefore join only the associations those fields cross.</p>
+ *
+ * <p>The factory is thread-safe. Providers are derived at most once per pair
+ * and retained for the lifetime of the factory; sparse fieldset providers are
+ * cached per fieldset up to a configurable capacity.</p>
+ */
+public class DerivedSelectionsProviderFactory {
+
+	/**
+	 * Default maximum number of cached sparse fieldset providers.
+	 */
+	private static final int DEFAULT_SPARSE_FIELDSETS_MAX_CAPACITY = 1000;
+
+	/**
+	 * Factory used to map DTO field paths to entity paths.
+	 */
+	private final DTOToEntityPathMapperFactory pathMapperFactory;
+
+	/**
+	 * Factory of the discoverers used to check that DTO constructors line up
+	 * with the derived selections.
+	 */
+	private final PreferredConstructorDiscovererFactory discovererFactory;
+
+	/**
+	 * Validator used to enforce that requested fields are selectable.
+	 */
+	private final SelectableFieldValidator selectableFieldValidator;
+
+	/**
+	 * Derived providers keyed by entity type, then by DTO type.
+	 */
+	private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, DerivedSelectionsProvider<?>>> providers = new ConcurrentHashMap<>();
+
+	/**
+	 * Providers of validated sparse fieldsets. Fieldsets are chosen by
+	 * clients, so the cache is bounded.
+	 */
+	private final Cache<SparseCacheKey, SparseSelectionsProvider<?>> sparseProviders;
+
+	/**
+	 * Creates a factory with the default selectable field validator and
+	 * sparse fieldset cache capacity.
+	 *
+	 * @param pathMapperFactory factory used to map DTO field paths to entity
+	 * paths
+	 * @param discovererFactory factory of the discoverers used to check DTO
+	 * constructors
+	 */
+	public DerivedSelectionsProviderFactory(
+			@NonNull DTOToEntityPathMapperFactory pathMapperFactory,
+			@NonNull PreferredConstructorDiscovererFactory discovererFactory
+	) {
+		this(pathMapperFactory, discovererFactory, new SelectableFieldValidator(), DEFAULT_SPARSE_FIELDSETS_MAX_CAPACITY);
+	}
+
+	/**
+	 * Creates a factory.
+	 *
+	 * @param pathMapperFactory factory used to map DTO field paths to entity
+	 * paths
+	 * @param discovererFactory factory of the discoverers used to check DTO
+	 * constructors
+	 * @param selectableFieldValidator validator used to enforce that requested
+	 * fields are selectable
+	 * @param sparseFieldsetsMaxCapacity maximum number of cached sparse
+	 * fieldset providers
+	 *
+	 * @throws QueryConfigurationException if the capacity is negative
+	 */
+	public DerivedSelectionsProviderFactory(
+			@NonNull DTOToEntityPathMapperFactory pathMapperFactory,
+			@NonNull PreferredConstructorDiscovererFactory discovererFactory,
+			@NonNull SelectableFieldValidator selectableFieldValidator,
+			int sparseFieldsetsMaxCapacity
+	) {
+		if (sparseFieldsetsMaxCapacity < 0) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Invalid configuration for maximum cached sparse fieldsets: {0}. The value must be non-negative.",
+					sparseFieldsetsMaxCapacity
+			));
+		}
+		this.pathMapperFactory = pathMapperFactory;
+		this.discovererFactory = discovererFactory;
+		this.selectableFieldValidator = selectableFieldValidator;
+		this.sparseProviders = Caffeine.newBuilder().maximumSize(sparseFieldsetsMaxCapacity).build();
+	}
+
+	/**
+	 * Returns the selections provider derived from a DTO, deriving it on first
+	 * use.
+	 *
+	 * @param entityClass entity type the selections are made from
+	 * @param dtoClass DTO type the selections are derived from
+	 * @param <E> entity type
+	 *
+	 * @return derived selections provider
+	 *
+	 * @throws QueryConfigurationException if a DTO field cannot be mapped to an
+	 * entity path, cannot be read from a single row, or the DTO constructors do
+	 * not line up with the derived selections
+	 */
+	public <E> SelectionsProvider<E> getSelectionsProvider(@NonNull Class<E> entityClass, @NonNull Class<?> dtoClass) {
+		ConcurrentMap<Class<?>, DerivedSelectionsProvider<?>> byDTO = providers.get(entityClass);
+		if (byDTO == null) byDTO = providers.computeIfAbsent(entityClass, ignored -> new ConcurrentHashMap<>());
+		DerivedSelectionsProvider<?> provider = byDTO.get(dtoClass);
+		if (provider == null) provider = byDTO.computeIfAbsent(dtoClass, ignored -> deriveProvider(entityClass, dtoClass));
+		// Providers are stored under their entity type, so the cast is safe
+		// noinspection unchecked
+		return (SelectionsProvider<E>) provider;
+	}
+
+	/**
+	 * Returns the provider of a sparse fieldset, validating and planning it
+	 * unless an identical fieldset was planned before.
+	 *
+	 * <p>Duplicate paths are ignored. Each requested path must resolve to a
+	 * DTO field annotated with
+	 * {@link in.co.akshitbansal.springwebquery.annotation.Selectable} that
+	 * holds a single value, and no path may lie inside another. Only valid
+	 * fieldsets are cached.</p>
+	 *
+	 * @param entityClass entity type the selections are made from
+	 * @param dtoClass DTO type that defines the selection contract
+	 * @param fields requested DTO field paths, in the order of the row keys
+	 * @param <E> entity type
+	 *
+	 * @return sparse fieldset provider
+	 *
+	 * @throws QueryValidationException if no field is requested, a path does
+	 * not resolve, is not selectable, or lies inside another requested path
+	 * @throws QueryConfigurationException if a selectable field is a nested DTO
+	 * or collection-valued, or its mapped entity path cannot be resolved
+	 */
+	<E> SparseSelectionsProvider<E> getSparseSelectionsProvider(
+			Class<E> entityClass,
+			Class<?> dtoClass,
+			List<String> fields
+	) {
+		List<String> fieldset = List.copyOf(new LinkedHashSet<>(fields));
+		if (fieldset.isEmpty()) throw new QueryValidationException("At least one field must be selected");
+		SparseCacheKey cacheKey = SparseCacheKey.of(entityClass, dtoClass, fieldset);
+		SparseSelectionsProvider<?> provider = sparseProviders.getIfPresent(cacheKey);
+		if (provider == null) {
+			provider = deriveSparseProvider(entityClass, dtoClass, fieldset);
+			sparseProviders.put(cacheKey, provider);
+		}
+		// Providers are stored under their entity type, so the cast is safe
+		// noinspection unchecked
+		return (SparseSelectionsProvider<E>) provider;
+	}
+
+	/**
+	 * Validates and plans a sparse fieldset.
+	 *
+	 * @param entityClass entity type the selections are made from
+	 * @param dtoClass DTO type that defines the selection contract
+	 * @param fieldset requested DTO field paths without duplicates
+	 *
+	 * @return newly planned provider
+	 */
+	private SparseSelectionsProvider<?> deriveSparseProvider(Class<?> entityClass, Class<?> dtoClass, List<String> fieldset) {
+		DTOToEntityPathMapper pathMapper = pathMapperFactory.newMapper(entityClass, dtoClass);
+		List<DerivedSelectionsProvider.DerivedSelection> selections = new ArrayList<>(fieldset.size());
+		for (String fieldPath: fieldset) {
+			MappingResult mappingResult = pathMapper.map(fieldPath);
+			Field dtoField = mappingResult.getTerminalDTOField();
+			selectableFieldValidator.validate(dtoField, fieldPath);
+
+			Class<?> fieldType = dtoField.getType();
+			EntityAttributePath attributePath = mappingResult.getEntityAttributePath();
+			if (isCollectionType(fieldType) || (attributePath != null && attributePath.isCollectionValued())) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"Selectable DTO field ''{0}'' of {1} is collection-valued and cannot be selected from a single row",
+						fieldPath, dtoClass.getName()
+				));
+			}
+			if (TraversableTypes.isTraversable(fieldType) && !fieldType.isAssignableFrom(getEntityType(mappingResult))) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"Selectable DTO field ''{0}'' of {1} is a nested DTO, annotate its fields instead",
+						fieldPath, dtoClass.getName()
+				));
+			}
+			selections.add(DerivedSelectionsProvider.DerivedSelection.of(fieldPath, mappingResult.getPath(), attributePath));
+		}
+
+		// A path inside another requested path would need a row key that is both a value and a map
+		Set<String> paths = new HashSet<>(fieldset);
+		for (String fieldPath: fieldset) {
+			for (int idx = fieldPath.indexOf('.'); idx >= 0; idx = fieldPath.indexOf('.', idx + 1)) {
+				String enclosingPath = fieldPath.substring(0, idx);
+				if (paths.contains(enclosingPath)) throw new QueryFieldValidationException(MessageFormat.format(
+						"Field ''{0}'' cannot be selected together with field ''{1}''", fieldPath, enclosingPath
+				), fieldPath);
+			}
+		}
+		return new SparseSelectionsProvider<>(selections);
+	}
+
+	/**
+	 * Derives the selections provider of an entity/DTO pair.
+	 *
+	 * @param entityClass entity type the selections are made from
+	 * @param dtoClass DTO type the selections are derived from
+	 *
+	 * @return newly derived provider
+	 */
+	private DerivedSelectionsProvider<?> deriveProvider(Class<?> entityClass, Class<?> dtoClass) {
+		DTOToEntityPathMapper pathMapper = pathMapperFactory.newMapper(entityClass, dtoClass);
+		List<DerivedSelectionsProvider.DerivedSelection> selections = new ArrayList<>();
+		Set<Class<?>> ancestors = new HashSet<>();
+		ancestors.add(dtoClass);
+		deriveSelections(dtoClass, "", ancestors, pathMapper, selections);
+		return new DerivedSelectionsProvider<>(selections);
+	}
+
+	/**
+	 * Derives the selections of one DTO type and checks that one of its
+	 * constructors accepts them.
+	 *
+	 * @param type DTO type whose fields are selected
+	 * @param prefix DTO field path leading to {@code type}, empty for the root
+	 * @param ancestors types on the current path, used to reject cycles
+	 * @param pathMapper mapper used to map DTO field paths
+	 * @param selections accumulator of derived selections
+	 *
+	 * @throws QueryConfigurationException if the DTO type cannot be derived,
+	 * or its constructor cannot bind the selections by name
+	 */
+	private void deriveSelections(
+			Class<?> type,
+			String prefix,
+			Set<Class<?>> ancestors,
+			DTOToEntityPathMapper pathMapper,
+			List<DerivedSelectionsProvider.DerivedSelection> selections
+	) {
+		List<Field> fields = getFieldsDownHierarchy(type);
+		if (fields.isEmpty()) throw new QueryConfigurationException(MessageFormat.format(
+				"DTO {0} has no fields to derive selections from", type.getName()
+		));
+
+		List<String> fieldNames = new ArrayList<>(fields.size());
+		List<Class<?>> valueTypes = new ArrayList<>(fields.size());
+		List<List<DerivedSelectionsProvider.DerivedSelection>> fieldSelections = new ArrayList<>(fields.size());
+		for (Field field: fields) {
+			String dtoPath = prefix.isEmpty() ? field.getName() : prefix + "." + field.getName();
+			Class<?> fieldType = field.getType();
+			if (isCollectionType(fieldType)) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"DTO field ''{0}'' of {1} is collection-valued and cannot be derived from a single row",
+						dtoPath, type.getName()
+				));
+			}
+
+			boolean traversable = TraversableTypes.isTraversable(fieldType);
+			MappingResult mappingResult = traversable ? tryMap(pathMapper, dtoPath) : pathMapper.map(dtoPath);
+			if (mappingResult == null || (traversable && !fieldType.isAssignableFrom(getEntityType(mappingResult)))) {
+				// The field is a nested DTO, select its own fields instead
+				if (!ancestors.add(fieldType)) throw new QueryConfigurationException(MessageFormat.format(
+						"DTO field ''{0}'' of {1} nests {2} recursively",
+						dtoPath, type.getName(), fieldType.getName()
+				));
+				List<DerivedSelectionsProvider.DerivedSelection> nestedSelections = new ArrayList<>();
+				deriveSelections(fieldType, dtoPath, ancestors, pathMapper, nestedSelections);
+				ancestors.remove(fieldType);
+				fieldNames.add(field.getName());
+				valueTypes.add(fieldType);
+				fieldSelections.add(nestedSelections);
+				continue;
+			}
+
+			EntityAttributePath attributePath = mappingResult.getEntityAttributePath();
+			if (attributePath != null && attributePath.isCollectionValued()) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"DTO field ''{0}'' of {1} maps to entity path ''{2}'', which crosses a collection",
+						dtoPath, type.getName(), mappingResult.getPath()
+				));
+			}
+			fieldNames.add(field.getName());
+			valueTypes.add(getEntityType(mappingResult));
+			fieldSelections.add(List.of(DerivedSelectionsProvider.DerivedSelection.of(dtoPath, mappingResult.getPath(), attributePath)));
+		}
+
+		// Fail now rather than on the first row if no constructor accepts the selections
+		Constructor<?> constructor = discovererFactory.newDiscoverer(type).discoverForShape(valueTypes);
+		// Emit the selections in parameter order, so each value reaches the parameter of its field
+		for (int fieldIndex: ConstructorParameters.bindByName(constructor, fieldNames, valueTypes))
+			selections.addAll(fieldSelections.get(fieldIndex));
+	}
+
+	/**
+	 * Maps a DTO field path whose field may be a nested DTO.
+	 *
+	 * @param pathMapper mapper used to map the path
+	 * @param dtoPath DTO field path
+	 *
+	 * @return mapping result, or {@code null} if the path maps to no entity
+	 * attribute, which is expected for nested DTOs whose fields map elsewhere
+	 */
+	@Nullable
+	private MappingResult tryMap(DTOToEntityPathMapper pathMapper, String dtoPath) {
+		try {
+			return pathMapper.map(dtoPath);
+		}
+		catch (QueryException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the Java type a selection of a mapped entity path produces.
+	 *
+	 * @param mappingResult mapping result of the selected path
+	 *
+	 * @return Java type of the terminal entity attribute
+	 */
+	private Class<?> getEntityType(MappingResult mappingResult) {
+		EntityAttributePath attributePath = mappingResult.getEntityAttributePath();
+		if (attributePath != null) return attributePath.getJavaType();
+		return mappingResult.getTerminalEntityField().getType();
+	}
+
+	/**
+	 * Returns the instance fields of a type, superclass fields first and in
+	 * declaration order.
+	 *
+	 * @param type type whose fields are collected
+	 *
+	 * @return instance fields in declaration order
+	 */
+	private List<Field> getFieldsDownHierarchy(Class<?> type) {
+		Deque<Class<?>> hierarchy = new ArrayDeque<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass())
+			hierarchy.push(current);
+		List<Field> fields = new ArrayList<>();
+		for (Class<?> current: hierarchy) {
+			for (Field field: current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
+	/**
+	 * Returns whether values of a type hold several elements.
+	 *
+	 * @param type candidate type
+	 *
+	 * @return {@code true} for arrays, collections and maps
+	 */
+	private boolean isCollectionType(Class<?> type) {
+		return type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+	}
+
+	/**
+	 * Cache key of one sparse fieldset of an entity/DTO pair.
+	 */
+	@RequiredArgsConstructor(staticName = "of")
+	@Getter
+	@EqualsAndHashCode
+	@ToString
+	static class SparseCacheKey {
+
+		/**
+		 * Entity type the selections are made from.
+		 */
+		@NonNull
+		private final Class<?> entityClass;
+
+		/**
+		 * DTO type that defines the selection contract.
+		 */
+		@NonNull
+		private final Class<?> dtoClass;
+
+		/**
+		 * Requested DTO field paths, in request order.
+		 */
+		@NonNull
+		private final List<String> fields;
+	}
+}
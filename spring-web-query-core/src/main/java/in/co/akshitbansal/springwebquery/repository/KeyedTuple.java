@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.repository;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.jspecify.annotations.Nullable;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * View of a query tuple whose first element is the identifier of the parent
+ * entity, used to hide that key from DTO conversion and optionally to append
+ * the grouped collection of the parent.
+ *
+ * <p>All views of the rows of one query share the same element list, built
+ * once through {@link #elementsOf(List, String)} before the query runs, so they present the same
+ * shape to a {@link in.co.akshitbansal.springwebquery.tupleconverter.TupleConverter}.</p>
+ */
+final class KeyedTuple implements Tuple {
+
+	/**
+	 * Underlying tuple, holding the key at index {@code 0}.
+	 */
+	private final Tuple source;
+
+	/**
+	 * Elements visible through this view.
+	 */
+	private final List<TupleElement<?>> elements;
+
+	/**
+	 * Appended collection, or {@code null} if nothing is appended.
+	 */
+	private final @Nullable List<?> collection;
+
+	private KeyedTuple(Tuple source, List<TupleElement<?>> elements, @Nullable List<?> collection) {
+		this.source = source;
+		this.elements = elements;
+		this.collection = collection;
+	}
+
+	/**
+	 * Creates a view hiding the key of the supplied tuple.
+	 *
+	 * @param source tuple holding the key at index {@code 0}
+	 * @param elements elements built by {@link #elementsOf(List, String)}
+	 * without a collection alias
+	 *
+	 * @return keyed tuple view
+	 */
+	static KeyedTuple of(Tuple source, List<TupleElement<?>> elements) {
+		return new KeyedTuple(source, elements, null);
+	}
+
+	/**
+	 * Creates a view hiding the key of the supplied tuple and appending a
+	 * collection.
+	 *
+	 * @param source tuple holding the key at index {@code 0}
+	 * @param elements elements built by {@link #elementsOf(List, String)}
+	 * with a collection alias
+	 * @param collection collection appended as the last element
+	 *
+	 * @return keyed tuple view
+	 */
+	static KeyedTuple of(Tuple source, List<TupleElement<?>> elements, List<?> collection) {
+		return new KeyedTuple(source, elements, collection);
+	}
+
+	/**
+	 * Returns the key of the supplied tuple.
+	 *
+	 * @param source tuple holding the key at index {@code 0}
+	 *
+	 * @return parent identifier
+	 */
+	static Object keyOf(Tuple source) {
+		return source.get(0);
+	}
+
+	/**
+	 * Builds the elements visible through views of the tuples of a query.
+	 *
+	 * @param sourceElements elements of the query tuples, such as the
+	 * selections of the query, with the key first
+	 * @param collectionAlias alias of the appended collection, or {@code null}
+	 * if nothing is appended
+	 *
+	 * @return unmodifiable element list
+	 */
+	static List<TupleElement<?>> elementsOf(List<? extends TupleElement<?>> sourceElements, @Nullable String collectionAlias) {
+		List<TupleElement<?>> elements = new ArrayList<>(sourceElements.subList(1, sourceElements.size()));
+		if (collectionAlias != null) elements.add(new CollectionElement(collectionAlias));
+		return Collections.unmodifiableList(elements);
+	}
+
+	@Override
+	public <X> X get(TupleElement<X> tupleElement) {
+		int index = elements.indexOf(tupleElement);
+		if (index < 0) {
+			throw new IllegalArgumentException(MessageFormat.format(
+					"Tuple element {0} is not part of this tuple", tupleElement
+			));
+		}
+		return tupleElement.getJavaType().cast(get(index));
+	}
+
+	@Override
+	public <X> X get(String alias, Class<X> type) {
+		return type.cast(get(alias));
+	}
+
+	@Override
+	public Object get(String alias) {
+		for (int i = 0; i < elements.size(); i++) {
+			if (alias.equals(elements.get(i).getAlias())) return get(i);
+		}
+		throw new IllegalArgumentException(MessageFormat.format("No tuple element has alias {0}", alias));
+	}
+
+	@Override
+	public <X> X get(int i, Class<X> type) {
+		return type.cast(get(i));
+	}
+
+	@Override
+	public Object get(int i) {
+		if (i < 0 || i >= elements.size()) {
+			throw new IllegalArgumentException(MessageFormat.format(
+					"Tuple index {0} is out of bounds for {1} elements", i, elements.size()
+			));
+		}
+		if (collection != null && i == elements.size() - 1) return collection;
+		return source.get(i + 1);
+	}
+
+	@Override
+	public Object[] toArray() {
+		Object[] values = new Object[elements.size()];
+		for (int i = 0; i < values.length; i++) values[i] = get(i);
+		return values;
+	}
+
+	@Override
+	public List<TupleElement<?>> getElements() {
+		return elements;
+	}
+
+	/**
+	 * Element describing an appended collection.
+	 *
+	 * @param alias alias of the collection
+	 */
+	private record CollectionElement(String alias) implements TupleElement<List<?>> {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Class<? extends List<?>> getJavaType() {
+			return (Class<? extends List<?>>) (Class<?>) List.class;
+		}
+
+		@Override
+		public String getAlias() {
+			return alias;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.repository;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link SelectionsProvider} of a sparse fieldset, the DTO field paths a
+ * client requested, built by a {@link DerivedSelectionsProviderFactory}.
+ *
+ * <p>Only the entity paths of the requested fields are selected, so
+ * associations that no requested field crosses are never joined. Rows are
+ * returned as maps rather than DTOs: each requested path is stored under its
+ * segments, in request order, with dotted paths nested in maps of their own,
+ * so that {@code name.first} is found under {@code name} and then
+ * {@code first}.</p>
+ *
+ * @param <E> entity type the selections are made from
+ */
+final class SparseSelectionsProvider<E> implements SelectionsProvider<E> {
+
+	/**
+	 * Selections in request order.
+	 */
+	private final List<DerivedSelectionsProvider.DerivedSelection> selections;
+
+	/**
+	 * Segments of the requested DTO field path of each selection.
+	 */
+	private final String[][] keys;
+
+	/**
+	 * Creates the provider of a validated sparse fieldset.
+	 *
+	 * @param selections selections in request order
+	 */
+	SparseSelectionsProvider(List<DerivedSelectionsProvider.DerivedSelection> selections) {
+		this.selections = List.copyOf(selections);
+		this.keys = new String[selections.size()][];
+		for (int idx = 0; idx < keys.length; idx++) keys[idx] = selections.get(idx).getDtoPath().split("\\.");
+	}
+
+	@Override
+	public List<Selection<?>> getSelections(Root<E> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		Map<String, From<?, ?>> joins = new HashMap<>();
+		List<Selection<?>> result = new ArrayList<>(selections.size());
+		for (DerivedSelectionsProvider.DerivedSelection selection: selections) result.add(selection.toPath(root, joins));
+		return result;
+	}
+
+	/**
+	 * Converts a tuple of the selections into a row.
+	 *
+	 * @param tuple tuple holding one value per requested field, in request
+	 * order
+	 *
+	 * @return row keyed by DTO field path segments
+	 */
+	Map<String, Object> toRow(Tuple tuple) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (int idx = 0; idx < keys.length; idx++) {
+			String[] segments = keys[idx];
+			Map<String, Object> target = row;
+			for (int segment = 0; segment < segments.length - 1; segment++) {
+				// noinspection unchecked
+				target = (Map<String, Object>) target.computeIfAbsent(segments[segment], ignored -> new LinkedHashMap<>());
+			}
+			target.put(segments[segments.length - 1], tuple.get(idx));
+		}
+		return row;
+	}
+}
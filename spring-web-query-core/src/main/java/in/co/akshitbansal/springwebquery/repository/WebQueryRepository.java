@@ -31,6 +31,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Primary repository entry point of Spring Web Query.
@@ -43,11 +44,12 @@ import java.util.List;
  * <p>For each invocation, the fragment resolves the backing entity type from
  * the current repository method call, obtains a tuple projection from the
  * supplied {@link SelectionsProvider}, parses the optional RSQL filter,
- * validates the parsed AST with a {@link ValidationRSQLVisitor}, maps
- * selector paths from {@code dtoClass} to entity paths through
- * {@link DTOToEntityPathMapper}, validates sortable fields through
- * {@link SortableFieldValidator}, and delegates predicate construction to
- * {@link RSQLJPAPredicateConverter}.</p>
+ * validates the parsed AST with a {@link ValidationRSQLVisitor} while
+ * compiling it into a filter program, maps selector paths from
+ * {@code dtoClass} to entity paths through {@link DTOToEntityPathMapper},
+ * validates sortable fields through {@link SortableFieldValidator}, and applies
+ * the compiled program to build predicates. Comparisons on custom operators
+ * are delegated to {@link RSQLJPAPredicateConverter}.</p>
  *
  * <p>The supplied DTO class therefore controls both which field paths may be
  * used for filtering and sorting and how the projected result is materialized.
@@ -429,4 +431,273 @@ public interface WebQueryRepository<E> {
 	) {
 		return findAllPaged(rsqlQuery, pageable, selectionsProvider, null, dtoClass);
 	}
+
+	/**
+	 * Executes a paged query that selects only the DTO fields requested by the
+	 * client, a sparse fieldset such as {@code fields=id,name.first}, and
+	 * returns each row as a map.
+	 *
+	 * <p>Filtering, sorting, pagination and validation behave as in
+	 * {@link #findAllPaged(String, Pageable, SelectionsProvider, SpecificationCustomizer, Class, boolean, boolean, int)}.
+	 * Each requested path must resolve to a field of {@code dtoClass} annotated
+	 * with {@link in.co.akshitbansal.springwebquery.annotation.Selectable}
+	 * that holds a single value. Only the entity paths those fields map to are
+	 * selected, so associations that no requested field crosses are not joined
+	 * by the projection. Duplicate paths are ignored, and a path may not lie
+	 * inside another requested path.</p>
+	 *
+	 * <p>Each row holds the requested values in request order, keyed by the
+	 * segments of their paths: {@code name.first} is stored under the key
+	 * {@code first} of a nested map stored under {@code name}. The selection
+	 * plan of each fieldset is validated once and cached, so repeated requests
+	 * for the same fields skip validation and path resolution.</p>
+	 *
+	 * @param rsqlQuery optional RSQL filter expression
+	 * @param pageable requested paging and sorting information
+	 * @param fields requested DTO field paths
+	 * @param specificationCustomizer optional hook to amend the generated filter
+	 * @param dtoClass DTO type whose fields are used for filtering, sorting and
+	 * selection
+	 * @param allowAndOperation whether logical {@code AND} is allowed in the
+	 * RSQL expression
+	 * @param allowOrOperation whether logical {@code OR} is allowed in the RSQL
+	 * expression
+	 * @param maxASTDepth maximum RSQL AST depth accepted during validation
+	 *
+	 * @return page of rows together with paging metadata derived from the
+	 * matching-row count
+	 *
+	 * @throws QueryValidationException if the RSQL expression cannot be parsed
+	 * or violates the configured validation rules, no field is requested, or a
+	 * requested field does not exist, is not selectable, or lies inside another
+	 * requested field
+	 * @throws QueryConfigurationException if a selectable field is a nested DTO
+	 * or collection-valued, selector translation fails because of invalid
+	 * configuration, JPA sort order construction fails, or predicate creation
+	 * fails after parsing and validation
+	 * @throws QueryException if another Spring Web Query exception is raised
+	 * during processing
+	 * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+	 * {@link Integer#MAX_VALUE}
+	 */
+	Page<Map<String, Object>> findAllPaged(
+			@Nullable String rsqlQuery, @NonNull Pageable pageable,
+			@NonNull List<String> fields, @Nullable SpecificationCustomizer<E> specificationCustomizer,
+			@NonNull Class<?> dtoClass, boolean allowAndOperation, boolean allowOrOperation, int maxASTDepth
+	);
+
+	/**
+	 * Executes a paged sparse fieldset query using the repository-wide
+	 * validation defaults and returns a {@link Page} of rows.
+	 *
+	 * <p>This overload keeps the same behavior as the fully configurable variant
+	 * while sourcing the logical-operator and AST-depth settings from repository
+	 * configuration.</p>
+	 *
+	 * @param rsqlQuery optional RSQL filter expression
+	 * @param pageable requested paging and sorting information
+	 * @param fields requested DTO field paths
+	 * @param specificationCustomizer optional hook to amend the generated filter
+	 * @param dtoClass DTO type whose fields are used for filtering, sorting and
+	 * selection
+	 *
+	 * @return page of rows together with paging metadata derived from the
+	 * matching-row count
+	 *
+	 * @throws QueryValidationException if the RSQL expression or the requested
+	 * fields are rejected as described for the fully configurable variant
+	 * @throws QueryConfigurationException if the projection cannot be built or
+	 * executed as described for the fully configurable variant
+	 * @throws QueryException if another Spring Web Query exception is raised
+	 * during processing
+	 * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+	 * {@link Integer#MAX_VALUE}
+	 */
+	Page<Map<String, Object>> findAllPaged(
+			@Nullable String rsqlQuery, Pageable pageable,
+			List<String> fields, @Nullable SpecificationCustomizer<E> specificationCustomizer,
+			Class<?> dtoClass
+	);
+
+	/**
+	 * Executes a paged sparse fieldset query without a specification customizer
+	 * and returns a {@link Page} of rows.
+	 *
+	 * <p>This is a convenience overload equivalent to invoking the repository
+	 * default-settings variant with a {@code null} customizer.</p>
+	 *
+	 * @param rsqlQuery optional RSQL filter expression
+	 * @param pageable requested paging and sorting information
+	 * @param fields requested DTO field paths
+	 * @param dtoClass DTO type whose fields are used for filtering, sorting and
+	 * selection
+	 *
+	 * @return page of rows together with paging metadata derived from the
+	 * matching-row count
+	 *
+	 * @throws QueryValidationException if the RSQL expression or the requested
+	 * fields are rejected as described for the fully configurable variant
+	 * @throws QueryConfigurationException if the projection cannot be built or
+	 * executed as described for the fully configurable variant
+	 * @throws QueryException if another Spring Web Query exception is raised
+	 * during processing
+	 * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+	 * {@link Integer#MAX_VALUE}
+	 */
+	default Page<Map<String, Object>> findAllPaged(
+			@Nullable String rsqlQuery, @NonNull Pageable pageable,
+			@NonNull List<String> fields,
+			@NonNull Class<?> dtoClass
+	) {
+		return findAllPaged(rsqlQuery, pageable, fields, null, dtoClass);
+	}
+
+	/**
+	 * Executes a paged projection whose DTO contains a collection-valued part,
+	 * such as a user with their phone numbers, and returns a {@link Page}.
+	 *
+	 * <p>Filtering, sorting and validation behave as in
+	 * {@link #findAllPaged(String, Pageable, SelectionsProvider, SpecificationCustomizer, Class, boolean, boolean, int)},
+	 * but the collection is never joined into the paged query, so pages and
+	 * totals are computed over parent rows. The filter is applied to parents
+	 * through a subquery on their identifiers, so a parent matched through
+	 * several rows of a to-many association it filters on is still paged and
+	 * counted once. Paged requests issue three queries regardless of the page
+	 * size, unpaged requests the last two: the first counts the matching
+	 * parents, as by {@code findAllPaged(...)}, the second selects the
+	 * identifier and the {@code selectionsProvider} columns of the parents in
+	 * the requested page window, and the third selects the
+	 * {@code collectionProjection} columns of the elements of all those parents
+	 * at once through an {@code IN} predicate on their identifiers. The
+	 * remaining queries are skipped when the count is zero, and the element
+	 * query when the page is empty. The filter is evaluated against a separate
+	 * query of the identifier type, so ordering or {@code DISTINCT} set by a
+	 * {@link SpecificationCustomizer} does not affect the parent query, and a
+	 * filter that groups its query is rejected.</p>
+	 *
+	 * <p>Element rows are converted to the element type of the collection
+	 * projection and grouped by parent. Within a group, elements keep the order
+	 * set on the collection query by the element selections provider or, when
+	 * it sets none, the order of their identifiers.
+	 * Each parent is then converted to {@code dtoClass} from its selections
+	 * followed by its group as a {@link List}, so the preferred constructor of
+	 * {@code dtoClass} must declare the list-typed parameter last. Parents
+	 * without elements receive an empty list. The entity must have a single
+	 * identifier attribute.</p>
+	 *
+	 * @param rsqlQuery optional RSQL filter expression
+	 * @param pageable requested paging and sorting information
+	 * @param selectionsProvider callback that defines the parent tuple
+	 * projection
+	 * @param collectionProjection collection attribute, element projection and
+	 * element type
+	 * @param specificationCustomizer optional hook to amend the generated filter
+	 * @param dtoClass DTO type whose fields are used for filtering and sorting
+	 * and whose shape is used for result projection
+	 * @param allowAndOperation whether logical {@code AND} is allowed in the
+	 * RSQL expression
+	 * @param allowOrOperation whether logical {@code OR} is allowed in the RSQL
+	 * expression
+	 * @param maxASTDepth maximum RSQL AST depth accepted during validation
+	 * @param <D> projected DTO type
+	 * @param <C> collection element DTO type
+	 *
+	 * @return page of projected results together with paging metadata derived
+	 * from the matching-parent count
+	 *
+	 * @throws QueryValidationException if the RSQL expression cannot be parsed
+	 * or violates the configured validation rules
+	 * @throws QueryConfigurationException if no parent or element selections are
+	 * provided, the collection attribute cannot be joined, the entity has a
+	 * composite identifier, selector translation fails because of invalid
+	 * configuration, JPA sort order construction fails, or predicate creation
+	 * fails after parsing and validation
+	 * @throws QueryException if another Spring Web Query exception is raised
+	 * during processing
+	 * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+	 * {@link Integer#MAX_VALUE}
+	 */
+	<D, C> Page<D> findAllPagedWithCollection(
+			@Nullable String rsqlQuery, @NonNull Pageable pageable,
+			@NonNull SelectionsProvider<E> selectionsProvider, @NonNull CollectionProjection<C> collectionProjection,
+			@Nullable SpecificationCustomizer<E> specificationCustomizer,
+			@NonNull Class<D> dtoClass, boolean allowAndOperation, boolean allowOrOperation, int maxASTDepth
+	);
+
+	/**
+	 * Executes a paged projection with a collection-valued part using the
+	 * repository-wide validation defaults and returns a {@link Page}.
+	 *
+	 * <p>This overload keeps the same behavior as the fully configurable variant
+	 * while sourcing the logical-operator and AST-depth settings from repository
+	 * configuration.</p>
+	 *
+	 * @param rsqlQuery optional RSQL filter expression
+	 * @param pageable requested paging and sorting information
+	 * @param selectionsProvider callback that defines the parent tuple
+	 * projection
+	 * @param collectionProjection collection attribute, element projection and
+	 * element type
+	 * @param specificationCustomizer optional hook to amend the generated filter
+	 * @param dtoClass DTO type whose fields are used for filtering and sorting
+	 * and whose shape is used for result projection
+	 * @param <D> projected DTO type
+	 * @param <C> collection element DTO type
+	 *
+	 * @return page of projected results together with paging metadata derived
+	 * from the matching-parent count
+	 *
+	 * @throws QueryValidationException if the RSQL expression cannot be parsed
+	 * or violates the configured validation rules
+	 * @throws QueryConfigurationException if the projection cannot be built or
+	 * executed as described for the fully configurable variant
+	 * @throws QueryException if another Spring Web Query exception is raised
+	 * during processing
+	 * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+	 * {@link Integer#MAX_VALUE}
+	 */
+	<D, C> Page<D> findAllPagedWithCollection(
+			@Nullable String rsqlQuery, Pageable pageable,
+			SelectionsProvider<E> selectionsProvider, CollectionProjection<C> collectionProjection,
+			@Nullable SpecificationCustomizer<E> specificationCustomizer,
+			Class<D> dtoClass
+	);
+
+	/**
+	 * Executes a paged projection with a collection-valued part without a
+	 * specification customizer and returns a {@link Page}.
+	 *
+	 * <p>This is a convenience overload equivalent to invoking the repository
+	 * default-settings variant with a {@code null} customizer.</p>
+	 *
+	 * @param rsqlQuery optional RSQL filter expression
+	 * @param pageable requested paging and sorting information
+	 * @param selectionsProvider callback that defines the parent tuple
+	 * projection
+	 * @param collectionProjection collection attribute, element projection and
+	 * element type
+	 * @param dtoClass DTO type whose fields are used for filtering and sorting
+	 * and whose shape is used for result projection
+	 * @param <D> projected DTO type
+	 * @param <C> collection element DTO type
+	 *
+	 * @return page of projected results together with paging metadata derived
+	 * from the matching-parent count
+	 *
+	 * @throws QueryValidationException if the RSQL expression cannot be parsed
+	 * or violates the configured validation rules
+	 * @throws QueryConfigurationException if the projection cannot be built or
+	 * executed as described for the fully configurable variant
+	 * @throws QueryException if another Spring Web Query exception is raised
+	 * during processing
+	 * @throws IllegalArgumentException if {@code pageable.getOffset()} exceeds
+	 * {@link Integer#MAX_VALUE}
+	 */
+	default <D, C> Page<D> findAllPagedWithCollection(
+			@Nullable String rsqlQuery, @NonNull Pageable pageable,
+			@NonNull SelectionsProvider<E> selectionsProvider, @NonNull CollectionProjection<C> collectionProjection,
+			@NonNull Class<D> dtoClass
+	) {
+		return findAllPagedWithCollection(rsqlQuery, pageable, selectionsProvider, collectionProjection, null, dtoClass);
+	}
 }
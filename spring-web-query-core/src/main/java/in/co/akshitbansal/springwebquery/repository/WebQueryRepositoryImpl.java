@@ -16,27 +16,26 @@
 
 package in.co.akshitbansal.springwebquery.repository;
 
-import cz.jirutka.rsql.parser.RSQLParser;
-import cz.jirutka.rsql.parser.RSQLParserException;
-import cz.jirutka.rsql.parser.ast.Node;
-import in.co.akshitbansal.springwebquery.ast.NodeMetadata;
-import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitor;
-import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.contract.QueryContract;
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
 import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
 import in.co.akshitbansal.springwebquery.exception.QueryException;
-import in.co.akshitbansal.springwebquery.exception.QueryValidationException;
-import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.plan.QueryPlan;
+import in.co.akshitbansal.springwebquery.plan.QueryPlanner;
+import in.co.akshitbansal.springwebquery.program.FilterProgram;
 import in.co.akshitbansal.springwebquery.tupleconverter.TupleConverter;
 import in.co.akshitbansal.springwebquery.tupleconverter.TupleConverterFactory;
 import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
 import io.github.perplexhub.rsql.RSQLCustomPredicate;
-import io.github.perplexhub.rsql.RSQLJPAPredicateConverter;
-import io.github.perplexhub.rsql.jsonb.JsonbConfiguration;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.SingularAttribute;
 import lombok.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
@@ -51,8 +50,12 @@ import org.springframework.data.repository.core.support.RepositoryMetadataAccess
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
+import static in.co.akshitbansal.springwebquery.contract.QueryContract.FieldContract;
 import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
 
 /**
@@ -64,10 +67,15 @@ import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper
  * queries through the supplied {@link SelectionsProvider}, validates and maps
  * filter and sort paths against the supplied DTO type, delegates predicate
  * creation to {@code rsql-jpa}, and converts the resulting tuples into the
- * requested DTO type.</p>
+ * requested DTO type. Converters are taken from the shared registry of the
+ * {@link TupleConverterFactory} for the shape of the built selections before
+ * each query runs, so converting rows consults no cache.</p>
  *
  * <p>When page metadata is needed, the same filter rules are reused for a
- * separate count query. The interface Javadoc remains the main public API
+ * separate count query. When the {@link QueryPlanner} proves a filter
+ * unsatisfiable, no query is issued at all: requested sort orders are still
+ * validated, an empty result is returned, and the skipped queries are reported
+ * through {@link QueryPlanner#recordAvoidedQueries(long)}. The interface Javadoc remains the main public API
  * description; the helper methods in this class explain how the JPA-backed
  * implementation realizes that behavior.</p>
  *
@@ -87,14 +95,9 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 	private final EntityManager entityManager;
 
 	/**
-	 * Shared RSQL parser configured with the allowed operator set.
+	 * Planner used to parse and validate RSQL queries into reusable plans.
 	 */
-	private final RSQLParser rsqlParser;
-
-	/**
-	 * Factory used to create validation visitors for parsed RSQL trees.
-	 */
-	private final ValidationRSQLVisitorFactory validationRSQLVisitorFactory;
+	private final QueryPlanner queryPlanner;
 
 	/**
 	 * Custom predicates exposed to the underlying {@code rsql-jpa} converter.
@@ -111,8 +114,19 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 	 */
 	private final SortableFieldValidator sortableFieldValidator;
 
+	/**
+	 * Registry of precomputed query contracts consulted before reflective sort
+	 * validation.
+	 */
+	private final QueryContractRegistry queryContractRegistry;
+
 	private final TupleConverterFactory tupleConverterFactory;
 
+	/**
+	 * Factory used to plan and cache sparse fieldset selections.
+	 */
+	private final DerivedSelectionsProviderFactory derivedSelectionsProviderFactory;
+
 	/**
 	 * Default repository-wide setting for logical {@code AND} support.
 	 */
@@ -128,29 +142,41 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 	 */
 	private final int globalMaxASTDepth;
 
+	/**
+	 * Specification returned for filters that can never match.
+	 *
+	 * <p>Public query methods recognize this instance by identity to skip
+	 * database access. If a {@link SpecificationCustomizer} wraps it, the
+	 * customized specification is executed normally and this instance still
+	 * contributes an always-false predicate.</p>
+	 */
+	private final Specification<E> unsatisfiableSpecification = (root, query, cb) -> cb.disjunction();
+
 	/**
 	 * Creates the repository implementation with all collaborating components and
 	 * global validation defaults.
 	 */
 	public WebQueryRepositoryImpl(
 			@NonNull EntityManager entityManager,
-			@NonNull RSQLParser rsqlParser,
-			@NonNull ValidationRSQLVisitorFactory validationRSQLVisitorFactory,
+			@NonNull QueryPlanner queryPlanner,
 			@NonNull List<RSQLCustomPredicate<?>> customPredicates,
 			@NonNull DTOToEntityPathMapperFactory pathMapperFactory,
 			@NonNull SortableFieldValidator sortableFieldValidator,
+			@NonNull QueryContractRegistry queryContractRegistry,
 			@NonNull TupleConverterFactory tupleConverterFactory,
+			@NonNull DerivedSelectionsProviderFactory derivedSelectionsProviderFactory,
 			@Value("${spring-web-query.filtering.allow-and-operation:true}") boolean globalAllowAndOperation,
 			@Value("${spring-web-query.filtering.allow-or-operation:false}") boolean globalAllowOrOperation,
 			@Value("${spring-web-query.filtering.max-ast-depth:1}") int globalMaxASTDepth
 	) {
 		this.entityManager = entityManager;
-		this.rsqlParser = rsqlParser;
-		this.validationRSQLVisitorFactory = validationRSQLVisitorFactory;
+		this.queryPlanner = queryPlanner;
 		this.customPredicates = customPredicates;
 		this.pathMapperFactory = pathMapperFactory;
 		this.sortableFieldValidator = sortableFieldValidator;
+		this.queryContractRegistry = queryContractRegistry;
 		this.tupleConverterFactory = tupleConverterFactory;
+		this.derivedSelectionsProviderFactory = derivedSelectionsProviderFactory;
 		this.globalAllowAndOperation = globalAllowAndOperation;
 		this.globalAllowOrOperation = globalAllowOrOperation;
 
@@ -208,6 +234,14 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 				rsqlQuery, specificationCustomizer,
 				dtoClass, allowAndOperation, allowOrOperation, maxASTDepth
 		);
+
+		// The filter can never match, so skip the results query
+		if (spec == unsatisfiableSpecification) {
+			validateSort(pageable.getSort(), dtoClass);
+			queryPlanner.recordAvoidedQueries(1);
+			return Collections.emptyList();
+		}
+
 		return findAll(spec, pageable, selectionsProvider, dtoClass);
 	}
 
@@ -239,6 +273,13 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 				rsqlQuery, specificationCustomizer, dtoClass,
 				allowAndOperation, allowOrOperation, maxASTDepth
 		);
+
+		// The filter can never match, so skip the count query
+		if (spec == unsatisfiableSpecification) {
+			queryPlanner.recordAvoidedQueries(1);
+			return 0;
+		}
+
 		return count(spec);
 	}
 
@@ -268,6 +309,17 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 				dtoClass, allowAndOperation, allowOrOperation, maxASTDepth
 		);
 
+		// The filter can never match, so skip both the count and results queries
+		if (spec == unsatisfiableSpecification) {
+			validateSort(pageable.getSort(), dtoClass);
+			if (pageable.isUnpaged()) {
+				queryPlanner.recordAvoidedQueries(1);
+				return new PageImpl<>(Collections.emptyList());
+			}
+			queryPlanner.recordAvoidedQueries(2);
+			return new PageImpl<>(Collections.emptyList(), pageable, 0);
+		}
+
 		// If unpaged, there is no need to issue another query for count
 		if (pageable.isUnpaged())
 			return new PageImpl<>(findAll(spec, pageable, selectionsProvider, dtoClass));
@@ -301,12 +353,141 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 		);
 	}
 
+	/**
+	 * Executes a paged sparse fieldset query using explicit validation settings.
+	 */
+	@Override
+	public Page<Map<String, Object>> findAllPaged(
+			@Nullable String rsqlQuery, @NonNull Pageable pageable,
+			@NonNull List<String> fields, @Nullable SpecificationCustomizer<E> specificationCustomizer,
+			@NonNull Class<?> dtoClass, boolean allowAndOperation, boolean allowOrOperation, int maxASTDepth
+	) {
+		// Resolve the selection plan of the fieldset, validating it on first use
+		SparseSelectionsProvider<E> selectionsProvider = derivedSelectionsProviderFactory
+				.getSparseSelectionsProvider(getEntityClass(), dtoClass, fields);
+
+		// Create the specification
+		Specification<E> spec = createSpecification(
+				rsqlQuery, specificationCustomizer,
+				dtoClass, allowAndOperation, allowOrOperation, maxASTDepth
+		);
+
+		// The filter can never match, so skip both the count and results queries
+		if (spec == unsatisfiableSpecification) {
+			validateSort(pageable.getSort(), dtoClass);
+			if (pageable.isUnpaged()) {
+				queryPlanner.recordAvoidedQueries(1);
+				return new PageImpl<>(Collections.emptyList());
+			}
+			queryPlanner.recordAvoidedQueries(2);
+			return new PageImpl<>(Collections.emptyList(), pageable, 0);
+		}
+
+		// If unpaged, there is no need to issue another query for count
+		if (pageable.isUnpaged())
+			return new PageImpl<>(findAll(spec, pageable, selectionsProvider, dtoClass, selections -> selectionsProvider::toRow));
+
+		// Paged, issue a separate query for count
+		long count = count(spec);
+
+		// If no results, return an empty page
+		if (count == 0) return new PageImpl<>(Collections.emptyList(), pageable, 0);
+
+		// Issue a results query to get the actual results
+		return new PageImpl<>(
+				findAll(spec, pageable, selectionsProvider, dtoClass, selections -> selectionsProvider::toRow),
+				pageable, count
+		);
+	}
+
+	/**
+	 * Executes a paged sparse fieldset query using repository defaults.
+	 */
+	@Override
+	public Page<Map<String, Object>> findAllPaged(
+			@Nullable String rsqlQuery, @NonNull Pageable pageable,
+			@NonNull List<String> fields, @Nullable SpecificationCustomizer<E> specificationCustomizer,
+			@NonNull Class<?> dtoClass
+	) {
+		return findAllPaged(
+				rsqlQuery, pageable,
+				fields, specificationCustomizer,
+				dtoClass, globalAllowAndOperation, globalAllowOrOperation, globalMaxASTDepth
+		);
+	}
+
+	/**
+	 * Executes a paged projection with a collection-valued part using explicit
+	 * validation settings.
+	 */
+	@Override
+	public <D, C> Page<D> findAllPagedWithCollection(
+			@Nullable String rsqlQuery, @NonNull Pageable pageable,
+			@NonNull SelectionsProvider<E> selectionsProvider, @NonNull CollectionProjection<C> collectionProjection,
+			@Nullable SpecificationCustomizer<E> specificationCustomizer,
+			@NonNull Class<D> dtoClass, boolean allowAndOperation, boolean allowOrOperation, int maxASTDepth
+	) {
+		// Create the specification
+		Specification<E> spec = createSpecification(
+				rsqlQuery, specificationCustomizer,
+				dtoClass, allowAndOperation, allowOrOperation, maxASTDepth
+		);
+
+		// The filter can never match, so skip the count, parent and collection queries
+		if (spec == unsatisfiableSpecification) {
+			validateSort(pageable.getSort(), dtoClass);
+			if (pageable.isUnpaged()) {
+				queryPlanner.recordAvoidedQueries(2);
+				return new PageImpl<>(Collections.emptyList());
+			}
+			queryPlanner.recordAvoidedQueries(3);
+			return new PageImpl<>(Collections.emptyList(), pageable, 0);
+		}
+
+		// Match parents through their identifiers, so filters joining to-many associations never repeat a parent
+		Specification<E> parentSpec = spec == null ? null : matchingParents(spec, getIdAttribute(getEntityClass()));
+
+		// If unpaged, there is no need to issue another query for count
+		if (pageable.isUnpaged())
+			return new PageImpl<>(findAllWithCollection(parentSpec, pageable, selectionsProvider, collectionProjection, dtoClass));
+
+		// Paged, issue a separate query for count over distinct parents
+		long count = count(parentSpec);
+
+		// If no results, return an empty page
+		if (count == 0) return new PageImpl<>(Collections.emptyList(), pageable, 0);
+
+		return new PageImpl<>(
+				findAllWithCollection(parentSpec, pageable, selectionsProvider, collectionProjection, dtoClass),
+				pageable, count
+		);
+	}
+
+	/**
+	 * Executes a paged projection with a collection-valued part using
+	 * repository defaults.
+	 */
+	@Override
+	public <D, C> Page<D> findAllPagedWithCollection(
+			@Nullable String rsqlQuery, @NonNull Pageable pageable,
+			@NonNull SelectionsProvider<E> selectionsProvider, @NonNull CollectionProjection<C> collectionProjection,
+			@Nullable SpecificationCustomizer<E> specificationCustomizer,
+			@NonNull Class<D> dtoClass
+	) {
+		return findAllPagedWithCollection(
+				rsqlQuery, pageable,
+				selectionsProvider, collectionProjection, specificationCustomizer,
+				dtoClass, globalAllowAndOperation, globalAllowOrOperation, globalMaxASTDepth
+		);
+	}
+
 	/**
 	 * Internal helper to execute a projection query with a pre-built specification.
 	 *
 	 * <p>This helper manages the full lifecycle of a result query, including
 	 * selector projection, sorting, and pagination. It converts the resulting
-	 * {@link Tuple} objects into the target DTO type.</p>
+	 * {@link Tuple} objects into the target DTO type with the registered
+	 * converter for the shape of the selections.</p>
 	 *
 	 * @param specification the filter specification to apply
 	 * @param pageable pagination and sorting metadata
@@ -318,6 +499,31 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 	private <D> List<D> findAll(
 			@Nullable Specification<E> specification, @NonNull Pageable pageable,
 			@NonNull SelectionsProvider<E> selectionsProvider, @NonNull Class<D> dtoClass
+	) {
+		return findAll(
+				specification, pageable, selectionsProvider, dtoClass,
+				selections -> tupleConverterFactory.getConverter(dtoClass, selections)::convert
+		);
+	}
+
+	/**
+	 * Internal helper to execute a projection query with a pre-built
+	 * specification, mapping each resulting {@link Tuple} with a row mapper
+	 * resolved from the selections before the query is executed.
+	 *
+	 * @param specification the filter specification to apply
+	 * @param pageable pagination and sorting metadata
+	 * @param selectionsProvider callback to define the select clause
+	 * @param dtoClass DTO type whose fields are used for sorting
+	 * @param rowMapperResolver resolves the conversion applied to each tuple
+	 * from the selections of the query
+	 * @param <R> row type
+	 * @return mapped rows for the requested page window
+	 */
+	private <R> List<R> findAll(
+			@Nullable Specification<E> specification, Pageable pageable,
+			SelectionsProvider<E> selectionsProvider, Class<?> dtoClass,
+			Function<List<Selection<?>>, Function<? super Tuple, ? extends R>> rowMapperResolver
 	) {
 		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 		CriteriaQuery<Tuple> query = cb.createTupleQuery();
@@ -331,13 +537,13 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 		}
 
 		// SELECT clause
-		List<Selection<?>> selections = selectionsProvider.getSelections(root, query, cb);
-		// noinspection ConstantValue
-		if (selections == null) throw new QueryConfigurationException("selectionsProvider returned a null list"); //NOSONAR
-		if (selections.isEmpty()) throw new QueryConfigurationException("No selections provided");
+		List<Selection<?>> selections = checkSelections(selectionsProvider.getSelections(root, query, cb));
 		Selection<?>[] selectionsArray = selections.toArray(new Selection<?>[0]);
 		query.select(cb.tuple(selectionsArray));
 
+		// Resolve the row conversion from the tuple shape before execution
+		Function<? super Tuple, ? extends R> rowMapper = rowMapperResolver.apply(selections);
+
 		// ORDER BY clause
 		List<Order> orders = mapSortToJpaOrders(pageable.getSort(), root, cb, dtoClass);
 		query.orderBy(orders);
@@ -345,26 +551,152 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
 
 		// LIMIT clause
-		if (pageable.isPaged()) {
-			typedQuery.setMaxResults(pageable.getPageSize());
-			long offset = pageable.getOffset();
-			if (offset > Integer.MAX_VALUE) {
-				throw new IllegalArgumentException(MessageFormat.format(
-						"Pageable offset {0} exceeds maximum allowed value of {1}",
-						offset, Integer.MAX_VALUE
-				));
-			}
-			typedQuery.setFirstResult((int) offset);
-		}
+		applyPageWindow(typedQuery, pageable);
 
 		// Execute query
 		List<Tuple> results = typedQuery.getResultList();
-		// Convert the results to the desired DTO class
-		TupleConverter<D> converter = tupleConverterFactory.newConverter(dtoClass);
-		return results
-				.stream()
-				.map(converter::convert)
-				.toList();
+		// Convert the results to the desired row type
+		List<R> rows = new ArrayList<>(results.size());
+		for (Tuple tuple: results) rows.add(rowMapper.apply(tuple));
+		return rows;
+	}
+
+	/**
+	 * Internal helper to execute a projection with a collection-valued part
+	 * using a pre-built specification.
+	 *
+	 * <p>The first query selects the identifier of each parent followed by the
+	 * parent selections, applying the filter, sort orders and page window, so
+	 * the page is taken over parents rather than over joined rows. The second
+	 * query joins the collection for the identifiers of that page through a
+	 * single {@code IN} predicate and selects each parent identifier followed by
+	 * the element selections. Element rows are converted and grouped by parent
+	 * identifier, and each parent tuple is converted with its group appended as
+	 * the last element. The second query is skipped when the page is
+	 * empty.</p>
+	 *
+	 * @param specification the filter specification to apply
+	 * @param pageable pagination and sorting metadata
+	 * @param selectionsProvider callback to define the parent select clause
+	 * @param collectionProjection collection-valued part of the projection
+	 * @param dtoClass target class for parent tuple conversion
+	 * @param <D> result type
+	 * @param <C> collection element type
+	 * @return projected results for the requested page window
+	 */
+	private <D, C> List<D> findAllWithCollection(
+			@Nullable Specification<E> specification, Pageable pageable,
+			SelectionsProvider<E> selectionsProvider, CollectionProjection<C> collectionProjection,
+			Class<D> dtoClass
+	) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		Class<E> entityClass = getEntityClass();
+		SingularAttribute<? super E, ?> idAttribute = getIdAttribute(entityClass);
+
+		// Parent query, paged over parent rows
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<E> root = query.from(entityClass);
+		if (specification != null) {
+			Predicate predicate = specification.toPredicate(root, query, cb);
+			if (predicate != null) query.where(predicate);
+		}
+		List<Selection<?>> selections = new ArrayList<>();
+		selections.add(root.get(idAttribute));
+		selections.addAll(checkSelections(selectionsProvider.getSelections(root, query, cb)));
+		query.select(cb.tuple(selections.toArray(new Selection<?>[0])));
+		query.orderBy(mapSortToJpaOrders(pageable.getSort(), root, cb, dtoClass));
+		List<TupleElement<?>> elements = KeyedTuple.elementsOf(selections, collectionProjection.getAlias());
+		TupleConverter<D> converter = tupleConverterFactory.getConverter(dtoClass, elements);
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+		applyPageWindow(typedQuery, pageable);
+		List<Tuple> parents = typedQuery.getResultList();
+		if (parents.isEmpty()) return Collections.emptyList();
+
+		// Collection query, batched over the identifiers of the page
+		List<Object> ids = new ArrayList<>(parents.size());
+		for (Tuple parent: parents) ids.add(KeyedTuple.keyOf(parent));
+		Map<Object, List<C>> groups = findCollectionGroups(entityClass, idAttribute, ids, collectionProjection);
+
+		// Convert the parents with their groups appended
+		List<D> results = new ArrayList<>(parents.size());
+		for (Tuple parent: parents) {
+			List<C> group = groups.getOrDefault(KeyedTuple.keyOf(parent), Collections.emptyList());
+			results.add(converter.convert(KeyedTuple.of(parent, elements, group)));
+		}
+		return results;
+	}
+
+	/**
+	 * Fetches the elements of a collection for the supplied parents with a
+	 * single query and groups them by parent identifier.
+	 *
+	 * @param entityClass repository entity type
+	 * @param idAttribute identifier attribute of the entity
+	 * @param ids identifiers of the parents
+	 * @param collectionProjection collection-valued part of the projection
+	 * @param <C> collection element type
+	 * @return converted elements keyed by parent identifier, in the order of
+	 * the element selections provider or else of the element identifiers
+	 */
+	private <C> Map<Object, List<C>> findCollectionGroups(
+			Class<E> entityClass, SingularAttribute<? super E, ?> idAttribute,
+			List<Object> ids, CollectionProjection<C> collectionProjection
+	) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<E> root = query.from(entityClass);
+		From<?, ?> join = root;
+		try {
+			for (String part: collectionProjection.getAttributePath().split("\\."))
+				join = join.join(part);
+		}
+		catch (RuntimeException ex) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Failed to join collection {0} of {1}",
+					collectionProjection.getAttributePath(), entityClass.getName()
+			), ex);
+		}
+		Path<?> id = root.get(idAttribute);
+		List<Selection<?>> selections = new ArrayList<>();
+		selections.add(id);
+		selections.addAll(checkSelections(collectionProjection.getSelectionsProvider().getSelections(join, query, cb)));
+		query.select(cb.tuple(selections.toArray(new Selection<?>[0])));
+		query.where(id.in(ids));
+		if (query.getOrderList().isEmpty()) query.orderBy(elementOrders(id, join, cb));
+		List<TupleElement<?>> elements = KeyedTuple.elementsOf(selections, null);
+		TupleConverter<C> converter = tupleConverterFactory.getConverter(collectionProjection.getElementClass(), elements);
+		List<Tuple> rows = entityManager.createQuery(query).getResultList();
+		if (rows.isEmpty()) return Collections.emptyMap();
+
+		Map<Object, List<C>> groups = new HashMap<>();
+		for (Tuple row: rows) {
+			groups
+					.computeIfAbsent(KeyedTuple.keyOf(row), ignored -> new ArrayList<>())
+					.add(converter.convert(KeyedTuple.of(row, elements)));
+		}
+		return groups;
+	}
+
+	/**
+	 * Builds the default order of a collection query: by parent identifier,
+	 * then by element identifier when the elements are entities with a single
+	 * identifier attribute.
+	 *
+	 * @param parentId identifier path of the parent
+	 * @param join join of the collection attribute
+	 * @param cb criteria builder for creating orders
+	 * @return orders that keep the elements of each parent stable
+	 */
+	private List<Order> elementOrders(Path<?> parentId, From<?, ?> join, CriteriaBuilder cb) {
+		List<Order> orders = new ArrayList<>(2);
+		orders.add(cb.asc(parentId));
+		if (join instanceof PluralJoin<?, ?, ?> pluralJoin
+				&& pluralJoin.getModel().getElementType() instanceof IdentifiableType<?> elementType
+				&& elementType.hasSingleIdAttribute()) {
+			String elementId = elementType.getId(elementType.getIdType().getJavaType()).getName();
+			orders.add(cb.asc(join.get(elementId)));
+		}
+		return orders;
 	}
 
 	/**
@@ -393,6 +725,100 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 				.getSingleResult();
 	}
 
+	/**
+	 * Checks the selections returned by a selections callback.
+	 *
+	 * @param selections returned selections
+	 * @return the same selections
+	 */
+	private static List<Selection<?>> checkSelections(List<Selection<?>> selections) {
+		// noinspection ConstantValue
+		if (selections == null) throw new QueryConfigurationException("selectionsProvider returned a null list"); //NOSONAR
+		if (selections.isEmpty()) throw new QueryConfigurationException("No selections provided");
+		return selections;
+	}
+
+	/**
+	 * Applies the offset and page size of a paged {@link Pageable} to a query.
+	 *
+	 * @param typedQuery query to restrict
+	 * @param pageable pagination metadata
+	 */
+	private static void applyPageWindow(TypedQuery<?> typedQuery, Pageable pageable) {
+		if (pageable.isUnpaged()) return;
+		typedQuery.setMaxResults(pageable.getPageSize());
+		long offset = pageable.getOffset();
+		if (offset > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(MessageFormat.format(
+					"Pageable offset {0} exceeds maximum allowed value of {1}",
+					offset, Integer.MAX_VALUE
+			));
+		}
+		typedQuery.setFirstResult((int) offset);
+	}
+
+	/**
+	 * Restricts a specification to whole parent rows.
+	 *
+	 * <p>The returned specification applies {@code specification} inside a
+	 * subquery over the identifiers of the entity and matches the parents whose
+	 * identifier the subquery returns. Joins created by the filter, including
+	 * joins of to-many associations, therefore stay inside the subquery, so
+	 * each matching parent appears exactly once in the paged query and in the
+	 * count.</p>
+	 *
+	 * <p>A {@link Subquery} is not a {@link CriteriaQuery}, so the filter
+	 * receives a separate query of the identifier type rather than the outer
+	 * parent query, and ordering, {@code DISTINCT} or any other state it sets
+	 * cannot leak onto the page. A restriction it sets on that query is folded
+	 * into the subquery; grouping cannot be expressed on an identifier subquery
+	 * and is rejected.</p>
+	 *
+	 * @param specification the filter specification to apply
+	 * @param idAttribute identifier attribute of the entity
+	 * @param <I> identifier type
+	 * @return specification matching distinct parents
+	 * @throws QueryConfigurationException if the filter groups its query
+	 */
+	private <I> Specification<E> matchingParents(Specification<E> specification, SingularAttribute<? super E, I> idAttribute) {
+		return (root, query, cb) -> {
+			Subquery<I> subquery = query.subquery(idAttribute.getJavaType());
+			Root<E> subqueryRoot = subquery.from(getEntityClass());
+			CriteriaQuery<I> filterQuery = cb.createQuery(idAttribute.getJavaType());
+			Predicate predicate = specification.toPredicate(subqueryRoot, filterQuery, cb);
+			if (!filterQuery.getGroupList().isEmpty() || filterQuery.getGroupRestriction() != null) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"Collection projections cannot apply a filter that groups its query on {0}",
+						getEntityClass().getName()
+				));
+			}
+			Predicate restriction = filterQuery.getRestriction();
+			if (restriction != null) predicate = predicate == null ? restriction : cb.and(restriction, predicate);
+			if (predicate == null) return null;
+			subquery.select(subqueryRoot.get(idAttribute)).where(predicate);
+			return root.get(idAttribute).in(subquery);
+		};
+	}
+
+	/**
+	 * Returns the identifier attribute of the supplied entity type.
+	 *
+	 * @param entityClass repository entity type
+	 * @return single identifier attribute
+	 * @throws QueryConfigurationException if the entity has a composite
+	 * identifier
+	 */
+	private SingularAttribute<? super E, ?> getIdAttribute(Class<E> entityClass) {
+		EntityType<E> entityType = entityManager.getMetamodel().entity(entityClass);
+		if (!entityType.hasSingleIdAttribute()) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Collection projections require a single identifier attribute, but {0} has a composite identifier",
+					entityClass.getName()
+			));
+		}
+		return entityType.getId(entityType.getIdType().getJavaType());
+	}
+
 	/**
 	 * Coordinates the creation of an eager RSQL specification and its optional
 	 * customization.
@@ -419,12 +845,19 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 	}
 
 	/**
-	 * Builds a JPA Specification by eagerly parsing and validating the RSQL query.
+	 * Builds a JPA Specification by eagerly planning the RSQL query.
 	 *
-	 * <p>Unlike lazy implementations, this method performs RSQL parsing and
-	 * validation immediately. This ensures that these expensive steps are only
-	 * executed once per request, even if the resulting specification is used in
-	 * both count and content queries.</p>
+	 * <p>Unlike lazy implementations, this method obtains the validated
+	 * {@link QueryPlan} immediately. This ensures that parsing and validation are
+	 * executed at most once per request, even if the resulting specification is
+	 * used in both count and content queries, and not at all when the configured
+	 * {@link QueryPlanner} already holds a cached plan for the same query.</p>
+	 *
+	 * <p>The returned specification applies the plan's compiled
+	 * {@link FilterProgram}, so each invocation is a single pass over
+	 * pre-resolved paths and pre-converted arguments rather than a fresh walk
+	 * of the abstract syntax tree. Plans proven unsatisfiable yield the shared
+	 * {@link #unsatisfiableSpecification} instead.</p>
 	 *
 	 * @param rsqlQuery optional filter string
 	 * @param dtoClass DTO type for selector contract enforcement
@@ -445,62 +878,29 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 		}
 		if (rsqlQuery == null) return Specification.unrestricted();
 
-		try {
-			// Parse the RSQL query into an Abstract Syntax Tree (AST)
-			Node rootNode = rsqlParser.parse(rsqlQuery);
-			// Validate the parsed AST
-			ValidationRSQLVisitor visitor = validationRSQLVisitorFactory.newValidationRSQLVisitor(
-					getEntityClass(),
-					dtoClass,
-					allowAndOperation,
-					allowOrOperation,
-					maxASTDepth
-			);
-			rootNode.accept(visitor, NodeMetadata.of(0));
-
-			return (Root<E> root, CriteriaQuery<?> ignored, CriteriaBuilder cb) -> {
-				try {
-					// Convert AST into Predicate
-					RSQLJPAPredicateConverter predicateConverter = new RSQLJPAPredicateConverter(
-							cb,
-							visitor.getFieldMappings(),
-							customPredicates,
-							null,
-							null,
-							null,
-							// prevents wildcard parsing for string equality operator
-							// so that "name==John*" is treated as: name equals 'John*'
-							// rather than: name starts with 'John'
-							true,
-							null,
-							JsonbConfiguration.DEFAULT
-					);
-					return rootNode.accept(predicateConverter, root);
-				}
-				catch (Exception ex) {
-					throw new QueryConfigurationException(MessageFormat.format(
-							"Failed to convert RSQL AST to JPA Predicate: {0}", ex.getMessage()
-					), ex);
-				}
-			};
-		}
-		catch (RSQLParserException ex) {
-			throw new QueryValidationException(
-					MessageFormat.format(
-							"Unable to parse RSQL query: {0}", rsqlQuery
-					), ex
-			);
-		}
-		catch (QueryException ex) {
-			throw ex;
-		}
-		catch (RuntimeException ex) {
-			throw new QueryConfigurationException(
-					MessageFormat.format(
-							"Failed to construct Predicate from RSQL query: {0}", rsqlQuery
-					), ex
-			);
-		}
+		// Parse and validate the RSQL query, or reuse a previously validated plan
+		QueryPlan plan = queryPlanner.plan(
+				rsqlQuery,
+				getEntityClass(),
+				dtoClass,
+				allowAndOperation,
+				allowOrOperation,
+				maxASTDepth
+		);
+		if (plan.isUnsatisfiable()) return unsatisfiableSpecification;
+		FilterProgram program = plan.getProgram();
+
+		return (Root<E> root, CriteriaQuery<?> ignored, CriteriaBuilder cb) -> {
+			try {
+				// Apply the compiled filter program to this root
+				return program.toPredicate(root, cb, customPredicates);
+			}
+			catch (Exception ex) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"Failed to convert RSQL filter program to JPA Predicate: {0}", ex.getMessage()
+				), ex);
+			}
+		};
 	}
 
 	/**
@@ -510,7 +910,9 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 	 * <p>Each {@link Sort.Order} is processed independently. The order property
 	 * is first mapped from the caller-visible DTO selector path to an entity
 	 * attribute path. The terminal DTO field referenced by that selector is then
-	 * validated with the {@link SortableFieldValidator}. Once validated, the
+	 * validated with the {@link SortableFieldValidator}; selectors that the
+	 * {@link QueryContract} of the entity/DTO pair already lists as sortable
+	 * skip both steps. Once validated, the
 	 * mapped entity path is resolved into a chained JPA {@link Path}, and either
 	 * an ascending or descending {@link Order} is created to match the original
 	 * sort direction.</p>
@@ -530,18 +932,13 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 	 */
 	private List<Order> mapSortToJpaOrders(Sort sort, Root<E> root, CriteriaBuilder cb, Class<?> dtoClass) {
 		try {
-			DTOToEntityPathMapper pathMapper = pathMapperFactory.newMapper(getEntityClass(), dtoClass);
+			QueryContract contract = queryContractRegistry.getContract(getEntityClass(), dtoClass);
 			List<Order> orders = new ArrayList<>();
 			for (Sort.Order order: sort) {
-				String dtoPath = order.getProperty();
-
-				// Convert the DTO path to an entity path
-				MappingResult mappingResult = pathMapper.map(dtoPath);
+				// Map and validate the DTO path
+				MappingResult mappingResult = mapSortProperty(order.getProperty(), contract);
 				String entityPath = mappingResult.getPath();
 
-				// Validate the terminal field of the mapped entity path
-				sortableFieldValidator.validate(mappingResult.getTerminalDTOField(), dtoPath);
-
 				Path<?> path = getJPAPathFromEntityPath(root, entityPath);
 				Order jpaOrder;
 				if (order.isAscending()) jpaOrder = cb.asc(path);
@@ -560,6 +957,53 @@ public class WebQueryRepositoryImpl<E> implements WebQueryRepository<E>, Reposit
 		}
 	}
 
+	/**
+	 * Validates the requested sort orders without building a query.
+	 *
+	 * <p>Used when query execution is skipped, so that a request with an
+	 * invalid sort is rejected regardless of whether its filter can match.</p>
+	 *
+	 * @param sort sort specification supplied through the current {@link Pageable}
+	 * @param dtoClass DTO type that defines the sortable selector contract
+	 */
+	private void validateSort(Sort sort, Class<?> dtoClass) {
+		try {
+			QueryContract contract = queryContractRegistry.getContract(getEntityClass(), dtoClass);
+			for (Sort.Order order: sort) mapSortProperty(order.getProperty(), contract);
+		}
+		catch (QueryException ex) {
+			throw ex;
+		}
+		catch (RuntimeException ex) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Failed to validate Sort: {0}", sort
+			), ex);
+		}
+	}
+
+	/**
+	 * Maps a sort property to an entity path and validates that it is sortable.
+	 *
+	 * @param dtoPath sort property expressed against the DTO contract
+	 * @param contract precomputed contract of the entity/DTO pair
+	 *
+	 * @return mapping result of the sort property
+	 */
+	private MappingResult mapSortProperty(String dtoPath, QueryContract contract) {
+		// Serve known sortable selectors from the precomputed contract without reflection
+		FieldContract fieldContract = contract.getField(dtoPath);
+		if (fieldContract != null && fieldContract.isSortable()) return fieldContract.getMappingResult();
+
+		// Convert the DTO path to an entity path
+		MappingResult mappingResult = pathMapperFactory
+				.newMapper(contract.getEntityClass(), contract.getDtoClass())
+				.map(dtoPath);
+
+		// Validate the terminal field of the mapped entity path, reporting why it is rejected
+		sortableFieldValidator.validate(mappingResult.getTerminalDTOField(), dtoPath);
+		return mappingResult;
+	}
+
 	/**
 	 * Resolves a dotted entity attribute path into a chained JPA {@link Path}.
 	 *
@@ -16,8 +16,10 @@
 
 package in.co.akshitbansal.springwebquery.resolver;
 
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -27,7 +29,10 @@ import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Resolves dotted field paths against a root class using reflection.
@@ -59,6 +64,14 @@ import java.util.List;
  *
  * <p>No special path syntax is supported beyond dot-separated field names.
  * Empty or unresolvable segments fail immediately.</p>
+ *
+ * <p>The fields of each class are indexed once per class in a
+ * {@link ClassValue}: the hierarchy is flattened into a name-to-field map,
+ * and the type that the next segment is resolved against is computed when the
+ * index is built. Resolving a path therefore costs one map lookup per segment,
+ * without copying field arrays or throwing exceptions for fields declared on
+ * superclasses. The index is shared by all resolvers and is released together
+ * with the indexed class.</p>
  */
 @RequiredArgsConstructor(staticName = "of")
 public class ReflectiveFieldResolver {
@@ -69,6 +82,17 @@ public class ReflectiveFieldResolver {
 	@NonNull
 	private final Class<?> clazz;
 
+	/**
+	 * Flattened field index of every class paths have been resolved against.
+	 */
+	private static final ClassValue<Map<String, IndexedField>> FIELD_INDEX = new ClassValue<>() {
+
+		@Override
+		protected Map<String, IndexedField> computeValue(Class<?> type) {
+			return indexFields(type);
+		}
+	};
+
 	/**
 	 * Resolves a dotted field path from the configured root class.
 	 *
@@ -94,48 +118,46 @@ public class ReflectiveFieldResolver {
 	 */
 	public List<Field> resolveFieldPath(@NonNull String path) {
 		if (path.isEmpty()) throw new IllegalArgumentException("Field path cannot be empty");
-		String[] fieldNames = path.split("\\.", -1);
 		Class<?> current = clazz;
 		List<Field> fieldPath = new ArrayList<>();
-		for (String fieldName: fieldNames) {
+		int start = 0;
+		while (true) {
+			int end = path.indexOf('.', start);
+			String fieldName = end < 0 ? path.substring(start) : path.substring(start, end);
 			if (fieldName.isEmpty()) throw new IllegalArgumentException("Field path cannot contain empty segments");
-			Field field = resolveFieldUpHierarchy(current, fieldName);
-			fieldPath.add(field);
-			current = unwrapContainerType(field);
+			IndexedField indexedField = FIELD_INDEX.get(current).get(fieldName);
+			if (indexedField == null) throw new IllegalArgumentException(MessageFormat.format(
+					"Field ''{0}'' not found in class hierarchy of {1}", fieldName, current
+			));
+			fieldPath.add(indexedField.getField());
+			current = indexedField.getNextType();
+			if (end < 0) break;
+			start = end + 1;
 		}
 		return Collections.unmodifiableList(fieldPath);
 	}
 
 	/**
-	 * Resolves one field name against a class and its superclasses.
+	 * Indexes the declared fields of a class and its superclasses by name.
 	 *
-	 * <p>The search starts at {@code type} and walks upward using
-	 * {@link Class#getSuperclass()}. Because the lookup is based on
-	 * {@link Class#getDeclaredField(String)}, non-public fields are eligible, and
-	 * a field declared on a subclass takes precedence over a field with the same
-	 * name declared higher in the hierarchy.</p>
+	 * <p>The hierarchy is walked upward using {@link Class#getSuperclass()}.
+	 * Because the index is built from {@link Class#getDeclaredFields()},
+	 * non-public fields are eligible, and a field declared on a subclass takes
+	 * precedence over a field with the same name declared higher in the
+	 * hierarchy.</p>
 	 *
-	 * @param type the class to start searching for the field
-	 * @param name the field name to resolve
+	 * @param type the class whose fields are indexed
 	 *
-	 * @return the resolved field
-	 *
-	 * @throws IllegalArgumentException if no declared field with the given name
-	 * exists in the class hierarchy
+	 * @return unmodifiable field index keyed by field name
 	 */
-	private Field resolveFieldUpHierarchy(Class<?> type, String name) {
-		Class<?> current = type;
-		while (current != null) {
-			try {
-				return current.getDeclaredField(name);
-			}
-			catch (NoSuchFieldException ignored) {
-				current = current.getSuperclass();
+	private static Map<String, IndexedField> indexFields(Class<?> type) {
+		Map<String, IndexedField> index = new HashMap<>();
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			for (Field field: current.getDeclaredFields()) {
+				if (!index.containsKey(field.getName())) index.put(field.getName(), new IndexedField(field));
 			}
 		}
-		throw new IllegalArgumentException(MessageFormat.format(
-				"Field ''{0}'' not found in class hierarchy of {1}", name, type
-		));
+		return Collections.unmodifiableMap(index);
 	}
 
 	/**
@@ -157,7 +179,7 @@ public class ReflectiveFieldResolver {
 	 * @throws UnsupportedOperationException if the next traversal type cannot be
 	 * resolved from the field declaration
 	 */
-	private Class<?> unwrapContainerType(Field field) {
+	private static Class<?> unwrapContainerType(Field field) {
 		Class<?> type = field.getType();
 		if (type.isArray()) return type.getComponentType();
 		if (Collection.class.isAssignableFrom(type)) return resolveGenericArgument(field, 0);
@@ -182,7 +204,7 @@ public class ReflectiveFieldResolver {
 	 * parameterized generic information or the selected argument cannot be
 	 * converted into a concrete class
 	 */
-	private Class<?> resolveGenericArgument(Field field, int index) {
+	private static Class<?> resolveGenericArgument(Field field, int index) {
 		Type type = field.getGenericType();
 		if (!(type instanceof ParameterizedType parameterizedType))
 			throw new UnsupportedOperationException("Cannot resolve generic type for field: " + field.getName());
@@ -213,10 +235,72 @@ public class ReflectiveFieldResolver {
 	 * @throws UnsupportedOperationException if the type cannot be converted into
 	 * a concrete traversal class
 	 */
-	private Class<?> toClass(Type type) {
+	private static Class<?> toClass(Type type) {
 		if (type instanceof Class<?>) return (Class<?>) type;
 		if (type instanceof ParameterizedType parameterizedType) return (Class<?>) parameterizedType.getRawType();
 		if (type instanceof WildcardType wt) return toClass(wt.getUpperBounds()[0]);
 		throw new UnsupportedOperationException("Unsupported generic type: " + type);
 	}
+
+	/**
+	 * Indexed field together with the type its next path segment is resolved
+	 * against.
+	 */
+	private static final class IndexedField {
+
+		/**
+		 * Indexed field.
+		 */
+		@Getter
+		private final Field field;
+
+		/**
+		 * Type the next path segment is resolved against, or {@code null} if
+		 * it cannot be resolved.
+		 */
+		@Nullable
+		private final Class<?> nextType;
+
+		/**
+		 * Failure raised when the next type was computed, or {@code null} if
+		 * it was resolved.
+		 */
+		@Nullable
+		private final UnsupportedOperationException nextTypeFailure;
+
+		/**
+		 * Indexes a field and computes the type its next path segment is
+		 * resolved against.
+		 *
+		 * @param field field to index
+		 */
+		IndexedField(Field field) {
+			this.field = field;
+			Class<?> resolvedType = null;
+			UnsupportedOperationException failure = null;
+			try {
+				resolvedType = unwrapContainerType(field);
+			}
+			catch (UnsupportedOperationException ex) {
+				failure = ex;
+			}
+			this.nextType = resolvedType;
+			this.nextTypeFailure = failure;
+		}
+
+		/**
+		 * Returns the type the next path segment is resolved against.
+		 *
+		 * @return next traversal type
+		 *
+		 * @throws UnsupportedOperationException if the field is a collection
+		 * whose element type cannot be resolved reflectively
+		 */
+		Class<?> getNextType() {
+			if (nextType != null) return nextType;
+			throw new UnsupportedOperationException(
+					Objects.requireNonNull(nextTypeFailure).getMessage(), nextTypeFailure
+			);
+		}
+	}
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.resolver;
+
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Decides which types reflective walks over DTO and entity fields descend
+ * into.
+ *
+ * <p>The query contract, derived selections, and ahead-of-time reflection
+ * hints all walk the same field graphs, so they share these rules. The
+ * annotation processor applies the same rules to source types and must be
+ * kept in step with this class.</p>
+ */
+public final class TraversableTypes {
+
+	/**
+	 * Package prefixes of platform types, whose fields are never walked.
+	 */
+	private static final List<String> PLATFORM_PACKAGE_PREFIXES = List.of(
+			"java.", "javax.", "jakarta.", "jdk.", "sun.", "com.sun."
+	);
+
+	private TraversableTypes() {
+	}
+
+	/**
+	 * Determines the type that nested path segments are resolved against.
+	 *
+	 * @param field field being traversed
+	 *
+	 * @return element type for arrays and collections, the declared type
+	 * otherwise, or {@code null} if a collection's element type is unknown
+	 */
+	@Nullable
+	public static Class<?> unwrapContainerType(@NonNull Field field) {
+		Class<?> type = field.getType();
+		if (type.isArray()) return type.getComponentType();
+		if (!Collection.class.isAssignableFrom(type)) return type;
+		if (!(field.getGenericType() instanceof ParameterizedType parameterizedType)) return null;
+		Type elementType = parameterizedType.getActualTypeArguments()[0];
+		if (elementType instanceof Class<?> elementClass) return elementClass;
+		if (elementType instanceof ParameterizedType parameterizedElementType)
+			return (Class<?>) parameterizedElementType.getRawType();
+		return null;
+	}
+
+	/**
+	 * Returns whether a type is an application type whose fields may be
+	 * walked.
+	 *
+	 * @param type candidate type
+	 *
+	 * @return {@code false} for primitives, arrays, enums, interfaces,
+	 * annotations, and platform types
+	 */
+	public static boolean isTraversable(@NonNull Class<?> type) {
+		if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface()) return false;
+		if (type.getClassLoader() == null) return false;
+		String name = type.getName();
+		for (String prefix: PLATFORM_PACKAGE_PREFIXES) {
+			if (name.startsWith(prefix)) return false;
+		}
+		return true;
+	}
+}
@@ -16,8 +16,6 @@
 
 package in.co.akshitbansal.springwebquery.tupleconverter;
 
-import jakarta.persistence.Tuple;
-import jakarta.persistence.TupleElement;
 import lombok.*;
 
 import java.lang.reflect.Constructor;
@@ -50,19 +48,23 @@ public class CachedPreferredConstructorDiscoverer<T> extends PreferredConstructo
 	}
 
 	/**
-	 * Finds a constructor for the supplied tuple, serving the result from the
-	 * shared cache whenever the tuple shape has already been seen.
+	 * Finds a constructor for the supplied tuple shape, serving the result from
+	 * the shared cache whenever the shape has already been seen.
 	 *
-	 * @param tuple tuple whose values will be passed to the constructor
+	 * <p>{@link #discover(jakarta.persistence.Tuple)} delegates here, so
+	 * constructors discovered ahead of time for a shape are reused by later
+	 * tuples of the same shape.</p>
+	 *
+	 * @param elementTypes Java types of the tuple elements, in order
 	 *
 	 * @return cached or freshly discovered matching constructor
 	 */
 	@Override
-	public Constructor<T> discover(@NonNull Tuple tuple) {
+	public Constructor<T> discoverForShape(@NonNull List<Class<?>> elementTypes) {
 		// noinspection unchecked
 		return (Constructor<T>) constructorCache.computeIfAbsent(
-				newCacheKey(tuple),
-				ignored -> super.discover(tuple)
+				newCacheKey(elementTypes),
+				ignored -> super.discoverForShape(elementTypes)
 		);
 	}
 
@@ -72,14 +74,15 @@ public class CachedPreferredConstructorDiscoverer<T> extends PreferredConstructo
 	 * <p>The key is defined by the target DTO type and the ordered Java types of
 	 * the tuple elements. Tuple values and aliases are not considered.</p>
 	 *
-	 * @param tuple tuple whose positional shape identifies the constructor lookup
+	 * @param elementTypes positional tuple element types identifying the
+	 * constructor lookup
 	 *
 	 * @return cache key for the requested tuple conversion
 	 */
-	private CacheKey newCacheKey(Tuple tuple) {
+	private CacheKey newCacheKey(List<Class<?>> elementTypes) {
 		List<Class<?>> parameterTypes = new ArrayList<>();
-		for(TupleElement<?> tupleElement: tuple.getElements())
-			parameterTypes.add(wrap(tupleElement.getJavaType()));
+		for(Class<?> elementType: elementTypes)
+			parameterTypes.add(wrap(elementType));
 		return CacheKey.of(clazz, parameterTypes);
 	}
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Binds named values to the parameters of a DTO constructor by name.
+ *
+ * <p>Parameter names are taken from the class file when it was compiled with
+ * {@code -parameters}. Otherwise they are taken from the instance fields of
+ * the DTO, superclass fields first and in declaration order, but only when the
+ * field types line up with the parameter types one by one, as for the
+ * constructors Lombok generates from all fields or from the final fields.
+ * When neither source names the parameters, values are bound by position,
+ * which is rejected if two parameters share a type and could silently receive
+ * each other's values.</p>
+ */
+public final class ConstructorParameters {
+
+	private ConstructorParameters() {
+	}
+
+	/**
+	 * Binds named values to the parameters of a constructor.
+	 *
+	 * @param constructor constructor the values are passed to
+	 * @param names value names, in order
+	 * @param types Java types of the values, in the same order
+	 *
+	 * @return index of the value bound to each parameter, in parameter order
+	 *
+	 * @throws QueryConfigurationException if the parameter count differs from
+	 * the value count, if a value is bound to a parameter whose type cannot
+	 * accept it, or if the parameters are unnamed and share a type
+	 */
+	public static int[] bindByName(
+			@NonNull Constructor<?> constructor,
+			@NonNull List<String> names,
+			@NonNull List<Class<?>> types
+	) {
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		if (parameterTypes.length != names.size()) throw new QueryConfigurationException(MessageFormat.format(
+				"Constructor {0} does not accept the {1} values {2}",
+				constructor, names.size(), names
+		));
+
+		int[] valueIndexes = null;
+		List<String> parameterNames = getNames(constructor);
+		if (parameterNames != null) valueIndexes = indexesOf(parameterNames, names);
+		if (valueIndexes == null) {
+			Set<Class<?>> distinctTypes = new HashSet<>();
+			for (Class<?> parameterType: parameterTypes) {
+				if (!distinctTypes.add(PrimitiveTypes.wrap(parameterType))) throw new QueryConfigurationException(MessageFormat.format(
+						"Cannot bind values {0} to constructor {1} by name: its parameters share type {2}, "
+								+ "compile with -parameters or declare the fields in constructor order",
+						names, constructor, parameterType.getName()
+				));
+			}
+			valueIndexes = new int[parameterTypes.length];
+			for (int idx = 0; idx < valueIndexes.length; idx++) valueIndexes[idx] = idx;
+		}
+
+		for (int idx = 0; idx < parameterTypes.length; idx++) {
+			int valueIndex = valueIndexes[idx];
+			if (!PrimitiveTypes.wrap(parameterTypes[idx]).isAssignableFrom(PrimitiveTypes.wrap(types.get(valueIndex)))) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"Value {0} of type {1} cannot be assigned to parameter of type {2} of constructor {3}",
+						names.get(valueIndex), types.get(valueIndex).getName(), parameterTypes[idx].getName(), constructor
+				));
+			}
+		}
+		return valueIndexes;
+	}
+
+	/**
+	 * Returns the names of the parameters of a constructor.
+	 *
+	 * @param constructor constructor whose parameters are named
+	 *
+	 * @return parameter names in parameter order, or {@code null} if neither
+	 * the class file nor the fields of the declaring class name them
+	 */
+	@Nullable
+	public static List<String> getNames(@NonNull Constructor<?> constructor) {
+		Parameter[] parameters = constructor.getParameters();
+		List<String> names = new ArrayList<>(parameters.length);
+		for (Parameter parameter: parameters) {
+			if (!parameter.isNamePresent()) break;
+			names.add(parameter.getName());
+		}
+		if (names.size() == parameters.length) return names;
+
+		List<Field> fields = getFieldsDownHierarchy(constructor.getDeclaringClass());
+		List<String> fieldNames = getNamesIfAligned(fields, constructor.getParameterTypes());
+		if (fieldNames != null) return fieldNames;
+		fields.removeIf(field -> !Modifier.isFinal(field.getModifiers()));
+		return getNamesIfAligned(fields, constructor.getParameterTypes());
+	}
+
+	/**
+	 * Returns the names of fields whose types equal the parameter types one by
+	 * one.
+	 */
+	@Nullable
+	private static List<String> getNamesIfAligned(List<Field> fields, Class<?>[] parameterTypes) {
+		if (fields.size() != parameterTypes.length) return null;
+		List<String> names = new ArrayList<>(fields.size());
+		for (int idx = 0; idx < parameterTypes.length; idx++) {
+			if (fields.get(idx).getType() != parameterTypes[idx]) return null;
+			names.add(fields.get(idx).getName());
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the index of each parameter name among the value names, or
+	 * {@code null} if the names differ.
+	 */
+	private static int @Nullable [] indexesOf(List<String> parameterNames, List<String> names) {
+		int[] valueIndexes = new int[parameterNames.size()];
+		Set<String> bound = new HashSet<>();
+		for (int idx = 0; idx < valueIndexes.length; idx++) {
+			String parameterName = parameterNames.get(idx);
+			valueIndexes[idx] = names.indexOf(parameterName);
+			if (valueIndexes[idx] < 0 || !bound.add(parameterName)) return null;
+		}
+		return valueIndexes;
+	}
+
+	/**
+	 * Returns the instance fields of a type, superclass fields first and in
+	 * declaration order.
+	 */
+	private static List<Field> getFieldsDownHierarchy(Class<?> type) {
+		Deque<Class<?>> hierarchy = new ArrayDeque<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass())
+			hierarchy.push(current);
+		List<Field> fields = new ArrayList<>();
+		for (Class<?> current: hierarchy) {
+			for (Field field: current.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) continue;
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+}
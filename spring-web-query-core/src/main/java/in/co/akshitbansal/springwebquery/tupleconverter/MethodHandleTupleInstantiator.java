@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import jakarta.persistence.Tuple;
+import lombok.NonNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.text.MessageFormat;
+
+/**
+ * {@link TupleInstantiator} that invokes a DTO constructor through a
+ * {@link MethodHandle} compiled once from the discovered constructor.
+ *
+ * <p>The constructor handle is adapted at creation time to accept the tuple
+ * values as one {@code Object[]} and to return {@code Object}, so the spreading
+ * of the values, their casts and the unboxing of primitive parameters are
+ * bound into the handle. Each row is then converted with a single
+ * {@link MethodHandle#invokeExact} call, without the per-call access checks,
+ * argument array copy and argument type checks of
+ * {@link Constructor#newInstance(Object...)}. When tuple elements are bound to
+ * parameters out of order, the reordering is bound into the handle as
+ * well.</p>
+ *
+ * @param <T> target DTO type
+ */
+class MethodHandleTupleInstantiator<T> implements TupleInstantiator<T> {
+
+	/**
+	 * Constructor handle of type {@code (Object[])Object}.
+	 */
+	private final MethodHandle constructorHandle;
+
+	private MethodHandleTupleInstantiator(MethodHandle constructorHandle) {
+		this.constructorHandle = constructorHandle;
+	}
+
+	/**
+	 * Compiles the supplied constructor into an instantiator.
+	 *
+	 * @param constructor constructor to invoke, already made accessible if it
+	 * is not public
+	 * @param <T> target DTO type
+	 *
+	 * @return instantiator invoking the constructor
+	 *
+	 * @throws QueryConfigurationException if the constructor cannot be
+	 * converted to a method handle
+	 */
+	static <T> MethodHandleTupleInstantiator<T> of(@NonNull Constructor<T> constructor) {
+		int[] elementIndexes = new int[constructor.getParameterCount()];
+		for (int idx = 0; idx < elementIndexes.length; idx++) elementIndexes[idx] = idx;
+		return of(constructor, elementIndexes);
+	}
+
+	/**
+	 * Compiles the supplied constructor into an instantiator that passes the
+	 * tuple elements to the constructor in the supplied order.
+	 *
+	 * @param constructor constructor to invoke, already made accessible if it
+	 * is not public
+	 * @param elementIndexes index of the tuple element passed as each
+	 * constructor parameter, in parameter order
+	 * @param <T> target DTO type
+	 *
+	 * @return instantiator invoking the constructor
+	 *
+	 * @throws QueryConfigurationException if the constructor cannot be
+	 * converted to a method handle
+	 */
+	static <T> MethodHandleTupleInstantiator<T> of(@NonNull Constructor<T> constructor, int[] elementIndexes) {
+		try {
+			MethodType genericType = MethodType.genericMethodType(elementIndexes.length);
+			MethodHandle handle = MethodHandles
+					.lookup()
+					.unreflectConstructor(constructor)
+					.asType(genericType);
+			if (!isIdentity(elementIndexes)) handle = MethodHandles.permuteArguments(handle, genericType, elementIndexes);
+			handle = handle.asSpreader(Object[].class, elementIndexes.length);
+			return new MethodHandleTupleInstantiator<>(handle);
+		}
+		catch (IllegalAccessException ex) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Failed to create method handle for constructor {0}: {1}",
+					constructor, ex.getMessage()
+			), ex);
+		}
+	}
+
+	/**
+	 * Checks whether every tuple element is passed at its own position.
+	 */
+	private static boolean isIdentity(int[] elementIndexes) {
+		for (int idx = 0; idx < elementIndexes.length; idx++) {
+			if (elementIndexes[idx] != idx) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public T instantiate(@NonNull Tuple tuple) throws Throwable {
+		// the handle is created from a Constructor<T>, so it always returns a T
+		// noinspection unchecked
+		return (T) (Object) constructorHandle.invokeExact(tuple.toArray());
+	}
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.resolver.ReflectiveFieldResolver;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TupleInstantiator} that assembles a nested DTO graph from one flat
+ * tuple.
+ *
+ * <p>Every tuple element must carry an alias holding the DTO field path it
+ * populates, such as {@code profile.primaryAddress.city}. Paths are resolved
+ * against the DTO fields once, when the instantiator is created, and grouped
+ * into one node per nested DTO. Each node is then bound to a constructor:</p>
+ * <ul>
+ *   <li>records use their canonical constructor, with values bound to
+ *       components by name</li>
+ *   <li>other classes use the constructor that
+ *       {@link PreferredConstructorDiscoverer} selects for the node's values,
+ *       taken in the order their paths first appear in the tuple, with values
+ *       bound to parameters by name as described for
+ *       {@link ConstructorParameters}</li>
+ * </ul>
+ *
+ * <p>The constructors of all nodes are composed into a single method handle
+ * that reads the tuple elements by index, so assembling a row involves no
+ * reflection and no intermediate arrays. A nested DTO whose values are all
+ * {@code null}, as produced by an outer join without a match, is assembled as
+ * {@code null}.</p>
+ *
+ * @param <T> target DTO type
+ */
+final class NestedTupleInstantiator<T> implements TupleInstantiator<T> {
+
+	/**
+	 * {@link Tuple#get(int)}, of type {@code (Tuple, int)Object}.
+	 */
+	private static final MethodHandle TUPLE_GET;
+
+	/**
+	 * {@link #allNull(int[], Tuple)}, of type {@code (int[], Tuple)boolean}.
+	 */
+	private static final MethodHandle ALL_NULL;
+
+	/**
+	 * Type of the handle assembling one node.
+	 */
+	private static final MethodType NODE_TYPE = MethodType.methodType(Object.class, Tuple.class);
+
+	static {
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		try {
+			TUPLE_GET = lookup.findVirtual(Tuple.class, "get", MethodType.methodType(Object.class, int.class));
+			ALL_NULL = lookup.findStatic(
+					NestedTupleInstantiator.class, "allNull",
+					MethodType.methodType(boolean.class, int[].class, Tuple.class)
+			);
+		}
+		catch (ReflectiveOperationException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Handle of type {@code (Tuple)Object} assembling the root DTO.
+	 */
+	private final MethodHandle assembler;
+
+	private NestedTupleInstantiator(MethodHandle assembler) {
+		this.assembler = assembler;
+	}
+
+	/**
+	 * Compiles the assembly plan of a DTO for tuples of the supplied shape.
+	 *
+	 * @param clazz root DTO type
+	 * @param elements tuple elements, in order, aliased with DTO field paths
+	 * @param <T> target DTO type
+	 *
+	 * @return instantiator assembling the DTO graph
+	 *
+	 * @throws QueryConfigurationException if an element has no alias, if an
+	 * alias does not resolve to a DTO field path, crosses a collection or
+	 * conflicts with another alias, or if no constructor accepts the values
+	 * of a node by name
+	 */
+	static <T> NestedTupleInstantiator<T> of(@NonNull Class<T> clazz, @NonNull List<? extends TupleElement<?>> elements) {
+		Node root = new Node(clazz);
+		for (int idx = 0; idx < elements.size(); idx++) {
+			TupleElement<?> element = elements.get(idx);
+			String alias = element.getAlias();
+			if (alias == null) throw new QueryConfigurationException(MessageFormat.format(
+					"Tuple element {0} of nested projection into {1} has no alias",
+					idx, clazz.getName()
+			));
+			root.add(alias, resolveFieldPath(clazz, alias), 0, idx, element.getJavaType());
+		}
+		return new NestedTupleInstantiator<>(compile(root));
+	}
+
+	@Override
+	public T instantiate(@NonNull Tuple tuple) throws Throwable {
+		// the root handle invokes a constructor of T, so it always returns a T
+		// noinspection unchecked
+		return (T) (Object) assembler.invokeExact(tuple);
+	}
+
+	/**
+	 * Resolves an alias to the DTO fields it traverses.
+	 */
+	private static List<Field> resolveFieldPath(Class<?> clazz, String alias) {
+		try {
+			return ReflectiveFieldResolver.of(clazz).resolveFieldPath(alias);
+		}
+		catch (RuntimeException ex) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Alias ''{0}'' of nested projection into {1} is not a DTO field path: {2}",
+					alias, clazz.getName(), ex.getMessage()
+			), ex);
+		}
+	}
+
+	/**
+	 * Compiles the handle of type {@code (Tuple)Object} assembling one node.
+	 */
+	private static MethodHandle compile(Node node) {
+		List<Child> children = new ArrayList<>(node.children.values());
+		List<String> names = new ArrayList<>(children.size());
+		List<Class<?>> types = new ArrayList<>(children.size());
+		for (Child child: children) {
+			names.add(child.name);
+			types.add(child.type);
+		}
+
+		Constructor<?> constructor;
+		int[] childIndexes;
+		if (node.type.isRecord()) {
+			RecordDescriptor<?> descriptor = RecordDescriptor.of(node.type);
+			int[] bound = descriptor.bindByName(names, types);
+			if (bound == null) throw new QueryConfigurationException(MessageFormat.format(
+					"Nested projection values {0} do not name exactly the components of record {1}",
+					names, node.type.getName()
+			));
+			constructor = descriptor.getCanonicalConstructor();
+			childIndexes = bound;
+		}
+		else {
+			constructor = new PreferredConstructorDiscoverer<>(node.type).discoverForShape(types);
+			childIndexes = ConstructorParameters.bindByName(constructor, names, types);
+		}
+
+		MethodHandle[] valueReaders = new MethodHandle[childIndexes.length];
+		for (int idx = 0; idx < childIndexes.length; idx++) {
+			Child child = children.get(childIndexes[idx]);
+			Node childNode = child.node;
+			valueReaders[idx] = childNode == null
+					? MethodHandles.insertArguments(TUPLE_GET, 1, child.elementIndex)
+					: compileNullable(childNode);
+		}
+		try {
+			MethodHandle handle = MethodHandles
+					.lookup()
+					.unreflectConstructor(constructor)
+					.asType(MethodType.genericMethodType(valueReaders.length));
+			handle = MethodHandles.filterArguments(handle, 0, valueReaders);
+			// every value reader takes the same tuple
+			return MethodHandles.permuteArguments(handle, NODE_TYPE, new int[valueReaders.length]);
+		}
+		catch (IllegalAccessException ex) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Failed to create method handle for constructor {0}: {1}",
+					constructor, ex.getMessage()
+			), ex);
+		}
+	}
+
+	/**
+	 * Compiles the handle of a nested node, which yields {@code null} when all
+	 * values of the node are {@code null}.
+	 */
+	private static MethodHandle compileNullable(Node node) {
+		List<Integer> elementIndexes = new ArrayList<>();
+		node.collectElementIndexes(elementIndexes);
+		int[] indexes = elementIndexes.stream().mapToInt(Integer::intValue).toArray();
+		return MethodHandles.guardWithTest(
+				MethodHandles.insertArguments(ALL_NULL, 0, (Object) indexes),
+				MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Tuple.class),
+				compile(node)
+		);
+	}
+
+	/**
+	 * Checks whether all the supplied tuple elements are {@code null}.
+	 */
+	private static boolean allNull(int[] elementIndexes, Tuple tuple) {
+		for (int elementIndex: elementIndexes) {
+			if (tuple.get(elementIndex) != null) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * One DTO of the assembled graph and the values passed to its constructor.
+	 */
+	private static final class Node {
+
+		/**
+		 * DTO type of the node.
+		 */
+		private final Class<?> type;
+
+		/**
+		 * Constructor values by DTO field name, in order of first appearance.
+		 */
+		private final Map<String, Child> children = new LinkedHashMap<>();
+
+		private Node(Class<?> type) {
+			this.type = type;
+		}
+
+		/**
+		 * Adds the tuple element populating the remainder of a field path.
+		 */
+		private void add(String alias, List<Field> fieldPath, int depth, int elementIndex, Class<?> elementType) {
+			Field field = fieldPath.get(depth);
+			Child child = children.get(field.getName());
+			if (depth == fieldPath.size() - 1) {
+				if (child != null) throw new QueryConfigurationException(MessageFormat.format(
+						"Alias ''{0}'' of nested projection into {1} conflicts with another alias",
+						alias, type.getName()
+				));
+				children.put(field.getName(), new Child(field.getName(), elementType, elementIndex, null));
+				return;
+			}
+			Class<?> fieldType = field.getType();
+			if (fieldType.isArray() || Collection.class.isAssignableFrom(fieldType)) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"Alias ''{0}'' of nested projection into {1} traverses collection field ''{2}''",
+						alias, type.getName(), field.getName()
+				));
+			}
+			if (child == null) {
+				child = new Child(field.getName(), fieldType, -1, new Node(fieldType));
+				children.put(field.getName(), child);
+			}
+			Node childNode = child.node;
+			if (childNode == null) throw new QueryConfigurationException(MessageFormat.format(
+					"Alias ''{0}'' of nested projection into {1} conflicts with another alias",
+					alias, type.getName()
+			));
+			childNode.add(alias, fieldPath, depth + 1, elementIndex, elementType);
+		}
+
+		/**
+		 * Collects the indexes of all tuple elements beneath this node.
+		 */
+		private void collectElementIndexes(List<Integer> elementIndexes) {
+			for (Child child: children.values()) {
+				Node childNode = child.node;
+				if (childNode == null) elementIndexes.add(child.elementIndex);
+				else childNode.collectElementIndexes(elementIndexes);
+			}
+		}
+	}
+
+	/**
+	 * One constructor value of a node: a tuple element or a nested DTO.
+	 */
+	private static final class Child {
+
+		/**
+		 * DTO field name the value populates.
+		 */
+		private final String name;
+
+		/**
+		 * Java type of the value.
+		 */
+		private final Class<?> type;
+
+		/**
+		 * Index of the tuple element holding the value, or {@code -1} for a
+		 * nested DTO.
+		 */
+		private final int elementIndex;
+
+		/**
+		 * Nested DTO assembled as the value, or {@code null} for a tuple
+		 * element.
+		 */
+		@Nullable
+		private final Node node;
+
+		private Child(String name, Class<?> type, int elementIndex, @Nullable Node node) {
+			this.name = name;
+			this.type = type;
+			this.elementIndex = elementIndex;
+			this.node = node;
+		}
+	}
+}
@@ -27,6 +27,7 @@ import org.springframework.data.annotation.PersistenceCreator;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -53,6 +54,13 @@ import java.util.stream.Collectors;
  * {@link QueryConfigurationException} when ambiguity remains unresolved,
  * including when multiple matching constructors are annotated.</p>
  *
+ * <p>Records take a shortcut: when the tuple shape matches the record
+ * components position by position, the canonical constructor known from the
+ * {@link java.lang.reflect.RecordComponent} metadata is selected directly,
+ * without scanning the other constructors or reporting ambiguity. The
+ * shortcut is skipped when a constructor of the record is annotated with
+ * {@link PersistenceCreator}.</p>
+ *
  * @param <T> target DTO type
  */
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
@@ -98,13 +106,40 @@ public class PreferredConstructorDiscoverer<T> {
 	 * {@link PersistenceCreator}
 	 */
 	public Constructor<T> discover(@NonNull Tuple tuple) {
+		List<Class<?>> elementTypes = new ArrayList<>(tuple.getElements().size());
+		for (TupleElement<?> tupleElement: tuple.getElements()) elementTypes.add(tupleElement.getJavaType());
+		return discoverForShape(elementTypes);
+	}
+
+	/**
+	 * Finds a constructor whose parameter list is compatible with a tuple of
+	 * the supplied positional element types and makes it accessible for later
+	 * invocation.
+	 *
+	 * <p>This is the shape-only form of {@link #discover(Tuple)}, which
+	 * delegates to it. It allows constructors to be discovered ahead of the
+	 * first query, for example while warming caches at startup.</p>
+	 *
+	 * @param elementTypes Java types of the tuple elements, in order
+	 *
+	 * @return matching constructor made accessible for invocation
+	 *
+	 * @throws QueryConfigurationException under the same conditions as
+	 * {@link #discover(Tuple)}
+	 */
+	public Constructor<T> discoverForShape(@NonNull List<Class<?>> elementTypes) {
+		if (clazz.isRecord()) {
+			RecordDescriptor<T> descriptor = RecordDescriptor.of(clazz);
+			if (descriptor.isCanonicalFor(elementTypes)) return descriptor.getCanonicalConstructor();
+		}
+
 		// Constructors are of type Constructor<T> only, but the returned array is of type Constructor<?>[]
 		// So we can safely cast here
 		// noinspection unchecked
 		Constructor<T>[] constructors = (Constructor<T>[]) clazz.getDeclaredConstructors();
 		List<Constructor<T>> matchingConstructors = Arrays
 				.stream(constructors)
-				.filter(constructor -> !constructor.isSynthetic() && isConstructorMatchingTuple(constructor, tuple))
+				.filter(constructor -> !constructor.isSynthetic() && isConstructorMatchingTuple(constructor, elementTypes))
 				.toList();
 		List<Constructor<T>> annotatedMatchingConstructors = matchingConstructors
 				.stream()
@@ -115,7 +150,7 @@ public class PreferredConstructorDiscoverer<T> {
 		if (matchingConstructors.isEmpty()) {
 			throw new QueryConfigurationException(MessageFormat.format(
 					"No suitable constructor found for tuple: {0}",
-					tupleToString(tuple)
+					tupleToString(elementTypes)
 			));
 		}
 		// matching constructors found
@@ -132,7 +167,7 @@ public class PreferredConstructorDiscoverer<T> {
 		if (annotatedMatchingConstructors.isEmpty()) {
 			throw new QueryConfigurationException(MessageFormat.format(
 					"Multiple suitable constructors found for tuple: {0}, consider annotating the desired constructor to be used with {1}",
-					tupleToString(tuple), PersistenceCreator.class.getName()
+					tupleToString(elementTypes), PersistenceCreator.class.getName()
 			));
 		}
 
@@ -146,7 +181,7 @@ public class PreferredConstructorDiscoverer<T> {
 
 		throw new QueryConfigurationException(MessageFormat.format(
 				"Multiple suitable constructors annotated with {0} found for tuple: {1}, consider annotating only the desired constructor to be used with {0}",
-				PersistenceCreator.class.getName(), tupleToString(tuple)
+				PersistenceCreator.class.getName(), tupleToString(elementTypes)
 		));
 	}
 
@@ -154,12 +189,11 @@ public class PreferredConstructorDiscoverer<T> {
 	 * Checks whether a constructor matches the tuple by parameter count and
 	 * positionally aligned parameter types.
 	 */
-	private boolean isConstructorMatchingTuple(Constructor<?> constructor, Tuple tuple) {
+	private boolean isConstructorMatchingTuple(Constructor<?> constructor, List<Class<?>> elementTypes) {
 		Parameter[] parameters = constructor.getParameters();
-		List<TupleElement<?>> tupleElements = tuple.getElements();
-		if (parameters.length != tupleElements.size()) return false;
+		if (parameters.length != elementTypes.size()) return false;
 		for (int idx = 0; idx < parameters.length; idx++) {
-			if (!isParameterMatchingTupleElement(parameters[idx], tupleElements.get(idx)))
+			if (!isParameterMatchingTupleElement(parameters[idx], elementTypes.get(idx)))
 				return false;
 		}
 		return true;
@@ -169,9 +203,9 @@ public class PreferredConstructorDiscoverer<T> {
 	 * Checks whether one constructor parameter can accept the tuple element at
 	 * the same position after primitive boxing.
 	 */
-	private boolean isParameterMatchingTupleElement(Parameter parameter, TupleElement<?> tupleElement) {
+	private boolean isParameterMatchingTupleElement(Parameter parameter, Class<?> elementType) {
 		Class<?> parameterType = wrap(parameter.getType());
-		Class<?> tupleElementType = wrap(tupleElement.getJavaType());
+		Class<?> tupleElementType = wrap(elementType);
 		return parameterType.isAssignableFrom(tupleElementType);
 	}
 
@@ -180,26 +214,15 @@ public class PreferredConstructorDiscoverer<T> {
 	 * checks are performed.
 	 */
 	protected Class<?> wrap(Class<?> clazz) {
-		if (!clazz.isPrimitive()) return clazz;
-		if (clazz == int.class) return Integer.class;
-		if (clazz == long.class) return Long.class;
-		if (clazz == double.class) return Double.class;
-		if (clazz == float.class) return Float.class;
-		if (clazz == boolean.class) return Boolean.class;
-		if (clazz == byte.class) return Byte.class;
-		if (clazz == short.class) return Short.class;
-		if (clazz == char.class) return Character.class;
-		throw new IllegalArgumentException("Unsupported primitive type: " + clazz);
+		return PrimitiveTypes.wrap(clazz);
 	}
 
 	/**
 	 * Renders tuple element types for error reporting.
 	 */
-	private String tupleToString(Tuple tuple) {
-		return tuple
-				.getElements()
+	private String tupleToString(List<Class<?>> elementTypes) {
+		return elementTypes
 				.stream()
-				.map(TupleElement::getJavaType)
 				.map(Class::toString)
 				.collect(Collectors.joining(", "));
 	}
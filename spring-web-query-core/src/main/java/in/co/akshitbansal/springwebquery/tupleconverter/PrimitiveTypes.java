@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+/**
+ * Primitive type helpers shared by constructor discovery and instantiator
+ * compilation.
+ */
+final class PrimitiveTypes {
+
+	private PrimitiveTypes() {
+	}
+
+	/**
+	 * Converts primitive types to their boxed equivalents; other types are
+	 * returned unchanged.
+	 *
+	 * @param clazz type to convert
+	 *
+	 * @return boxed equivalent of a primitive type, or the type itself
+	 */
+	static Class<?> wrap(Class<?> clazz) {
+		if (!clazz.isPrimitive()) return clazz;
+		if (clazz == int.class) return Integer.class;
+		if (clazz == long.class) return Long.class;
+		if (clazz == double.class) return Double.class;
+		if (clazz == float.class) return Float.class;
+		if (clazz == boolean.class) return Boolean.class;
+		if (clazz == byte.class) return Byte.class;
+		if (clazz == short.class) return Short.class;
+		if (clazz == char.class) return Character.class;
+		throw new IllegalArgumentException("Unsupported primitive type: " + clazz);
+	}
+}
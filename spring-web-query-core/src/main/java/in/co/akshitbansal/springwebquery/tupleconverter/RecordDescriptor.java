@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import jakarta.persistence.TupleElement;
+import lombok.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.annotation.PersistenceCreator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canonical constructor and component metadata of one record DTO, read once
+ * from its {@link RecordComponent}s and cached per record class.
+ *
+ * <p>Records are converted through their canonical constructor without
+ * scanning the declared constructors. When every tuple element carries an
+ * alias and the aliases name exactly the record components, elements are
+ * bound to components by name, so the selection order does not have to
+ * follow the component order. Otherwise elements are bound by position.</p>
+ *
+ * @param <T> record type
+ */
+final class RecordDescriptor<T> {
+
+	/**
+	 * Descriptors of the record classes seen so far.
+	 */
+	private static final ClassValue<RecordDescriptor<?>> DESCRIPTORS = new ClassValue<>() {
+
+		@Override
+		protected RecordDescriptor<?> computeValue(Class<?> type) {
+			return new RecordDescriptor<>(type);
+		}
+	};
+
+	/**
+	 * Canonical constructor, made accessible for invocation.
+	 */
+	private final Constructor<T> canonicalConstructor;
+
+	/**
+	 * Index of each record component by component name.
+	 */
+	private final Map<String, Integer> componentIndexes;
+
+	/**
+	 * Boxed component types, in declaration order.
+	 */
+	private final Class<?>[] componentTypes;
+
+	/**
+	 * Whether any declared constructor is annotated with
+	 * {@link PersistenceCreator}.
+	 */
+	private final boolean persistenceCreatorDeclared;
+
+	private RecordDescriptor(Class<T> recordClass) {
+		RecordComponent[] components = recordClass.getRecordComponents();
+		Class<?>[] parameterTypes = new Class<?>[components.length];
+		componentTypes = new Class<?>[components.length];
+		componentIndexes = new HashMap<>();
+		for (int idx = 0; idx < components.length; idx++) {
+			parameterTypes[idx] = components[idx].getType();
+			componentTypes[idx] = PrimitiveTypes.wrap(components[idx].getType());
+			componentIndexes.put(components[idx].getName(), idx);
+		}
+		try {
+			canonicalConstructor = recordClass.getDeclaredConstructor(parameterTypes);
+		}
+		catch (NoSuchMethodException ex) {
+			throw new QueryConfigurationException(MessageFormat.format(
+					"Record {0} does not declare a canonical constructor", recordClass.getName()
+			), ex);
+		}
+		canonicalConstructor.setAccessible(true);
+		persistenceCreatorDeclared = Arrays
+				.stream(recordClass.getDeclaredConstructors())
+				.anyMatch(constructor -> constructor.isAnnotationPresent(PersistenceCreator.class));
+	}
+
+	/**
+	 * Returns the descriptor of a record class.
+	 *
+	 * @param recordClass record class
+	 * @param <T> record type
+	 *
+	 * @return cached descriptor
+	 *
+	 * @throws IllegalArgumentException if the class is not a record
+	 */
+	static <T> RecordDescriptor<T> of(@NonNull Class<T> recordClass) {
+		if (!recordClass.isRecord())
+			throw new IllegalArgumentException(recordClass.getName() + " is not a record");
+		// descriptors are computed from their own class, so the types always match
+		// noinspection unchecked
+		return (RecordDescriptor<T>) DESCRIPTORS.get(recordClass);
+	}
+
+	/**
+	 * Returns the canonical constructor of the record.
+	 *
+	 * @return canonical constructor, made accessible for invocation
+	 */
+	Constructor<T> getCanonicalConstructor() {
+		return canonicalConstructor;
+	}
+
+	/**
+	 * Returns whether any declared constructor of the record is annotated with
+	 * {@link PersistenceCreator}.
+	 *
+	 * @return whether a persistence creator is declared
+	 */
+	boolean isPersistenceCreatorDeclared() {
+		return persistenceCreatorDeclared;
+	}
+
+	/**
+	 * Checks whether the canonical constructor can be selected for a tuple of
+	 * the supplied shape without consulting the other declared constructors.
+	 *
+	 * <p>This holds when the element types match the component types
+	 * position by position, after boxing, and no constructor of the record is
+	 * annotated with {@link PersistenceCreator}, in which case the annotation
+	 * decides between the matching constructors as for other DTOs.</p>
+	 *
+	 * @param elementTypes Java types of the tuple elements, in order
+	 *
+	 * @return whether the canonical constructor is selected
+	 */
+	boolean isCanonicalFor(List<Class<?>> elementTypes) {
+		if (persistenceCreatorDeclared || elementTypes.size() != componentTypes.length) return false;
+		for (int idx = 0; idx < componentTypes.length; idx++) {
+			if (!componentTypes[idx].isAssignableFrom(PrimitiveTypes.wrap(elementTypes.get(idx)))) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Binds tuple elements to record components by alias.
+	 *
+	 * @param elements tuple elements, in order
+	 *
+	 * @return index of the tuple element bound to each component, in component
+	 * order, or {@code null} if the aliases do not name exactly the record
+	 * components
+	 *
+	 * @throws QueryConfigurationException if an element is bound to a
+	 * component whose type cannot accept it
+	 */
+	int @Nullable [] bindByAlias(List<? extends TupleElement<?>> elements) {
+		List<String> names = new ArrayList<>(elements.size());
+		List<Class<?>> types = new ArrayList<>(elements.size());
+		for (TupleElement<?> element: elements) {
+			String alias = element.getAlias();
+			if (alias == null) return null;
+			names.add(alias);
+			types.add(element.getJavaType());
+		}
+		return bindByName(names, types);
+	}
+
+	/**
+	 * Binds named values to record components by name.
+	 *
+	 * @param names value names, in order
+	 * @param types Java types of the values, in the same order
+	 *
+	 * @return index of the value bound to each component, in component order,
+	 * or {@code null} if the names do not name exactly the record components
+	 *
+	 * @throws QueryConfigurationException if a value is bound to a component
+	 * whose type cannot accept it
+	 */
+	int @Nullable [] bindByName(List<String> names, List<Class<?>> types) {
+		if (names.size() != componentTypes.length) return null;
+		int[] valueIndexes = new int[componentTypes.length];
+		boolean[] bound = new boolean[componentTypes.length];
+		for (int idx = 0; idx < names.size(); idx++) {
+			Integer componentIndex = componentIndexes.get(names.get(idx));
+			if (componentIndex == null || bound[componentIndex]) return null;
+			bound[componentIndex] = true;
+			valueIndexes[componentIndex] = idx;
+		}
+		for (int componentIndex = 0; componentIndex < componentTypes.length; componentIndex++) {
+			int valueIndex = valueIndexes[componentIndex];
+			if (!componentTypes[componentIndex].isAssignableFrom(PrimitiveTypes.wrap(types.get(valueIndex)))) {
+				throw new QueryConfigurationException(MessageFormat.format(
+						"Tuple element {0} of type {1} cannot be assigned to component of type {2} of record {3}",
+						names.get(valueIndex), types.get(valueIndex).getName(),
+						componentTypes[componentIndex].getName(), canonicalConstructor.getDeclaringClass().getName()
+				));
+			}
+		}
+		return valueIndexes;
+	}
+}
@@ -18,14 +18,17 @@ package in.co.akshitbansal.springwebquery.tupleconverter;
 
 import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
 import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.PersistenceCreator;
 
-import java.lang.reflect.Constructor;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Converts JPA {@link Tuple} results into DTO instances by invoking a matching
@@ -33,8 +36,27 @@ import java.text.MessageFormat;
  *
  * <p>Constructor selection is delegated to the supplied
  * {@link PreferredConstructorDiscoverer}. Once a matching constructor has been
- * found for the first tuple shape seen by this converter, that constructor is
- * cached on the converter instance for subsequent conversions.</p>
+ * found for the first tuple shape seen by this converter, its
+ * {@link TupleInstantiator} is obtained from the supplied
+ * {@link TupleInstantiatorFactory} and cached on the converter instance for
+ * subsequent conversions.</p>
+ *
+ * <p>Record DTOs are converted through their canonical constructor. When
+ * every tuple element carries an alias and the aliases name exactly the
+ * record components, elements are bound to components by name rather than by
+ * position. Records that declare a {@link PersistenceCreator} constructor
+ * are never bound by alias, so the annotated constructor is selected as for
+ * other DTOs.</p>
+ *
+ * <p>Nested DTOs are assembled from a single flat tuple when at least one
+ * tuple element is aliased with a dotted DTO field path, such as
+ * {@code profile.primaryAddress.city}; see
+ * {@link TupleInstantiatorFactory#getNestedInstantiator}.</p>
+ *
+ * <p>Converters obtained from
+ * {@link TupleConverterFactory#getConverter(Class, List)} are resolved for a
+ * known tuple shape when they are created, so their conversions never
+ * discover constructors or consult a cache.</p>
  *
  * @param <T> target DTO type
  */
@@ -48,10 +70,38 @@ public class TupleConverter<T> implements Converter<Tuple, T> {
 	private final PreferredConstructorDiscoverer<T> discoverer;
 
 	/**
-	 * Lazily discovered constructor cached for repeated conversions.
+	 * Factory compiling the instantiator of the discovered constructor.
+	 */
+	@NonNull
+	private final TupleInstantiatorFactory instantiatorFactory;
+
+	/**
+	 * Lazily compiled instantiator cached for repeated conversions.
 	 */
 	@Nullable
-	private volatile Constructor<T> cachedConstructor;
+	private volatile TupleInstantiator<T> cachedInstantiator;
+
+	/**
+	 * Creates a converter whose instantiator is resolved for tuples of the
+	 * supplied shape.
+	 *
+	 * @param discoverer discoverer used to locate a compatible constructor
+	 * @param instantiatorFactory factory compiling the instantiator of the
+	 * discovered constructor
+	 * @param elements tuple elements the converted tuples will carry, in order
+	 *
+	 * @throws QueryConfigurationException if no instantiator can be resolved
+	 * for the shape
+	 */
+	TupleConverter(
+			@NonNull PreferredConstructorDiscoverer<T> discoverer,
+			@NonNull TupleInstantiatorFactory instantiatorFactory,
+			@NonNull List<? extends TupleElement<?>> elements
+	) {
+		this.discoverer = discoverer;
+		this.instantiatorFactory = instantiatorFactory;
+		this.cachedInstantiator = resolveInstantiator(elements);
+	}
 
 	/**
 	 * Converts one tuple into the configured DTO type.
@@ -66,18 +116,23 @@ public class TupleConverter<T> implements Converter<Tuple, T> {
 	@Override
 	public T convert(@NonNull Tuple tuple) {
 		try {
+			TupleInstantiator<T> instantiator = cachedInstantiator;
 			// synchronization with double-checking
-			if (cachedConstructor == null) {
+			if (instantiator == null) {
 				synchronized (this) {
-					if (cachedConstructor == null)
-						cachedConstructor = discoverer.discover(tuple);
+					instantiator = cachedInstantiator;
+					if (instantiator == null) {
+						instantiator = resolveInstantiator(tuple.getElements());
+						cachedInstantiator = instantiator;
+					}
 				}
 			}
-			// cachedConstructor will never be null here, so it is safe to invoke newInstance
-			// noinspection DataFlowIssue
-			return cachedConstructor.newInstance(tuple.toArray());
+			return instantiator.instantiate(tuple);
+		}
+		catch (Error err) {
+			throw err;
 		}
-		catch (Exception ex) {
+		catch (Throwable ex) {
 			throw new QueryConfigurationException(
 					MessageFormat.format(
 							"Failed to convert tuple to {0}: {1}",
@@ -86,4 +141,37 @@ public class TupleConverter<T> implements Converter<Tuple, T> {
 			);
 		}
 	}
+
+	/**
+	 * Resolves the instantiator for tuples of the supplied shape: a nested
+	 * assembly plan when elements are aliased with dotted paths, record
+	 * components bound by alias where possible and no persistence creator is
+	 * declared, and a constructor discovered by position otherwise.
+	 */
+	private TupleInstantiator<T> resolveInstantiator(List<? extends TupleElement<?>> elements) {
+		Class<T> clazz = discoverer.getTargetClass();
+		if (isNested(elements))
+			return instantiatorFactory.getNestedInstantiator(clazz, elements);
+		if (clazz.isRecord()) {
+			RecordDescriptor<T> descriptor = RecordDescriptor.of(clazz);
+			// an annotated constructor takes precedence over the canonical one
+			int[] elementIndexes = descriptor.isPersistenceCreatorDeclared() ? null : descriptor.bindByAlias(elements);
+			if (elementIndexes != null)
+				return instantiatorFactory.getInstantiator(descriptor.getCanonicalConstructor(), elementIndexes);
+		}
+		List<Class<?>> elementTypes = new ArrayList<>(elements.size());
+		for (TupleElement<?> element: elements) elementTypes.add(element.getJavaType());
+		return instantiatorFactory.getInstantiator(discoverer.discoverForShape(elementTypes));
+	}
+
+	/**
+	 * Checks whether any tuple element is aliased with a dotted path.
+	 */
+	private static boolean isNested(List<? extends TupleElement<?>> elements) {
+		for (TupleElement<?> element: elements) {
+			String alias = element.getAlias();
+			if (alias != null && alias.indexOf('.') >= 0) return true;
+		}
+		return false;
+	}
 }
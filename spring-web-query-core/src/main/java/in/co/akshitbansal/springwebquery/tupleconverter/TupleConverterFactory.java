@@ -16,12 +16,26 @@
 
 package in.co.akshitbansal.springwebquery.tupleconverter;
 
+import jakarta.persistence.TupleElement;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static in.co.akshitbansal.springwebquery.tupleconverter.TupleInstantiatorFactory.ShapeKey;
+
 /**
  * Creates {@link TupleConverter} instances backed by discoverers from a shared
- * {@link PreferredConstructorDiscovererFactory}.
+ * {@link PreferredConstructorDiscovererFactory} and instantiators from a
+ * shared {@link TupleInstantiatorFactory}.
+ *
+ * <p>Besides creating converters that resolve their constructor from the
+ * first tuple they convert, the factory keeps a registry of converters
+ * resolved ahead of execution for a known tuple shape, such as the selections
+ * of a Criteria query. Registered converters are created once per DTO type
+ * and shape and live as long as the factory.</p>
  */
 @RequiredArgsConstructor
 public class TupleConverterFactory {
@@ -32,6 +46,33 @@ public class TupleConverterFactory {
 	@NonNull
 	private final PreferredConstructorDiscovererFactory discovererFactory;
 
+	/**
+	 * Factory used to compile and cache constructor instantiators.
+	 */
+	@NonNull
+	private final TupleInstantiatorFactory instantiatorFactory;
+
+	/**
+	 * Converters resolved so far, indexed by DTO type and then by tuple shape.
+	 */
+	private final ClassValue<ConcurrentMap<ShapeKey, TupleConverter<?>>> converters = new ClassValue<>() {
+
+		@Override
+		protected ConcurrentMap<ShapeKey, TupleConverter<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Creates a factory whose converters use generated instantiator classes.
+	 *
+	 * @param discovererFactory factory used to create discoverers for target
+	 * DTO types
+	 */
+	public TupleConverterFactory(@NonNull PreferredConstructorDiscovererFactory discovererFactory) {
+		this(discovererFactory, new TupleInstantiatorFactory(true));
+	}
+
 	/**
 	 * Creates a converter for the supplied DTO type.
 	 *
@@ -42,6 +83,39 @@ public class TupleConverterFactory {
 	 */
 	public <T> TupleConverter<T> newConverter(@NonNull Class<T> clazz) {
 		PreferredConstructorDiscoverer<T> discoverer = discovererFactory.newDiscoverer(clazz);
-		return new TupleConverter<>(discoverer);
+		return new TupleConverter<>(discoverer, instantiatorFactory);
+	}
+
+	/**
+	 * Returns the converter of the supplied DTO type for tuples of the
+	 * supplied shape, resolving its instantiator on first use.
+	 *
+	 * <p>The shape is identified by the alias and Java type of each element,
+	 * so it can be taken from the selections of a Criteria query before the
+	 * query is executed. The returned converter is shared by all callers
+	 * asking for the same DTO type and shape, and converts without
+	 * consulting any cache.</p>
+	 *
+	 * @param clazz DTO type to instantiate from tuples
+	 * @param elements tuple elements the converted tuples will carry, in order
+	 * @param <T> target DTO type
+	 *
+	 * @return registered converter resolved for the shape
+	 *
+	 * @throws in.co.akshitbansal.springwebquery.exception.QueryConfigurationException
+	 * if no constructor or assembly plan matches the shape
+	 */
+	public <T> TupleConverter<T> getConverter(@NonNull Class<T> clazz, @NonNull List<? extends TupleElement<?>> elements) {
+		ConcurrentMap<ShapeKey, TupleConverter<?>> classConverters = converters.get(clazz);
+		ShapeKey key = ShapeKey.of(elements);
+		TupleConverter<?> converter = classConverters.get(key);
+		if (converter == null) {
+			converter = classConverters.computeIfAbsent(
+					key, ignored -> new TupleConverter<>(discovererFactory.newDiscoverer(clazz), instantiatorFactory, elements)
+			);
+		}
+		// converters are stored under their own DTO type, so the types always match
+		// noinspection unchecked
+		return (TupleConverter<T>) converter;
 	}
 }
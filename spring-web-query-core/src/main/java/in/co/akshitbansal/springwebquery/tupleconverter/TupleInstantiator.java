@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import jakarta.persistence.Tuple;
+
+/**
+ * Materializes one DTO instance from one JPA {@link Tuple}.
+ *
+ * <p>Instantiators are prepared once for a DTO type and tuple shape and then
+ * invoked for every row of that shape, so implementations perform all
+ * constructor resolution and adaptation up front and keep the per-row work to
+ * reading the tuple and calling the constructor.</p>
+ *
+ * @param <T> target DTO type
+ */
+@FunctionalInterface
+public interface TupleInstantiator<T> {
+
+	/**
+	 * Creates a DTO instance from the supplied tuple.
+	 *
+	 * @param tuple tuple of the shape this instantiator was prepared for
+	 *
+	 * @return instantiated DTO
+	 *
+	 * @throws Throwable any exception thrown by the DTO constructor, or by the
+	 * conversion of a tuple value to its constructor parameter type
+	 */
+	T instantiate(Tuple tuple) throws Throwable;
+}
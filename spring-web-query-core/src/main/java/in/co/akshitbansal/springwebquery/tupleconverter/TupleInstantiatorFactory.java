@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import jakarta.persistence.TupleElement;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.NativeDetector;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates and caches the {@link TupleInstantiator} of each discovered DTO
+ * constructor.
+ *
+ * <p>A constructor identifies both the DTO type and the tuple shape it was
+ * discovered for, so instantiators are compiled once per DTO type and shape,
+ * and per element order when elements are bound to parameters by alias, and
+ * shared by all converters created from the same factory. When class
+ * generation is enabled, each constructor gets a generated row mapper class;
+ * constructors for which no class can be generated, and all constructors
+ * when running in a native image, fall back to a method handle
+ * instantiator.</p>
+ */
+public class TupleInstantiatorFactory {
+
+	/**
+	 * Whether dedicated instantiator classes are generated.
+	 */
+	private final boolean generateClasses;
+
+	/**
+	 * Instantiators compiled so far, indexed by DTO type and then by
+	 * constructor and element order.
+	 */
+	private final ClassValue<ConcurrentMap<CacheKey, TupleInstantiator<?>>> instantiators = new ClassValue<>() {
+
+		@Override
+		protected ConcurrentMap<CacheKey, TupleInstantiator<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Nested projection instantiators compiled so far, indexed by DTO type and
+	 * then by aliased tuple shape.
+	 */
+	private final ClassValue<ConcurrentMap<ShapeKey, TupleInstantiator<?>>> nestedInstantiators = new ClassValue<>() {
+
+		@Override
+		protected ConcurrentMap<ShapeKey, TupleInstantiator<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Creates a factory.
+	 *
+	 * @param generateClasses whether dedicated instantiator classes should be
+	 * generated; ignored in native images, where classes cannot be defined at
+	 * runtime
+	 */
+	public TupleInstantiatorFactory(boolean generateClasses) {
+		this.generateClasses = generateClasses && !NativeDetector.inNativeImage();
+	}
+
+	/**
+	 * Returns the instantiator of the supplied constructor, compiling it on
+	 * first use. Tuple elements are passed to the constructor in tuple order.
+	 *
+	 * @param constructor discovered constructor, already made accessible if it
+	 * is not public
+	 * @param <T> target DTO type
+	 *
+	 * @return cached or newly compiled instantiator
+	 */
+	public <T> TupleInstantiator<T> getInstantiator(@NonNull Constructor<T> constructor) {
+		int[] elementIndexes = new int[constructor.getParameterCount()];
+		for (int idx = 0; idx < elementIndexes.length; idx++) elementIndexes[idx] = idx;
+		return getInstantiator(constructor, elementIndexes);
+	}
+
+	/**
+	 * Returns the instantiator of the supplied constructor for one binding of
+	 * tuple elements to constructor parameters, compiling it on first use.
+	 *
+	 * @param constructor constructor to invoke, already made accessible if it
+	 * is not public
+	 * @param elementIndexes index of the tuple element passed as each
+	 * constructor parameter, in parameter order
+	 * @param <T> target DTO type
+	 *
+	 * @return cached or newly compiled instantiator
+	 */
+	public <T> TupleInstantiator<T> getInstantiator(@NonNull Constructor<T> constructor, int[] elementIndexes) {
+		if (elementIndexes.length != constructor.getParameterCount())
+			throw new IllegalArgumentException("Expected one element index per constructor parameter");
+		ConcurrentMap<CacheKey, TupleInstantiator<?>> classInstantiators = instantiators.get(constructor.getDeclaringClass());
+		CacheKey key = CacheKey.of(constructor, elementIndexes);
+		TupleInstantiator<?> instantiator = classInstantiators.get(key);
+		if (instantiator == null)
+			instantiator = classInstantiators.computeIfAbsent(key, ignored -> compile(constructor, elementIndexes.clone()));
+		// instantiators are stored under their own constructor, so the types always match
+		// noinspection unchecked
+		return (TupleInstantiator<T>) instantiator;
+	}
+
+	/**
+	 * Returns the instantiator assembling a nested DTO graph from tuples of
+	 * the supplied shape, compiling its assembly plan on first use.
+	 *
+	 * @param clazz root DTO type
+	 * @param elements tuple elements, in order, aliased with the DTO field
+	 * paths they populate
+	 * @param <T> target DTO type
+	 *
+	 * @return cached or newly compiled instantiator
+	 *
+	 * @throws in.co.akshitbansal.springwebquery.exception.QueryConfigurationException
+	 * if no assembly plan can be compiled for the shape
+	 * @see NestedTupleInstantiator
+	 */
+	public <T> TupleInstantiator<T> getNestedInstantiator(@NonNull Class<T> clazz, @NonNull List<? extends TupleElement<?>> elements) {
+		ConcurrentMap<ShapeKey, TupleInstantiator<?>> classInstantiators = nestedInstantiators.get(clazz);
+		ShapeKey key = ShapeKey.of(elements);
+		TupleInstantiator<?> instantiator = classInstantiators.get(key);
+		if (instantiator == null)
+			instantiator = classInstantiators.computeIfAbsent(key, ignored -> NestedTupleInstantiator.of(clazz, elements));
+		// instantiators are stored under their own DTO type, so the types always match
+		// noinspection unchecked
+		return (TupleInstantiator<T>) instantiator;
+	}
+
+	/**
+	 * Compiles an instantiator for the supplied constructor.
+	 */
+	private <T> TupleInstantiator<T> compile(Constructor<T> constructor, int[] elementIndexes) {
+		if (generateClasses) {
+			TupleInstantiator<T> generated = TupleInstantiatorGenerator.generate(constructor, elementIndexes);
+			if (generated != null) return generated;
+		}
+		return MethodHandleTupleInstantiator.of(constructor, elementIndexes);
+	}
+
+	/**
+	 * Cache key identifying one compiled instantiator.
+	 */
+	@Getter
+	@EqualsAndHashCode
+	@ToString
+	static class CacheKey {
+
+		/**
+		 * Constructor invoked by the instantiator.
+		 */
+		private final Constructor<?> constructor;
+
+		/**
+		 * Index of the tuple element passed as each constructor parameter.
+		 */
+		private final List<Integer> elementIndexes;
+
+		private CacheKey(@NonNull Constructor<?> constructor, int[] elementIndexes) {
+			this.constructor = constructor;
+			List<Integer> indexes = new ArrayList<>(elementIndexes.length);
+			for (int elementIndex: elementIndexes) indexes.add(elementIndex);
+			this.elementIndexes = List.copyOf(indexes);
+		}
+
+		public static CacheKey of(@NonNull Constructor<?> constructor, int[] elementIndexes) {
+			return new CacheKey(constructor, elementIndexes);
+		}
+	}
+
+	/**
+	 * Cache key identifying one aliased tuple shape.
+	 */
+	@Getter
+	@EqualsAndHashCode
+	@ToString
+	static class ShapeKey {
+
+		/**
+		 * Tuple element aliases, in order.
+		 */
+		private final List<@Nullable String> aliases;
+
+		/**
+		 * Tuple element Java types, in order.
+		 */
+		private final List<Class<?>> elementTypes;
+
+		private ShapeKey(List<? extends TupleElement<?>> elements) {
+			List<@Nullable String> aliases = new ArrayList<>(elements.size());
+			List<Class<?>> elementTypes = new ArrayList<>(elements.size());
+			for (TupleElement<?> element: elements) {
+				aliases.add(element.getAlias());
+				elementTypes.add(element.getJavaType());
+			}
+			this.aliases = Collections.unmodifiableList(aliases);
+			this.elementTypes = List.copyOf(elementTypes);
+		}
+
+		public static ShapeKey of(@NonNull List<? extends TupleElement<?>> elements) {
+			return new ShapeKey(elements);
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import jakarta.persistence.Tuple;
+import lombok.NonNull;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.Duplication;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.TypeCreation;
+import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+/**
+ * Generates a dedicated {@link TupleInstantiator} class for one DTO
+ * constructor.
+ *
+ * <p>The generated class reads every tuple element by index, in the order the
+ * elements are bound to constructor parameters, casts it to the
+ * constructor parameter type, unboxes it for primitive parameters and invokes
+ * the constructor directly, so no {@code Object[]} is built per row. It
+ * mirrors the matching rules of {@link PreferredConstructorDiscoverer}: a
+ * primitive parameter only matches a tuple element of its boxed type, so
+ * unboxing is the only conversion applied.</p>
+ *
+ * <p>Classes are defined as hidden nestmates of the DTO, which gives them
+ * access to non-public constructors and lets them be unloaded once the
+ * instantiator is no longer referenced. Generation is skipped, and
+ * {@code null} returned, whenever the class could not be defined or linked
+ * from the DTO's class loader, so callers can fall back to a method handle
+ * instantiator.</p>
+ */
+final class TupleInstantiatorGenerator {
+
+	/**
+	 * {@link Tuple#get(int)}, invoked once per constructor parameter.
+	 */
+	private static final MethodDescription.InDefinedShape TUPLE_GET = TypeDescription.ForLoadedType
+			.of(Tuple.class)
+			.getDeclaredMethods()
+			.filter(named("get").and(takesArguments(int.class)))
+			.getOnly();
+
+	private TupleInstantiatorGenerator() {
+	}
+
+	/**
+	 * Generates an instantiator invoking the supplied constructor.
+	 *
+	 * @param constructor constructor to invoke
+	 * @param elementIndexes index of the tuple element passed as each
+	 * constructor parameter, in parameter order
+	 * @param <T> target DTO type
+	 *
+	 * @return generated instantiator, or {@code null} if no class can be
+	 * generated for the constructor
+	 */
+	static <T> @Nullable TupleInstantiator<T> generate(@NonNull Constructor<T> constructor, int[] elementIndexes) {
+		Class<T> clazz = constructor.getDeclaringClass();
+		if (!isLinkable(constructor)) return null;
+		try {
+			byte[] bytes = new ByteBuddy(ClassFileVersion.JAVA_V17)
+					.subclass(Object.class)
+					.name(clazz.getName() + "$$TupleInstantiator")
+					.implement(TupleInstantiator.class)
+					.method(named("instantiate"))
+					.intercept(new Implementation.Simple(instantiation(constructor, elementIndexes)))
+					.make()
+					.getBytes();
+			Class<?> instantiatorClass = MethodHandles
+					.privateLookupIn(clazz, MethodHandles.lookup())
+					.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE)
+					.lookupClass();
+			// the generated class invokes a Constructor<T>, so it always returns a T
+			// noinspection unchecked
+			return (TupleInstantiator<T>) instantiatorClass.getConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Builds the body of the generated {@code instantiate} method.
+	 */
+	private static StackManipulation instantiation(Constructor<?> constructor, int[] elementIndexes) {
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		List<StackManipulation> instructions = new ArrayList<>();
+		instructions.add(TypeCreation.of(TypeDescription.ForLoadedType.of(constructor.getDeclaringClass())));
+		instructions.add(Duplication.SINGLE);
+		for (int idx = 0; idx < parameterTypes.length; idx++) {
+			Class<?> parameterType = parameterTypes[idx];
+			instructions.add(MethodVariableAccess.REFERENCE.loadFrom(1));
+			instructions.add(IntegerConstant.forValue(elementIndexes[idx]));
+			instructions.add(MethodInvocation.invoke(TUPLE_GET));
+			if (parameterType.isPrimitive()) {
+				TypeDescription boxedType = TypeDescription.ForLoadedType.of(PrimitiveTypes.wrap(parameterType));
+				instructions.add(TypeCasting.to(boxedType));
+				instructions.add(MethodInvocation.invoke(boxedType
+						.getDeclaredMethods()
+						.filter(named(parameterType.getName() + "Value").and(takesArguments(0)))
+						.getOnly()
+				));
+			}
+			else if (parameterType != Object.class) {
+				instructions.add(TypeCasting.to(TypeDescription.ForLoadedType.of(parameterType)));
+			}
+		}
+		instructions.add(MethodInvocation.invoke(new MethodDescription.ForLoadedConstructor(constructor)));
+		instructions.add(MethodReturn.REFERENCE);
+		return new StackManipulation.Compound(instructions);
+	}
+
+	/**
+	 * Checks whether a class defined in the DTO's package and class loader can
+	 * resolve every type the generated bytecode refers to.
+	 */
+	private static boolean isLinkable(Constructor<?> constructor) {
+		Class<?> clazz = constructor.getDeclaringClass();
+		ClassLoader classLoader = clazz.getClassLoader();
+		if (classLoader == null) return false;
+		if (!isVisible(Tuple.class, classLoader) || !isVisible(TupleInstantiator.class, classLoader)) return false;
+		for (Class<?> parameterType: constructor.getParameterTypes()) {
+			Class<?> type = parameterType;
+			while (type.isArray()) type = type.getComponentType();
+			if (type.isPrimitive()) continue;
+			if (!isAccessible(type, clazz) || !isVisible(type, classLoader)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the supplied class loader resolves the type to the same
+	 * class.
+	 */
+	private static boolean isVisible(Class<?> type, ClassLoader classLoader) {
+		try {
+			return Class.forName(type.getName(), false, classLoader) == type;
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Checks whether the type is accessible from the package of the DTO.
+	 */
+	private static boolean isAccessible(Class<?> type, Class<?> clazz) {
+		if (type.getClassLoader() == clazz.getClassLoader()
+				&& Objects.equals(type.getPackageName(), clazz.getPackageName())) return true;
+		for (Class<?> current = type; current != null; current = current.getDeclaringClass()) {
+			if (!Modifier.isPublic(current.getModifiers())) return false;
+		}
+		return true;
+	}
+}
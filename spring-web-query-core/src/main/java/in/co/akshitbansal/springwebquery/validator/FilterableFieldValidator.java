@@ -25,7 +25,6 @@ import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException
 import in.co.akshitbansal.springwebquery.exception.QueryForbiddenOperatorException;
 import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
@@ -41,16 +40,49 @@ import java.util.stream.Stream;
  * <p>This validator supports direct, repeatable, and composed filterability
  * annotations and can resolve referenced custom operators from a prebuilt
  * registry.</p>
+ *
+ * <p>With stackless rejections enabled, validation failures are raised as
+ * stackless exceptions, which makes rejecting client-supplied selectors
+ * considerably cheaper.</p>
  */
-@RequiredArgsConstructor
 public class FilterableFieldValidator {
 
 	/**
 	 * Registered custom operators keyed by their implementation class.
 	 */
-	@NonNull
 	private final Map<Class<?>, RSQLCustomOperator<?>> customOperatorMap;
 
+	/**
+	 * Whether validation failures are raised without stack traces.
+	 */
+	private final boolean stacklessRejections;
+
+	/**
+	 * Creates a validator that raises validation failures with stack traces.
+	 *
+	 * @param customOperatorMap registered custom operators keyed by their
+	 * implementation class
+	 */
+	public FilterableFieldValidator(@NonNull Map<Class<?>, RSQLCustomOperator<?>> customOperatorMap) {
+		this(customOperatorMap, false);
+	}
+
+	/**
+	 * Creates a validator.
+	 *
+	 * @param customOperatorMap registered custom operators keyed by their
+	 * implementation class
+	 * @param stacklessRejections whether validation failures are raised
+	 * without stack traces
+	 */
+	public FilterableFieldValidator(
+			@NonNull Map<Class<?>, RSQLCustomOperator<?>> customOperatorMap,
+			boolean stacklessRejections
+	) {
+		this.customOperatorMap = customOperatorMap;
+		this.stacklessRejections = stacklessRejections;
+	}
+
 	/**
 	 * Validates that a field is marked as filterable and that the requested
 	 * operator is permitted by its {@link RSQLFilterable} declaration(s).
@@ -66,24 +98,82 @@ public class FilterableFieldValidator {
 		// Retrieve the RSQLFilterable annotations on the field (if present)
 		Set<RSQLFilterable> filterables = collectFilterables(field);
 		// Throw exception if the field is not annotated as filterable
-		if (filterables.isEmpty()) throw new QueryFieldValidationException(
-				MessageFormat.format(
-						"Filtering not allowed on field ''{0}''", fieldPath
-				), fieldPath
-		);
+		if (filterables.isEmpty()) {
+			// Messages are concatenated rather than formatted to keep rejections cheap
+			String message = "Filtering not allowed on field '" + fieldPath + "'";
+			if (stacklessRejections) throw QueryFieldValidationException.stackless(message, fieldPath);
+			throw new QueryFieldValidationException(message, fieldPath);
+		}
 
 		// Throw exception if the provided operator is not in the allowed set
 		Set<ComparisonOperator> allowedOperators = getAllowedOperators(filterables);
 		if (!allowedOperators.contains(operator)) {
-			throw new QueryForbiddenOperatorException(
-					MessageFormat.format("Operator ''{0}'' not allowed on field ''{1}''", operator, fieldPath),
-					fieldPath,
-					operator,
-					allowedOperators
-			);
+			String message = "Operator '" + operator + "' not allowed on field '" + fieldPath + "'";
+			if (stacklessRejections)
+				throw QueryForbiddenOperatorException.stackless(message, fieldPath, operator, allowedOperators);
+			throw new QueryForbiddenOperatorException(message, fieldPath, operator, allowedOperators);
 		}
 	}
 
+	/**
+	 * Checks whether a field is filterable with the supplied operator, without
+	 * raising a client-facing error.
+	 *
+	 * <p>Used to confirm that a rewritten comparison still falls within the
+	 * contract declared on the DTO field.</p>
+	 *
+	 * @param field reflected terminal field being targeted by the selector
+	 * @param operator comparison operator to check
+	 *
+	 * @return {@code true} if the field is filterable and permits the operator
+	 *
+	 * @throws QueryConfigurationException if a referenced custom operator is not registered
+	 */
+	public boolean isAllowed(@NonNull Field field, @NonNull ComparisonOperator operator) {
+		return getAllowedOperators(field).contains(operator);
+	}
+
+	/**
+	 * Returns every operator a field permits.
+	 *
+	 * <p>The result is computed from the field's annotations on every call;
+	 * callers on hot paths should precompute it, as
+	 * {@link in.co.akshitbansal.springwebquery.contract.QueryContractRegistry}
+	 * does.</p>
+	 *
+	 * @param field reflected terminal field to inspect
+	 *
+	 * @return allowed operators, empty if the field is not filterable
+	 *
+	 * @throws QueryConfigurationException if a referenced custom operator is not registered
+	 */
+	public Set<ComparisonOperator> getAllowedOperators(@NonNull Field field) {
+		Set<RSQLFilterable> filterables = collectFilterables(field);
+		if (filterables.isEmpty()) return Set.of();
+		return Collections.unmodifiableSet(getAllowedOperators(filterables));
+	}
+
+	/**
+	 * Returns every operator permitted by a precomputed filterability
+	 * declaration, such as one generated at compile time.
+	 *
+	 * @param defaultOperators allowed built-in operators
+	 * @param customOperatorClasses implementation classes of allowed custom operators
+	 *
+	 * @return allowed operators
+	 *
+	 * @throws QueryConfigurationException if a referenced custom operator is not registered
+	 */
+	public Set<ComparisonOperator> getAllowedOperators(
+			@NonNull Collection<RSQLDefaultOperator> defaultOperators,
+			@NonNull Collection<Class<?>> customOperatorClasses
+	) {
+		Set<ComparisonOperator> allowedOperators = new HashSet<>();
+		for (RSQLDefaultOperator operator: defaultOperators) allowedOperators.add(operator.getOperator());
+		for (Class<?> clazz: customOperatorClasses) allowedOperators.add(getCustomOperator(clazz).getComparisonOperator());
+		return Collections.unmodifiableSet(allowedOperators);
+	}
+
 	/**
 	 * Aggregates all allowed operators from one or more {@link RSQLFilterable}
 	 * declarations attached to the same field.
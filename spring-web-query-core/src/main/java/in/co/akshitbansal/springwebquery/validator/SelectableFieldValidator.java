@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.validator;
+
+import in.co.akshitbansal.springwebquery.annotation.Selectable;
+import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
+import lombok.NonNull;
+
+import java.lang.reflect.Field;
+
+/**
+ * Validator that ensures a resolved terminal field is explicitly marked as selectable.
+ *
+ * <p>With stackless rejections enabled, validation failures are raised as
+ * stackless exceptions.</p>
+ */
+public class SelectableFieldValidator {
+
+	/**
+	 * Whether validation failures are raised without stack traces.
+	 */
+	private final boolean stacklessRejections;
+
+	/**
+	 * Creates a validator that raises validation failures with stack traces.
+	 */
+	public SelectableFieldValidator() {
+		this(false);
+	}
+
+	/**
+	 * Creates a validator.
+	 *
+	 * @param stacklessRejections whether validation failures are raised
+	 * without stack traces
+	 */
+	public SelectableFieldValidator(boolean stacklessRejections) {
+		this.stacklessRejections = stacklessRejections;
+	}
+
+	/**
+	 * Validates that the requested field is explicitly marked as selectable.
+	 *
+	 * @param field reflected terminal field being targeted by the requested field path
+	 * @param fieldPath original field path from the incoming request
+	 *
+	 * @throws QueryFieldValidationException if selection is not allowed for the field
+	 */
+	public void validate(@NonNull Field field, @NonNull String fieldPath) {
+		if (!isSelectable(field)) {
+			String message = "Selecting is not allowed on the field '" + fieldPath + "'";
+			if (stacklessRejections) throw QueryFieldValidationException.stackless(message, fieldPath);
+			throw new QueryFieldValidationException(message, fieldPath);
+		}
+	}
+
+	/**
+	 * Returns whether a field is explicitly marked as selectable.
+	 *
+	 * @param field reflected terminal field to inspect
+	 *
+	 * @return {@code true} if selection is allowed on the field
+	 */
+	public boolean isSelectable(@NonNull Field field) {
+		return field.isAnnotationPresent(Selectable.class);
+	}
+}
@@ -21,13 +21,37 @@ import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException
 import lombok.NonNull;
 
 import java.lang.reflect.Field;
-import java.text.MessageFormat;
 
 /**
  * Validator that ensures a resolved terminal field is explicitly marked as sortable.
+ *
+ * <p>With stackless rejections enabled, validation failures are raised as
+ * stackless exceptions.</p>
  */
 public class SortableFieldValidator {
 
+	/**
+	 * Whether validation failures are raised without stack traces.
+	 */
+	private final boolean stacklessRejections;
+
+	/**
+	 * Creates a validator that raises validation failures with stack traces.
+	 */
+	public SortableFieldValidator() {
+		this(false);
+	}
+
+	/**
+	 * Creates a validator.
+	 *
+	 * @param stacklessRejections whether validation failures are raised
+	 * without stack traces
+	 */
+	public SortableFieldValidator(boolean stacklessRejections) {
+		this.stacklessRejections = stacklessRejections;
+	}
+
 	/**
 	 * Validates that the requested field is explicitly marked as sortable.
 	 *
@@ -37,12 +61,21 @@ public class SortableFieldValidator {
 	 * @throws QueryFieldValidationException if sorting is not allowed for the field
 	 */
 	public void validate(@NonNull Field field, @NonNull String fieldPath) {
-		if (!field.isAnnotationPresent(Sortable.class)) {
-			throw new QueryFieldValidationException(
-					MessageFormat.format(
-							"Sorting is not allowed on the field ''{0}''", fieldPath
-					), fieldPath
-			);
+		if (!isSortable(field)) {
+			String message = "Sorting is not allowed on the field '" + fieldPath + "'";
+			if (stacklessRejections) throw QueryFieldValidationException.stackless(message, fieldPath);
+			throw new QueryFieldValidationException(message, fieldPath);
 		}
 	}
+
+	/**
+	 * Returns whether a field is explicitly marked as sortable.
+	 *
+	 * @param field reflected terminal field to inspect
+	 *
+	 * @return {@code true} if sorting is allowed on the field
+	 */
+	public boolean isSortable(@NonNull Field field) {
+		return field.isAnnotationPresent(Sortable.class);
+	}
 }
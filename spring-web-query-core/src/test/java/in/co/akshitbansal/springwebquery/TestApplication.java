@@ -19,13 +19,20 @@ package in.co.akshitbansal.springwebquery;
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.ComparisonOperator;
 import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
 import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
 import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
 import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.parser.DefaultRSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.program.ArgumentConverter;
+import in.co.akshitbansal.springwebquery.plan.QueryPlanner;
+import in.co.akshitbansal.springwebquery.repository.DerivedSelectionsProviderFactory;
 import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscovererFactory;
 import in.co.akshitbansal.springwebquery.tupleconverter.TupleConverterFactory;
 import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SelectableFieldValidator;
 import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
 import io.github.perplexhub.rsql.RSQLJPAAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -78,6 +85,11 @@ public class TestApplication {
 		return new SortableFieldValidator();
 	}
 
+	@Bean
+	public SelectableFieldValidator selectableFieldValidator() {
+		return new SelectableFieldValidator();
+	}
+
 	@Bean
 	public FilterableFieldValidator filterableFieldValidator(Map<Class<?>, RSQLCustomOperator<?>> customOperatorMap) {
 		return new FilterableFieldValidator(customOperatorMap);
@@ -99,11 +111,45 @@ public class TestApplication {
 		return new TupleConverterFactory(preferredConstructorDiscovererFactory);
 	}
 
+	@Bean
+	public DerivedSelectionsProviderFactory derivedSelectionsProviderFactory(
+			DTOToEntityPathMapperFactory dtoToEntityPathMapperFactory,
+			PreferredConstructorDiscovererFactory preferredConstructorDiscovererFactory,
+			SelectableFieldValidator selectableFieldValidator
+	) {
+		return new DerivedSelectionsProviderFactory(
+				dtoToEntityPathMapperFactory, preferredConstructorDiscovererFactory, selectableFieldValidator, 1000
+		);
+	}
+
+	@Bean
+	public QueryContractRegistry queryContractRegistry(
+			DTOToEntityPathMapperFactory dtoToEntityPathMapperFactory,
+			FilterableFieldValidator filterableFieldValidator,
+			SortableFieldValidator sortableFieldValidator
+	) {
+		return new QueryContractRegistry(dtoToEntityPathMapperFactory, filterableFieldValidator, sortableFieldValidator);
+	}
+
 	@Bean
 	public ValidationRSQLVisitorFactory validationRSQLVisitorFactory(
 			DTOToEntityPathMapperFactory dtoToEntityPathMapperFactory,
-			FilterableFieldValidator filterableFieldValidator
+			FilterableFieldValidator filterableFieldValidator,
+			QueryContractRegistry queryContractRegistry
 	) {
-		return new ValidationRSQLVisitorFactory(dtoToEntityPathMapperFactory, filterableFieldValidator);
+		return new ValidationRSQLVisitorFactory(
+				dtoToEntityPathMapperFactory, filterableFieldValidator, new ArgumentConverter(), queryContractRegistry
+		);
+	}
+
+	// Query planner configuration
+	@Bean
+	public RSQLQueryParser rsqlQueryParser(RSQLParser rsqlParser) {
+		return new DefaultRSQLQueryParser(rsqlParser);
+	}
+
+	@Bean
+	public QueryPlanner queryPlanner(RSQLQueryParser rsqlQueryParser, ValidationRSQLVisitorFactory validationRSQLVisitorFactory) {
+		return new QueryPlanner(rsqlQueryParser, validationRSQLVisitorFactory);
 	}
 }
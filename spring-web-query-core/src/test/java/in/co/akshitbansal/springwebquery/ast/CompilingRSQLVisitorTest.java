@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.ast;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
+import in.co.akshitbansal.springwebquery.exception.QueryArgumentConversionException;
+import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
+import in.co.akshitbansal.springwebquery.exception.QueryForbiddenLogicalOperatorException;
+import in.co.akshitbansal.springwebquery.exception.QueryForbiddenOperatorException;
+import in.co.akshitbansal.springwebquery.exception.QueryMaxASTDepthExceededException;
+import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.program.ComparisonInstruction;
+import in.co.akshitbansal.springwebquery.program.FilterProgram;
+import in.co.akshitbansal.springwebquery.program.LogicalInstruction;
+import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompilingRSQLVisitorTest {
+
+	private final IsLongGreaterThanFiveOperator customOperator = new IsLongGreaterThanFiveOperator();
+
+	private final ValidationRSQLVisitorFactory visitorFactory = new ValidationRSQLVisitorFactory(
+			new DTOToEntityPathMapperFactory(),
+			new FilterableFieldValidator(Map.of(IsLongGreaterThanFiveOperator.class, customOperator))
+	);
+	private final RSQLParser parser = new RSQLParser(getAllowedOperators());
+
+	private Set<ComparisonOperator> getAllowedOperators() {
+		Stream<ComparisonOperator> defaultOperators = Arrays
+				.stream(RSQLDefaultOperator.values())
+				.map(RSQLDefaultOperator::getOperator);
+		Stream<ComparisonOperator> customOperators = Stream
+				.of(customOperator)
+				.map(RSQLCustomOperator::getComparisonOperator);
+		return Stream
+				.concat(defaultOperators, customOperators)
+				.collect(Collectors.toSet());
+	}
+
+	private FilterProgram compile(String query, boolean allowAndOperation, boolean allowOrOperation, int maxASTDepth) {
+		CompilingRSQLVisitor visitor = visitorFactory.newCompilingRSQLVisitor(
+				UserEntity.class, User.class, allowAndOperation, allowOrOperation, maxASTDepth
+		);
+		return visitor.compile(parser.parse(query));
+	}
+
+	@Test
+	void testComparisonArgumentsAreConvertedToAttributeType() {
+		FilterProgram program = compile("id==1", true, false, 1);
+		ComparisonInstruction instruction = assertInstanceOf(ComparisonInstruction.class, program.getRootInstruction());
+		assertFalse(instruction.isFallback());
+		assertEquals(RSQLDefaultOperator.EQUAL, instruction.getOperator());
+		assertEquals(List.of(1L), instruction.getArguments());
+		assertEquals(List.of("id"), instruction.getPathSegments());
+		assertEquals(Map.of("id", "id"), program.getFieldMappings());
+	}
+
+	@Test
+	void testTextArgumentsAreStoredInFinalForm() {
+		ComparisonInstruction like = assertInstanceOf(
+				ComparisonInstruction.class,
+				compile("phones.number=like=555", true, false, 1).getRootInstruction()
+		);
+		assertEquals(List.of("%555%"), like.getArguments());
+		assertEquals(List.of("phones", "phoneNumber"), like.getPathSegments());
+		assertEquals(List.of("phones", "phones.phoneNumber"), like.getPathPrefixes());
+
+		ComparisonInstruction ignoreCase = assertInstanceOf(
+				ComparisonInstruction.class,
+				compile("name.firstName=ic=John", true, false, 1).getRootInstruction()
+		);
+		assertEquals(List.of("JOHN"), ignoreCase.getArguments());
+		assertEquals(List.of("firstName"), ignoreCase.getPathSegments());
+	}
+
+	@Test
+	void testCustomOperatorFallsBack() {
+		ComparisonInstruction instruction = assertInstanceOf(
+				ComparisonInstruction.class,
+				compile("id=isGtFive=true", true, false, 1).getRootInstruction()
+		);
+		assertTrue(instruction.isFallback());
+		assertNull(instruction.getOperator());
+		assertEquals(List.of(), instruction.getArguments());
+	}
+
+	@Test
+	void testLogicalNodesAreCompiled() {
+		FilterProgram program = compile("id==1;phones.number=like=555", true, false, 1);
+		LogicalInstruction instruction = assertInstanceOf(LogicalInstruction.class, program.getRootInstruction());
+		assertEquals(LogicalOperator.AND, instruction.getOperator());
+		assertEquals(2, instruction.getChildren().size());
+		assertEquals(Map.of("id", "id", "phones.number", "phones.phoneNumber"), program.getFieldMappings());
+	}
+
+	@Test
+	void testOperatorPolicyFollowsFieldContract() {
+		CompilingRSQLVisitor visitor = visitorFactory.newCompilingRSQLVisitor(UserEntity.class, User.class, true, false, 1);
+		visitor.compile(parser.parse("id==1;name.firstName=ic=John"));
+		assertTrue(visitor.isOperatorAllowed("id", RSQLDefaultOperator.NOT_EQUAL));
+		assertFalse(visitor.isOperatorAllowed("id", RSQLDefaultOperator.IN));
+		assertTrue(visitor.isOperatorAllowed("name.firstName", RSQLDefaultOperator.IGNORE_CASE));
+		assertFalse(visitor.isOperatorAllowed("name.firstName", RSQLDefaultOperator.EQUAL));
+		assertFalse(visitor.isOperatorAllowed("phones.number", RSQLDefaultOperator.LIKE));
+	}
+
+	@Test
+	void testInvalidArgumentIsRejected() {
+		var ex = assertThrows(QueryArgumentConversionException.class, () -> compile("id==abc", true, false, 1));
+		assertEquals("id", ex.getFieldPath());
+		assertEquals("abc", ex.getValue());
+		assertEquals(Long.class, ex.getTargetType());
+	}
+
+	@Test
+	void testValidationRulesAreEnforced() {
+		assertThrows(QueryForbiddenLogicalOperatorException.class, () -> compile("id==1,id==2", true, false, 1));
+		assertThrows(QueryMaxASTDepthExceededException.class, () -> compile("id==1;id==2", true, false, 0));
+		assertThrows(QueryForbiddenOperatorException.class, () -> compile("id=in=(1,2)", true, false, 1));
+		assertThrows(QueryFieldValidationException.class, () -> compile("email==a", true, false, 1));
+	}
+}
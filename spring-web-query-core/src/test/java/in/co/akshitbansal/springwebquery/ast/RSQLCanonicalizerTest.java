@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.ast;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import in.co.akshitbansal.springwebquery.ast.RSQLCanonicalizer.CanonicalNode;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RSQLCanonicalizerTest {
+
+	private final RSQLParser parser = new RSQLParser(getAllowedOperators());
+	private final RSQLCanonicalizer canonicalizer = new RSQLCanonicalizer();
+
+	private Set<ComparisonOperator> getAllowedOperators() {
+		return Arrays
+				.stream(RSQLDefaultOperator.values())
+				.map(RSQLDefaultOperator::getOperator)
+				.collect(Collectors.toSet());
+	}
+
+	private CanonicalNode canonicalize(String query) {
+		return canonicalizer.canonicalize(parser.parse(query));
+	}
+
+	@Test
+	void testCanonicalizeWithNullNode() {
+		assertThrows(NullPointerException.class, () -> canonicalizer.canonicalize(null));
+	}
+
+	@Test
+	void testComparisonIsRenderedWithQuotedArguments() {
+		assertEquals("name==\"John\"", canonicalize("name==John").getQuery());
+		assertEquals("name==\"a\\\"b\"", canonicalize("name=='a\"b'").getQuery());
+	}
+
+	@Test
+	void testOperatorAliasesShareCanonicalForm() {
+		assertEquals(canonicalize("age=gt=5").getQuery(), canonicalize("age>5").getQuery());
+	}
+
+	@Test
+	void testCommutativeChildrenAreSorted() {
+		CanonicalNode canonical = canonicalize("b==2;a==1");
+		assertEquals("a==\"1\";b==\"2\"", canonical.getQuery());
+		assertEquals(canonicalize("a==1;b==2"), canonical);
+	}
+
+	@Test
+	void testNestedLogicalNodesOfSameTypeAreFlattened() {
+		CanonicalNode canonical = canonicalize("(a==1;(b==2;c==3));d==4");
+		assertEquals("a==\"1\";b==\"2\";c==\"3\";d==\"4\"", canonical.getQuery());
+		assertEquals(4, ((LogicalNode) canonical.getNode()).getChildren().size());
+	}
+
+	@Test
+	void testNestedLogicalNodesOfDifferentTypeArePreserved() {
+		CanonicalNode canonical = canonicalize("c==3;(b==2,a==1)");
+		assertEquals("(a==\"1\",b==\"2\");c==\"3\"", canonical.getQuery());
+		assertEquals(canonical, canonicalizer.canonicalize(parser.parse(canonical.getQuery())));
+	}
+
+	@Test
+	void testDuplicateSiblingsAreRemoved() {
+		CanonicalNode canonical = canonicalize("a==1;b==2;a==1");
+		assertEquals("a==\"1\";b==\"2\"", canonical.getQuery());
+	}
+
+	@Test
+	void testSingleChildGroupCollapsesToChild() {
+		Node expected = parser.parse("a==1");
+		CanonicalNode canonical = canonicalize("a==1;(a==1,a==1)");
+		assertEquals(expected, canonical.getNode());
+		assertEquals("a==\"1\"", canonical.getQuery());
+	}
+
+	@Test
+	void testInArgumentsAreSortedAndDeduplicated() {
+		assertEquals("a=in=(\"1\",\"2\",\"3\")", canonicalize("a=in=(3,1,2,1)").getQuery());
+		assertEquals("a=out=(\"x\",\"y\")", canonicalize("a=out=(y,x,y)").getQuery());
+	}
+
+	@Test
+	void testOrderedArgumentsAreNotReordered() {
+		assertEquals("a=bt=(\"9\",\"1\")", canonicalize("a=bt=(9,1)").getQuery());
+	}
+
+	@Test
+	void testCanonicalizationIsIdempotent() {
+		CanonicalNode canonical = canonicalize("(c==3,(b==2,a=in=(2,1)));d==4;d==4");
+		CanonicalNode twice = canonicalizer.canonicalize(canonical.getNode());
+		assertEquals(canonical, twice);
+	}
+}
@@ -19,6 +19,8 @@ package in.co.akshitbansal.springwebquery.ast;
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.ast.ComparisonOperator;
 import cz.jirutka.rsql.parser.ast.Node;
+import in.co.akshitbansal.springwebquery.contract.QueryContract;
+import in.co.akshitbansal.springwebquery.contract.QueryContractRegistry;
 import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
 import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
 import in.co.akshitbansal.springwebquery.exception.QueryForbiddenLogicalOperatorException;
@@ -29,6 +31,7 @@ import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper;
 import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
 import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -47,6 +50,9 @@ class ValidationRSQLVisitorTest {
 	private final IsLongGreaterThanFiveOperator customOperator = new IsLongGreaterThanFiveOperator();
 
 	private final FilterableFieldValidator fieldValidator = new FilterableFieldValidator(Map.of(IsLongGreaterThanFiveOperator.class, customOperator));
+	private final QueryContract contract = new QueryContractRegistry(
+			pathMapperFactory, fieldValidator, new SortableFieldValidator()
+	).getContract(UserEntity.class, User.class);
 	private final RSQLParser parser = new RSQLParser(getAllowedOperators());
 
 	private Set<ComparisonOperator> getAllowedOperators() {
@@ -68,7 +74,8 @@ class ValidationRSQLVisitorTest {
 				false,
 				1,
 				null,
-				fieldValidator
+				fieldValidator,
+				contract
 		));
 	}
 
@@ -79,6 +86,19 @@ class ValidationRSQLVisitorTest {
 				false,
 				1,
 				pathMapper,
+				null,
+				contract
+		));
+	}
+
+	@Test
+	void testConstructionWithNullContract() {
+		assertThrows(NullPointerException.class, () -> new ValidationRSQLVisitor(
+				true,
+				false,
+				1,
+				pathMapper,
+				fieldValidator,
 				null
 		));
 	}
@@ -90,7 +110,8 @@ class ValidationRSQLVisitorTest {
 				false,
 				1,
 				pathMapper,
-				fieldValidator
+				fieldValidator,
+				contract
 		));
 	}
 
@@ -101,7 +122,8 @@ class ValidationRSQLVisitorTest {
 				true,
 				1,
 				pathMapper,
-				fieldValidator
+				fieldValidator,
+				contract
 		);
 		Node node = parser.parse("id==1;name.firstName=ic=John");
 		var nodeMetadata = NodeMetadata.of(0);
@@ -116,7 +138,8 @@ class ValidationRSQLVisitorTest {
 				false,
 				1,
 				pathMapper,
-				fieldValidator
+				fieldValidator,
+				contract
 		);
 		Node node = parser.parse("id==1,id==2");
 		var nodeMetadata = NodeMetadata.of(0);
@@ -131,7 +154,8 @@ class ValidationRSQLVisitorTest {
 				false,
 				0,
 				pathMapper,
-				fieldValidator
+				fieldValidator,
+				contract
 		);
 		Node node = parser.parse("id==1;name.firstName=ic=John");
 		var nodeMetadata = NodeMetadata.of(0);
@@ -146,7 +170,8 @@ class ValidationRSQLVisitorTest {
 				true,
 				2,
 				pathMapper,
-				fieldValidator
+				fieldValidator,
+				contract
 		);
 		Node node = parser.parse("(name.firstName=ic=John,name.firstName=ic=Doe);(id==1,id==2)");
 		var nodeMetadata = NodeMetadata.of(0);
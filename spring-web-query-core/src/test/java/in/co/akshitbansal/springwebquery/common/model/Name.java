@@ -18,6 +18,7 @@ package in.co.akshitbansal.springwebquery.common.model;
 
 import in.co.akshitbansal.springwebquery.annotation.MapsTo;
 import in.co.akshitbansal.springwebquery.annotation.RSQLFilterable;
+import in.co.akshitbansal.springwebquery.annotation.Selectable;
 import in.co.akshitbansal.springwebquery.annotation.Sortable;
 import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
 import lombok.AllArgsConstructor;
@@ -31,10 +32,11 @@ public class Name {
 
 	@MapsTo(value = "firstName", absolute = true)
 	@Sortable
+	@Selectable
 	@RSQLFilterable(RSQLDefaultOperator.IGNORE_CASE)
 	private String firstName;
 
 	@MapsTo(value = "lastName", absolute = true)
-	// Explicitly not annotated with @Sortable
+	// Explicitly not annotated with @Sortable or @Selectable
 	private String lastName;
 }
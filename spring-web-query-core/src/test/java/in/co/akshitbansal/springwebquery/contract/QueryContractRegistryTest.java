@@ -0,0 +1,389 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.contract;
+
+import in.co.akshitbansal.springwebquery.annotation.MapsTo;
+import in.co.akshitbansal.springwebquery.annotation.RSQLFilterable;
+import in.co.akshitbansal.springwebquery.annotation.Sortable;
+import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import in.co.akshitbansal.springwebquery.validator.SortableFieldValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static in.co.akshitbansal.springwebquery.contract.QueryContract.FieldContract;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryContractRegistryTest {
+
+	private final IsLongGreaterThanFiveOperator customOperator = new IsLongGreaterThanFiveOperator();
+
+	private final QueryContractRegistry registry = new QueryContractRegistry(
+			new DTOToEntityPathMapperFactory(),
+			new FilterableFieldValidator(Map.of(IsLongGreaterThanFiveOperator.class, customOperator)),
+			new SortableFieldValidator()
+	);
+
+	@Test
+	void testNullArguments() {
+		assertThrows(NullPointerException.class, () -> registry.getContract(null, User.class));
+		assertThrows(NullPointerException.class, () -> registry.getContract(UserEntity.class, null));
+	}
+
+	@Test
+	void testContractIsBuiltOnce() {
+		QueryContract contract = registry.getContract(UserEntity.class, User.class);
+		assertSame(contract, registry.getContract(UserEntity.class, User.class));
+		assertEquals(UserEntity.class, contract.getEntityClass());
+		assertEquals(User.class, contract.getDtoClass());
+	}
+
+	@Test
+	void testRootField() {
+		FieldContract id = registry.getContract(UserEntity.class, User.class).getField("id");
+		assertNotNull(id);
+		assertEquals("id", id.getMappingResult().getPath());
+		assertTrue(id.isSortable());
+		assertTrue(id.isFilterable());
+		assertTrue(id.isAllowed(RSQLDefaultOperator.EQUAL.getOperator()));
+		assertTrue(id.isAllowed(RSQLDefaultOperator.NOT_EQUAL.getOperator()));
+		assertTrue(id.isAllowed(customOperator.getComparisonOperator()));
+		assertFalse(id.isAllowed(RSQLDefaultOperator.IN.getOperator()));
+	}
+
+	@Test
+	void testNestedFields() {
+		QueryContract contract = registry.getContract(UserEntity.class, User.class);
+
+		FieldContract firstName = contract.getField("name.firstName");
+		assertNotNull(firstName);
+		assertEquals("firstName", firstName.getMappingResult().getPath());
+		assertTrue(firstName.isSortable());
+		assertTrue(firstName.isAllowed(RSQLDefaultOperator.IGNORE_CASE.getOperator()));
+		assertFalse(firstName.isAllowed(RSQLDefaultOperator.EQUAL.getOperator()));
+
+		FieldContract phoneNumber = contract.getField("phones.number");
+		assertNotNull(phoneNumber);
+		assertEquals("phones.phoneNumber", phoneNumber.getMappingResult().getPath());
+		assertFalse(phoneNumber.isSortable());
+		assertTrue(phoneNumber.isAllowed(RSQLDefaultOperator.LIKE.getOperator()));
+	}
+
+	@Test
+	void testUnqueryableAndMisconfiguredFieldsAreOmitted() {
+		QueryContract contract = registry.getContract(UserEntity.class, User.class);
+		assertNull(contract.getField("email"));
+		assertNull(contract.getField("name"));
+		assertNull(contract.getField("name.lastName"));
+		assertNull(contract.getField("addresses.city"));
+		assertNull(contract.getField("unknown"));
+		assertTrue(contract.getInvalidPaths().isEmpty());
+	}
+
+	@Test
+	void testBrokenMappingIsReportedAsInvalidPath() {
+		QueryContract contract = registry.getContract(UserEntity.class, BrokenDTO.class);
+		assertNull(contract.getField("email"));
+		assertInstanceOf(QueryConfigurationException.class, contract.getInvalidPaths().get("email"));
+		assertNotNull(contract.getField("id"));
+	}
+
+	@Test
+	void testGeneratedMetadataIsPreferred() {
+		QueryContract contract = registry.getContract(UserEntity.class, MetadataDTO.class);
+		assertEquals(Set.of("id", "email"), contract.getFields().keySet());
+
+		// Operators and the sortable flag come from the metadata
+		FieldContract id = contract.getField("id");
+		assertNotNull(id);
+		assertTrue(id.isAllowed(RSQLDefaultOperator.IN.getOperator()));
+		assertTrue(id.isAllowed(customOperator.getComparisonOperator()));
+		assertFalse(id.isAllowed(RSQLDefaultOperator.EQUAL.getOperator()));
+		assertFalse(id.isSortable());
+
+		// The sortable email field is mapped to its entity path
+		FieldContract email = contract.getField("email");
+		assertNotNull(email);
+		assertEquals("email", email.getMappingResult().getPath());
+		assertTrue(email.isSortable());
+		assertFalse(email.isFilterable());
+	}
+
+	@Test
+	void testGeneratedPathsAreMappedOnFirstUse() {
+		QueryContract contract = registry.getContract(UserEntity.class, LazyMetadataDTO.class);
+		assertTrue(contract.getInvalidPaths().isEmpty());
+
+		// The broken mapping only surfaces once the mapping result is needed
+		FieldContract email = contract.getField("email");
+		assertNotNull(email);
+		assertTrue(email.isSortable());
+		assertThrows(QueryConfigurationException.class, email::getMappingResult);
+
+		FieldContract id = contract.getField("id");
+		assertNotNull(id);
+		assertSame(id.getMappingResult(), id.getMappingResult());
+		assertEquals("id", id.getMappingResult().getPath());
+	}
+
+	@Test
+	void testStaleGeneratedDeclarationsAreIgnored() {
+		QueryContract contract = registry.getContract(UserEntity.class, StaleMetadataDTO.class);
+		assertTrue(contract.getInvalidPaths().isEmpty());
+
+		// The contract reflects the current annotations rather than the metadata
+		FieldContract id = contract.getField("id");
+		assertNotNull(id);
+		assertTrue(id.isAllowed(RSQLDefaultOperator.EQUAL.getOperator()));
+		assertFalse(id.isAllowed(RSQLDefaultOperator.IN.getOperator()));
+		FieldContract email = contract.getField("email");
+		assertNotNull(email);
+		assertFalse(email.isSortable());
+	}
+
+	@Test
+	void testOutdatedGeneratedMetadataIsIgnored() {
+		QueryContract contract = registry.getContract(UserEntity.class, OutdatedMetadataDTO.class);
+		FieldContract id = contract.getField("id");
+		assertNotNull(id);
+		assertEquals("email", id.getMappingResult().getPath());
+	}
+
+	private static class BrokenDTO {
+
+		@Sortable
+		private Long id;
+
+		@MapsTo("missing")
+		@Sortable
+		private String email;
+	}
+
+	private static class MetadataDTO {
+
+		@RSQLFilterable(value = RSQLDefaultOperator.IN, customOperators = IsLongGreaterThanFiveOperator.class)
+		private Long id;
+
+		@Sortable
+		private String email;
+	}
+
+	// Stands in for the class the annotation processor generates for MetadataDTO
+	private static class MetadataDTO_QueryMetadata implements GeneratedQueryMetadata {
+
+		@Override
+		public long getFingerprint() {
+			return QueryMetadataFingerprint.of(MetadataDTO.class);
+		}
+
+		@Override
+		public List<String> getPaths() {
+			return List.of("id", "email");
+		}
+
+		@Override
+		public String getEntityPath(String dtoPath) {
+			return switch (dtoPath) {
+				case "id" -> "id";
+				case "email" -> "email";
+				default -> null;
+			};
+		}
+
+		@Override
+		public Set<RSQLDefaultOperator> getDefaultOperators(String dtoPath) {
+			if (dtoPath.equals("id")) return EnumSet.of(RSQLDefaultOperator.IN);
+			return EnumSet.noneOf(RSQLDefaultOperator.class);
+		}
+
+		@Override
+		public List<Class<?>> getCustomOperators(String dtoPath) {
+			if (dtoPath.equals("id")) return List.of(IsLongGreaterThanFiveOperator.class);
+			return List.of();
+		}
+
+		@Override
+		public boolean isSortable(String dtoPath) {
+			return dtoPath.equals("email");
+		}
+	}
+
+	private static class LazyMetadataDTO {
+
+		@Sortable
+		private Long id;
+
+		@MapsTo("missing")
+		@Sortable
+		private String email;
+	}
+
+	private static class LazyMetadataDTO_QueryMetadata implements GeneratedQueryMetadata {
+
+		@Override
+		public long getFingerprint() {
+			return QueryMetadataFingerprint.of(LazyMetadataDTO.class);
+		}
+
+		@Override
+		public List<String> getPaths() {
+			return List.of("id", "email");
+		}
+
+		@Override
+		public String getEntityPath(String dtoPath) {
+			return switch (dtoPath) {
+				case "id" -> "id";
+				case "email" -> "missing";
+				default -> null;
+			};
+		}
+
+		@Override
+		public Set<RSQLDefaultOperator> getDefaultOperators(String dtoPath) {
+			return EnumSet.noneOf(RSQLDefaultOperator.class);
+		}
+
+		@Override
+		public List<Class<?>> getCustomOperators(String dtoPath) {
+			return List.of();
+		}
+
+		@Override
+		public boolean isSortable(String dtoPath) {
+			return true;
+		}
+	}
+
+	private static class OutdatedMetadataDTO {
+
+		@MapsTo("email")
+		@Sortable
+		private Long id;
+	}
+
+	// OutdatedMetadataDTO as declared before @MapsTo was added
+	private static class PreviousOutdatedMetadataDTO {
+
+		@Sortable
+		private Long id;
+	}
+
+	// Generated from PreviousOutdatedMetadataDTO
+	private static class OutdatedMetadataDTO_QueryMetadata implements GeneratedQueryMetadata {
+
+		@Override
+		public long getFingerprint() {
+			return QueryMetadataFingerprint.of(PreviousOutdatedMetadataDTO.class);
+		}
+
+		@Override
+		public List<String> getPaths() {
+			return List.of("id");
+		}
+
+		@Override
+		public String getEntityPath(String dtoPath) {
+			return dtoPath.equals("id") ? "id" : null;
+		}
+
+		@Override
+		public Set<RSQLDefaultOperator> getDefaultOperators(String dtoPath) {
+			return EnumSet.noneOf(RSQLDefaultOperator.class);
+		}
+
+		@Override
+		public List<Class<?>> getCustomOperators(String dtoPath) {
+			return List.of();
+		}
+
+		@Override
+		public boolean isSortable(String dtoPath) {
+			return true;
+		}
+	}
+
+	private static class StaleMetadataDTO {
+
+		// Narrowed from EQUAL and IN after the metadata was generated
+		@RSQLFilterable(RSQLDefaultOperator.EQUAL)
+		private Long id;
+
+		// @Sortable removed after the metadata was generated
+		@RSQLFilterable(RSQLDefaultOperator.EQUAL)
+		private String email;
+	}
+
+	// StaleMetadataDTO as declared when its metadata was generated
+	private static class PreviousStaleMetadataDTO {
+
+		@RSQLFilterable({RSQLDefaultOperator.EQUAL, RSQLDefaultOperator.IN})
+		private Long id;
+
+		@RSQLFilterable(RSQLDefaultOperator.EQUAL)
+		@Sortable
+		private String email;
+	}
+
+	// Generated from PreviousStaleMetadataDTO
+	private static class StaleMetadataDTO_QueryMetadata implements GeneratedQueryMetadata {
+
+		@Override
+		public long getFingerprint() {
+			return QueryMetadataFingerprint.of(PreviousStaleMetadataDTO.class);
+		}
+
+		@Override
+		public List<String> getPaths() {
+			return List.of("id", "email");
+		}
+
+		@Override
+		public String getEntityPath(String dtoPath) {
+			return switch (dtoPath) {
+				case "id" -> "id";
+				case "email" -> "email";
+				default -> null;
+			};
+		}
+
+		@Override
+		public Set<RSQLDefaultOperator> getDefaultOperators(String dtoPath) {
+			if (dtoPath.equals("id")) return EnumSet.of(RSQLDefaultOperator.EQUAL, RSQLDefaultOperator.IN);
+			return EnumSet.of(RSQLDefaultOperator.EQUAL);
+		}
+
+		@Override
+		public List<Class<?>> getCustomOperators(String dtoPath) {
+			return List.of();
+		}
+
+		@Override
+		public boolean isSortable(String dtoPath) {
+			return dtoPath.equals("email");
+		}
+	}
+}
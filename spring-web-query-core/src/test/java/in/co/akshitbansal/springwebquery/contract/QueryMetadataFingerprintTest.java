@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.contract;
+
+import in.co.akshitbansal.springwebquery.annotation.MapsTo;
+import in.co.akshitbansal.springwebquery.annotation.RSQLFilterable;
+import in.co.akshitbansal.springwebquery.annotation.Sortable;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMetadataFingerprintTest {
+
+	@Test
+	void testNullArgument() {
+		assertThrows(NullPointerException.class, () -> QueryMetadataFingerprint.of(null));
+	}
+
+	@Test
+	void testSameShapeHasSameFingerprint() {
+		assertEquals(QueryMetadataFingerprint.of(User.class), QueryMetadataFingerprint.of(User.class));
+		assertEquals(QueryMetadataFingerprint.of(Original.class), QueryMetadataFingerprint.of(Copy.class));
+	}
+
+	@Test
+	void testAnnotationValueChangesFingerprint() {
+		assertNotEquals(QueryMetadataFingerprint.of(Original.class), QueryMetadataFingerprint.of(MoreOperators.class));
+	}
+
+	@Test
+	void testFieldTypeChangesFingerprint() {
+		assertNotEquals(QueryMetadataFingerprint.of(Parent.class), QueryMetadataFingerprint.of(ParentOfChanged.class));
+	}
+
+	private static class Original {
+
+		@RSQLFilterable(RSQLDefaultOperator.EQUAL)
+		@Sortable
+		private Long id;
+
+		@MapsTo("title")
+		private String name;
+	}
+
+	private static class Copy {
+
+		@Sortable
+		@RSQLFilterable(RSQLDefaultOperator.EQUAL)
+		private Long id;
+
+		@MapsTo("title")
+		private String name;
+	}
+
+	private static class MoreOperators {
+
+		@RSQLFilterable({RSQLDefaultOperator.EQUAL, RSQLDefaultOperator.IN})
+		@Sortable
+		private Long id;
+
+		@MapsTo("title")
+		private String name;
+	}
+
+	private static class Parent {
+
+		private Original child;
+	}
+
+	private static class ParentOfChanged {
+
+		private MoreOperators child;
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.cost;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefaultQueryCostEstimatorTest {
+
+	private final IsLongGreaterThanFiveOperator customOperator = new IsLongGreaterThanFiveOperator();
+	private final RSQLParser parser = new RSQLParser(getAllowedOperators());
+	private final DefaultQueryCostEstimator estimator = new DefaultQueryCostEstimator();
+	private final DTOToEntityPathMapper mapper = new DTOToEntityPathMapperFactory().newMapper(UserEntity.class, User.class);
+
+	private Set<ComparisonOperator> getAllowedOperators() {
+		Stream<ComparisonOperator> defaultOperators = Arrays
+				.stream(RSQLDefaultOperator.values())
+				.map(RSQLDefaultOperator::getOperator);
+		Stream<ComparisonOperator> customOperators = Stream
+				.of(customOperator)
+				.map(RSQLCustomOperator::getComparisonOperator);
+		return Stream
+				.concat(defaultOperators, customOperators)
+				.collect(Collectors.toSet());
+	}
+
+	private long estimate(String query, String... selectors) {
+		Map<String, MappingResult> mappingResults = new HashMap<>();
+		for (String selector: selectors) mappingResults.put(selector, mapper.map(selector));
+		return estimator.estimate(parser.parse(query), UserEntity.class, mappingResults);
+	}
+
+	@Test
+	void testEstimateWithNullArguments() {
+		assertThrows(NullPointerException.class, () -> estimator.estimate(null, UserEntity.class, Map.of()));
+		assertThrows(NullPointerException.class, () -> estimator.estimate(parser.parse("id==1"), null, Map.of()));
+		assertThrows(NullPointerException.class, () -> estimator.estimate(parser.parse("id==1"), UserEntity.class, null));
+	}
+
+	@Test
+	void testEqualityComparison() {
+		assertEquals(DefaultQueryCostEstimator.EQUALITY_COST, estimate("id==1", "id"));
+	}
+
+	@Test
+	void testRangeComparison() {
+		assertEquals(DefaultQueryCostEstimator.RANGE_COST, estimate("id=gt=1", "id"));
+	}
+
+	@Test
+	void testCustomOperatorComparison() {
+		assertEquals(DefaultQueryCostEstimator.CUSTOM_OPERATOR_COST, estimate("id=isGtFive=true", "id"));
+	}
+
+	@Test
+	void testInCostGrowsWithCardinality() {
+		long small = estimate("id=in=(1,2)", "id");
+		long large = estimate("id=in=(1,2,3,4,5,6)", "id");
+		assertEquals(4 * DefaultQueryCostEstimator.IN_ARGUMENT_COST, large - small);
+	}
+
+	@Test
+	void testLikeOnCollectionPath() {
+		long expected = DefaultQueryCostEstimator.LEADING_WILDCARD_COST
+				+ DefaultQueryCostEstimator.JOIN_HOP_COST
+				+ DefaultQueryCostEstimator.COLLECTION_TRAVERSAL_COST;
+		assertEquals(expected, estimate("phones.number=like=0101", "phones.number"));
+	}
+
+	@Test
+	void testEmbeddedPathHasNoJoinHop() {
+		DTOToEntityPathMapper embeddingMapper = new DTOToEntityPathMapperFactory().newMapper(
+				EmbeddingEntity.class, EmbeddingDTO.class
+		);
+		Map<String, MappingResult> mappingResults = Map.of("location.city", embeddingMapper.map("location.city"));
+		long cost = estimator.estimate(parser.parse("location.city==Pune"), EmbeddingEntity.class, mappingResults);
+		assertEquals(DefaultQueryCostEstimator.EQUALITY_COST, cost);
+	}
+
+	@Test
+	void testOrBranchesAddCost() {
+		long expected = 2 * DefaultQueryCostEstimator.EQUALITY_COST + 2 * DefaultQueryCostEstimator.OR_BRANCH_COST;
+		assertEquals(expected, estimate("id==1,id==2", "id"));
+		assertEquals(2 * DefaultQueryCostEstimator.EQUALITY_COST, estimate("id==1;id==2", "id"));
+	}
+
+	@Test
+	void testUnmappedSelectorIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> estimate("id==1"));
+	}
+
+	private static class EmbeddingEntity {
+
+		@Embedded
+		private Location location;
+	}
+
+	@Embeddable
+	private static class Location {
+
+		private String city;
+	}
+
+	private static class EmbeddingDTO {
+
+		private LocationDTO location;
+	}
+
+	private static class LocationDTO {
+
+		private String city;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.metamodel;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import in.co.akshitbansal.springwebquery.common.entity.PhoneEntity;
+import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.cost.DefaultQueryCostEstimator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.util.MySQLContainerFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapper.MappingResult;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+class MetamodelEntityPathResolverTest {
+
+	@Container
+	private static final JdbcDatabaseContainer<?> mysqlContainer = MySQLContainerFactory
+			.createMySQLContainer("mysql:8.4.9")
+			.withInitScript("init.sql");
+
+	@DynamicPropertySource
+	private static void properties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", mysqlContainer::getJdbcUrl);
+		registry.add("spring.datasource.username", mysqlContainer::getUsername);
+		registry.add("spring.datasource.password", mysqlContainer::getPassword);
+	}
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private MetamodelEntityPathResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+		resolver = new MetamodelEntityPathResolver(entityManagerFactory.getMetamodel());
+	}
+
+	@Test
+	void testIsManaged() {
+		assertTrue(resolver.isManaged(UserEntity.class));
+		assertTrue(resolver.isManaged(PhoneEntity.class));
+		assertFalse(resolver.isManaged(User.class));
+	}
+
+	@Test
+	void testResolveBasicAttribute() {
+		EntityAttributePath path = resolver.resolve(UserEntity.class, "email");
+		assertEquals("email", path.getPath());
+		assertEquals(String.class, path.getJavaType());
+		assertFalse(path.isCollectionValued());
+		assertFalse(path.isJoinRequired());
+		assertEquals("email", path.getTerminalAttribute().getName());
+		assertNotNull(path.getTerminalField());
+		assertEquals("email", path.getTerminalField().getName());
+	}
+
+	@Test
+	void testResolveCollectionAttribute() {
+		EntityAttributePath path = resolver.resolve(UserEntity.class, "phones");
+		assertEquals(PhoneEntity.class, path.getJavaType());
+		assertTrue(path.isCollectionValued());
+		assertTrue(path.isJoinRequired());
+	}
+
+	@Test
+	void testResolvePathThroughCollection() {
+		EntityAttributePath path = resolver.resolve(UserEntity.class, "phones.phoneNumber");
+		assertEquals(String.class, path.getJavaType());
+		assertEquals(2, path.getAttributes().size());
+		assertTrue(path.isCollectionValued());
+		assertTrue(path.isJoinRequired());
+	}
+
+	@Test
+	void testResolvePathThroughSingularAssociation() {
+		EntityAttributePath path = resolver.resolve(PhoneEntity.class, "user.email");
+		assertEquals(String.class, path.getJavaType());
+		assertFalse(path.isCollectionValued());
+		assertTrue(path.isJoinRequired());
+	}
+
+	@Test
+	void testResolvedPathsAreMemoized() {
+		assertSame(resolver.resolve(UserEntity.class, "phones.phoneNumber"), resolver.resolve(UserEntity.class, "phones.phoneNumber"));
+	}
+
+	@Test
+	void testResolveInvalidPaths() {
+		assertThrows(IllegalArgumentException.class, () -> resolver.resolve(UserEntity.class, "unknown"));
+		assertThrows(IllegalArgumentException.class, () -> resolver.resolve(UserEntity.class, "email.value"));
+		assertThrows(IllegalArgumentException.class, () -> resolver.resolve(UserEntity.class, "phones..phoneNumber"));
+		assertThrows(IllegalArgumentException.class, () -> resolver.resolve(UserEntity.class, ""));
+		assertThrows(IllegalArgumentException.class, () -> resolver.resolve(User.class, "id"));
+	}
+
+	@Test
+	void testMapperUsesMetamodel() {
+		DTOToEntityPathMapperFactory factory = new DTOToEntityPathMapperFactory(resolver);
+		MappingResult result = factory.newMapper(UserEntity.class, User.class).map("phones.number");
+		assertEquals("phones.phoneNumber", result.getPath());
+		assertEquals("phoneNumber", result.getTerminalEntityField().getName());
+		assertNotNull(result.getEntityAttributePath());
+		assertTrue(result.getEntityAttributePath().isJoinRequired());
+		assertEquals(String.class, result.getEntityAttributePath().getJavaType());
+	}
+
+	@Test
+	void testCostIsEstimatedFromMetamodelPath() {
+		DTOToEntityPathMapperFactory factory = new DTOToEntityPathMapperFactory(resolver);
+		MappingResult result = factory.newMapper(UserEntity.class, User.class).map("phones.number");
+		long expected = DefaultQueryCostEstimator.LEADING_WILDCARD_COST
+				+ DefaultQueryCostEstimator.JOIN_HOP_COST
+				+ DefaultQueryCostEstimator.COLLECTION_TRAVERSAL_COST;
+		Set<ComparisonOperator> operators = Arrays
+				.stream(RSQLDefaultOperator.values())
+				.map(RSQLDefaultOperator::getOperator)
+				.collect(Collectors.toSet());
+		long cost = new DefaultQueryCostEstimator().estimate(
+				new RSQLParser(operators).parse("phones.number=like=0101"),
+				UserEntity.class,
+				Map.of("phones.number", result)
+		);
+		assertEquals(expected, cost);
+	}
+}
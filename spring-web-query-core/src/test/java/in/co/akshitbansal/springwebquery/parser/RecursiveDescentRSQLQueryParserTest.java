@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.parser;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.RSQLParserException;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import cz.jirutka.rsql.parser.ast.Node;
+import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecursiveDescentRSQLQueryParserTest {
+
+	private static final List<String> VALID_QUERIES = List.of(
+			"name==John",
+			"name!=John",
+			"age=gt=5",
+			"age>5",
+			"age>=5",
+			"age<5",
+			"age<=5",
+			"age=ge=5;age=le=10",
+			"id=in=(1,2,3)",
+			"id=out=(3)",
+			"id=in=1",
+			"id=in=(1 or 2)",
+			"id=bt=(1,10)",
+			"name=isnull=true",
+			"name=like=Jo",
+			"name=ic=john",
+			"name==\"John Doe\"",
+			"name=='John Doe'",
+			"name==\"a\\\"b\"",
+			"name=='a\\'b'",
+			"name==\"a,b;c(d)\"",
+			"name==''",
+			"name==*John*",
+			"address.city==Delhi",
+			"a==1;b==2;c==3",
+			"a==1,b==2,c==3",
+			"a==1;b==2,c==3",
+			"a==1,b==2;c==3",
+			"(a==1,b==2);c==3",
+			"a==1;(b==2,(c==3;d==4))",
+			"((a==1))",
+			" a == 1 ; b == 2 ",
+			"a==1 and b==2",
+			"a==1 or b==2",
+			"a==1  and  b==2",
+			"a==1 and b==2 or c==3",
+			"(a==1 or b==2) and c==3",
+			"age=isGtFive=true",
+			"name==Jöhn"
+	);
+
+	private static final List<String> INVALID_QUERIES = List.of(
+			"",
+			" ",
+			"name",
+			"name==",
+			"==John",
+			"name=John",
+			"name=unknown=John",
+			"name==John;",
+			"name==John,",
+			";name==John",
+			"(name==John",
+			"name==John)",
+			"()",
+			"name==(John",
+			"name==()",
+			"name==(a,b)",
+			"name==\"John",
+			"name=='John",
+			"name==\"John\\\"",
+			"name==John Doe",
+			"name==!John",
+			"name==~John",
+			"a==1;;b==2",
+			"a==1 and",
+			"a==1 andb==2"
+	);
+
+	private final IsLongGreaterThanFiveOperator customOperator = new IsLongGreaterThanFiveOperator();
+	private final Set<ComparisonOperator> allowedOperators = getAllowedOperators();
+
+	private final RSQLParser referenceParser = new RSQLParser(allowedOperators);
+	private final RecursiveDescentRSQLQueryParser parser = new RecursiveDescentRSQLQueryParser(allowedOperators, 100);
+
+	private Set<ComparisonOperator> getAllowedOperators() {
+		Stream<ComparisonOperator> defaultOperators = Arrays
+				.stream(RSQLDefaultOperator.values())
+				.map(RSQLDefaultOperator::getOperator);
+		Stream<ComparisonOperator> customOperators = Stream
+				.of(customOperator)
+				.map(RSQLCustomOperator::getComparisonOperator);
+		return Stream
+				.concat(defaultOperators, customOperators)
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	void testConstructionWithNullOperators() {
+		assertThrows(NullPointerException.class, () -> new RecursiveDescentRSQLQueryParser(null, 100));
+	}
+
+	@Test
+	void testConstructionWithNonPositiveMaxQueryLength() {
+		assertThrows(QueryConfigurationException.class, () -> new RecursiveDescentRSQLQueryParser(allowedOperators, 0));
+	}
+
+	@Test
+	void testParseWithNullQuery() {
+		assertThrows(NullPointerException.class, () -> parser.parse(null));
+	}
+
+	@Test
+	void testValidQueriesProduceSameTreeAsReferenceParser() {
+		for (String query: VALID_QUERIES) {
+			Node expected = assertDoesNotThrow(() -> referenceParser.parse(query), query);
+			assertEquals(expected, parser.parse(query), query);
+		}
+	}
+
+	@Test
+	void testInvalidQueriesAreRejectedLikeReferenceParser() {
+		for (String query: INVALID_QUERIES) {
+			assertThrows(RSQLParserException.class, () -> referenceParser.parse(query), query);
+			assertThrows(RSQLParserException.class, () -> parser.parse(query), query);
+		}
+	}
+
+	@Test
+	void testSingleComparisonIsReturnedDirectly() {
+		Node node = parser.parse("name==John");
+		ComparisonNode comparisonNode = assertInstanceOf(ComparisonNode.class, node);
+		assertEquals("name", comparisonNode.getSelector());
+		assertEquals(List.of("John"), comparisonNode.getArguments());
+	}
+
+	@Test
+	void testQueryLongerThanMaximumIsRejected() {
+		String query = "name==" + "a".repeat(95);
+		assertEquals(101, query.length());
+		assertThrows(RSQLParserException.class, () -> parser.parse(query));
+		assertDoesNotThrow(() -> parser.parse(query.substring(1)));
+	}
+}
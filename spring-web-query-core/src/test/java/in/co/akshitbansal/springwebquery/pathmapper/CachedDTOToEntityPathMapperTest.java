@@ -18,14 +18,16 @@ package in.co.akshitbansal.springwebquery.pathmapper;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 import com.google.common.util.concurrent.Striped;
 import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
 import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 
 import static in.co.akshitbansal.springwebquery.pathmapper.CachedDTOToEntityPathMapper.CacheKey;
@@ -36,21 +38,23 @@ class CachedDTOToEntityPathMapperTest {
 
 	@Test
 	void testConstructionWithNullEntityClass() {
-		var successfulResolutions = new ConcurrentHashMap<CacheKey, MappingResult>();
+		var successfulResolutions = newSuccessfulResolutions();
+		var resolutionStats = StatsCounter.disabledStatsCounter();
 		var failedResolutions = newFailedResolutions();
 		var stripedLock = newStripedLock();
 		assertThrows(NullPointerException.class, () -> new CachedDTOToEntityPathMapper(
-				null, User.class, successfulResolutions, failedResolutions, stripedLock
+				null, User.class, successfulResolutions, resolutionStats, failedResolutions, stripedLock, null, false
 		));
 	}
 
 	@Test
 	void testConstructionWithNullDTOClass() {
-		var successfulResolutions = new ConcurrentHashMap<CacheKey, MappingResult>();
+		var successfulResolutions = newSuccessfulResolutions();
+		var resolutionStats = StatsCounter.disabledStatsCounter();
 		var failedResolutions = newFailedResolutions();
 		var stripedLock = newStripedLock();
 		assertThrows(NullPointerException.class, () -> new CachedDTOToEntityPathMapper(
-				UserEntity.class, null, successfulResolutions, failedResolutions, stripedLock
+				UserEntity.class, null, successfulResolutions, resolutionStats, failedResolutions, stripedLock, null, false
 		));
 	}
 
@@ -59,46 +63,59 @@ class CachedDTOToEntityPathMapperTest {
 		var failedResolutions = newFailedResolutions();
 		var stripedLock = newStripedLock();
 		assertThrows(NullPointerException.class, () -> new CachedDTOToEntityPathMapper(
-				UserEntity.class, User.class, null, failedResolutions, stripedLock
+				UserEntity.class, User.class, null, StatsCounter.disabledStatsCounter(), failedResolutions, stripedLock, null, false
+		));
+	}
+
+	@Test
+	void testConstructionWithNullResolutionStats() {
+		var successfulResolutions = newSuccessfulResolutions();
+		var failedResolutions = newFailedResolutions();
+		var stripedLock = newStripedLock();
+		assertThrows(NullPointerException.class, () -> new CachedDTOToEntityPathMapper(
+				UserEntity.class, User.class, successfulResolutions, null, failedResolutions, stripedLock, null, false
 		));
 	}
 
 	@Test
 	void testConstructionWithNullFailedResolutions() {
-		var successfulResolutions = new ConcurrentHashMap<CacheKey, MappingResult>();
+		var successfulResolutions = newSuccessfulResolutions();
+		var resolutionStats = StatsCounter.disabledStatsCounter();
 		var stripedLock = newStripedLock();
 		assertThrows(NullPointerException.class, () -> new CachedDTOToEntityPathMapper(
-				UserEntity.class, User.class, successfulResolutions, null, stripedLock
+				UserEntity.class, User.class, successfulResolutions, resolutionStats, null, stripedLock, null, false
 		));
 	}
 
 	@Test
 	void testConstructionWithNullStripedLock() {
-		var successfulResolutions = new ConcurrentHashMap<CacheKey, MappingResult>();
+		var successfulResolutions = newSuccessfulResolutions();
+		var resolutionStats = StatsCounter.disabledStatsCounter();
 		var failedResolutions = newFailedResolutions();
 		assertThrows(NullPointerException.class, () -> new CachedDTOToEntityPathMapper(
-				UserEntity.class, User.class, successfulResolutions, failedResolutions, null
+				UserEntity.class, User.class, successfulResolutions, resolutionStats, failedResolutions, null, null, false
 		));
 	}
 
 	@Test
 	void testShouldReturnSameInstanceForRepeatedSuccessfulLookup() {
 		// Constructing the mapper
-		ConcurrentMap<CacheKey, MappingResult> successfulResolutions = new ConcurrentHashMap<>();
+		Cache<CacheKey, MappingResult> successfulResolutions = newSuccessfulResolutions();
+		StatsCounter resolutionStats = new ConcurrentStatsCounter();
 		Cache<CacheKey, RuntimeException> failedResolutions = newFailedResolutions();
 		Striped<Lock> stripedLock = newStripedLock();
 		CachedDTOToEntityPathMapper mapper = new CachedDTOToEntityPathMapper(
 				UserEntity.class, User.class,
-				successfulResolutions, failedResolutions, stripedLock
+				successfulResolutions, resolutionStats, failedResolutions, stripedLock, null, false
 		);
 
 		// Asserting that the cache is empty
-		assertEquals(0, successfulResolutions.size());
+		assertEquals(0, successfulResolutions.estimatedSize());
 
 		// Loading mapper's cache with one result
 		MappingResult result = mapper.map("email");
 		// Asserting that the cache has one entry
-		assertEquals(1, successfulResolutions.size());
+		assertEquals(1, successfulResolutions.estimatedSize());
 		// Assertion on entity path
 		assertEquals("email", result.getPath());
 		// Assertions on terminal DTO field
@@ -109,36 +126,75 @@ class CachedDTOToEntityPathMapperTest {
 		// Calling the mapper again with the same path
 		MappingResult result2 = mapper.map("email");
 		// Asserting that the cache has one entry
-		assertEquals(1, successfulResolutions.size());
+		assertEquals(1, successfulResolutions.estimatedSize());
 		// The result objects should be the same (== not just equals)
 		assertSame(result, result2);
 	}
 
 	@Test
-	void testShouldReturnSameInstanceForRepeatedFailedLookup() {
+	void testShouldReturnStacklessCopyForRepeatedFailedLookup() {
 		// Constructing the mapper
-		ConcurrentMap<CacheKey, MappingResult> successfulResolutions = new ConcurrentHashMap<>();
+		Cache<CacheKey, MappingResult> successfulResolutions = newSuccessfulResolutions();
+		StatsCounter resolutionStats = new ConcurrentStatsCounter();
 		Cache<CacheKey, RuntimeException> failedResolutions = newFailedResolutions();
 		Striped<Lock> stripedLock = newStripedLock();
 		CachedDTOToEntityPathMapper mapper = new CachedDTOToEntityPathMapper(
 				UserEntity.class, User.class,
-				successfulResolutions, failedResolutions, stripedLock
+				successfulResolutions, resolutionStats, failedResolutions, stripedLock, null, false
 		);
 
 		// Asserting that the cache is empty
 		assertEquals(0, failedResolutions.estimatedSize());
 
 		// Loading mapper's cache with one result
-		RuntimeException ex = assertThrows(RuntimeException.class, () -> mapper.map("hello"));
+		QueryFieldValidationException ex = assertThrows(QueryFieldValidationException.class, () -> mapper.map("hello"));
+		assertFalse(ex.isStackless());
 		// Asserting that the cache has one entry
 		assertEquals(1, failedResolutions.estimatedSize());
 
 		// Calling the mapper again with the same path
-		RuntimeException ex2 = assertThrows(RuntimeException.class, () -> mapper.map("hello"));
+		QueryFieldValidationException ex2 = assertThrows(QueryFieldValidationException.class, () -> mapper.map("hello"));
+		QueryFieldValidationException ex3 = assertThrows(QueryFieldValidationException.class, () -> mapper.map("hello"));
 		// Asserting that the cache has one entry
 		assertEquals(1, failedResolutions.estimatedSize());
-		// The result objects should be the same (== not just equals)
-		assertSame(ex, ex2);
+		// The original exception is not shared, a stackless copy of it is
+		assertNotSame(ex, ex2);
+		assertSame(ex2, ex3);
+		assertTrue(ex2.isStackless());
+		assertEquals(0, ex2.getStackTrace().length);
+		assertEquals(ex.getMessage(), ex2.getMessage());
+		assertEquals(ex.getFieldPath(), ex2.getFieldPath());
+		assertSame(ex.getCause(), ex2.getCause());
+	}
+
+	@Test
+	void testShouldRecordResolutionStatistics() {
+		StatsCounter resolutionStats = new ConcurrentStatsCounter();
+		Cache<CacheKey, MappingResult> successfulResolutions = Caffeine
+				.newBuilder()
+				.recordStats(() -> resolutionStats)
+				.build();
+		CachedDTOToEntityPathMapper mapper = new CachedDTOToEntityPathMapper(
+				UserEntity.class, User.class,
+				successfulResolutions, resolutionStats, newFailedResolutions(), newStripedLock(), null, false
+		);
+
+		mapper.map("email");
+		mapper.map("email");
+		assertThrows(RuntimeException.class, () -> mapper.map("hello"));
+
+		CacheStats stats = resolutionStats.snapshot();
+		assertEquals(1, stats.hitCount());
+		assertEquals(2, stats.missCount());
+		assertEquals(1, stats.loadSuccessCount());
+		assertEquals(1, stats.loadFailureCount());
+		assertTrue(stats.totalLoadTime() > 0);
+	}
+
+	private Cache<CacheKey, MappingResult> newSuccessfulResolutions() {
+		return Caffeine
+				.newBuilder()
+				.build();
 	}
 
 	private Cache<CacheKey, RuntimeException> newFailedResolutions() {
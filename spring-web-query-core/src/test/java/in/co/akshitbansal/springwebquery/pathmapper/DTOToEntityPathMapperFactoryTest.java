@@ -16,11 +16,17 @@
 
 package in.co.akshitbansal.springwebquery.pathmapper;
 
+import in.co.akshitbansal.springwebquery.common.entity.AddressEntity;
+import in.co.akshitbansal.springwebquery.common.entity.PhoneEntity;
 import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
 import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.common.model.Phone;
 import in.co.akshitbansal.springwebquery.common.model.User;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DTOToEntityPathMapperFactoryTest {
@@ -72,4 +78,70 @@ class DTOToEntityPathMapperFactoryTest {
 		DTOToEntityPathMapper mapper = factory.newMapper(UserEntity.class, User.class);
 		assertSame(CachedDTOToEntityPathMapper.class, mapper.getClass());
 	}
+
+	@Test
+	void testCachedMapperIsReusedPerEntityDTOPair() {
+		DTOToEntityPathMapperFactory factory = new DTOToEntityPathMapperFactory(10, 2);
+		DTOToEntityPathMapper mapper = factory.newMapper(UserEntity.class, User.class);
+		assertSame(mapper, factory.newMapper(UserEntity.class, User.class));
+		assertNotSame(mapper, factory.newMapper(PhoneEntity.class, Phone.class));
+	}
+
+	@Test
+	void testUncachedMapperIsNotReused() {
+		DTOToEntityPathMapperFactory factory = new DTOToEntityPathMapperFactory();
+		assertNotSame(factory.newMapper(UserEntity.class, User.class), factory.newMapper(UserEntity.class, User.class));
+	}
+
+	@Test
+	void testConstructionWithNegativeExpireAfterAccess() {
+		assertThrows(
+				QueryConfigurationException.class,
+				() -> new DTOToEntityPathMapperFactory(10, 2, null, -1, -1, Duration.ofSeconds(-1), true)
+		);
+	}
+
+	@Test
+	void testStatisticsAreAggregatedAcrossMappers() {
+		DTOToEntityPathMapperFactory factory = new DTOToEntityPathMapperFactory(10, 2, null, 1000, 1000, Duration.ofMinutes(5), true);
+		factory.newMapper(UserEntity.class, User.class).map("email");
+		factory.newMapper(UserEntity.class, User.class).map("email");
+		factory.newMapper(PhoneEntity.class, Phone.class).map("number");
+		assertThrows(RuntimeException.class, () -> factory.newMapper(UserEntity.class, User.class).map("hello"));
+
+		assertEquals(2, factory.getSuccessfulResolutionCount());
+		assertEquals(1, factory.getFailedResolutionCount());
+		assertEquals(1, factory.getSuccessfulResolutionStats().hitCount());
+		assertEquals(3, factory.getSuccessfulResolutionStats().missCount());
+		assertEquals(2, factory.getSuccessfulResolutionStats().loadSuccessCount());
+		assertEquals(1, factory.getSuccessfulResolutionStats().loadFailureCount());
+		assertEquals(1, factory.getFailedResolutionStats().missCount());
+	}
+
+	@Test
+	void testSuccessfulResolutionsAreBoundedAcrossPairs() {
+		// Each "id" resolution weighs 4, so at most two of them fit together
+		DTOToEntityPathMapperFactory factory = new DTOToEntityPathMapperFactory(10, 2, null, 10, -1, null, false);
+		List<Class<?>> entityClasses = List.of(UserEntity.class, PhoneEntity.class, AddressEntity.class);
+		for (int i = 0; i < 3; i++) {
+			for (Class<?> entityClass: entityClasses) factory.newMapper(entityClass, User.class).map("id");
+			factory.cleanUp();
+			assertTrue(factory.getSuccessfulResolutionCount() <= 2);
+		}
+
+		// Mappers whose resolutions were evicted resolve them again
+		for (Class<?> entityClass: entityClasses)
+			assertEquals("id", factory.newMapper(entityClass, User.class).map("id").getPath());
+		factory.cleanUp();
+		assertTrue(factory.getSuccessfulResolutionCount() <= 2);
+	}
+
+	@Test
+	void testUncachedFactoryHasNoStatistics() {
+		DTOToEntityPathMapperFactory factory = new DTOToEntityPathMapperFactory();
+		factory.newMapper(UserEntity.class, User.class).map("email");
+		assertEquals(0, factory.getSuccessfulResolutionCount());
+		assertEquals(0, factory.getSuccessfulResolutionStats().requestCount());
+		assertEquals(0, factory.getFailedResolutionStats().requestCount());
+	}
 }
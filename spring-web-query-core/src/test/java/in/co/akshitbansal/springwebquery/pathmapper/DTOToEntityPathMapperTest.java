@@ -16,6 +16,7 @@
 
 package in.co.akshitbansal.springwebquery.pathmapper;
 
+import in.co.akshitbansal.springwebquery.common.entity.PhoneEntity;
 import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
 import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
 import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
@@ -54,6 +55,16 @@ class DTOToEntityPathMapperTest {
 		assertTrue(ex.getMessage().contains("Unknown field"));
 	}
 
+	@Test
+	void testMapWithInvalidDTOPathAndStacklessRejections() {
+		DTOToEntityPathMapper stacklessMapper = new DTOToEntityPathMapper(UserEntity.class, User.class, null, true);
+		QueryFieldValidationException ex = assertThrows(QueryFieldValidationException.class, () -> stacklessMapper.map("invalid.path"));
+		assertTrue(ex.isStackless());
+		assertEquals(0, ex.getStackTrace().length);
+		assertEquals("invalid.path", ex.getFieldPath());
+		assertFalse(assertThrows(QueryFieldValidationException.class, () -> mapper.map("invalid.path")).isStackless());
+	}
+
 	@Test
 	void testMapWithInvalidEntityPath() {
 		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> mapper.map("addresses.city"));
@@ -80,6 +91,11 @@ class DTOToEntityPathMapperTest {
 		Field field = result.getTerminalDTOField();
 		assertEquals("number", field.getName());
 		assertEquals(Phone.class, field.getDeclaringClass());
+
+		// Assertions on the terminal entity field
+		Field entityField = result.getTerminalEntityField();
+		assertEquals("phoneNumber", entityField.getName());
+		assertEquals(PhoneEntity.class, entityField.getDeclaringClass());
 	}
 
 	@Test
@@ -92,4 +108,14 @@ class DTOToEntityPathMapperTest {
 		assertEquals("firstName", field.getName());
 		assertEquals(Name.class, field.getDeclaringClass());
 	}
+
+	@Test
+	void testMappingResultWithoutEntityField() throws NoSuchFieldException {
+		Field field = User.class.getDeclaredField("email");
+		MappingResult result = MappingResult.of("email", field);
+		assertEquals("email", result.getPath());
+		assertSame(field, result.getTerminalDTOField());
+		assertSame(field, result.getTerminalEntityField());
+		assertNull(result.getEntityAttributePath());
+	}
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.plan;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.cost.DefaultQueryCostEstimator;
+import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
+import in.co.akshitbansal.springwebquery.exception.QueryValidationException;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.parser.DefaultRSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachedQueryPlannerTest {
+
+	private final RSQLQueryParser parser = new DefaultRSQLQueryParser(new RSQLParser(getAllowedOperators()));
+	private final ValidationRSQLVisitorFactory visitorFactory = new ValidationRSQLVisitorFactory(
+			new DTOToEntityPathMapperFactory(),
+			new FilterableFieldValidator(Map.of())
+	);
+
+	private Set<ComparisonOperator> getAllowedOperators() {
+		return Arrays
+				.stream(RSQLDefaultOperator.values())
+				.map(RSQLDefaultOperator::getOperator)
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	void testConstructionWithNegativeMaxSize() {
+		assertThrows(RuntimeException.class, () -> new CachedQueryPlanner(parser, visitorFactory, -1));
+	}
+
+	@Test
+	void testShouldReturnSameInstanceForRepeatedQuery() {
+		CachedQueryPlanner planner = new CachedQueryPlanner(parser, visitorFactory, 10);
+
+		QueryPlan plan = planner.plan("id==1", UserEntity.class, User.class, true, false, 1);
+		assertEquals(1, planner.getStats().missCount());
+		assertEquals(0, planner.getStats().hitCount());
+
+		QueryPlan plan2 = planner.plan("id==1", UserEntity.class, User.class, true, false, 1);
+		assertEquals(1, planner.getStats().missCount());
+		assertEquals(1, planner.getStats().hitCount());
+		// The plan objects should be the same (== not just equals)
+		assertSame(plan, plan2);
+	}
+
+	@Test
+	void testShouldReuseValidatedPlanForLogicallyIdenticalQuery() {
+		CachedQueryPlanner planner = new CachedQueryPlanner(parser, visitorFactory, 10);
+
+		QueryPlan plan = planner.plan("id=in=(2,1);id!=3", UserEntity.class, User.class, true, false, 1);
+		QueryPlan plan2 = planner.plan("id!=3;id=in=(1,2,1)", UserEntity.class, User.class, true, false, 1);
+		assertSame(plan, plan2);
+		assertEquals(2, planner.getStats().missCount());
+		assertEquals(1, planner.getCanonicalStats().missCount());
+		assertEquals(1, planner.getCanonicalStats().hitCount());
+	}
+
+	@Test
+	void testValidationSettingsArePartOfTheKey() {
+		CachedQueryPlanner planner = new CachedQueryPlanner(parser, visitorFactory, 10);
+
+		QueryPlan plan = planner.plan("id==1", UserEntity.class, User.class, true, false, 1);
+		QueryPlan plan2 = planner.plan("id==1", UserEntity.class, User.class, true, true, 1);
+		QueryPlan plan3 = planner.plan("id==1", UserEntity.class, User.class, true, false, 2);
+		assertNotSame(plan, plan2);
+		assertNotSame(plan, plan3);
+		assertEquals(3, planner.getStats().missCount());
+		assertEquals(3, planner.getEstimatedSize());
+	}
+
+	@Test
+	void testFailedPlansAreNotCached() {
+		CachedQueryPlanner planner = new CachedQueryPlanner(parser, visitorFactory, 10);
+
+		assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+		assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+		assertEquals(0, planner.getEstimatedSize());
+	}
+
+	@Test
+	void testRejectedQueriesAreCachedWhenEnabled() {
+		ValidationRSQLVisitorFactory stacklessVisitorFactory = new ValidationRSQLVisitorFactory(
+				new DTOToEntityPathMapperFactory(),
+				new FilterableFieldValidator(Map.of(), true)
+		);
+		CachedQueryPlanner planner = new CachedQueryPlanner(
+				parser, stacklessVisitorFactory, new DefaultQueryCostEstimator(), Long.MAX_VALUE, 10, 10
+		);
+
+		QueryFieldValidationException ex = assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+		QueryFieldValidationException ex2 = assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+		// The cached rejection is rethrown without validating the query again
+		assertSame(ex, ex2);
+		assertEquals(1, planner.getRejectedStats().hitCount());
+		assertEquals(1, planner.getCanonicalStats().missCount());
+		assertEquals(0, planner.getEstimatedSize());
+	}
+
+	@Test
+	void testUnknownSelectorsAndUnparsableQueriesAreCachedWhenEnabled() {
+		ValidationRSQLVisitorFactory stacklessVisitorFactory = new ValidationRSQLVisitorFactory(
+				new DTOToEntityPathMapperFactory(null, true),
+				new FilterableFieldValidator(Map.of(), true)
+		);
+		CachedQueryPlanner planner = new CachedQueryPlanner(
+				parser, stacklessVisitorFactory, new DefaultQueryCostEstimator(), Long.MAX_VALUE, 10, 10, true
+		);
+
+		QueryFieldValidationException unknown = assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("unknown==a", UserEntity.class, User.class, true, false, 1));
+		assertTrue(unknown.isStackless());
+		assertSame(unknown, assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("unknown==a", UserEntity.class, User.class, true, false, 1)));
+
+		QueryValidationException unparsable = assertThrows(QueryValidationException.class, () ->
+				planner.plan("id==", UserEntity.class, User.class, true, false, 1));
+		assertTrue(unparsable.isStackless());
+		assertSame(unparsable, assertThrows(QueryValidationException.class, () ->
+				planner.plan("id==", UserEntity.class, User.class, true, false, 1)));
+
+		assertEquals(2, planner.getRejectedStats().hitCount());
+		assertEquals(0, planner.getEstimatedSize());
+	}
+
+	@Test
+	void testRejectionsWithStackTraceAreNotCached() {
+		CachedQueryPlanner planner = new CachedQueryPlanner(
+				parser, visitorFactory, new DefaultQueryCostEstimator(), Long.MAX_VALUE, 10, 10
+		);
+
+		QueryFieldValidationException ex = assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+		QueryFieldValidationException ex2 = assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+		// Sharing an exception with a stack trace would rethrow a stale trace
+		assertNotSame(ex, ex2);
+		assertEquals(0, planner.getRejectedStats().hitCount());
+	}
+
+	@Test
+	void testRejectedQueriesAreNotCachedByDefault() {
+		CachedQueryPlanner planner = new CachedQueryPlanner(parser, visitorFactory, 10);
+
+		QueryFieldValidationException ex = assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+		QueryFieldValidationException ex2 = assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+		assertNotSame(ex, ex2);
+		assertEquals(0, planner.getRejectedStats().requestCount());
+	}
+}
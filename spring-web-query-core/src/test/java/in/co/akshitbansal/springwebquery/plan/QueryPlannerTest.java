@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.plan;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.cost.DefaultQueryCostEstimator;
+import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryCostExceededException;
+import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
+import in.co.akshitbansal.springwebquery.exception.QueryValidationException;
+import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.parser.DefaultRSQLQueryParser;
+import in.co.akshitbansal.springwebquery.parser.RSQLQueryParser;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.program.ComparisonInstruction;
+import in.co.akshitbansal.springwebquery.program.LogicalInstruction;
+import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryPlannerTest {
+
+	private final IsLongGreaterThanFiveOperator customOperator = new IsLongGreaterThanFiveOperator();
+
+	private final RSQLQueryParser parser = new DefaultRSQLQueryParser(new RSQLParser(getAllowedOperators()));
+	private final ValidationRSQLVisitorFactory visitorFactory = new ValidationRSQLVisitorFactory(
+			new DTOToEntityPathMapperFactory(),
+			new FilterableFieldValidator(Map.of(IsLongGreaterThanFiveOperator.class, customOperator))
+	);
+
+	private Set<ComparisonOperator> getAllowedOperators() {
+		Stream<ComparisonOperator> defaultOperators = Arrays
+				.stream(RSQLDefaultOperator.values())
+				.map(RSQLDefaultOperator::getOperator);
+		Stream<ComparisonOperator> customOperators = Stream
+				.of(customOperator)
+				.map(RSQLCustomOperator::getComparisonOperator);
+		return Stream
+				.concat(defaultOperators, customOperators)
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	void testConstructionWithNullParser() {
+		assertThrows(NullPointerException.class, () -> new QueryPlanner(null, visitorFactory));
+	}
+
+	@Test
+	void testConstructionWithNullVisitorFactory() {
+		assertThrows(NullPointerException.class, () -> new QueryPlanner(parser, null));
+	}
+
+	@Test
+	void testPlan() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		QueryPlan plan = planner.plan("id==1;name.firstName=ic=John", UserEntity.class, User.class, true, false, 1);
+
+		assertEquals(parser.parse("id==1;name.firstName=ic=John"), plan.getRootNode());
+		assertEquals(Map.of("id", "id", "name.firstName", "firstName"), plan.getFieldMappings());
+		String ignoreCaseSymbol = RSQLDefaultOperator.IGNORE_CASE.getOperator().getSymbol();
+		assertEquals("id==\"1\";name.firstName" + ignoreCaseSymbol + "\"John\"", plan.getCanonicalQuery());
+		assertInstanceOf(LogicalInstruction.class, plan.getProgram().getRootInstruction());
+		assertEquals(plan.getFieldMappings(), plan.getProgram().getFieldMappings());
+	}
+
+	@Test
+	void testConstructionWithNegativeMaxQueryCost() {
+		assertThrows(QueryConfigurationException.class, () ->
+				new QueryPlanner(parser, visitorFactory, new DefaultQueryCostEstimator(), -1));
+	}
+
+	@Test
+	void testPlanExposesCost() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		QueryPlan plan = planner.plan("id==1", UserEntity.class, User.class, true, false, 1);
+		assertEquals(DefaultQueryCostEstimator.EQUALITY_COST, plan.getCost());
+	}
+
+	@Test
+	void testPlanOverCostBudget() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory, new DefaultQueryCostEstimator(), 3);
+		assertDoesNotThrow(() -> planner.plan("id==1;id!=2", UserEntity.class, User.class, true, true, 1));
+		var ex = assertThrows(QueryCostExceededException.class, () ->
+				planner.plan("id==1,id==2", UserEntity.class, User.class, true, true, 1));
+		assertEquals(4, ex.getCost());
+		assertEquals(3, ex.getMaxQueryCostAllowed());
+	}
+
+	@Test
+	void testPlanFlagsUnsatisfiableFilter() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		assertFalse(planner.plan("id==1", UserEntity.class, User.class, true, false, 1).isUnsatisfiable());
+		assertTrue(planner.plan("id==1;id==2", UserEntity.class, User.class, true, false, 1).isUnsatisfiable());
+	}
+
+	@Test
+	void testPlanOptimizesProgram() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		QueryPlan plan = planner.plan("id==1;id!=2", UserEntity.class, User.class, true, false, 1);
+		ComparisonInstruction instruction = assertInstanceOf(ComparisonInstruction.class, plan.getProgram().getRootInstruction());
+		assertEquals(RSQLDefaultOperator.EQUAL, instruction.getOperator());
+
+		// Folding into =in= is skipped because the field does not allow it
+		plan = planner.plan("id==1,id==2", UserEntity.class, User.class, true, true, 1);
+		assertInstanceOf(LogicalInstruction.class, plan.getProgram().getRootInstruction());
+	}
+
+	@Test
+	void testAvoidedQueryCount() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		assertEquals(0, planner.getAvoidedQueryCount());
+		planner.recordAvoidedQueries(2);
+		planner.recordAvoidedQueries(1);
+		assertEquals(3, planner.getAvoidedQueryCount());
+	}
+
+	@Test
+	void testPlanUsesCanonicalTree() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		QueryPlan plan = planner.plan("name.firstName=ic=John;(id==1;id==1)", UserEntity.class, User.class, true, false, 1);
+		QueryPlan plan2 = planner.plan("id==1;name.firstName=ic=John", UserEntity.class, User.class, true, false, 1);
+
+		assertEquals(plan2.getRootNode(), plan.getRootNode());
+		assertEquals(plan2.getCanonicalQuery(), plan.getCanonicalQuery());
+	}
+
+	@Test
+	void testPlanIsRecomputedOnEveryCall() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		QueryPlan plan = planner.plan("id==1", UserEntity.class, User.class, true, false, 1);
+		QueryPlan plan2 = planner.plan("id==1", UserEntity.class, User.class, true, false, 1);
+		assertEquals(plan, plan2);
+		assertNotSame(plan, plan2);
+	}
+
+	@Test
+	void testPlanWithUnparsableQuery() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		var ex = assertThrows(QueryValidationException.class, () ->
+				planner.plan("id==", UserEntity.class, User.class, true, false, 1));
+		assertTrue(ex.getMessage().contains("Unable to parse RSQL query"));
+	}
+
+	@Test
+	void testPlanWithNonFilterableField() {
+		QueryPlanner planner = new QueryPlanner(parser, visitorFactory);
+		assertThrows(QueryFieldValidationException.class, () ->
+				planner.plan("email==a", UserEntity.class, User.class, true, false, 1));
+	}
+}
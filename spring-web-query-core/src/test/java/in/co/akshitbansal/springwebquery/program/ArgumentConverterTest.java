@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArgumentConverterTest {
+
+	private enum Status {ACTIVE, INACTIVE}
+
+	private final ArgumentConverter converter = new ArgumentConverter();
+
+	@Test
+	void testConstructionWithNullCustomConverters() {
+		assertThrows(NullPointerException.class, () -> new ArgumentConverter(null));
+	}
+
+	@Test
+	void testDefaultConversions() {
+		assertEquals("abc", converter.convert("abc", String.class));
+		assertEquals(5L, converter.convert("5", Long.class));
+		assertEquals(5, converter.convert("5", int.class));
+		assertEquals(true, converter.convert("true", Boolean.class));
+		assertEquals('x', converter.convert("x", Character.class));
+		assertEquals(new BigDecimal("1.50"), converter.convert("1.50", BigDecimal.class));
+		assertEquals(LocalDate.of(2025, 12, 8), converter.convert("2025-12-08", LocalDate.class));
+		assertEquals(Instant.parse("2025-12-08T00:00:00Z"), converter.convert("2025-12-08T00:00:00Z", Instant.class));
+		UUID uuid = UUID.randomUUID();
+		assertEquals(uuid, converter.convert(uuid.toString(), UUID.class));
+		assertEquals(Status.ACTIVE, converter.convert("ACTIVE", Status.class));
+	}
+
+	@Test
+	void testInvalidValues() {
+		assertThrows(NumberFormatException.class, () -> converter.convert("abc", Long.class));
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("xy", Character.class));
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("UNKNOWN", Status.class));
+		assertThrows(DateTimeParseException.class, () -> converter.convert("2025-13-01", LocalDate.class));
+	}
+
+	@Test
+	void testBooleanKeywords() {
+		assertEquals(true, converter.convert("yes", Boolean.class));
+		assertEquals(true, converter.convert("1", boolean.class));
+		assertEquals(true, converter.convert("ON", Boolean.class));
+		assertEquals(false, converter.convert("off", boolean.class));
+		assertEquals(false, converter.convert("0", Boolean.class));
+		assertEquals(false, converter.convert(" False ", Boolean.class));
+	}
+
+	@Test
+	void testMalformedValuesAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("garbage", Boolean.class));
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("2", boolean.class));
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("", Boolean.class));
+		assertThrows(NumberFormatException.class, () -> converter.convert("", Integer.class));
+		assertThrows(NumberFormatException.class, () -> converter.convert("1.5", Long.class));
+		assertThrows(NumberFormatException.class, () -> converter.convert("128", Byte.class));
+		assertThrows(NumberFormatException.class, () -> converter.convert("1,5", BigDecimal.class));
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("active", Status.class));
+	}
+
+	@Test
+	void testNumbersAndEnumsAreTrimmed() {
+		assertEquals(5L, converter.convert(" 5 ", Long.class));
+		assertEquals(16, converter.convert("0x10", int.class));
+		assertEquals(new BigDecimal("1.50"), converter.convert(" 1.50", BigDecimal.class));
+		assertEquals(Status.INACTIVE, converter.convert(" INACTIVE ", Status.class));
+	}
+
+	@Test
+	void testUnsupportedType() {
+		assertFalse(converter.supports(Timestamp.class));
+		assertThrows(IllegalArgumentException.class, () -> converter.convert("2025-12-08T00:00:00Z", Timestamp.class));
+	}
+
+	@Test
+	void testCustomConverters() {
+		ArgumentConverter customConverter = new ArgumentConverter(Map.of(
+				Timestamp.class, value -> Timestamp.from(Instant.parse(value)),
+				Long.class, value -> Long.parseLong(value) * 2
+		));
+		assertTrue(customConverter.supports(Timestamp.class));
+		assertEquals(Timestamp.from(Instant.parse("2025-12-08T00:00:00Z")), customConverter.convert("2025-12-08T00:00:00Z", Timestamp.class));
+		assertEquals(10L, customConverter.convert("5", Long.class));
+		assertEquals(5, customConverter.convert("5", Integer.class));
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.ComparisonOperator;
+import in.co.akshitbansal.springwebquery.ast.ValidationRSQLVisitorFactory;
+import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.validator.FilterableFieldValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContradictionDetectorTest {
+
+	private final IsLongGreaterThanFiveOperator customOperator = new IsLongGreaterThanFiveOperator();
+
+	private final ValidationRSQLVisitorFactory visitorFactory = new ValidationRSQLVisitorFactory(
+			new DTOToEntityPathMapperFactory(),
+			new FilterableFieldValidator(Map.of(IsLongGreaterThanFiveOperator.class, customOperator))
+	);
+	private final RSQLParser parser = new RSQLParser(getAllowedOperators());
+	private final ContradictionDetector detector = new ContradictionDetector();
+
+	private Set<ComparisonOperator> getAllowedOperators() {
+		Stream<ComparisonOperator> defaultOperators = Arrays
+				.stream(RSQLDefaultOperator.values())
+				.map(RSQLDefaultOperator::getOperator);
+		Stream<ComparisonOperator> customOperators = Stream
+				.of(customOperator)
+				.map(RSQLCustomOperator::getComparisonOperator);
+		return Stream
+				.concat(defaultOperators, customOperators)
+				.collect(Collectors.toSet());
+	}
+
+	private boolean isUnsatisfiable(String query) {
+		FilterProgram program = visitorFactory
+				.newCompilingRSQLVisitor(UserEntity.class, User.class, true, true, 2)
+				.compile(parser.parse(query));
+		return detector.isUnsatisfiable(program);
+	}
+
+	@Test
+	void testWithNullProgram() {
+		assertThrows(NullPointerException.class, () -> detector.isUnsatisfiable(null));
+	}
+
+	@Test
+	void testConflictingEqualities() {
+		assertTrue(isUnsatisfiable("id==1;id==2"));
+		assertFalse(isUnsatisfiable("id==1;id==1"));
+		assertFalse(isUnsatisfiable("id==1"));
+	}
+
+	@Test
+	void testEqualityAndInequality() {
+		assertTrue(isUnsatisfiable("id==1;id!=1"));
+		assertFalse(isUnsatisfiable("id==1;id!=2"));
+	}
+
+	@Test
+	void testDisjunctions() {
+		assertFalse(isUnsatisfiable("id==1,id==2"));
+		assertTrue(isUnsatisfiable("(id==1;id==2),(id==3;id==4)"));
+		assertFalse(isUnsatisfiable("(id==1;id==2),id==3"));
+	}
+
+	@Test
+	void testDifferentPathsAreIndependent() {
+		assertFalse(isUnsatisfiable("id==1;name.firstName=ic=John"));
+	}
+
+	@Test
+	void testStringsAreHandledConservatively() {
+		assertFalse(isUnsatisfiable("phones.number=like=1;phones.number=like=2"));
+		assertFalse(isUnsatisfiable("name.firstName=ic=John;name.firstName=ic=Jane"));
+	}
+
+	@Test
+	void testFallbackComparisonsAreIgnored() {
+		assertFalse(isUnsatisfiable("id=isGtFive=true;id==1"));
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.program;
+
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalOperator;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterProgramOptimizerTest {
+
+	private final FilterProgramOptimizer optimizer = new FilterProgramOptimizer();
+
+	private static ComparisonInstruction comparison(String selector, RSQLDefaultOperator operator, Object... values) {
+		// Null checks take a flag argument that is not converted
+		List<String> rawValues = values.length == 0
+				? List.of("true")
+				: Arrays.stream(values).map(String::valueOf).toList();
+		ComparisonNode node = new ComparisonNode(operator.getOperator(), selector, rawValues);
+		return ComparisonInstruction.compiled(node, selector, operator, List.of(values));
+	}
+
+	private static FilterProgram program(LogicalOperator operator, FilterInstruction... children) {
+		return new FilterProgram(new LogicalInstruction(operator, List.of(children)), Map.of());
+	}
+
+	private FilterInstruction optimize(FilterProgram program) {
+		return optimizer.optimize(program, (selector, operator) -> true).getRootInstruction();
+	}
+
+	@Test
+	void testWithNullArguments() {
+		FilterProgram program = program(LogicalOperator.AND, comparison("age", EQUAL, 1));
+		assertThrows(NullPointerException.class, () -> optimizer.optimize(null, (selector, operator) -> true));
+		assertThrows(NullPointerException.class, () -> optimizer.optimize(program, null));
+	}
+
+	@Test
+	void testEqualitiesAreFoldedIntoIn() {
+		FilterInstruction optimized = optimize(program(
+				LogicalOperator.OR,
+				comparison("type", EQUAL, "A"),
+				comparison("type", EQUAL, "B"),
+				comparison("type", IN, "B", "C")
+		));
+		assertEquals(comparison("type", IN, "A", "B", "C"), optimized);
+	}
+
+	@Test
+	void testFoldingRespectsOperatorPolicy() {
+		FilterProgram program = program(
+				LogicalOperator.OR,
+				comparison("type", EQUAL, "A"),
+				comparison("type", EQUAL, "B")
+		);
+		FilterProgram optimized = optimizer.optimize(program, (selector, operator) -> operator != IN);
+		assertSame(program, optimized);
+	}
+
+	@Test
+	void testFoldingKeepsOtherSelectors() {
+		FilterInstruction optimized = optimize(program(
+				LogicalOperator.OR,
+				comparison("type", EQUAL, "A"),
+				comparison("age", GREATER_THAN, 10),
+				comparison("type", EQUAL, "B")
+		));
+		LogicalInstruction instruction = assertInstanceOf(LogicalInstruction.class, optimized);
+		assertEquals(
+				List.of(comparison("type", IN, "A", "B"), comparison("age", GREATER_THAN, 10)),
+				instruction.getChildren()
+		);
+	}
+
+	@Test
+	void testRangesAreMergedIntoTightestBounds() {
+		FilterInstruction optimized = optimize(program(
+				LogicalOperator.AND,
+				comparison("price", GREATER_THAN, 10),
+				comparison("price", GREATER_THAN, 20),
+				comparison("price", LESS_THAN_OR_EQUAL, 100)
+		));
+		LogicalInstruction instruction = assertInstanceOf(LogicalInstruction.class, optimized);
+		assertEquals(
+				List.of(comparison("price", GREATER_THAN, 20), comparison("price", LESS_THAN_OR_EQUAL, 100)),
+				instruction.getChildren()
+		);
+	}
+
+	@Test
+	void testInclusiveRangesAreMergedIntoBetween() {
+		FilterInstruction optimized = optimize(program(
+				LogicalOperator.AND,
+				comparison("price", GREATER_THAN_OR_EQUAL, new BigDecimal("10.0")),
+				comparison("price", BETWEEN, new BigDecimal("5"), new BigDecimal("50")),
+				comparison("price", LESS_THAN_OR_EQUAL, new BigDecimal("100"))
+		));
+		assertEquals(comparison("price", BETWEEN, new BigDecimal("10.0"), new BigDecimal("50")), optimized);
+	}
+
+	@Test
+	void testRangeMergingRespectsOperatorPolicy() {
+		FilterProgram program = program(
+				LogicalOperator.AND,
+				comparison("price", GREATER_THAN_OR_EQUAL, 10),
+				comparison("price", GREATER_THAN_OR_EQUAL, 20),
+				comparison("price", LESS_THAN_OR_EQUAL, 100)
+		);
+		FilterInstruction optimized = optimizer
+				.optimize(program, (selector, operator) -> operator != BETWEEN)
+				.getRootInstruction();
+		LogicalInstruction instruction = assertInstanceOf(LogicalInstruction.class, optimized);
+		assertEquals(
+				List.of(comparison("price", GREATER_THAN_OR_EQUAL, 20), comparison("price", LESS_THAN_OR_EQUAL, 100)),
+				instruction.getChildren()
+		);
+	}
+
+	@Test
+	void testStringRangesAreNotMerged() {
+		FilterProgram program = program(
+				LogicalOperator.AND,
+				comparison("name", GREATER_THAN, "a"),
+				comparison("name", GREATER_THAN, "b")
+		);
+		assertSame(program, optimizer.optimize(program, (selector, operator) -> true));
+	}
+
+	@Test
+	void testImpliedComparisonsAreDropped() {
+		FilterInstruction optimized = optimize(program(
+				LogicalOperator.AND,
+				comparison("age", NOT_NULL),
+				comparison("age", NOT_EQUAL, 5),
+				comparison("age", EQUAL, 3)
+		));
+		assertEquals(comparison("age", EQUAL, 3), optimized);
+	}
+
+	@Test
+	void testCaseInsensitiveStringsAreNotDropped() {
+		FilterProgram program = program(
+				LogicalOperator.AND,
+				comparison("name", NOT_EQUAL, "JOHN"),
+				comparison("name", EQUAL, "John")
+		);
+		assertSame(program, optimizer.optimize(program, (selector, operator) -> true));
+	}
+
+	@Test
+	void testNestedInstructionsAreFlattened() {
+		FilterInstruction optimized = optimize(program(
+				LogicalOperator.OR,
+				comparison("type", EQUAL, "A"),
+				new LogicalInstruction(LogicalOperator.AND, List.of(
+						comparison("type", EQUAL, "B"),
+						comparison("type", NOT_NULL)
+				))
+		));
+		assertEquals(comparison("type", IN, "A", "B"), optimized);
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.repository;
+
+import in.co.akshitbansal.springwebquery.annotation.MapsTo;
+import in.co.akshitbansal.springwebquery.annotation.Selectable;
+import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.Name;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryFieldValidationException;
+import in.co.akshitbansal.springwebquery.exception.QueryValidationException;
+import in.co.akshitbansal.springwebquery.pathmapper.DTOToEntityPathMapperFactory;
+import in.co.akshitbansal.springwebquery.tupleconverter.PreferredConstructorDiscovererFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DerivedSelectionsProviderFactoryTest {
+
+	private final DerivedSelectionsProviderFactory factory = new DerivedSelectionsProviderFactory(
+			new DTOToEntityPathMapperFactory(),
+			new PreferredConstructorDiscovererFactory(false)
+	);
+
+	@Test
+	void testNullArguments() {
+		assertThrows(NullPointerException.class, () -> factory.getSelectionsProvider(null, FlatUser.class));
+		assertThrows(NullPointerException.class, () -> factory.getSelectionsProvider(UserEntity.class, null));
+	}
+
+	@Test
+	void testProviderIsDerivedOnce() {
+		SelectionsProvider<UserEntity> provider = factory.getSelectionsProvider(UserEntity.class, FlatUser.class);
+		assertInstanceOf(DerivedSelectionsProvider.class, provider);
+		assertSame(provider, factory.getSelectionsProvider(UserEntity.class, FlatUser.class));
+	}
+
+	@Test
+	void testNestedDTO() {
+		assertDoesNotThrow(() -> factory.getSelectionsProvider(UserEntity.class, NamedUser.class));
+	}
+
+	@Test
+	void testCollectionValuedField() {
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () ->
+				factory.getSelectionsProvider(UserEntity.class, User.class));
+		assertTrue(ex.getMessage().contains("'phones'"));
+	}
+
+	@Test
+	void testUnmappedField() {
+		assertThrows(QueryConfigurationException.class, () ->
+				factory.getSelectionsProvider(UserEntity.class, UnmappedUser.class));
+	}
+
+	@Test
+	void testConstructorNotMatchingFields() {
+		assertThrows(QueryConfigurationException.class, () ->
+				factory.getSelectionsProvider(UserEntity.class, ReorderedUser.class));
+	}
+
+	@Test
+	void testConstructorWithAmbiguousParameters() {
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () ->
+				factory.getSelectionsProvider(UserEntity.class, AmbiguousUser.class));
+		assertTrue(ex.getMessage().contains("its parameters share type"));
+	}
+
+	@Test
+	void testSparseFieldsetIsPlannedOnce() {
+		SparseSelectionsProvider<UserEntity> provider = factory.getSparseSelectionsProvider(
+				UserEntity.class, SparseUser.class, List.of("id", "name.firstName")
+		);
+		assertSame(provider, factory.getSparseSelectionsProvider(
+				UserEntity.class, SparseUser.class, List.of("id", "name.firstName", "id")
+		));
+		assertNotSame(provider, factory.getSparseSelectionsProvider(
+				UserEntity.class, SparseUser.class, List.of("name.firstName", "id")
+		));
+	}
+
+	@Test
+	void testSparseFieldsetValidation() {
+		assertThrows(QueryValidationException.class, () ->
+				factory.getSparseSelectionsProvider(UserEntity.class, SparseUser.class, List.of()));
+		assertThrows(QueryFieldValidationException.class, () ->
+				factory.getSparseSelectionsProvider(UserEntity.class, SparseUser.class, List.of("unknown")));
+		QueryFieldValidationException ex = assertThrows(QueryFieldValidationException.class, () ->
+				factory.getSparseSelectionsProvider(UserEntity.class, SparseUser.class, List.of("id", "name.lastName")));
+		assertEquals("name.lastName", ex.getFieldPath());
+		assertThrows(QueryFieldValidationException.class, () ->
+				factory.getSparseSelectionsProvider(UserEntity.class, SparseUser.class, List.of("mail")));
+	}
+
+	@Test
+	void testSparseFieldsetMisconfiguration() {
+		assertThrows(QueryConfigurationException.class, () ->
+				factory.getSparseSelectionsProvider(UserEntity.class, MisconfiguredSparseUser.class, List.of("name")));
+		assertThrows(QueryConfigurationException.class, () ->
+				factory.getSparseSelectionsProvider(UserEntity.class, MisconfiguredSparseUser.class, List.of("phones")));
+	}
+
+	private record SparseUser(@Selectable Long id, @MapsTo("email") String mail, Name name) {
+	}
+
+	private record MisconfiguredSparseUser(@Selectable Long id, @Selectable Name name, @Selectable List<Long> phones) {
+	}
+
+	private record FlatUser(Long id, @MapsTo("email") String mail) {
+	}
+
+	private record NamedUser(Long id, Name name) {
+	}
+
+	private record UnmappedUser(Long id, String nickname) {
+	}
+
+	private static class AmbiguousUser {
+
+		private final long id;
+		private final String email;
+		private final String firstName;
+
+		// The boxed id keeps the fields from naming the parameters
+		private AmbiguousUser(Long id, String firstName, String email) {
+			this.id = id;
+			this.email = email;
+			this.firstName = firstName;
+		}
+	}
+
+	private static class ReorderedUser {
+
+		private final Long id;
+		private final String email;
+
+		private ReorderedUser(String email, Long id) {
+			this.id = id;
+			this.email = email;
+		}
+	}
+}
@@ -16,12 +16,30 @@
 
 package in.co.akshitbansal.springwebquery.repository;
 
+import in.co.akshitbansal.springwebquery.annotation.MapsTo;
+import in.co.akshitbansal.springwebquery.annotation.RSQLFilterable;
+import in.co.akshitbansal.springwebquery.annotation.RSQLFilterableEquality;
+import in.co.akshitbansal.springwebquery.annotation.RSQLFilterableText;
+import in.co.akshitbansal.springwebquery.annotation.Selectable;
+import in.co.akshitbansal.springwebquery.annotation.Sortable;
 import in.co.akshitbansal.springwebquery.common.entity.AddressEntity;
 import in.co.akshitbansal.springwebquery.common.entity.PhoneEntity;
 import in.co.akshitbansal.springwebquery.common.entity.UserEntity;
+import in.co.akshitbansal.springwebquery.common.model.Name;
 import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.customoperator.IsLongGreaterThanFiveOperator;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import in.co.akshitbansal.springwebquery.exception.QueryValidationException;
+import in.co.akshitbansal.springwebquery.plan.QueryPlan;
+import in.co.akshitbansal.springwebquery.plan.QueryPlanner;
 import in.co.akshitbansal.springwebquery.util.MySQLContainerFactory;
+import io.github.perplexhub.rsql.RSQLCustomPredicate;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.criteria.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -36,6 +54,7 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -58,6 +77,24 @@ class WebQueryRepositoryTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private QueryPlanner queryPlanner;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private DerivedSelectionsProviderFactory derivedSelectionsProviderFactory;
+
+	private static final CollectionProjection<PhoneNumber> PHONES = CollectionProjection.of(
+			"phones",
+			(join, query, cb) -> {
+				query.orderBy(cb.asc(join.get("id")));
+				return List.of(join.get("phoneNumber"));
+			},
+			PhoneNumber.class
+	);
+
 	@Test
 	void testWithNullPageable() {
 		assertThrows(RuntimeException.class, () ->
@@ -130,6 +167,184 @@ class WebQueryRepositoryTest {
 		assertEquals(2, results.get(0).getPhones().length);
 	}
 
+	@Test
+	void testWithContradictoryFilter() {
+		long avoidedQueryCount = queryPlanner.getAvoidedQueryCount();
+
+		List<User> results = userRepository.findAll("id==1;id==2", Pageable.unpaged(), this::getSelections, User.class);
+		assertTrue(results.isEmpty());
+
+		Page<User> page = userRepository.findAllPaged("id==1;id==2", PageRequest.of(0, 10), this::getSelections, User.class);
+		assertTrue(page.isEmpty());
+		assertEquals(0, page.getTotalElements());
+
+		long count = userRepository.count("id==1;id==2", User.class);
+		assertEquals(0, count);
+
+		assertEquals(avoidedQueryCount + 4, queryPlanner.getAvoidedQueryCount());
+	}
+
+	@Test
+	void testWithContradictoryFilterAndInvalidSort() {
+		var pageable = PageRequest.of(0, 10, Sort.by("email"));
+		assertThrows(QueryValidationException.class, () ->
+				userRepository.findAllPaged("id==1;id==2", pageable, this::getSelections, User.class));
+	}
+
+	@Test
+	void testFindAllPagedWithCollection() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		var pageable = PageRequest.of(0, 2, Sort.by("id"));
+		Page<UserWithPhones> page = userRepository.findAllPagedWithCollection(
+				null, pageable, this::getParentSelections, PHONES, UserWithPhones.class);
+
+		assertEquals(3, page.getTotalElements());
+		assertEquals(2, page.getTotalPages());
+		assertEquals(2, page.getContent().size());
+		assertEquals(1, page.getContent().get(0).getId());
+		assertEquals(
+				List.of(new PhoneNumber("+1-555-0101"), new PhoneNumber("+1-555-0102")),
+				page.getContent().get(0).getPhones()
+		);
+		assertEquals(List.of(new PhoneNumber("+1-555-0201")), page.getContent().get(1).getPhones());
+
+		// One count query, one parent query and one collection query for the whole page
+		assertEquals(3, statistics.getQueryExecutionCount());
+	}
+
+	@Test
+	void testFindAllPagedWithCollectionAndFilter() {
+		Page<UserWithPhones> page = userRepository.findAllPagedWithCollection(
+				"id==3", Pageable.unpaged(), this::getParentSelections, PHONES, UserWithPhones.class);
+		assertEquals(1, page.getTotalElements());
+		assertEquals("bob.wilson@example.com", page.getContent().get(0).getEmail());
+		assertEquals(List.of(new PhoneNumber("+1-555-0301")), page.getContent().get(0).getPhones());
+
+		long avoidedQueryCount = queryPlanner.getAvoidedQueryCount();
+		page = userRepository.findAllPagedWithCollection(
+				"id==1;id==2", PageRequest.of(0, 10), this::getParentSelections, PHONES, UserWithPhones.class);
+		assertTrue(page.isEmpty());
+		assertEquals(avoidedQueryCount + 3, queryPlanner.getAvoidedQueryCount());
+	}
+
+	@Test
+	void testFindAllPagedWithUnorderedCollection() {
+		CollectionProjection<PhoneNumber> phones = CollectionProjection.of(
+				"phones",
+				(join, query, cb) -> List.of(join.get("phoneNumber")),
+				PhoneNumber.class
+		);
+		Page<UserWithPhones> page = userRepository.findAllPagedWithCollection(
+				"id==1", Pageable.unpaged(), this::getParentSelections, phones, UserWithPhones.class);
+
+		// Without an order from the projection, elements follow their identifiers
+		assertEquals(
+				List.of(new PhoneNumber("+1-555-0101"), new PhoneNumber("+1-555-0102")),
+				page.getContent().get(0).getPhones()
+		);
+	}
+
+	@Test
+	void testFindAllPagedWithCollectionFilter() {
+		// Every phone matches, so joining phones yields four rows for three users
+		var pageable = PageRequest.of(0, 2, Sort.by("id"));
+		Page<UserWithPhones> page = userRepository.findAllPagedWithCollection(
+				"phones.number=like=555", pageable, this::getParentSelections, PHONES, UserWithPhones.class);
+
+		assertEquals(3, page.getTotalElements());
+		assertEquals(2, page.getContent().size());
+		assertEquals(1, page.getContent().get(0).getId());
+		assertEquals(2, page.getContent().get(1).getId());
+		assertEquals(
+				List.of(new PhoneNumber("+1-555-0101"), new PhoneNumber("+1-555-0102")),
+				page.getContent().get(0).getPhones()
+		);
+
+		page = userRepository.findAllPagedWithCollection(
+				"phones.number=like=0102", Pageable.unpaged(), this::getParentSelections, PHONES, UserWithPhones.class);
+		assertEquals(1, page.getTotalElements());
+		assertEquals(1, page.getContent().get(0).getId());
+		assertEquals(2, page.getContent().get(0).getPhones().size());
+	}
+
+	@Test
+	void testFindAllPagedWithCollectionCustomizerUsesFilterQuery() {
+		// Restrictions set on the filter query are folded into the identifier subquery
+		SpecificationCustomizer<UserEntity> restricting = spec -> spec.and((root, query, cb) -> {
+			query.distinct(true).where(cb.equal(root.get("id"), 2));
+			return null;
+		});
+		Page<UserWithPhones> page = userRepository.findAllPagedWithCollection(
+				"phones.number=like=555", PageRequest.of(0, 10), this::getParentSelections, PHONES, restricting, UserWithPhones.class);
+		assertEquals(1, page.getTotalElements());
+		assertEquals(2, page.getContent().get(0).getId());
+
+		// Grouping cannot be expressed on the identifier subquery
+		SpecificationCustomizer<UserEntity> grouping = spec -> spec.and((root, query, cb) -> {
+			query.groupBy(root.get("id"));
+			return null;
+		});
+		assertThrows(QueryConfigurationException.class, () -> userRepository.findAllPagedWithCollection(
+				"id==1", Pageable.unpaged(), this::getParentSelections, PHONES, grouping, UserWithPhones.class));
+	}
+
+	@Test
+	void testCompiledAndFallbackComparisonsShareJoins() {
+		QueryPlan plan = queryPlanner.plan(
+				"phones.number=like=0101;phones.id=isGtFive=true", UserEntity.class, UserWithPhoneFilters.class,
+				true, false, 2
+		);
+		IsLongGreaterThanFiveOperator operator = new IsLongGreaterThanFiveOperator();
+		List<RSQLCustomPredicate<?>> customPredicates = List.of(new RSQLCustomPredicate<>(
+				operator.getComparisonOperator(), operator.getType(), operator::toPredicate
+		));
+
+		CriteriaBuilder cb = entityManagerFactory.getCriteriaBuilder();
+		CriteriaQuery<UserEntity> query = cb.createQuery(UserEntity.class);
+		Root<UserEntity> root = query.from(UserEntity.class);
+		plan.getProgram().toPredicate(root, cb, customPredicates);
+
+		// The compiled like and the custom operator compare the same phone
+		assertEquals(1, root.getJoins().size());
+		assertTrue(root.getJoins().iterator().next().getJoins().isEmpty());
+	}
+
+	@Test
+	void testFindAllPagedWithDerivedSelections() {
+		SelectionsProvider<UserEntity> selections = derivedSelectionsProviderFactory
+				.getSelectionsProvider(UserEntity.class, UserName.class);
+		Page<UserName> page = userRepository.findAllPaged("id==2", PageRequest.of(0, 10), selections, UserName.class);
+		assertEquals(1, page.getTotalElements());
+		assertEquals(
+				new UserName(2L, "jane.smith@example.com", new Name("Jane", "Smith")),
+				page.getContent().get(0)
+		);
+	}
+
+	@Test
+	void testFindAllPagedWithSparseFieldset() {
+		Page<Map<String, Object>> page = userRepository.findAllPaged(
+				"id==2", PageRequest.of(0, 10, Sort.by("name.firstName")),
+				List.of("name.firstName", "id"), SparseUserName.class
+		);
+		assertEquals(1, page.getTotalElements());
+		Map<String, Object> row = page.getContent().get(0);
+		assertEquals(List.of("name", "id"), List.copyOf(row.keySet()));
+		assertEquals(Map.of("firstName", "Jane"), row.get("name"));
+		assertEquals(2L, row.get("id"));
+
+		assertThrows(QueryValidationException.class, () -> userRepository.findAllPaged(
+				null, PageRequest.of(0, 10), List.of("id", "email"), SparseUserName.class
+		));
+	}
+
+	private List<Selection<?>> getParentSelections(Root<UserEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return List.of(root.get("id"), root.get("email"));
+	}
+
 	private List<Selection<?>> getSelections(Root<UserEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
 		Subquery<String> phonesQuery = query.subquery(String.class);
 		Root<PhoneEntity> phone = phonesQuery.from(PhoneEntity.class);
@@ -158,4 +373,35 @@ class WebQueryRepositoryTest {
 				addressesQuery
 		);
 	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class UserWithPhones {
+
+		@RSQLFilterableEquality
+		@Sortable
+		private final Long id;
+
+		private final String email;
+
+		private final List<PhoneNumber> phones;
+	}
+
+	private record PhoneNumber(@MapsTo("phoneNumber") @RSQLFilterableText String number) {
+	}
+
+	private record PhoneFilter(
+			@MapsTo("phoneNumber") @RSQLFilterableText String number,
+			@RSQLFilterable(customOperators = IsLongGreaterThanFiveOperator.class) Long id
+	) {
+	}
+
+	private record UserWithPhoneFilters(List<PhoneFilter> phones) {
+	}
+
+	private record UserName(@RSQLFilterableEquality Long id, String email, Name name) {
+	}
+
+	private record SparseUserName(@RSQLFilterableEquality @Selectable Long id, String email, Name name) {
+	}
 }
@@ -137,6 +137,20 @@ class ReflectiveFieldResolverTest {
 		assertTrue(ex.getMessage().contains("Cannot resolve generic type"));
 	}
 
+	@Test
+	void testFieldIndexIsSharedAcrossResolvers() {
+		Field field = ReflectiveFieldResolver.of(User.class).resolveFieldPath("name.firstName").get(1);
+		assertSame(field, ReflectiveFieldResolver.of(Name.class).resolveFieldPath("firstName").get(0));
+	}
+
+	@Test
+	void testResolveFieldPathWithRawCollectionFailsOnEveryCall() {
+		ReflectiveFieldResolver resolver = ReflectiveFieldResolver.of(ExtendedUser.class);
+		assertThrows(UnsupportedOperationException.class, () -> resolver.resolveFieldPath("accounts"));
+		UnsupportedOperationException ex = assertThrows(UnsupportedOperationException.class, () -> resolver.resolveFieldPath("accounts"));
+		assertTrue(ex.getMessage().contains("Cannot resolve generic type"));
+	}
+
 	@Data
 	@EqualsAndHashCode(callSuper = true)
 	@ToString(callSuper = true)
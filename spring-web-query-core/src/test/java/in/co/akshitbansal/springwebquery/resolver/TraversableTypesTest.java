@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.resolver;
+
+import in.co.akshitbansal.springwebquery.common.model.Address;
+import in.co.akshitbansal.springwebquery.common.model.Name;
+import in.co.akshitbansal.springwebquery.common.model.Phone;
+import in.co.akshitbansal.springwebquery.common.model.User;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraversableTypesTest {
+
+	@Test
+	void testUnwrapContainerType() throws NoSuchFieldException {
+		assertEquals(Name.class, TraversableTypes.unwrapContainerType(User.class.getDeclaredField("name")));
+		assertEquals(Phone.class, TraversableTypes.unwrapContainerType(User.class.getDeclaredField("phones")));
+		assertEquals(Address.class, TraversableTypes.unwrapContainerType(User.class.getDeclaredField("addresses")));
+		assertNull(TraversableTypes.unwrapContainerType(RawHolder.class.getDeclaredField("values")));
+	}
+
+	@Test
+	void testIsTraversable() {
+		assertTrue(TraversableTypes.isTraversable(User.class));
+		assertFalse(TraversableTypes.isTraversable(long.class));
+		assertFalse(TraversableTypes.isTraversable(Phone[].class));
+		assertFalse(TraversableTypes.isTraversable(RSQLDefaultOperator.class));
+		assertFalse(TraversableTypes.isTraversable(List.class));
+		assertFalse(TraversableTypes.isTraversable(String.class));
+	}
+
+	private static class RawHolder {
+
+		@SuppressWarnings("rawtypes")
+		private List values;
+	}
+}
@@ -25,6 +25,7 @@ import org.hibernate.sql.results.internal.TupleMetadata;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Constructor;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -80,6 +81,21 @@ class CachedPreferredConstructorDiscovererTest {
 		assertSame(result, result2);
 	}
 
+	@Test
+	void testShapeLookupPopulatesCacheForTuples() {
+		ConcurrentMap<CacheKey, Constructor<?>> constructorCache = new ConcurrentHashMap<>();
+		CachedPreferredConstructorDiscoverer<Address> discoverer =
+				new CachedPreferredConstructorDiscoverer<>(Address.class, constructorCache);
+
+		// Discovering ahead of time from the tuple shape alone
+		Constructor<?> result = discoverer.discoverForShape(List.of(String.class));
+		assertEquals(1, constructorCache.size());
+
+		// A tuple of the same shape is served from the cache
+		assertSame(result, discoverer.discover(newTuple()));
+		assertEquals(1, constructorCache.size());
+	}
+
 	private Tuple newTuple() {
 		TupleElement<String> tupleElement = new TupleElementImpl<>(String.class, "city");
 		TupleMetadata metadata = new TupleMetadata(new TupleElement[]{ tupleElement }, new String[]{ "city" });
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import in.co.akshitbansal.springwebquery.common.model.Address;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.hibernate.sql.results.internal.TupleElementImpl;
+import org.hibernate.sql.results.internal.TupleImpl;
+import org.hibernate.sql.results.internal.TupleMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodHandleTupleInstantiatorTest {
+
+	@Test
+	void testOfWithNullConstructor() {
+		assertThrows(NullPointerException.class, () -> MethodHandleTupleInstantiator.of(null));
+	}
+
+	@Test
+	void testInstantiateWithPrivateConstructor() throws Throwable {
+		Constructor<Address> constructor = new PreferredConstructorDiscoverer<>(Address.class).discoverForShape(List.of(String.class));
+		TupleInstantiator<Address> instantiator = MethodHandleTupleInstantiator.of(constructor);
+		Address address = instantiator.instantiate(tuple(new Class<?>[]{ String.class }, "city"));
+		assertEquals("city", address.getCity());
+	}
+
+	@Test
+	void testInstantiateUnboxesPrimitiveParameters() throws Throwable {
+		Constructor<Point> constructor = Point.class.getDeclaredConstructor(int.class, long.class, String.class);
+		TupleInstantiator<Point> instantiator = MethodHandleTupleInstantiator.of(constructor);
+		Point point = instantiator.instantiate(tuple(new Class<?>[]{ Integer.class, Long.class, String.class }, 1, 2L, "label"));
+		assertEquals(1, point.x);
+		assertEquals(2L, point.y);
+		assertEquals("label", point.label);
+	}
+
+	@Test
+	void testInstantiatePropagatesConstructorException() throws NoSuchMethodException {
+		Constructor<Point> constructor = Point.class.getDeclaredConstructor(int.class, long.class, String.class);
+		TupleInstantiator<Point> instantiator = MethodHandleTupleInstantiator.of(constructor);
+		Tuple tuple = tuple(new Class<?>[]{ Integer.class, Long.class, String.class }, 1, 2L, null);
+		assertThrows(IllegalArgumentException.class, () -> instantiator.instantiate(tuple));
+	}
+
+	private static Tuple tuple(Class<?>[] types, Object... values) {
+		TupleElement<?>[] elements = new TupleElement[types.length];
+		String[] aliases = new String[types.length];
+		for (int idx = 0; idx < types.length; idx++) {
+			aliases[idx] = "param" + idx;
+			elements[idx] = new TupleElementImpl<>(types[idx], aliases[idx]);
+		}
+		return new TupleImpl(new TupleMetadata(elements, aliases), values);
+	}
+
+	public static class Point {
+
+		private final int x;
+
+		private final long y;
+
+		private final String label;
+
+		public Point(int x, long y, String label) {
+			if (label == null) throw new IllegalArgumentException("label must not be null");
+			this.x = x;
+			this.y = y;
+			this.label = label;
+		}
+	}
+}
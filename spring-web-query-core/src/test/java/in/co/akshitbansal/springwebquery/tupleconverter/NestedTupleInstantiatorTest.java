@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.hibernate.sql.results.internal.TupleElementImpl;
+import org.hibernate.sql.results.internal.TupleImpl;
+import org.hibernate.sql.results.internal.TupleMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NestedTupleInstantiatorTest {
+
+	@Test
+	void testInstantiateNestedGraph() throws Throwable {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, "code"),
+				new TupleElementImpl<>(String.class, "customer.name"),
+				new TupleElementImpl<>(Integer.class, "customer.address.zip"),
+				new TupleElementImpl<>(String.class, "customer.address.city")
+		);
+		TupleInstantiator<OrderView> instantiator = NestedTupleInstantiator.of(OrderView.class, elements);
+		OrderView order = instantiator.instantiate(tuple(elements, "O-1", "name", 110001, "city"));
+		assertEquals("O-1", order.code);
+		assertEquals("name", order.customer.name);
+		assertEquals(new AddressView("city", 110001), order.customer.address);
+	}
+
+	@Test
+	void testInstantiateWithAllNullNestedValues() throws Throwable {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, "code"),
+				new TupleElementImpl<>(String.class, "customer.name"),
+				new TupleElementImpl<>(Integer.class, "customer.address.zip"),
+				new TupleElementImpl<>(String.class, "customer.address.city")
+		);
+		TupleInstantiator<OrderView> instantiator = NestedTupleInstantiator.of(OrderView.class, elements);
+		OrderView order = instantiator.instantiate(tuple(elements, "O-1", "name", null, null));
+		assertEquals("name", order.customer.name);
+		assertNull(order.customer.address);
+
+		order = instantiator.instantiate(tuple(elements, "O-1", null, null, null));
+		assertNull(order.customer);
+	}
+
+	@Test
+	void testOfWithMissingAlias() {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, null),
+				new TupleElementImpl<>(String.class, "customer.name")
+		);
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> NestedTupleInstantiator.of(OrderView.class, elements));
+		assertTrue(ex.getMessage().contains("has no alias"));
+	}
+
+	@Test
+	void testOfWithUnknownPath() {
+		List<TupleElement<?>> elements = List.of(new TupleElementImpl<>(String.class, "customer.unknown"));
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> NestedTupleInstantiator.of(OrderView.class, elements));
+		assertTrue(ex.getMessage().contains("is not a DTO field path"));
+	}
+
+	@Test
+	void testOfWithCollectionPath() {
+		List<TupleElement<?>> elements = List.of(new TupleElementImpl<>(String.class, "tags.value"));
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> NestedTupleInstantiator.of(TaggedView.class, elements));
+		assertTrue(ex.getMessage().contains("traverses collection field"));
+	}
+
+	@Test
+	void testOfWithConflictingAliases() {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, "customer"),
+				new TupleElementImpl<>(String.class, "customer.name")
+		);
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> NestedTupleInstantiator.of(OrderView.class, elements));
+		assertTrue(ex.getMessage().contains("conflicts with another alias"));
+	}
+
+	@Test
+	void testOfWithIncompleteRecord() {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, "code"),
+				new TupleElementImpl<>(String.class, "customer.name"),
+				new TupleElementImpl<>(String.class, "customer.address.city")
+		);
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> NestedTupleInstantiator.of(OrderView.class, elements));
+		assertTrue(ex.getMessage().contains("do not name exactly the components"));
+	}
+
+	@Test
+	void testInstantiateBindsSameTypedValuesByName() throws Throwable {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, "name.last"),
+				new TupleElementImpl<>(String.class, "name.first")
+		);
+		TupleInstantiator<PersonView> instantiator = NestedTupleInstantiator.of(PersonView.class, elements);
+		PersonView person = instantiator.instantiate(tuple(elements, "Doe", "John"));
+		assertEquals("John", person.name.first);
+		assertEquals("Doe", person.name.last);
+	}
+
+	@Test
+	void testOfWithAmbiguousConstructor() {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, "name.first"),
+				new TupleElementImpl<>(String.class, "name.last")
+		);
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> NestedTupleInstantiator.of(AmbiguousPersonView.class, elements));
+		assertTrue(ex.getMessage().contains("its parameters share type"));
+	}
+
+	@Test
+	void testFactoryCachesNestedInstantiatorPerShape() {
+		TupleInstantiatorFactory factory = new TupleInstantiatorFactory(true);
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, "code"),
+				new TupleElementImpl<>(String.class, "customer.name"),
+				new TupleElementImpl<>(Integer.class, "customer.address.zip"),
+				new TupleElementImpl<>(String.class, "customer.address.city")
+		);
+		TupleInstantiator<OrderView> instantiator = factory.getNestedInstantiator(OrderView.class, elements);
+		assertSame(instantiator, factory.getNestedInstantiator(OrderView.class, new ArrayList<>(elements)));
+	}
+
+	@Test
+	void testConverterAssemblesNestedGraph() {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(String.class, "code"),
+				new TupleElementImpl<>(String.class, "customer.name"),
+				new TupleElementImpl<>(Integer.class, "customer.address.zip"),
+				new TupleElementImpl<>(String.class, "customer.address.city")
+		);
+		TupleConverter<OrderView> converter = new TupleConverterFactory(new PreferredConstructorDiscovererFactory(true)).newConverter(OrderView.class);
+		OrderView order = converter.convert(tuple(elements, "O-1", "name", 110001, "city"));
+		assertEquals("city", order.customer.address.city());
+	}
+
+	private static Tuple tuple(List<TupleElement<?>> elements, Object... values) {
+		String[] aliases = elements.stream().map(TupleElement::getAlias).toArray(String[]::new);
+		return new TupleImpl(new TupleMetadata(elements.toArray(TupleElement[]::new), aliases), values);
+	}
+
+	private static class OrderView {
+
+		private final String code;
+
+		private final CustomerView customer;
+
+		private OrderView(String code, CustomerView customer) {
+			this.code = code;
+			this.customer = customer;
+		}
+	}
+
+	private static class CustomerView {
+
+		private final String name;
+
+		private final AddressView address;
+
+		private CustomerView(String name, AddressView address) {
+			this.name = name;
+			this.address = address;
+		}
+	}
+
+	private record AddressView(String city, int zip) {
+	}
+
+	private static class PersonView {
+
+		private final NameView name;
+
+		private PersonView(NameView name) {
+			this.name = name;
+		}
+	}
+
+	private static class NameView {
+
+		private final String first;
+
+		private final String last;
+
+		private NameView(String first, String last) {
+			this.first = first;
+			this.last = last;
+		}
+	}
+
+	private static class AmbiguousPersonView {
+
+		private final AmbiguousNameView name;
+
+		private AmbiguousPersonView(AmbiguousNameView name) {
+			this.name = name;
+		}
+	}
+
+	private static class AmbiguousNameView {
+
+		private final String first;
+
+		private final String last;
+
+		private final String full;
+
+		private AmbiguousNameView(String first, String last) {
+			this.first = first;
+			this.last = last;
+			this.full = first + " " + last;
+		}
+	}
+
+	private static class TaggedView {
+
+		private final List<TagView> tags;
+
+		private TaggedView(List<TagView> tags) {
+			this.tags = tags;
+		}
+	}
+
+	private record TagView(String value) {
+	}
+}
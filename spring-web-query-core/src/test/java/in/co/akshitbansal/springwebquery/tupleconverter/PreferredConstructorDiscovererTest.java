@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.PersistenceCreator;
 
 import java.lang.reflect.Constructor;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,4 +69,27 @@ class PreferredConstructorDiscovererTest {
 		assertEquals(1, constructor.getParameterCount());
 		assertEquals(String.class, constructor.getParameterTypes()[0]);
 	}
+
+	@Test
+	void testRecordCanonicalConstructorIsPreferredOverAmbiguousConstructors() {
+		Constructor<Money> constructor = new PreferredConstructorDiscoverer<>(Money.class).discoverForShape(List.of(String.class, Long.class));
+		assertArrayEquals(new Class<?>[]{ String.class, long.class }, constructor.getParameterTypes());
+	}
+
+	@Test
+	void testRecordNonCanonicalConstructorIsDiscoveredForOtherShapes() {
+		Constructor<Money> constructor = new PreferredConstructorDiscoverer<>(Money.class).discoverForShape(List.of(String.class));
+		assertArrayEquals(new Class<?>[]{ String.class }, constructor.getParameterTypes());
+	}
+
+	private record Money(String currency, long amount) {
+
+		private Money(String currency, Long amount) {
+			this(currency, amount.longValue());
+		}
+
+		private Money(String currency) {
+			this(currency, 0L);
+		}
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import in.co.akshitbansal.springwebquery.common.model.Address;
+import jakarta.persistence.TupleElement;
+import org.hibernate.sql.results.internal.TupleElementImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.PersistenceCreator;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordDescriptorTest {
+
+	private final RecordDescriptor<Pair> descriptor = RecordDescriptor.of(Pair.class);
+
+	@Test
+	void testOfWithNonRecordClass() {
+		assertThrows(IllegalArgumentException.class, () -> RecordDescriptor.of(Address.class));
+	}
+
+	@Test
+	void testDescriptorIsCachedPerRecordClass() {
+		assertSame(descriptor, RecordDescriptor.of(Pair.class));
+	}
+
+	@Test
+	void testCanonicalConstructor() {
+		assertArrayEquals(new Class<?>[]{ String.class, int.class }, descriptor.getCanonicalConstructor().getParameterTypes());
+	}
+
+	@Test
+	void testIsCanonicalFor() {
+		assertTrue(descriptor.isCanonicalFor(List.of(String.class, Integer.class)));
+		assertTrue(descriptor.isCanonicalFor(List.of(String.class, int.class)));
+		assertFalse(descriptor.isCanonicalFor(List.of(Integer.class, String.class)));
+		assertFalse(descriptor.isCanonicalFor(List.of(String.class)));
+	}
+
+	@Test
+	void testIsCanonicalForWithPersistenceCreator() {
+		assertFalse(RecordDescriptor.of(AnnotatedPair.class).isCanonicalFor(List.of(String.class, Integer.class)));
+	}
+
+	@Test
+	void testIsPersistenceCreatorDeclared() {
+		assertFalse(descriptor.isPersistenceCreatorDeclared());
+		assertTrue(RecordDescriptor.of(AnnotatedPair.class).isPersistenceCreatorDeclared());
+	}
+
+	@Test
+	void testBindByAlias() {
+		List<TupleElement<?>> elements = List.of(
+				new TupleElementImpl<>(Integer.class, "value"),
+				new TupleElementImpl<>(String.class, "key")
+		);
+		assertArrayEquals(new int[]{ 1, 0 }, descriptor.bindByAlias(elements));
+	}
+
+	@Test
+	void testBindByAliasWithMissingOrUnknownAliases() {
+		assertNull(descriptor.bindByAlias(List.of(
+				new TupleElementImpl<>(String.class, null),
+				new TupleElementImpl<>(Integer.class, "value")
+		)));
+		assertNull(descriptor.bindByAlias(List.of(
+				new TupleElementImpl<>(String.class, "key"),
+				new TupleElementImpl<>(Integer.class, "other")
+		)));
+		assertNull(descriptor.bindByAlias(List.of(
+				new TupleElementImpl<>(String.class, "key"),
+				new TupleElementImpl<>(String.class, "key")
+		)));
+		assertNull(descriptor.bindByAlias(List.of(new TupleElementImpl<>(String.class, "key"))));
+	}
+
+	private record Pair(String key, int value) {
+	}
+
+	private record AnnotatedPair(String key, int value) {
+
+		@PersistenceCreator
+		private AnnotatedPair(String key, Integer value) {
+			this(key, value.intValue());
+		}
+	}
+}
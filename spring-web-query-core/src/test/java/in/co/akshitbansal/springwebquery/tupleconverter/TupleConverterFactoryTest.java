@@ -17,10 +17,16 @@
 package in.co.akshitbansal.springwebquery.tupleconverter;
 
 import in.co.akshitbansal.springwebquery.common.model.Address;
+import in.co.akshitbansal.springwebquery.exception.QueryConfigurationException;
+import jakarta.persistence.TupleElement;
+import org.hibernate.sql.results.internal.TupleElementImpl;
+import org.hibernate.sql.results.internal.TupleImpl;
+import org.hibernate.sql.results.internal.TupleMetadata;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class TupleConverterFactoryTest {
 
@@ -46,4 +52,33 @@ class TupleConverterFactoryTest {
 		var factory = new TupleConverterFactory(new PreferredConstructorDiscovererFactory(false));
 		assertDoesNotThrow(() -> factory.newConverter(Address.class));
 	}
+
+	@Test
+	void testGetConverterWithNullArguments() {
+		var factory = new TupleConverterFactory(new PreferredConstructorDiscovererFactory(false));
+		List<TupleElement<?>> elements = List.of(new TupleElementImpl<>(String.class, "city"));
+		assertThrows(NullPointerException.class, () -> factory.getConverter(null, elements));
+		assertThrows(NullPointerException.class, () -> factory.getConverter(Address.class, null));
+	}
+
+	@Test
+	void testGetConverterIsSharedPerShape() {
+		var factory = new TupleConverterFactory(new PreferredConstructorDiscovererFactory(false));
+		TupleConverter<Address> converter = factory.getConverter(
+				Address.class, List.of(new TupleElementImpl<>(String.class, "city"))
+		);
+		assertSame(converter, factory.getConverter(Address.class, List.of(new TupleElementImpl<>(String.class, "city"))));
+		assertNotSame(converter, factory.getConverter(Address.class, List.of(new TupleElementImpl<>(String.class, null))));
+
+		TupleElement<String> tupleElement = new TupleElementImpl<>(String.class, "city");
+		TupleMetadata metadata = new TupleMetadata(new TupleElement[]{ tupleElement }, new String[]{ "city" });
+		assertEquals("city", converter.convert(new TupleImpl(metadata, new Object[]{ "city" })).getCity());
+	}
+
+	@Test
+	void testGetConverterWithUnmatchedShape() {
+		var factory = new TupleConverterFactory(new PreferredConstructorDiscovererFactory(false));
+		List<TupleElement<?>> elements = List.of(new TupleElementImpl<>(Integer.class, "id"));
+		assertThrows(QueryConfigurationException.class, () -> factory.getConverter(Address.class, elements));
+	}
 }
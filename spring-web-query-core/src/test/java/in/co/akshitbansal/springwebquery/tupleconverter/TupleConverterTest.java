@@ -24,8 +24,8 @@ import org.hibernate.sql.results.internal.TupleElementImpl;
 import org.hibernate.sql.results.internal.TupleImpl;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.PersistenceCreator;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.text.MessageFormat;
 
@@ -33,16 +33,23 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class TupleConverterTest {
 
-	private final TupleConverter<Address> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(Address.class));
+	private final TupleInstantiatorFactory instantiatorFactory = new TupleInstantiatorFactory(true);
+
+	private final TupleConverter<Address> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(Address.class), instantiatorFactory);
 
 	@Test
 	void testConstructionWithNullClass() {
-		assertThrows(NullPointerException.class, () -> new TupleConverter<>(null));
+		assertThrows(NullPointerException.class, () -> new TupleConverter<>(null, instantiatorFactory));
+	}
+
+	@Test
+	void testConstructionWithNullInstantiatorFactory() {
+		assertThrows(NullPointerException.class, () -> new TupleConverter<>(new PreferredConstructorDiscoverer<>(Address.class), null));
 	}
 
 	@Test
 	void testConstructionWithNonNullClass() {
-		assertDoesNotThrow(() -> new TupleConverter<>(new PreferredConstructorDiscoverer<>(Address.class)));
+		assertDoesNotThrow(() -> new TupleConverter<>(new PreferredConstructorDiscoverer<>(Address.class), instantiatorFactory));
 	}
 
 	@Test
@@ -60,41 +67,120 @@ class TupleConverterTest {
 	}
 
 	@Test
-	void testCachedConstructorShouldRemainSameAfterRepeatedCalls() {
+	void testCachedInstantiatorShouldRemainSameAfterRepeatedCalls() {
 		TupleElement<String> tupleElement = new TupleElementImpl<>(String.class, "city");
 		TupleMetadata metadata = new TupleMetadata(new TupleElement[]{ tupleElement }, new String[]{ "city" });
 		Tuple tuple = new TupleImpl(metadata, new Object[]{ "city" });
 
 		// New instance to test caching
-		TupleConverter<Address> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(Address.class));
+		TupleConverter<Address> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(Address.class), instantiatorFactory);
 
 		// Should be null initially
-		var constructor = getCachedConstructor(converter);
-		assertNull(constructor);
+		var instantiator = getCachedInstantiator(converter);
+		assertNull(instantiator);
 
 		// First call should populate the cache
 		Address address = converter.convert(tuple);
 		assertEquals("city", address.getCity());
-		var constructor2 = getCachedConstructor(converter);
-		assertNotNull(constructor2);
+		var instantiator2 = getCachedInstantiator(converter);
+		assertNotNull(instantiator2);
 
-		// Subsequent calls should use the cached constructor
+		// Subsequent calls should use the cached instantiator
 		Address address2 = converter.convert(tuple);
 		assertEquals("city", address2.getCity());
-		var constructor3 = getCachedConstructor(converter);
-		assertEquals(constructor2, constructor3);
+		var instantiator3 = getCachedInstantiator(converter);
+		assertSame(instantiator2, instantiator3);
+	}
+
+	@Test
+	void testConvertWithNullValueForPrimitiveParameter() {
+		TupleElement<Integer> tupleElement = new TupleElementImpl<>(Integer.class, "count");
+		TupleMetadata metadata = new TupleMetadata(new TupleElement[]{ tupleElement }, new String[]{ "count" });
+		Tuple tuple = new TupleImpl(metadata, new Object[]{ null });
+		TupleConverter<Counter> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(Counter.class), instantiatorFactory);
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> converter.convert(tuple));
+		assertTrue(ex.getMessage().contains("Failed to convert"));
 	}
 
-	private Constructor<Address> getCachedConstructor(TupleConverter<Address> converter) {
+	@Test
+	void testConvertRecordBindsComponentsByAlias() {
+		TupleElement<?>[] elements = {
+				new TupleElementImpl<>(Integer.class, "count"),
+				new TupleElementImpl<>(String.class, "name")
+		};
+		TupleMetadata metadata = new TupleMetadata(elements, new String[]{ "count", "name" });
+		Tuple tuple = new TupleImpl(metadata, new Object[]{ 3, "name" });
+		TupleConverter<Tally> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(Tally.class), instantiatorFactory);
+		assertEquals(new Tally("name", 3), converter.convert(tuple));
+	}
+
+	@Test
+	void testConvertRecordBindsComponentsByPositionWithoutMatchingAliases() {
+		TupleElement<?>[] elements = {
+				new TupleElementImpl<>(String.class, "label"),
+				new TupleElementImpl<>(Integer.class, "total")
+		};
+		TupleMetadata metadata = new TupleMetadata(elements, new String[]{ "label", "total" });
+		Tuple tuple = new TupleImpl(metadata, new Object[]{ "name", 3 });
+		TupleConverter<Tally> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(Tally.class), instantiatorFactory);
+		assertEquals(new Tally("name", 3), converter.convert(tuple));
+	}
+
+	@Test
+	void testConvertRecordWithMismatchedAliasType() {
+		TupleElement<?>[] elements = {
+				new TupleElementImpl<>(String.class, "count"),
+				new TupleElementImpl<>(String.class, "name")
+		};
+		TupleMetadata metadata = new TupleMetadata(elements, new String[]{ "count", "name" });
+		Tuple tuple = new TupleImpl(metadata, new Object[]{ "3", "name" });
+		TupleConverter<Tally> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(Tally.class), instantiatorFactory);
+		QueryConfigurationException ex = assertThrows(QueryConfigurationException.class, () -> converter.convert(tuple));
+		assertTrue(ex.getMessage().contains("cannot be assigned"));
+	}
+
+	@Test
+	void testConvertRecordWithPersistenceCreatorIgnoresAliases() {
+		TupleElement<?>[] elements = {
+				new TupleElementImpl<>(String.class, "name"),
+				new TupleElementImpl<>(Integer.class, "count")
+		};
+		TupleMetadata metadata = new TupleMetadata(elements, new String[]{ "name", "count" });
+		Tuple tuple = new TupleImpl(metadata, new Object[]{ "name", 3 });
+		TupleConverter<ScaledTally> converter = new TupleConverter<>(new PreferredConstructorDiscoverer<>(ScaledTally.class), instantiatorFactory);
+		assertEquals(new ScaledTally("name", 30), converter.convert(tuple));
+	}
+
+	private TupleInstantiator<Address> getCachedInstantiator(TupleConverter<Address> converter) {
 		try {
-			Field field = TupleConverter.class.getDeclaredField("cachedConstructor");
+			Field field = TupleConverter.class.getDeclaredField("cachedInstantiator");
 			field.setAccessible(true);
-			return (Constructor<Address>) field.get(converter);
+			return (TupleInstantiator<Address>) field.get(converter);
 		}
 		catch (Exception ex) {
 			throw new RuntimeException(MessageFormat.format(
-					"Failed to get cached constructor: {0}", ex.getMessage()
+					"Failed to get cached instantiator: {0}", ex.getMessage()
 			), ex);
 		}
 	}
+
+	private record Tally(String name, int count) {
+	}
+
+	private record ScaledTally(String name, int count) {
+
+		@PersistenceCreator
+		private ScaledTally(String name, Integer count) {
+			this(name, count * 10);
+		}
+	}
+
+	private static class Counter {
+
+		private final int count;
+
+		private Counter(int count) {
+			this.count = count;
+		}
+	}
 }
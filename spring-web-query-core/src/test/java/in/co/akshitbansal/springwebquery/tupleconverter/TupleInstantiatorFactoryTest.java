@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package in.co.akshitbansal.springwebquery.tupleconverter;
+
+import in.co.akshitbansal.springwebquery.common.model.Address;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.hibernate.sql.results.internal.TupleElementImpl;
+import org.hibernate.sql.results.internal.TupleImpl;
+import org.hibernate.sql.results.internal.TupleMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleInstantiatorFactoryTest {
+
+	private final TupleInstantiatorFactory factory = new TupleInstantiatorFactory(true);
+
+	@Test
+	void testGetInstantiatorWithNullConstructor() {
+		assertThrows(NullPointerException.class, () -> factory.getInstantiator(null));
+	}
+
+	@Test
+	void testGeneratedInstantiatorIsHiddenClass() throws Throwable {
+		Constructor<Address> constructor = new PreferredConstructorDiscoverer<>(Address.class).discoverForShape(List.of(String.class));
+		TupleInstantiator<Address> instantiator = factory.getInstantiator(constructor);
+		assertTrue(instantiator.getClass().isHidden());
+
+		// private constructor is invoked through the nestmate access of the hidden class
+		Address address = instantiator.instantiate(tuple(new Class<?>[]{ String.class }, "city"));
+		assertEquals("city", address.getCity());
+	}
+
+	@Test
+	void testGeneratedInstantiatorUnboxesPrimitiveParameters() throws Throwable {
+		Constructor<Point> constructor = Point.class.getDeclaredConstructor(int.class, double.class, boolean.class, String.class);
+		TupleInstantiator<Point> instantiator = factory.getInstantiator(constructor);
+		Point point = instantiator.instantiate(tuple(
+				new Class<?>[]{ Integer.class, Double.class, Boolean.class, String.class },
+				1, 2.5, true, "label"
+		));
+		assertEquals(1, point.x);
+		assertEquals(2.5, point.y);
+		assertTrue(point.visible);
+		assertEquals("label", point.label);
+	}
+
+	@Test
+	void testGeneratedInstantiatorRejectsMismatchedValue() throws NoSuchMethodException {
+		Constructor<Point> constructor = Point.class.getDeclaredConstructor(int.class, double.class, boolean.class, String.class);
+		TupleInstantiator<Point> instantiator = factory.getInstantiator(constructor);
+		Tuple tuple = tuple(
+				new Class<?>[]{ Integer.class, Double.class, Boolean.class, String.class },
+				null, 2.5, true, "label"
+		);
+		assertThrows(NullPointerException.class, () -> instantiator.instantiate(tuple));
+	}
+
+	@Test
+	void testInstantiatorIsCachedPerConstructor() throws NoSuchMethodException {
+		Constructor<Point> constructor = Point.class.getDeclaredConstructor(int.class, double.class, boolean.class, String.class);
+		TupleInstantiator<Point> instantiator = factory.getInstantiator(constructor);
+		assertSame(instantiator, factory.getInstantiator(Point.class.getDeclaredConstructor(int.class, double.class, boolean.class, String.class)));
+		assertNotSame(instantiator, factory.getInstantiator(Point.class.getDeclaredConstructor(int.class)));
+	}
+
+	@Test
+	void testMethodHandleInstantiatorWithoutClassGeneration() throws Throwable {
+		TupleInstantiatorFactory factory = new TupleInstantiatorFactory(false);
+		Constructor<Point> constructor = Point.class.getDeclaredConstructor(int.class);
+		TupleInstantiator<Point> instantiator = factory.getInstantiator(constructor);
+		assertInstanceOf(MethodHandleTupleInstantiator.class, instantiator);
+		assertEquals(3, instantiator.instantiate(tuple(new Class<?>[]{ Integer.class }, 3)).x);
+	}
+
+	private static Tuple tuple(Class<?>[] types, Object... values) {
+		TupleElement<?>[] elements = new TupleElement[types.length];
+		String[] aliases = new String[types.length];
+		for (int idx = 0; idx < types.length; idx++) {
+			aliases[idx] = "param" + idx;
+			elements[idx] = new TupleElementImpl<>(types[idx], aliases[idx]);
+		}
+		return new TupleImpl(new TupleMetadata(elements, aliases), values);
+	}
+
+	public static class Point {
+
+		private final int x;
+
+		private final double y;
+
+		private final boolean visible;
+
+		private final String label;
+
+		public Point(int x, double y, boolean visible, String label) {
+			this.x = x;
+			this.y = y;
+			this.visible = visible;
+			this.label = label;
+		}
+
+		public Point(int x) {
+			this(x, 0, false, "");
+		}
+	}
+}
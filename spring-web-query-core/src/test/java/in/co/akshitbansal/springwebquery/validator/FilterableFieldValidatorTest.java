@@ -109,6 +109,23 @@ class FilterableFieldValidatorTest {
 		assertDoesNotThrow(() -> validator.validate(userIdField, operator, "id"));
 	}
 
+	@Test
+	void testStacklessRejections() {
+		FilterableFieldValidator stacklessValidator = new FilterableFieldValidator(Map.of(), true);
+		var operator = RSQLDefaultOperator.IN.getOperator();
+		QueryFieldValidationException ex = assertThrows(
+				QueryFieldValidationException.class, () -> stacklessValidator.validate(userEmailField, operator, "email")
+		);
+		assertEquals("Filtering not allowed on field 'email'", ex.getMessage());
+		assertEquals(0, ex.getStackTrace().length);
+		QueryForbiddenOperatorException ex2 = assertThrows(
+				QueryForbiddenOperatorException.class, () -> stacklessValidator.validate(userIdField, operator, "id")
+		);
+		assertEquals("Operator '=in=' not allowed on field 'id'", ex2.getMessage());
+		assertEquals(operator, ex2.getOperator());
+		assertEquals(0, ex2.getStackTrace().length);
+	}
+
 	private FilterableFieldValidator newValidator() {
 		return new FilterableFieldValidator(Map.of(IsLongGreaterThanFiveOperator.class, new IsLongGreaterThanFiveOperator()));
 	}
@@ -57,4 +57,12 @@ class SortableFieldValidatorTest {
 		assertEquals("lastName", ex.getFieldPath());
 		assertTrue(ex.getMessage().contains("Sorting is not allowed"));
 	}
+
+	@Test
+	void testStacklessRejection() {
+		SortableFieldValidator stacklessValidator = new SortableFieldValidator(true);
+		QueryFieldValidationException ex = assertThrows(QueryFieldValidationException.class, () -> stacklessValidator.validate(lastNameField, "lastName"));
+		assertEquals("lastName", ex.getFieldPath());
+		assertEquals(0, ex.getStackTrace().length);
+	}
 }
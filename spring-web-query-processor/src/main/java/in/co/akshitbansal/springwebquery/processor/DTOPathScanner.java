@@ -0,0 +1,480 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.processor;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.*;
+
+/**
+ * Collects the filterable and sortable selector paths of a DTO from its
+ * source model.
+ *
+ * <p>The scan mirrors the runtime rules of the core library, so that the
+ * generated metadata describes exactly the paths the runtime would discover
+ * reflectively:</p>
+ * <ul>
+ *   <li>fields are searched up the superclass hierarchy, with fields declared
+ *       on subclasses hiding same-named fields declared higher up, and static
+ *       fields are ignored</li>
+ *   <li>arrays and collections are traversed through their element type, and
+ *       only application classes and records are descended into, once per
+ *       path, so recursive DTOs terminate; the rules, including the platform
+ *       package prefixes, are those of the core {@code TraversableTypes} and
+ *       must be kept in step with it</li>
+ *   <li>{@code @RSQLFilterable} declarations are collected directly, from
+ *       their repeatable container, and from the library's composed
+ *       annotations such as {@code @RSQLFilterableEquality}</li>
+ *   <li>entity paths are built from the field names along the selector path,
+ *       with {@code @MapsTo} replacing a segment or, when absolute, restarting
+ *       the path</li>
+ * </ul>
+ *
+ * <p>The scanner also computes the fingerprint of the DTO class graph that
+ * the runtime compares against the DTO it loads, to detect metadata generated
+ * for a different version of the DTO. The fingerprint is that of the core
+ * {@code QueryMetadataFingerprint}, whose canonical description of the graph
+ * must be reproduced here exactly.</p>
+ */
+class DTOPathScanner {
+
+	/**
+	 * Package prefixes of platform types, whose fields are never walked.
+	 */
+	private static final List<String> PLATFORM_PACKAGE_PREFIXES = List.of(
+			"java.", "javax.", "jakarta.", "jdk.", "sun.", "com.sun."
+	);
+
+	/**
+	 * Package of the library's annotations.
+	 */
+	static final String ANNOTATION_PACKAGE = "in.co.akshitbansal.springwebquery.annotation";
+
+	/**
+	 * Qualified name of {@code @RSQLFilterable}.
+	 */
+	private static final String RSQL_FILTERABLE = ANNOTATION_PACKAGE + ".RSQLFilterable";
+
+	/**
+	 * Qualified name of the {@code @RSQLFilterable} container annotation.
+	 */
+	private static final String RSQL_FILTERABLES = ANNOTATION_PACKAGE + ".RSQLFilterables";
+
+	/**
+	 * Qualified name of {@code @Sortable}.
+	 */
+	private static final String SORTABLE = ANNOTATION_PACKAGE + ".Sortable";
+
+	/**
+	 * Qualified name of {@code @MapsTo}.
+	 */
+	private static final String MAPS_TO = ANNOTATION_PACKAGE + ".MapsTo";
+
+	/**
+	 * Offset basis of the 64-bit FNV-1a hash.
+	 */
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+	/**
+	 * Prime of the 64-bit FNV-1a hash.
+	 */
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	/**
+	 * Element utilities of the current processing environment.
+	 */
+	private final Elements elements;
+
+	/**
+	 * Type utilities of the current processing environment.
+	 */
+	private final Types types;
+
+	/**
+	 * Erasure of {@link Collection}, used to detect collection fields.
+	 */
+	private final TypeMirror collectionType;
+
+	/**
+	 * Creates a scanner for one processing environment.
+	 *
+	 * @param elements element utilities of the processing environment
+	 * @param types type utilities of the processing environment
+	 */
+	DTOPathScanner(Elements elements, Types types) {
+		this.elements = elements;
+		this.types = types;
+		TypeElement collectionElement = Objects.requireNonNull(elements.getTypeElement(Collection.class.getName()));
+		this.collectionType = types.erasure(collectionElement.asType());
+	}
+
+	/**
+	 * Collects the filterable and sortable selector paths reachable from a DTO.
+	 *
+	 * @param dto root DTO type
+	 *
+	 * @return path metadata in declaration order
+	 */
+	List<PathMetadata> scan(TypeElement dto) {
+		List<PathMetadata> paths = new ArrayList<>();
+		Set<String> ancestors = new HashSet<>();
+		ancestors.add(dto.getQualifiedName().toString());
+		collectPaths(dto, "", List.of(), ancestors, paths);
+		return paths;
+	}
+
+	/**
+	 * Computes the fingerprint of the class graph reachable from a DTO.
+	 *
+	 * @param dto root DTO type
+	 *
+	 * @return 64-bit FNV-1a hash of the canonical description of the graph
+	 */
+	long fingerprint(TypeElement dto) {
+		StringBuilder canonical = new StringBuilder();
+		appendType(dto, new HashSet<>(), canonical);
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < canonical.length(); i++) {
+			hash ^= canonical.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * Recursively collects the paths reachable from a DTO type.
+	 *
+	 * @param type DTO type whose fields are inspected
+	 * @param prefix selector path leading to {@code type}, empty for the root
+	 * @param entitySegments entity path segments leading to {@code type}
+	 * @param ancestors qualified names of types on the current path
+	 * @param paths accumulator of path metadata
+	 */
+	private void collectPaths(
+			TypeElement type,
+			String prefix,
+			List<String> entitySegments,
+			Set<String> ancestors,
+			List<PathMetadata> paths
+	) {
+		for (VariableElement field: getFieldsUpHierarchy(type)) {
+			String name = field.getSimpleName().toString();
+			String dtoPath = prefix.isEmpty() ? name : prefix + "." + name;
+			List<String> segments = appendEntitySegment(entitySegments, field);
+
+			Set<String> defaultOperators = new LinkedHashSet<>();
+			Set<String> customOperators = new LinkedHashSet<>();
+			collectFilterables(field.getAnnotationMirrors(), defaultOperators, customOperators);
+			boolean sortable = findAnnotation(field, SORTABLE) != null;
+			if (sortable || !defaultOperators.isEmpty() || !customOperators.isEmpty()) {
+				paths.add(new PathMetadata(
+						dtoPath, String.join(".", segments),
+						List.copyOf(defaultOperators), List.copyOf(customOperators), sortable
+				));
+			}
+
+			TypeElement next = unwrapContainerType(field.asType());
+			if (next == null || !isTraversable(next)) continue;
+			String nextName = next.getQualifiedName().toString();
+			if (!ancestors.add(nextName)) continue;
+			collectPaths(next, dtoPath, segments, ancestors, paths);
+			ancestors.remove(nextName);
+		}
+	}
+
+	/**
+	 * Appends the description of a type and, depth first, of every type
+	 * reachable through its fields that has not been described yet.
+	 *
+	 * @param type type to describe
+	 * @param visited binary names of the types already described
+	 * @param canonical description being built
+	 */
+	private void appendType(TypeElement type, Set<String> visited, StringBuilder canonical) {
+		visited.add(elements.getBinaryName(type).toString());
+		List<VariableElement> fields = new ArrayList<>();
+		canonical.append('{');
+		TypeElement current = type;
+		while (current != null && isTraversable(current)) {
+			List<VariableElement> declaredFields = new ArrayList<>(ElementFilter.fieldsIn(current.getEnclosedElements()));
+			declaredFields.sort(Comparator.comparing(field -> field.getSimpleName().toString()));
+			for (VariableElement field: declaredFields) {
+				if (field.getModifiers().contains(Modifier.STATIC)) continue;
+				canonical.append(field.getSimpleName()).append(':').append(getTypeName(field.asType()));
+				appendAnnotations(field.getAnnotationMirrors(), canonical);
+				canonical.append(';');
+				fields.add(field);
+			}
+			canonical.append('|');
+			TypeMirror superclass = current.getSuperclass();
+			current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+		}
+		canonical.append('}');
+
+		for (VariableElement field: fields) {
+			TypeElement next = unwrapContainerType(field.asType());
+			if (next == null || !isTraversable(next) || visited.contains(elements.getBinaryName(next).toString())) continue;
+			appendType(next, visited, canonical);
+		}
+	}
+
+	/**
+	 * Appends the library annotations among the annotations of a field, in
+	 * the order of their type names.
+	 *
+	 * @param mirrors annotations declared on the field
+	 * @param canonical description being built
+	 */
+	private void appendAnnotations(List<? extends AnnotationMirror> mirrors, StringBuilder canonical) {
+		List<AnnotationMirror> libraryAnnotations = new ArrayList<>();
+		for (AnnotationMirror mirror: mirrors) {
+			TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+			if (elements.getPackageOf(annotationType).getQualifiedName().contentEquals(ANNOTATION_PACKAGE))
+				libraryAnnotations.add(mirror);
+		}
+		libraryAnnotations.sort(Comparator.comparing(mirror -> getTypeName(mirror.getAnnotationType())));
+		for (AnnotationMirror mirror: libraryAnnotations) appendAnnotation(mirror, canonical);
+	}
+
+	/**
+	 * Appends an annotation with the values of all of its elements, including
+	 * defaults, in the order of their names.
+	 *
+	 * @param mirror annotation to describe
+	 * @param canonical description being built
+	 */
+	private void appendAnnotation(AnnotationMirror mirror, StringBuilder canonical) {
+		canonical.append('@').append(getTypeName(mirror.getAnnotationType())).append('(');
+		for (Map.Entry<String, Object> value: new TreeMap<>(getValues(mirror)).entrySet()) {
+			canonical.append(value.getKey()).append('=');
+			appendValue(value.getValue(), canonical);
+			canonical.append(',');
+		}
+		canonical.append(')');
+	}
+
+	/**
+	 * Appends a raw annotation element value.
+	 *
+	 * @param value value to describe
+	 * @param canonical description being built
+	 */
+	private void appendValue(Object value, StringBuilder canonical) {
+		if (value instanceof List<?>) {
+			canonical.append('[');
+			for (AnnotationValue element: asList(value)) {
+				appendValue(element.getValue(), canonical);
+				canonical.append(',');
+			}
+			canonical.append(']');
+		}
+		else if (value instanceof TypeMirror type) canonical.append(getTypeName(type));
+		else if (value instanceof VariableElement constant) canonical.append(constant.getSimpleName());
+		else if (value instanceof AnnotationMirror nested) appendAnnotation(nested, canonical);
+		else canonical.append(value);
+	}
+
+	/**
+	 * Returns the name of the erasure of a type as the runtime reports it
+	 * with {@link Class#getTypeName()}.
+	 *
+	 * @param type type to name
+	 *
+	 * @return binary name of classes, {@code []}-suffixed name of arrays, and
+	 * keyword of primitives
+	 */
+	private String getTypeName(TypeMirror type) {
+		TypeMirror erasure = types.erasure(type);
+		if (erasure.getKind() == TypeKind.ARRAY) return getTypeName(((ArrayType) erasure).getComponentType()) + "[]";
+		if (erasure.getKind().isPrimitive()) return erasure.getKind().name().toLowerCase(Locale.ROOT);
+		if (erasure.getKind() == TypeKind.DECLARED)
+			return elements.getBinaryName((TypeElement) types.asElement(erasure)).toString();
+		return erasure.toString();
+	}
+
+	/**
+	 * Returns the instance fields visible on a type, with fields declared on
+	 * subclasses hiding same-named fields declared higher in the hierarchy.
+	 *
+	 * @param type type whose fields are collected
+	 *
+	 * @return visible instance fields
+	 */
+	private Collection<VariableElement> getFieldsUpHierarchy(TypeElement type) {
+		Map<String, VariableElement> fields = new LinkedHashMap<>();
+		TypeElement current = type;
+		while (current != null) {
+			for (VariableElement field: ElementFilter.fieldsIn(current.getEnclosedElements())) {
+				if (field.getModifiers().contains(Modifier.STATIC)) continue;
+				fields.putIfAbsent(field.getSimpleName().toString(), field);
+			}
+			TypeMirror superclass = current.getSuperclass();
+			current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+		}
+		return fields.values();
+	}
+
+	/**
+	 * Appends the entity path segment contributed by a DTO field.
+	 *
+	 * @param segments segments accumulated so far
+	 * @param field DTO field being traversed
+	 *
+	 * @return new list of segments including the field's contribution
+	 */
+	private List<String> appendEntitySegment(List<String> segments, VariableElement field) {
+		List<String> appended = new ArrayList<>(segments);
+		AnnotationMirror mapsTo = findAnnotation(field, MAPS_TO);
+		if (mapsTo == null) {
+			appended.add(field.getSimpleName().toString());
+			return appended;
+		}
+		Map<String, Object> values = getValues(mapsTo);
+		if (Boolean.TRUE.equals(values.get("absolute"))) appended.clear();
+		appended.add(String.valueOf(values.get("value")));
+		return appended;
+	}
+
+	/**
+	 * Recursively collects the operators of {@code @RSQLFilterable}
+	 * declarations, supporting repeatable and composed usage.
+	 *
+	 * @param mirrors annotations to inspect
+	 * @param defaultOperators accumulator of built-in operator names
+	 * @param customOperators accumulator of custom operator class names
+	 */
+	private void collectFilterables(
+			List<? extends AnnotationMirror> mirrors,
+			Set<String> defaultOperators,
+			Set<String> customOperators
+	) {
+		for (AnnotationMirror mirror: mirrors) {
+			TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+			String name = annotationType.getQualifiedName().toString();
+			if (name.equals(RSQL_FILTERABLE)) {
+				Map<String, Object> values = getValues(mirror);
+				for (AnnotationValue value: asList(values.get("value")))
+					defaultOperators.add(((VariableElement) value.getValue()).getSimpleName().toString());
+				for (AnnotationValue value: asList(values.get("customOperators"))) {
+					TypeElement operatorType = (TypeElement) types.asElement((TypeMirror) value.getValue());
+					customOperators.add(operatorType.getQualifiedName().toString());
+				}
+			}
+			else if (name.equals(RSQL_FILTERABLES)) {
+				List<AnnotationMirror> repeated = new ArrayList<>();
+				for (AnnotationValue value: asList(getValues(mirror).get("value")))
+					repeated.add((AnnotationMirror) value.getValue());
+				collectFilterables(repeated, defaultOperators, customOperators);
+			}
+			else if (name.startsWith(ANNOTATION_PACKAGE))
+				collectFilterables(annotationType.getAnnotationMirrors(), defaultOperators, customOperators);
+		}
+	}
+
+	/**
+	 * Determines the type that nested selector segments are resolved against.
+	 *
+	 * @param type declared type of the field being traversed
+	 *
+	 * @return element type for arrays and collections, the declared type
+	 * otherwise, or {@code null} if there is no class to descend into
+	 */
+	@Nullable
+	private TypeElement unwrapContainerType(TypeMirror type) {
+		if (type.getKind() == TypeKind.ARRAY) type = ((ArrayType) type).getComponentType();
+		else if (type.getKind() == TypeKind.DECLARED && types.isAssignable(types.erasure(type), collectionType)) {
+			List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+			if (typeArguments.isEmpty()) return null;
+			type = typeArguments.get(0);
+		}
+		if (type.getKind() != TypeKind.DECLARED) return null;
+		return (TypeElement) types.asElement(type);
+	}
+
+	/**
+	 * Returns whether a type is an application type whose fields may be part
+	 * of the contract.
+	 *
+	 * @param type candidate type
+	 *
+	 * @return {@code false} for enums, interfaces, annotations, and platform
+	 * types
+	 */
+	private boolean isTraversable(TypeElement type) {
+		ElementKind kind = type.getKind();
+		if (kind != ElementKind.CLASS && kind != ElementKind.RECORD) return false;
+		String name = elements.getPackageOf(type).getQualifiedName().toString() + ".";
+		for (String prefix: PLATFORM_PACKAGE_PREFIXES) {
+			if (name.startsWith(prefix)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Finds an annotation on an element by qualified name.
+	 *
+	 * @param element annotated element
+	 * @param annotationName qualified name of the annotation type
+	 *
+	 * @return annotation mirror, or {@code null} if absent
+	 */
+	@Nullable
+	private AnnotationMirror findAnnotation(Element element, String annotationName) {
+		for (AnnotationMirror mirror: element.getAnnotationMirrors()) {
+			TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+			if (annotationType.getQualifiedName().contentEquals(annotationName)) return mirror;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the values of an annotation, including defaults, keyed by
+	 * element name.
+	 *
+	 * @param mirror annotation mirror
+	 *
+	 * @return raw annotation values keyed by element name
+	 */
+	private Map<String, Object> getValues(AnnotationMirror mirror) {
+		Map<String, Object> values = new HashMap<>();
+		elements.getElementValuesWithDefaults(mirror).forEach(
+				(element, value) -> values.put(element.getSimpleName().toString(), value.getValue())
+		);
+		return values;
+	}
+
+	/**
+	 * Casts a raw array-valued annotation value to its elements.
+	 *
+	 * @param value raw annotation value
+	 *
+	 * @return array elements, empty if the value is absent
+	 */
+	@SuppressWarnings("unchecked")
+	private List<? extends AnnotationValue> asList(@Nullable Object value) {
+		if (value instanceof List<?>) return (List<? extends AnnotationValue>) value;
+		return List.of();
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.processor;
+
+import java.util.List;
+
+/**
+ * Compile-time contract of one filterable or sortable DTO selector path.
+ *
+ * @param dtoPath DTO selector path
+ * @param entityPath entity path derived from the {@code @MapsTo} declarations
+ * along the selector path
+ * @param defaultOperators names of the allowed {@code RSQLDefaultOperator}
+ * constants, in declaration order
+ * @param customOperators canonical names of the allowed custom operator
+ * classes, in declaration order
+ * @param sortable whether the terminal field is annotated with {@code @Sortable}
+ */
+record PathMetadata(
+		String dtoPath,
+		String entityPath,
+		List<String> defaultOperators,
+		List<String> customOperators,
+		boolean sortable
+) {
+}
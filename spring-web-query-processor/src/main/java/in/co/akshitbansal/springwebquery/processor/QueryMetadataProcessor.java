@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates the query metadata of every DTO
+ * annotated with {@code @WebQueryDTO}.
+ *
+ * <p>For each annotated DTO the processor scans the DTO class graph with the
+ * same rules the runtime uses and writes a class named after the DTO's binary
+ * name followed by {@code _QueryMetadata} into the DTO's package. The
+ * generated class implements {@code GeneratedQueryMetadata}, which the runtime
+ * query contract registry loads in preference to reading the DTO's
+ * annotations reflectively, as long as the fingerprint of the DTO class graph
+ * recorded in it still matches the DTO.</p>
+ *
+ * <p>The processor is registered through {@code META-INF/services} and is
+ * aggregating for Gradle incremental compilation: a generated class depends
+ * not only on its annotated DTO but also on the nested DTOs, collection
+ * element types and superclasses reached while scanning it, so editing any of
+ * those types must regenerate the metadata of the DTOs that reach them.</p>
+ */
+@SupportedAnnotationTypes(QueryMetadataProcessor.WEB_QUERY_DTO)
+public class QueryMetadataProcessor extends AbstractProcessor {
+
+	/**
+	 * Qualified name of {@code @WebQueryDTO}.
+	 */
+	static final String WEB_QUERY_DTO = DTOPathScanner.ANNOTATION_PACKAGE + ".WebQueryDTO";
+
+	/**
+	 * Suffix appended to a DTO's binary name to form the name of its
+	 * generated metadata class.
+	 */
+	static final String CLASS_NAME_SUFFIX = "_QueryMetadata";
+
+	/**
+	 * Qualified name of the {@code @Generated} annotation added to generated
+	 * classes when it is available.
+	 */
+	private static final String GENERATED = "javax.annotation.processing.Generated";
+
+	/**
+	 * Returns the latest source version supported by the running compiler, as
+	 * the processor only reads declarations and does not depend on language
+	 * features.
+	 *
+	 * @return latest supported source version
+	 */
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 * Generates the metadata of every DTO annotated in the current round.
+	 *
+	 * @param annotations annotation types requested by this processor and
+	 * present in the round
+	 * @param roundEnv environment of the current round
+	 *
+	 * @return {@code false}, so that other processors may also handle
+	 * {@code @WebQueryDTO}
+	 */
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (TypeElement annotation: annotations) {
+			for (Element element: roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (!(element instanceof TypeElement dto)) continue;
+				try {
+					generate(dto);
+				}
+				catch (IOException ex) {
+					processingEnv.getMessager().printMessage(
+							Diagnostic.Kind.ERROR,
+							MessageFormat.format("Failed to generate query metadata: {0}", ex.getMessage()),
+							dto
+					);
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Scans a DTO and writes its metadata class.
+	 *
+	 * @param dto annotated DTO
+	 *
+	 * @throws IOException if the generated source cannot be written
+	 */
+	private void generate(TypeElement dto) throws IOException {
+		DTOPathScanner scanner = new DTOPathScanner(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+		List<PathMetadata> paths = scanner.scan(dto);
+		long fingerprint = scanner.fingerprint(dto);
+
+		String packageName = processingEnv.getElementUtils().getPackageOf(dto).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(dto).toString();
+		String className = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+				+ CLASS_NAME_SUFFIX;
+		String qualifiedClassName = packageName.isEmpty() ? className : packageName + "." + className;
+		String generatedAnnotation = processingEnv.getElementUtils().getTypeElement(GENERATED) == null ? null : GENERATED;
+
+		Filer filer = processingEnv.getFiler();
+		JavaFileObject file = filer.createSourceFile(qualifiedClassName, dto);
+		try (Writer writer = file.openWriter()) {
+			new QueryMetadataWriter().write(
+					writer, packageName, className, dto.getQualifiedName().toString(), generatedAnnotation, fingerprint, paths
+			);
+		}
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.processor;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Writes the source of a generated query metadata class.
+ *
+ * <p>The generated class implements {@code GeneratedQueryMetadata} and
+ * answers every lookup with a {@code switch} over the DTO selector path. The
+ * allowed built-in operators of each path are emitted as shared, unmodifiable
+ * {@code EnumSet} constants, so paths with the same operators share a single
+ * set and membership checks stay bit-mask operations. All types are referenced
+ * by their fully qualified names, so the generated class cannot clash with
+ * types declared in the DTO's package.</p>
+ */
+class QueryMetadataWriter {
+
+	/**
+	 * Qualified name of the interface implemented by generated classes.
+	 */
+	private static final String METADATA_INTERFACE = "in.co.akshitbansal.springwebquery.contract.GeneratedQueryMetadata";
+
+	/**
+	 * Qualified name of the built-in operator enum.
+	 */
+	private static final String DEFAULT_OPERATOR = "in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator";
+
+	/**
+	 * Type of the operator set constants.
+	 */
+	private static final String OPERATOR_SET = "java.util.Set<" + DEFAULT_OPERATOR + ">";
+
+	/**
+	 * Name of the constant holding the empty operator set.
+	 */
+	private static final String NO_OPERATORS = "NO_OPERATORS";
+
+	/**
+	 * Writes a generated metadata class.
+	 *
+	 * @param writer destination of the source
+	 * @param packageName package of the DTO, empty for the unnamed package
+	 * @param className simple name of the generated class
+	 * @param dtoName qualified name of the DTO, used in the class comment
+	 * @param generatedAnnotation qualified name of the {@code @Generated}
+	 * annotation to add, or {@code null} if none is available
+	 * @param fingerprint fingerprint of the DTO class graph
+	 * @param paths path metadata of the DTO
+	 *
+	 * @throws IOException if the source cannot be written
+	 */
+	void write(
+			Writer writer,
+			String packageName,
+			String className,
+			String dtoName,
+			@Nullable String generatedAnnotation,
+			long fingerprint,
+			List<PathMetadata> paths
+	) throws IOException {
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+		source.append("/**\n * Query metadata of {@code ").append(dtoName).append("}.\n */\n");
+		if (generatedAnnotation != null)
+			source.append("@").append(generatedAnnotation).append("(\"").append(QueryMetadataProcessor.class.getName()).append("\")\n");
+		source.append("public final class ").append(className).append(" implements ").append(METADATA_INTERFACE).append(" {\n\n");
+
+		Map<List<String>, String> operatorSets = new LinkedHashMap<>();
+		for (PathMetadata path: paths) {
+			if (path.defaultOperators().isEmpty()) continue;
+			operatorSets.computeIfAbsent(path.defaultOperators(), ignored -> "OPERATORS_" + operatorSets.size());
+		}
+
+		source.append("\tprivate static final java.util.List<java.lang.String> PATHS = java.util.List.of(");
+		for (int i = 0; i < paths.size(); i++) {
+			if (i > 0) source.append(", ");
+			source.append(literal(paths.get(i).dtoPath()));
+		}
+		source.append(");\n\n");
+		appendOperatorSet(source, NO_OPERATORS, List.of());
+		for (Map.Entry<List<String>, String> entry: operatorSets.entrySet())
+			appendOperatorSet(source, entry.getValue(), entry.getKey());
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\tpublic long getFingerprint() {\n\t\treturn 0x").append(Long.toHexString(fingerprint)).append("L;\n\t}\n\n");
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\tpublic java.util.List<java.lang.String> getPaths() {\n\t\treturn PATHS;\n\t}\n\n");
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\tpublic java.lang.@org.jspecify.annotations.Nullable String getEntityPath(java.lang.String dtoPath) {\n");
+		appendSwitch(source, paths, path -> true, path -> literal(path.entityPath()), "null");
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\tpublic ").append(OPERATOR_SET).append(" getDefaultOperators(java.lang.String dtoPath) {\n");
+		appendSwitch(
+				source, paths, path -> !path.defaultOperators().isEmpty(),
+				path -> operatorSets.get(path.defaultOperators()), NO_OPERATORS
+		);
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\tpublic java.util.List<java.lang.Class<?>> getCustomOperators(java.lang.String dtoPath) {\n");
+		appendSwitch(
+				source, paths, path -> !path.customOperators().isEmpty(),
+				path -> "java.util.List.of(" + String.join(", ", path.customOperators().stream().map(name -> name + ".class").toList()) + ")",
+				"java.util.List.of()"
+		);
+
+		source.append("\t@java.lang.Override\n");
+		source.append("\tpublic boolean isSortable(java.lang.String dtoPath) {\n");
+		appendSwitch(source, paths, PathMetadata::sortable, path -> "true", "false");
+
+		// Drop the blank line that follows the last method
+		source.setLength(source.length() - 1);
+		source.append("}\n");
+		writer.write(source.toString());
+	}
+
+	/**
+	 * Appends an unmodifiable operator set constant.
+	 *
+	 * @param source source being generated
+	 * @param name name of the constant
+	 * @param operators names of the operator constants in the set
+	 */
+	private void appendOperatorSet(StringBuilder source, String name, List<String> operators) {
+		source.append("\tprivate static final ").append(OPERATOR_SET).append(" ").append(name);
+		source.append(" = java.util.Collections.unmodifiableSet(");
+		if (operators.isEmpty()) source.append("java.util.EnumSet.noneOf(").append(DEFAULT_OPERATOR).append(".class)");
+		else {
+			source.append("java.util.EnumSet.of(");
+			for (int i = 0; i < operators.size(); i++) {
+				if (i > 0) source.append(", ");
+				source.append(DEFAULT_OPERATOR).append(".").append(operators.get(i));
+			}
+			source.append(")");
+		}
+		source.append(");\n\n");
+	}
+
+	/**
+	 * Appends a method body returning a per-path value from a {@code switch}
+	 * expression, followed by the closing brace of the method.
+	 *
+	 * @param source source being generated
+	 * @param paths path metadata of the DTO
+	 * @param included paths that get their own case
+	 * @param value expression returned for an included path
+	 * @param defaultValue expression returned for every other path
+	 */
+	private void appendSwitch(
+			StringBuilder source,
+			List<PathMetadata> paths,
+			Predicate<PathMetadata> included,
+			Function<PathMetadata, String> value,
+			String defaultValue
+	) {
+		List<PathMetadata> cases = paths.stream().filter(included).toList();
+		if (cases.isEmpty()) {
+			source.append("\t\treturn ").append(defaultValue).append(";\n\t}\n\n");
+			return;
+		}
+		source.append("\t\treturn switch (dtoPath) {\n");
+		for (PathMetadata path: cases)
+			source.append("\t\t\tcase ").append(literal(path.dtoPath())).append(" -> ").append(value.apply(path)).append(";\n");
+		source.append("\t\t\tdefault -> ").append(defaultValue).append(";\n");
+		source.append("\t\t};\n\t}\n\n");
+	}
+
+	/**
+	 * Formats a string as a Java string literal.
+	 *
+	 * @param value string to format
+	 *
+	 * @return quoted and escaped literal
+	 */
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder("\"");
+		for (char c: value.toCharArray()) {
+			switch (c) {
+				case '"' -> literal.append("\\\"");
+				case '\\' -> literal.append("\\\\");
+				case '\n' -> literal.append("\\n");
+				case '\r' -> literal.append("\\r");
+				case '\t' -> literal.append("\\t");
+				default -> {
+					if (c < 0x20) literal.append(String.format("\\u%04x", (int) c));
+					else literal.append(c);
+				}
+			}
+		}
+		return literal.append('"').toString();
+	}
+}
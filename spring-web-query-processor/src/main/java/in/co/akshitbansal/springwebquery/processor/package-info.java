@@ -0,0 +1,8 @@
+/**
+ * Annotation processor that generates the query contract of
+ * {@code @WebQueryDTO}-annotated DTOs at compile time.
+ */
+@NullMarked
+package in.co.akshitbansal.springwebquery.processor;
+
+import org.jspecify.annotations.NullMarked;
\ No newline at end of file
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026-present Akshit Bansal
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package in.co.akshitbansal.springwebquery.processor;
+
+import in.co.akshitbansal.springwebquery.contract.GeneratedQueryMetadata;
+import in.co.akshitbansal.springwebquery.contract.QueryMetadataFingerprint;
+import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryMetadataProcessorTest {
+
+	@TempDir
+	private Path tempDir;
+
+	private static final String CUSTOM_OPERATOR = """
+			package sample;
+
+			import in.co.akshitbansal.springwebquery.operator.RSQLCustomOperator;
+
+			public abstract class GreaterThanFive implements RSQLCustomOperator<Long> {
+			}
+			""";
+
+	private static final String USER = """
+			package sample;
+
+			import in.co.akshitbansal.springwebquery.annotation.*;
+			import in.co.akshitbansal.springwebquery.operator.RSQLDefaultOperator;
+
+			import java.util.List;
+
+			@WebQueryDTO(Object.class)
+			public class User extends Auditable {
+
+				@RSQLFilterableEquality
+				@RSQLFilterable(value = {}, customOperators = GreaterThanFive.class)
+				@Sortable
+				private Long id;
+
+				private String email;
+
+				private Name name;
+
+				private Phone[] phones;
+
+				private List<Address> addresses;
+
+				private User manager;
+
+				public static class Name {
+
+					@MapsTo(value = "firstName", absolute = true)
+					@RSQLFilterable(RSQLDefaultOperator.IGNORE_CASE)
+					@Sortable
+					private String firstName;
+
+					@MapsTo("surname")
+					@Sortable
+					private String lastName;
+				}
+
+				public static class Phone {
+
+					@MapsTo("phoneNumber")
+					@RSQLFilterable(RSQLDefaultOperator.LIKE)
+					@RSQLFilterable(RSQLDefaultOperator.EQUAL)
+					private String number;
+				}
+
+				public record Address(@RSQLFilterableMembership String city) {
+				}
+			}
+			""";
+
+	private static final String AUDITABLE = """
+			package sample;
+
+			import in.co.akshitbansal.springwebquery.annotation.*;
+
+			public abstract class Auditable {
+
+				@Sortable
+				private Long id;
+
+				@RSQLFilterableNull
+				private String createdBy;
+			}
+			""";
+
+	private static final String NESTED = """
+			package sample;
+
+			import in.co.akshitbansal.springwebquery.annotation.*;
+
+			public class Views {
+
+				@WebQueryDTO(Object.class)
+				public static class Summary {
+
+					private String label;
+				}
+			}
+			""";
+
+	private ClassLoader compile(Map<String, String> sources) throws IOException {
+		Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+		Path classDir = Files.createDirectories(tempDir.resolve("classes"));
+		List<Path> files = new ArrayList<>();
+		for (Map.Entry<String, String> source: sources.entrySet()) {
+			Path file = sourceDir.resolve(source.getKey() + ".java");
+			Files.writeString(file, source.getValue(), StandardCharsets.UTF_8);
+			files.add(file);
+		}
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+			List<String> options = List.of(
+					"-classpath", System.getProperty("java.class.path"),
+					"-d", classDir.toString(),
+					"-s", classDir.toString()
+			);
+			JavaCompiler.CompilationTask task = compiler.getTask(
+					null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromPaths(files)
+			);
+			task.setProcessors(List.of(new QueryMetadataProcessor()));
+			assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+		}
+		return new URLClassLoader(new URL[] {classDir.toUri().toURL()}, getClass().getClassLoader());
+	}
+
+	private GeneratedQueryMetadata loadMetadata(ClassLoader classLoader, String className) throws ReflectiveOperationException {
+		Class<?> metadataClass = classLoader.loadClass(className);
+		return (GeneratedQueryMetadata) metadataClass.getDeclaredConstructor().newInstance();
+	}
+
+	@Test
+	void testMetadataIsGeneratedForAnnotatedDTO() throws Exception {
+		ClassLoader classLoader = compile(Map.of(
+				"GreaterThanFive", CUSTOM_OPERATOR, "User", USER, "Auditable", AUDITABLE
+		));
+		GeneratedQueryMetadata metadata = loadMetadata(classLoader, "sample.User_QueryMetadata");
+
+		assertEquals(
+				List.of("id", "name.firstName", "name.lastName", "phones.number", "addresses.city", "createdBy"),
+				metadata.getPaths()
+		);
+		assertEquals("id", metadata.getEntityPath("id"));
+		assertEquals("firstName", metadata.getEntityPath("name.firstName"));
+		assertEquals("name.surname", metadata.getEntityPath("name.lastName"));
+		assertEquals("phones.phoneNumber", metadata.getEntityPath("phones.number"));
+		assertEquals("addresses.city", metadata.getEntityPath("addresses.city"));
+		assertNull(metadata.getEntityPath("email"));
+	}
+
+	@Test
+	void testOperatorsAreCollected() throws Exception {
+		ClassLoader classLoader = compile(Map.of(
+				"GreaterThanFive", CUSTOM_OPERATOR, "User", USER, "Auditable", AUDITABLE
+		));
+		GeneratedQueryMetadata metadata = loadMetadata(classLoader, "sample.User_QueryMetadata");
+
+		assertEquals(EnumSet.of(RSQLDefaultOperator.EQUAL, RSQLDefaultOperator.NOT_EQUAL), metadata.getDefaultOperators("id"));
+		assertEquals(List.of(classLoader.loadClass("sample.GreaterThanFive")), metadata.getCustomOperators("id"));
+		assertEquals(Set.of(RSQLDefaultOperator.IGNORE_CASE), metadata.getDefaultOperators("name.firstName"));
+		assertEquals(Set.of(RSQLDefaultOperator.LIKE, RSQLDefaultOperator.EQUAL), metadata.getDefaultOperators("phones.number"));
+		assertEquals(Set.of(RSQLDefaultOperator.IN, RSQLDefaultOperator.NOT_IN), metadata.getDefaultOperators("addresses.city"));
+		assertEquals(Set.of(RSQLDefaultOperator.IS_NULL, RSQLDefaultOperator.NOT_NULL), metadata.getDefaultOperators("createdBy"));
+		assertEquals(Set.of(), metadata.getDefaultOperators("name.lastName"));
+		assertEquals(List.of(), metadata.getCustomOperators("phones.number"));
+		assertThrows(UnsupportedOperationException.class, () -> metadata.getDefaultOperators("id").add(RSQLDefaultOperator.IN));
+	}
+
+	@Test
+	void testSortableFieldsAreCollected() throws Exception {
+		ClassLoader classLoader = compile(Map.of(
+				"GreaterThanFive", CUSTOM_OPERATOR, "User", USER, "Auditable", AUDITABLE
+		));
+		GeneratedQueryMetadata metadata = loadMetadata(classLoader, "sample.User_QueryMetadata");
+
+		assertTrue(metadata.isSortable("id"));
+		assertTrue(metadata.isSortable("name.firstName"));
+		assertTrue(metadata.isSortable("name.lastName"));
+		assertFalse(metadata.isSortable("phones.number"));
+		assertFalse(metadata.isSortable("email"));
+	}
+
+	@Test
+	void testFingerprintMatchesCompiledDTO() throws Exception {
+		ClassLoader classLoader = compile(Map.of(
+				"GreaterThanFive", CUSTOM_OPERATOR, "User", USER, "Auditable", AUDITABLE, "Views", NESTED
+		));
+
+		GeneratedQueryMetadata user = loadMetadata(classLoader, "sample.User_QueryMetadata");
+		assertEquals(QueryMetadataFingerprint.of(classLoader.loadClass("sample.User")), user.getFingerprint());
+
+		GeneratedQueryMetadata summary = loadMetadata(classLoader, "sample.Views$Summary_QueryMetadata");
+		assertEquals(QueryMetadataFingerprint.of(classLoader.loadClass("sample.Views$Summary")), summary.getFingerprint());
+		assertNotEquals(user.getFingerprint(), summary.getFingerprint());
+	}
+
+	@Test
+	void testNestedDTOUsesBinaryName() throws Exception {
+		ClassLoader classLoader = compile(Map.of("Views", NESTED));
+		GeneratedQueryMetadata metadata = loadMetadata(classLoader, "sample.Views$Summary_QueryMetadata");
+
+		assertEquals(List.of(), metadata.getPaths());
+		assertNull(metadata.getEntityPath("label"));
+		assertFalse(metadata.isSortable("label"));
+	}
+}